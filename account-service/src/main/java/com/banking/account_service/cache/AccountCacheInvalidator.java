@@ -0,0 +1,129 @@
+package com.banking.account_service.cache;
+
+import com.banking.account_service.entity.Account;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Targeted invalidation of the account caches
+ *
+ * "accounts" and "balance" are keyed by account number, "user-accounts" by the
+ * owner's internal user id. An invalidation index in Redis
+ * (account-cache-index:owner, accountNumber -> internalUserId) is written before a
+ * user's account list is cached, so a change to one account evicts exactly its own
+ * entries plus the one user-level list that contains it.
+ *
+ * Evictions run after the DB transaction commits; evicting earlier would let a
+ * concurrent read re-cache the pre-commit state.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AccountCacheInvalidator {
+
+    public static final String ACCOUNTS = "accounts";
+    public static final String BALANCE = "balance";
+    public static final String USER_ACCOUNTS = "user-accounts";
+    // account ID -> account number; immutable, so never evicted (TTL only)
+    public static final String ACCOUNT_IDS = "account-ids";
+
+    private static final String OWNER_INDEX_KEY = "account-cache-index:owner";
+
+    private final CacheManager cacheManager;
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * Record the owner of each account about to be cached in a user-level list.
+     * Ownership never changes, so index entries never need to be removed.
+     */
+    public void indexOwners(Collection<Account> accounts) {
+        if (accounts.isEmpty()) {
+            return;
+        }
+        Map<String, String> owners = accounts.stream()
+                .collect(Collectors.toMap(Account::getAccountNumber, Account::getInternalUserId, (a, b) -> a));
+        redisTemplate.opsForHash().putAll(OWNER_INDEX_KEY, owners);
+    }
+
+    public void evictAccount(String accountNumber) {
+        evictAccounts(List.of(accountNumber));
+    }
+
+    /**
+     * Evict per-account entries and the user-level lists that contain these accounts
+     */
+    public void evictAccounts(Collection<String> accountNumbers) {
+        if (accountNumbers.isEmpty()) {
+            return;
+        }
+        List<String> numbers = new ArrayList<>(accountNumbers);
+        afterCommit(() -> {
+            evictKeys(ACCOUNTS, numbers);
+            evictKeys(BALANCE, numbers);
+
+            List<Object> owners = redisTemplate.opsForHash().multiGet(OWNER_INDEX_KEY, new ArrayList<>(numbers));
+            evictKeys(USER_ACCOUNTS, owners.stream()
+                    .filter(Objects::nonNull)
+                    .map(Object::toString)
+                    .distinct()
+                    .toList());
+        }, numbers);
+    }
+
+    /**
+     * Evict a user's account list (e.g. after opening a new account)
+     */
+    public void evictUser(String internalUserId) {
+        evictUsers(List.of(internalUserId));
+    }
+
+    public void evictUsers(Collection<String> internalUserIds) {
+        if (internalUserIds.isEmpty()) {
+            return;
+        }
+        List<String> ids = new ArrayList<>(internalUserIds);
+        afterCommit(() -> evictKeys(USER_ACCOUNTS, ids), ids);
+    }
+
+    private void evictKeys(String cacheName, Collection<String> keys) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            keys.forEach(cache::evict);
+        }
+    }
+
+    private void afterCommit(Runnable eviction, Collection<String> keys) {
+        Runnable guarded = () -> {
+            try {
+                eviction.run();
+            } catch (RuntimeException e) {
+                // The change is committed; entries stay stale until their TTL
+                log.error(" Cache eviction failed | Keys: {} | Error: {}", keys, e.getMessage());
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    guarded.run();
+                }
+            });
+        } else {
+            guarded.run();
+        }
+    }
+}
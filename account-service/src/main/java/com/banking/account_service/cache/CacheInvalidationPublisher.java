@@ -0,0 +1,48 @@
+package com.banking.account_service.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * Broadcasts L1 invalidations to the other account-service instances over Redis pub/sub.
+ *
+ * Message: {origin}|E|{cache}|{key}  (evict one key)
+ *          {origin}|C|{cache}|       (clear the cache)
+ * The key goes last, so it may itself contain '|'.
+ *
+ * Pub/sub is fire-and-forget: an instance that misses a message keeps its
+ * L1 entry until the local TTL expires, which is what bounds staleness.
+ */
+@Slf4j
+class CacheInvalidationPublisher {
+
+    static final String EVICT = "E";
+    static final String CLEAR = "C";
+
+    private final StringRedisTemplate redisTemplate;
+    private final String channel;
+    private final String instanceId;
+
+    CacheInvalidationPublisher(StringRedisTemplate redisTemplate, String channel, String instanceId) {
+        this.redisTemplate = redisTemplate;
+        this.channel = channel;
+        this.instanceId = instanceId;
+    }
+
+    void publishEvict(String cacheName, String key) {
+        publish(instanceId + "|" + EVICT + "|" + cacheName + "|" + key);
+    }
+
+    void publishClear(String cacheName) {
+        publish(instanceId + "|" + CLEAR + "|" + cacheName + "|");
+    }
+
+    private void publish(String message) {
+        try {
+            redisTemplate.convertAndSend(channel, message);
+        } catch (Exception e) {
+            // Redis itself was already updated; peers fall back to their L1 TTL
+            log.warn(" Cache invalidation broadcast failed | Message: {} | Error: {}", message, e.getMessage());
+        }
+    }
+}
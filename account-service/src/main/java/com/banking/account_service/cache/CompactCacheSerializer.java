@@ -0,0 +1,134 @@
+package com.banking.account_service.cache;
+
+import com.banking.account_service.dto.AccountResponse;
+import com.banking.account_service.enums.AccountStatus;
+import com.banking.account_service.enums.AccountType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compact binary Redis serializer for the account caches.
+ *
+ * Value layout: [type tag][schema version][payload] (see CompactCodec)
+ * - ACCOUNT       AccountResponse
+ * - ACCOUNT_LIST  List<AccountResponse> (varint count, then records)
+ * - DECIMAL       BigDecimal (balance cache)
+ * Anything else is written as JSON by the default serializer; JSON never starts
+ * with a tag byte, so values cached before the switch are still read.
+ *
+ * A value with an unknown tag version (or that fails to decode) reads as a cache
+ * miss and is simply reloaded. Change a layout only together with its version.
+ */
+@Slf4j
+public class CompactCacheSerializer implements RedisSerializer<Object> {
+
+    private static final int ACCOUNT = 1;
+    private static final int ACCOUNT_LIST = 2;
+    private static final int DECIMAL = 3;
+
+    private static final int ACCOUNT_VERSION = 1;
+    private static final int DECIMAL_VERSION = 1;
+
+    private final RedisSerializer<Object> json = new GenericJackson2JsonRedisSerializer();
+
+    @Override
+    public byte[] serialize(Object value) {
+        CompactCodec.Writer out = new CompactCodec.Writer();
+        if (value instanceof AccountResponse account) {
+            out.writeByte(ACCOUNT);
+            out.writeByte(ACCOUNT_VERSION);
+            writeAccount(out, account);
+        } else if (value instanceof BigDecimal decimal) {
+            out.writeByte(DECIMAL);
+            out.writeByte(DECIMAL_VERSION);
+            out.writeBigDecimal(decimal);
+        } else if (value instanceof List<?> list && list.stream().allMatch(AccountResponse.class::isInstance)) {
+            out.writeByte(ACCOUNT_LIST);
+            out.writeByte(ACCOUNT_VERSION);
+            out.writeVarLong(list.size());
+            list.forEach(account -> writeAccount(out, (AccountResponse) account));
+        } else {
+            return json.serialize(value);
+        }
+        return out.toByteArray();
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        int tag = bytes[0];
+        if (tag != ACCOUNT && tag != ACCOUNT_LIST && tag != DECIMAL) {
+            return json.deserialize(bytes);
+        }
+
+        try {
+            CompactCodec.Reader in = new CompactCodec.Reader(bytes, 1);
+            int version = in.readByte();
+            if (version != (tag == DECIMAL ? DECIMAL_VERSION : ACCOUNT_VERSION)) {
+                log.debug(" Cached value has schema version {} of type {}; treating as miss", version, tag);
+                return null;
+            }
+            if (tag == ACCOUNT) {
+                return readAccount(in);
+            }
+            if (tag == DECIMAL) {
+                return in.readBigDecimal();
+            }
+            int count = Math.toIntExact(in.readVarLong());
+            List<AccountResponse> accounts = new ArrayList<>(Math.min(count, 64));
+            for (int i = 0; i < count; i++) {
+                accounts.add(readAccount(in));
+            }
+            return accounts;
+        } catch (RuntimeException e) {
+            log.warn(" Unreadable compact cache value (type {}); treating as miss | Error: {}", tag, e.getMessage());
+            return null;
+        }
+    }
+
+    private static void writeAccount(CompactCodec.Writer out, AccountResponse account) {
+        out.writeVarLong(CompactCodec.presence(
+                account.getAccountId(), account.getAccountNumber(), account.getInternalUserId(),
+                account.getAccountType(), account.getBalance(), account.getStatus(),
+                account.getIfscCode(), account.getBranchCode(), account.getBranchName(),
+                account.getCurrency(), account.getCreatedDate(), account.getLastTransactionDate()));
+
+        out.writeLong(account.getAccountId());
+        out.writeString(account.getAccountNumber());
+        out.writeString(account.getInternalUserId());
+        out.writeEnum(account.getAccountType());
+        out.writeBigDecimal(account.getBalance());
+        out.writeEnum(account.getStatus());
+        out.writeString(account.getIfscCode());
+        out.writeString(account.getBranchCode());
+        out.writeString(account.getBranchName());
+        out.writeString(account.getCurrency());
+        out.writeString(account.getCreatedDate());
+        out.writeString(account.getLastTransactionDate());
+    }
+
+    private static AccountResponse readAccount(CompactCodec.Reader in) {
+        long present = in.readVarLong();
+        return AccountResponse.builder()
+                .accountId(CompactCodec.has(present, 0) ? in.readLong() : null)
+                .accountNumber(CompactCodec.has(present, 1) ? in.readString() : null)
+                .internalUserId(CompactCodec.has(present, 2) ? in.readString() : null)
+                .accountType(CompactCodec.has(present, 3) ? in.readEnum(AccountType.class) : null)
+                .balance(CompactCodec.has(present, 4) ? in.readBigDecimal() : null)
+                .status(CompactCodec.has(present, 5) ? in.readEnum(AccountStatus.class) : null)
+                .ifscCode(CompactCodec.has(present, 6) ? in.readString() : null)
+                .branchCode(CompactCodec.has(present, 7) ? in.readString() : null)
+                .branchName(CompactCodec.has(present, 8) ? in.readString() : null)
+                .currency(CompactCodec.has(present, 9) ? in.readString() : null)
+                .createdDate(CompactCodec.has(present, 10) ? in.readString() : null)
+                .lastTransactionDate(CompactCodec.has(present, 11) ? in.readString() : null)
+                .build();
+    }
+}
@@ -0,0 +1,249 @@
+package com.banking.account_service.cache;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+
+/**
+ * Building blocks of the compact cache encoding.
+ *
+ * - integers: LEB128 varints (zig-zag for signed values), so small numbers take 1-2 bytes
+ * - strings: varint byte length + UTF-8
+ * - BigDecimal: zig-zag scale + unscaled value (varint when it fits a long, else two's-complement bytes)
+ * - LocalDate: zig-zag epoch day; LocalDateTime: epoch day + nano of day
+ * - nullable fields: one varint presence bitmap per record (bit i = field i is non-null);
+ *   the object writers skip nulls, and readers are only called for present fields
+ */
+final class CompactCodec {
+
+    private CompactCodec() {
+    }
+
+    /**
+     * Presence bitmap for up to 63 nullable fields, in field order
+     */
+    static long presence(Object... fields) {
+        long bits = 0;
+        for (int i = 0; i < fields.length; i++) {
+            if (fields[i] != null) {
+                bits |= 1L << i;
+            }
+        }
+        return bits;
+    }
+
+    static boolean has(long presence, int field) {
+        return (presence & (1L << field)) != 0;
+    }
+
+    static final class Writer {
+
+        private byte[] buffer = new byte[256];
+        private int size;
+
+        void writeByte(int value) {
+            ensureCapacity(1);
+            buffer[size++] = (byte) value;
+        }
+
+        void writeVarLong(long value) {
+            while ((value & ~0x7FL) != 0) {
+                writeByte((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            writeByte((int) value);
+        }
+
+        void writeSignedVarLong(long value) {
+            writeVarLong((value << 1) ^ (value >> 63));
+        }
+
+        void writeLong(Long value) {
+            if (value != null) {
+                writeSignedVarLong(value);
+            }
+        }
+
+        void writeInteger(Integer value) {
+            if (value != null) {
+                writeSignedVarLong(value);
+            }
+        }
+
+        void writeDouble(Double value) {
+            if (value != null) {
+                long bits = Double.doubleToLongBits(value);
+                for (int shift = 56; shift >= 0; shift -= 8) {
+                    writeByte((int) (bits >>> shift));
+                }
+            }
+        }
+
+        void writeBoolean(Boolean value) {
+            if (value != null) {
+                writeByte(value ? 1 : 0);
+            }
+        }
+
+        void writeString(String value) {
+            if (value != null) {
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                writeVarLong(bytes.length);
+                writeBytes(bytes);
+            }
+        }
+
+        void writeEnum(Enum<?> value) {
+            if (value != null) {
+                writeString(value.name());
+            }
+        }
+
+        void writeBigDecimal(BigDecimal value) {
+            if (value == null) {
+                return;
+            }
+            writeSignedVarLong(value.scale());
+            BigInteger unscaled = value.unscaledValue();
+            if (unscaled.bitLength() < 64) {
+                writeByte(0);
+                writeSignedVarLong(unscaled.longValue());
+            } else {
+                byte[] bytes = unscaled.toByteArray();
+                writeByte(1);
+                writeVarLong(bytes.length);
+                writeBytes(bytes);
+            }
+        }
+
+        void writeLocalDate(LocalDate value) {
+            if (value != null) {
+                writeSignedVarLong(value.toEpochDay());
+            }
+        }
+
+        void writeLocalDateTime(LocalDateTime value) {
+            if (value != null) {
+                writeLocalDate(value.toLocalDate());
+                writeVarLong(value.toLocalTime().toNanoOfDay());
+            }
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, size);
+        }
+
+        private void writeBytes(byte[] bytes) {
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, buffer, size, bytes.length);
+            size += bytes.length;
+        }
+
+        private void ensureCapacity(int extra) {
+            if (size + extra > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + extra));
+            }
+        }
+    }
+
+    /**
+     * Reads what Writer wrote; truncated or malformed input fails with IllegalArgumentException
+     */
+    static final class Reader {
+
+        private final byte[] bytes;
+        private int position;
+
+        Reader(byte[] bytes, int offset) {
+            this.bytes = bytes;
+            this.position = offset;
+        }
+
+        int readByte() {
+            if (position >= bytes.length) {
+                throw new IllegalArgumentException("Unexpected end of compact cache value");
+            }
+            return bytes[position++] & 0xFF;
+        }
+
+        long readVarLong() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Malformed varint in compact cache value");
+        }
+
+        long readSignedVarLong() {
+            long raw = readVarLong();
+            return (raw >>> 1) ^ -(raw & 1);
+        }
+
+        Long readLong() {
+            return readSignedVarLong();
+        }
+
+        Integer readInteger() {
+            return Math.toIntExact(readSignedVarLong());
+        }
+
+        Double readDouble() {
+            long bits = 0;
+            for (int i = 0; i < 8; i++) {
+                bits = (bits << 8) | readByte();
+            }
+            return Double.longBitsToDouble(bits);
+        }
+
+        Boolean readBoolean() {
+            return readByte() != 0;
+        }
+
+        <E extends Enum<E>> E readEnum(Class<E> type) {
+            return Enum.valueOf(type, readString());
+        }
+
+        int readLength() {
+            long length = readVarLong();
+            if (length < 0 || length > bytes.length - position) {
+                throw new IllegalArgumentException("Invalid length in compact cache value: " + length);
+            }
+            return (int) length;
+        }
+
+        String readString() {
+            int length = readLength();
+            String value = new String(bytes, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+
+        BigDecimal readBigDecimal() {
+            int scale = Math.toIntExact(readSignedVarLong());
+            if (readByte() == 0) {
+                return BigDecimal.valueOf(readSignedVarLong(), scale);
+            }
+            int length = readLength();
+            BigInteger unscaled = new BigInteger(bytes, position, length);
+            position += length;
+            return new BigDecimal(unscaled, scale);
+        }
+
+        LocalDate readLocalDate() {
+            return LocalDate.ofEpochDay(readSignedVarLong());
+        }
+
+        LocalDateTime readLocalDateTime() {
+            LocalDate date = readLocalDate();
+            return LocalDateTime.of(date, LocalTime.ofNanoOfDay(readVarLong()));
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.banking.account_service.cache;
+
+import org.springframework.cache.Cache.ValueWrapper;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-process L1 store: bounded (least-recently-used entries go first) with a write TTL.
+ *
+ * A read that misses takes a ReadTicket for its key before going to Redis (or the
+ * database) and may only store what it read while the ticket is still current.
+ * Evicting that key, or clearing the store, invalidates the ticket, so a slow read
+ * can never put back an entry that has just been invalidated. Tickets are per key:
+ * evicting one key does not discard in-flight reads of other keys. A ticket exists
+ * only while reads of its key are in flight.
+ */
+class LocalCacheStore {
+
+    private final long ttlNanos;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<String, Entry> entries;
+    private final Map<String, ReadTicket> reading = new HashMap<>();  // guarded by lock
+
+    LocalCacheStore(long maxSize, long ttlSeconds) {
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    ValueWrapper get(String key) {
+        lock.lock();
+        try {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (System.nanoTime() - entry.expiresAt >= 0) {
+                entries.remove(key);
+                return null;
+            }
+            return entry.value;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Start a read of key from a lower tier; pair with endRead in a finally block
+     */
+    ReadTicket beginRead(String key) {
+        lock.lock();
+        try {
+            ReadTicket ticket = reading.computeIfAbsent(key, ReadTicket::new);
+            ticket.readers++;
+            return ticket;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void endRead(ReadTicket ticket) {
+        lock.lock();
+        try {
+            if (--ticket.readers == 0) {
+                reading.remove(ticket.key, ticket);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Store a value read under the given ticket, unless its key was evicted since the read began
+     */
+    void putIfCurrent(String key, ValueWrapper value, ReadTicket ticket) {
+        Entry entry = new Entry(value, System.nanoTime() + ttlNanos);
+        lock.lock();
+        try {
+            if (!ticket.invalidated) {
+                entries.put(key, entry);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void put(String key, ValueWrapper value) {
+        Entry entry = new Entry(value, System.nanoTime() + ttlNanos);
+        lock.lock();
+        try {
+            entries.put(key, entry);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void evict(String key) {
+        lock.lock();
+        try {
+            entries.remove(key);
+            ReadTicket ticket = reading.remove(key);  // later reads of the key get a fresh ticket
+            if (ticket != null) {
+                ticket.invalidated = true;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void clear() {
+        lock.lock();
+        try {
+            entries.clear();
+            reading.values().forEach(ticket -> ticket.invalidated = true);
+            reading.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * In-flight reads of one key; invalidated when that key is evicted
+     */
+    static final class ReadTicket {
+        private final String key;
+        private int readers;                   // guarded by the store's lock
+        private volatile boolean invalidated;  // written under the store's lock
+
+        private ReadTicket(String key) {
+            this.key = key;
+        }
+
+        boolean isCurrent() {
+            return !invalidated;
+        }
+    }
+
+    private static final class Entry {
+        private final ValueWrapper value;
+        private final long expiresAt;
+
+        private Entry(ValueWrapper value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
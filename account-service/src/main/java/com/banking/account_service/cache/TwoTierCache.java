@@ -0,0 +1,363 @@
+package com.banking.account_service.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.util.ByteUtils;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Cache with an in-process L1 (LocalCacheStore) in front of a Redis L2.
+ *
+ * - get: L1, then Redis; a Redis hit is copied into L1
+ * - get with loader: concurrent misses for one key are coalesced into a single load
+ * - getAll: L1, then one Redis MGET, then one loader call for the remaining misses
+ * - put: written to both tiers
+ * - evict / clear: Redis first, then L1, then broadcast so every other
+ *   instance drops its L1 copy (see TwoTierCacheManager)
+ *
+ * Loaded values are written back under a LocalCacheStore ticket. evict and clear
+ * invalidate tickets before they touch Redis, and a write-back re-checks its ticket
+ * after the Redis write (undoing it if the key was evicted meanwhile), so a slow
+ * load cannot leave a pre-eviction value in L2 for the Redis TTL. A load on another
+ * instance is only caught if the broadcast reaches it before its write-back ends.
+ *
+ * L1 hands out the same instance to every caller, so cached values must be
+ * treated as read-only.
+ *
+ * Metrics: account.cache.gets{cache, tier=l1|l2, result=hit|miss} (timer)
+ *          account.cache.local.size{cache}
+ *          account.cache.loads.coalesced{cache}
+ */
+public class TwoTierCache implements Cache {
+
+    private final String name;
+    private final LocalCacheStore local;
+    private final Cache redis;
+    private final StringRedisTemplate redisTemplate;
+    private final CacheInvalidationPublisher publisher;
+    private final Map<String, Load> loading = new ConcurrentHashMap<>();
+
+    private final Timer localHits;
+    private final Timer localMisses;
+    private final Timer redisHits;
+    private final Timer redisMisses;
+    private final Counter coalescedLoads;
+
+    TwoTierCache(String name, LocalCacheStore local, Cache redis, StringRedisTemplate redisTemplate,
+                 CacheInvalidationPublisher publisher, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.local = local;
+        this.redis = redis;
+        this.redisTemplate = redisTemplate;
+        this.publisher = publisher;
+
+        this.localHits = getTimer(meterRegistry, name, "l1", "hit");
+        this.localMisses = getTimer(meterRegistry, name, "l1", "miss");
+        this.redisHits = getTimer(meterRegistry, name, "l2", "hit");
+        this.redisMisses = getTimer(meterRegistry, name, "l2", "miss");
+        this.coalescedLoads = Counter.builder("account.cache.loads.coalesced")
+                .tag("cache", name)
+                .register(meterRegistry);
+        Gauge.builder("account.cache.local.size", local, LocalCacheStore::size)
+                .tag("cache", name)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return redis.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = localKey(key);
+        ValueWrapper cached = getLocal(localKey);
+        if (cached != null) {
+            return cached;
+        }
+
+        LocalCacheStore.ReadTicket ticket = local.beginRead(localKey);
+        try {
+            long started = System.nanoTime();
+            ValueWrapper loaded = redis.get(key);
+            (loaded != null ? redisHits : redisMisses).record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+
+            if (loaded != null) {
+                local.putIfCurrent(localKey, loaded, ticket);
+            }
+            return loaded;
+        } finally {
+            local.endRead(ticket);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException(
+                    "Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    /**
+     * Used by @Cacheable(sync = true): concurrent misses for the same key on this
+     * instance share one load. A load that started before the key was evicted is
+     * not joined (its value may be stale); the caller starts a new one instead.
+     * The loaded value is only written back if this key was not evicted meanwhile.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper cached = get(key);
+        if (cached != null) {
+            return (T) cached.get();
+        }
+
+        String localKey = localKey(key);
+        LocalCacheStore.ReadTicket ticket = local.beginRead(localKey);
+        Load load = new Load(new CompletableFuture<>(), ticket);
+        try {
+            Load inFlight = loading.putIfAbsent(localKey, load);
+            while (inFlight != null) {
+                if (inFlight.ticket().isCurrent()) {
+                    coalescedLoads.increment();
+                    try {
+                        return (T) inFlight.result().join();
+                    } catch (CompletionException e) {
+                        throw new ValueRetrievalException(key, valueLoader, e.getCause());
+                    }
+                }
+                inFlight = loading.replace(localKey, inFlight, load) ? null : loading.putIfAbsent(localKey, load);
+            }
+
+            T value;
+            try {
+                value = valueLoader.call();
+            } catch (Exception e) {
+                load.result().completeExceptionally(e);
+                throw new ValueRetrievalException(key, valueLoader, e);
+            }
+            if (value != null) {
+                writeBack(key, localKey, value, ticket);
+            }
+            load.result().complete(value);
+            return value;
+        } finally {
+            local.endRead(ticket);
+            loading.remove(localKey, load);
+        }
+    }
+
+    /**
+     * Multi-get for batch lookups. Keys missing from both tiers are passed to the
+     * loader in one call; loaded values are written back (unless their key was
+     * evicted meanwhile). Returns the values found, keyed by key; unknown keys are absent.
+     */
+    public Map<String, Object> getAll(Collection<String> keys, Function<List<String>, Map<String, ?>> loader) {
+        Map<String, Object> found = new HashMap<>();
+        List<String> localMisses = new ArrayList<>();
+        for (String key : keys) {
+            ValueWrapper cached = getLocal(key);
+            if (cached != null && cached.get() != null) {
+                found.put(key, cached.get());
+            } else {
+                localMisses.add(key);
+            }
+        }
+        if (localMisses.isEmpty()) {
+            return found;
+        }
+
+        // One ticket per key, held across the Redis read and the load
+        Map<String, LocalCacheStore.ReadTicket> tickets = new HashMap<>();
+        for (String key : localMisses) {
+            tickets.putIfAbsent(key, local.beginRead(key));
+        }
+        try {
+            long started = System.nanoTime();
+            List<Object> redisValues = multiGetRedis(localMisses);
+            long perKey = (System.nanoTime() - started) / localMisses.size();
+
+            List<String> misses = new ArrayList<>();
+            for (int i = 0; i < localMisses.size(); i++) {
+                String key = localMisses.get(i);
+                Object value = redisValues.get(i);
+                if (value != null) {
+                    redisHits.record(perKey, TimeUnit.NANOSECONDS);
+                    local.putIfCurrent(key, new SimpleValueWrapper(value), tickets.get(key));
+                    found.put(key, value);
+                } else {
+                    redisMisses.record(perKey, TimeUnit.NANOSECONDS);
+                    misses.add(key);
+                }
+            }
+            if (misses.isEmpty()) {
+                return found;
+            }
+
+            Map<String, ?> loaded = loader.apply(misses);
+            loaded.forEach((key, value) -> {
+                if (value == null) {
+                    return;
+                }
+                found.put(key, value);
+                LocalCacheStore.ReadTicket ticket = tickets.get(key);
+                if (ticket != null) {
+                    writeBack(key, key, value, ticket);
+                }
+            });
+            return found;
+        } finally {
+            tickets.values().forEach(local::endRead);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        redis.put(key, value);
+        if (value != null) {
+            local.put(localKey(key), new SimpleValueWrapper(value));
+        }
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = redis.putIfAbsent(key, value);
+        local.evict(localKey(key));  // next read picks up whichever value won in Redis
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        String localKey = localKey(key);
+        local.evict(localKey);  // invalidate in-flight loads first, so their write-back re-check sees it
+        redis.evict(key);
+        local.evict(localKey);  // and drop anything re-read from Redis before the delete
+        publisher.publishEvict(name, localKey);
+    }
+
+    @Override
+    public void clear() {
+        local.clear();
+        redis.clear();
+        local.clear();
+        publisher.publishClear(name);
+    }
+
+    /**
+     * Apply an invalidation broadcast by another instance (L1 only; Redis is already updated)
+     */
+    void evictLocal(String key) {
+        local.evict(key);
+    }
+
+    void clearLocal() {
+        local.clear();
+    }
+
+    /**
+     * Write a loaded value to both tiers unless the key was evicted since the ticket
+     * was taken. An eviction that lands between the check and the Redis write has
+     * already invalidated the ticket, so the re-check deletes what was just written.
+     */
+    private void writeBack(Object key, String localKey, Object value, LocalCacheStore.ReadTicket ticket) {
+        if (!ticket.isCurrent()) {
+            return;
+        }
+        redis.put(key, value);
+        if (!ticket.isCurrent()) {
+            redis.evict(key);
+            return;
+        }
+        local.putIfCurrent(localKey, new SimpleValueWrapper(value), ticket);
+    }
+
+    private ValueWrapper getLocal(String localKey) {
+        long started = System.nanoTime();
+        ValueWrapper cached = local.get(localKey);
+        (cached != null ? localHits : localMisses).record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        return cached;
+    }
+
+    /**
+     * One MGET for all keys, using the Redis cache's own key prefix and value
+     * serializer; falls back to one GET per key if L2 is not a RedisCache.
+     * Returns values in key order (null = miss).
+     */
+    private List<Object> multiGetRedis(List<String> keys) {
+        if (!(redis instanceof RedisCache redisCache)) {
+            List<Object> values = new ArrayList<>(keys.size());
+            for (String key : keys) {
+                ValueWrapper wrapper = redis.get(key);
+                values.add(wrapper != null ? wrapper.get() : null);
+            }
+            return values;
+        }
+
+        RedisCacheConfiguration config = redisCache.getCacheConfiguration();
+        String prefix = config.getKeyPrefixFor(name);
+        byte[][] rawKeys = keys.stream()
+                .map(key -> ByteUtils.getBytes(config.getKeySerializationPair().write(prefix + key)))
+                .toArray(byte[][]::new);
+
+        List<byte[]> rawValues = redisTemplate.execute((RedisCallback<List<byte[]>>) connection -> {
+            RedisStringCommands commands = connection.stringCommands();
+            return commands.mGet(rawKeys);
+        });
+
+        List<Object> values = new ArrayList<>(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            byte[] raw = rawValues != null ? rawValues.get(i) : null;
+            values.add(raw != null ? config.getValueSerializationPair().read(ByteBuffer.wrap(raw)) : null);
+        }
+        return values;
+    }
+
+    private static String localKey(Object key) {
+        return String.valueOf(key);
+    }
+
+    /**
+     * An in-flight load and the ticket it will write back under
+     */
+    private record Load(CompletableFuture<Object> result, LocalCacheStore.ReadTicket ticket) {
+    }
+
+    private static Timer getTimer(MeterRegistry meterRegistry, String cache, String tier, String result) {
+        return Timer.builder("account.cache.gets")
+                .tag("cache", cache)
+                .tag("tier", tier)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,106 @@
+package com.banking.account_service.cache;
+
+import com.banking.account_service.config.AppProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * CacheManager layering an in-process L1 over the Redis cache manager (L2).
+ *
+ * L1 size and TTL come from account.cache.specs.{cache} (falling back to
+ * AppProperties.CacheSpec defaults); L2 TTLs are configured on the Redis manager.
+ * Also the pub/sub listener that applies other instances' invalidations to L1.
+ */
+@Slf4j
+public class TwoTierCacheManager implements CacheManager, MessageListener {
+
+    private final RedisCacheManager redisCacheManager;
+    private final AppProperties.CacheConfig config;
+    private final MeterRegistry meterRegistry;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final CacheInvalidationPublisher publisher;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final Map<String, TwoTierCache> caches = new ConcurrentHashMap<>();
+    private final Counter invalidationsReceived;
+
+    public TwoTierCacheManager(RedisCacheManager redisCacheManager,
+                               StringRedisTemplate stringRedisTemplate,
+                               AppProperties.CacheConfig config,
+                               MeterRegistry meterRegistry) {
+        this.redisCacheManager = redisCacheManager;
+        this.config = config;
+        this.meterRegistry = meterRegistry;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.publisher = new CacheInvalidationPublisher(
+                stringRedisTemplate, config.getInvalidationChannel(), instanceId);
+        this.invalidationsReceived = Counter.builder("account.cache.invalidations.received")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        TwoTierCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache redisCache = redisCacheManager.getCache(name);
+        if (redisCache == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, n -> createCache(n, redisCache));
+    }
+
+    /**
+     * Typed access for callers that need TwoTierCache.getAll
+     */
+    public TwoTierCache getTwoTierCache(String name) {
+        return (TwoTierCache) getCache(name);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 4);
+        if (parts.length < 4 || instanceId.equals(parts[0])) {
+            return;  // malformed, or our own broadcast
+        }
+
+        invalidationsReceived.increment();
+        TwoTierCache cache = caches.get(parts[2]);
+        if (cache == null) {
+            return;  // never used here, so nothing cached locally
+        }
+        if (CacheInvalidationPublisher.CLEAR.equals(parts[1])) {
+            cache.clearLocal();
+        } else {
+            cache.evictLocal(parts[3]);
+        }
+    }
+
+    private TwoTierCache createCache(String name, Cache redisCache) {
+        AppProperties.CacheSpec spec = config.getSpecs().getOrDefault(name, new AppProperties.CacheSpec());
+        log.info(" Two-tier cache '{}' | L1 max size: {} | L1 TTL: {}s",
+                name, spec.getLocalMaxSize(), spec.getLocalTtlSeconds());
+        return new TwoTierCache(name,
+                new LocalCacheStore(spec.getLocalMaxSize(), spec.getLocalTtlSeconds()),
+                redisCache, stringRedisTemplate, publisher, meterRegistry);
+    }
+}
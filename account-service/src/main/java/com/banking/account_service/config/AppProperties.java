@@ -3,11 +3,14 @@
 // ═══════════════════════════════════════════════════════════════════════
 package com.banking.account_service.config;
 
+import com.banking.account_service.enums.CacheSerializer;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Application Properties Configuration
@@ -35,10 +38,32 @@ public class AppProperties {
     private int maxSavingsPerUser;
     private int maxCurrentPerUser;
 
+    // Two-tier (L1 in-process + L2 Redis) cache
+    private CacheConfig cache = new CacheConfig();
+
+    // Bulk account creation (corporate onboarding)
+    private BulkCreateConfig bulkCreate = new BulkCreateConfig();
+
+    // Nightly dormancy marking job
+    private DormancyConfig dormancy = new DormancyConfig();
+
+    // Daily interest accrual + quarterly posting
+    private InterestConfig interest = new InterestConfig();
+
+    // Asynchronous audit writer
+    private AuditConfig audit = new AuditConfig();
+
+    // Ledger snapshots
+    private LedgerConfig ledger = new LedgerConfig();
+
+    // Funds holds (reserve, then capture or release)
+    private HoldConfig holds = new HoldConfig();
+
     @Data
     public static class NumberConfig {
         private String prefix;
         private int length;
+        private int blockSize = 1000;
     }
 
     @Data
@@ -54,5 +79,71 @@ public class AppProperties {
         private BigDecimal dailyWithdrawalLimit;
         private BigDecimal dailyTransactionLimit;
         private Integer monthlyTransactionLimit;
+        private BigDecimal interestRate; // annual %, accrued daily (null = no interest)
+    }
+
+    @Data
+    public static class BulkCreateConfig {
+        private int verifyBatchSize = 500;
+    }
+
+    @Data
+    public static class DormancyConfig {
+        private boolean enabled = true;
+        private int inactiveAfterDays = 365;
+        private int dormantAfterDays = 730;
+        private int chunkSize = 1000;
+        private long leaseSeconds = 300;
+    }
+
+    @Data
+    public static class InterestConfig {
+        private boolean enabled = true;
+        private long partitionSize = 50000; // account IDs per partition
+        private int parallelism = 4;
+        private long leaseSeconds = 600;
+    }
+
+    @Data
+    public static class AuditConfig {
+        private int queueCapacity = 50000;
+        private int batchSize = 500;
+        private long flushIntervalMs = 200;
+        private long offerTimeoutMs = 50;     // caller blocks this long on a full queue, then spills
+        private int writeAttempts = 3;
+        private long replayIntervalMs = 30000;
+        private String spoolDir = "audit-spool";
+    }
+
+    @Data
+    public static class LedgerConfig {
+        private boolean snapshotEnabled = true;
+        private int snapshotMinEntries = 50;   // snapshot once an account is this many entries past the last one
+        private long snapshotRangeSize = 10000; // account IDs per snapshot transaction
+        private long leaseSeconds = 300;
+    }
+
+    @Data
+    public static class HoldConfig {
+        private long defaultTtlSeconds = 86400;   // hold expires after this unless captured/released
+        private long maxTtlSeconds = 2592000;     // 30 days
+        private long wheelTickMillis = 1000;
+        private int wheelSize = 4096;             // slots (power of two); one revolution = size x tick
+        private int sweepBatchSize = 500;
+        private long sweepGraceSeconds = 60;      // sweep only holds this far past expiry
+    }
+
+    @Data
+    public static class CacheConfig {
+        private String invalidationChannel = "account-cache-invalidation";
+        private Map<String, CacheSpec> specs = new HashMap<>();
+    }
+
+    @Data
+    public static class CacheSpec {
+        private long localMaxSize = 10000;
+        private long localTtlSeconds = 60;
+        private long redisTtlSeconds = 600;
+        private CacheSerializer serializer = CacheSerializer.JSON;
     }
 }
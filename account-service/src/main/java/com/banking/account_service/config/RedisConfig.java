@@ -1,12 +1,16 @@
 
 package com.banking.account_service.config;
 
+import com.banking.account_service.cache.CompactCacheSerializer;
+import com.banking.account_service.cache.TwoTierCacheManager;
+import com.banking.account_service.enums.CacheSerializer;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
 import com.fasterxml.jackson.databind.jsontype.PolymorphicTypeValidator;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -14,16 +18,23 @@ import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 /**
  * Redis Configuration for Account Caching
  * Caches frequently accessed account data to reduce database load
+ * (in-process L1 + Redis L2, see TwoTierCacheManager)
  */
 @Configuration
 @EnableCaching
@@ -55,17 +66,52 @@ public class RedisConfig {
         return template;
     }
 
+    /**
+     * Two-tier cache manager: in-process L1 in front of the Redis caches (L2)
+     */
     @Bean
-    public RedisCacheManager cacheManager(RedisConnectionFactory connectionFactory) {
+    public TwoTierCacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                     StringRedisTemplate stringRedisTemplate,
+                                     AppProperties appProperties,
+                                     MeterRegistry meterRegistry) {
         RedisCacheConfiguration cacheConfig = RedisCacheConfiguration.defaultCacheConfig()
                 .entryTtl(Duration.ofMinutes(10)) // Cache for 10 minutes
                 .disableCachingNullValues()
                 .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
                         new GenericJackson2JsonRedisSerializer()));
 
-        return RedisCacheManager.builder(connectionFactory)
+        Map<String, RedisCacheConfiguration> perCache = new HashMap<>();
+        RedisSerializer<Object> compactSerializer = new CompactCacheSerializer();
+        appProperties.getCache().getSpecs().forEach((name, spec) -> {
+            RedisCacheConfiguration specConfig = cacheConfig.entryTtl(Duration.ofSeconds(spec.getRedisTtlSeconds()));
+            if (spec.getSerializer() == CacheSerializer.COMPACT) {
+                specConfig = specConfig.serializeValuesWith(
+                        RedisSerializationContext.SerializationPair.fromSerializer(compactSerializer));
+            }
+            perCache.put(name, specConfig);
+        });
+
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
                 .cacheDefaults(cacheConfig)
+                .withInitialCacheConfigurations(perCache)
                 .build();
+        redisCacheManager.afterPropertiesSet();
+
+        return new TwoTierCacheManager(redisCacheManager, stringRedisTemplate,
+                appProperties.getCache(), meterRegistry);
     }
-}
 
+    /**
+     * Applies other instances' invalidations to this instance's L1
+     */
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                            TwoTierCacheManager cacheManager,
+                                                                            AppProperties appProperties) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(cacheManager,
+                new ChannelTopic(appProperties.getCache().getInvalidationChannel()));
+        return container;
+    }
+}
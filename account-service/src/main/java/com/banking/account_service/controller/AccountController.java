@@ -3,16 +3,20 @@ package com.banking.account_service.controller;
 import com.banking.account_service.dto.*;
 import com.banking.account_service.enums.AccountType;
 import com.banking.account_service.service.AccountService;
+import com.banking.account_service.service.HoldService;
+import com.banking.account_service.service.LedgerService;
 import com.banking.account_service.util.ResponseUtil;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -26,6 +30,8 @@ import java.util.List;
 public class AccountController {
 
     private final AccountService accountService;
+    private final LedgerService ledgerService;
+    private final HoldService holdService;
 
     /**
      * Create a new bank account
@@ -46,6 +52,23 @@ public class AccountController {
         return ResponseUtil.success("Account created successfully", response);
     }
 
+    /**
+     * Open many accounts at once (corporate onboarding)
+     * POST /api/v1/account/bulk-create
+     */
+    @PostMapping("/bulk-create")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ApiResponse<BulkCreateAccountResponse>> createAccountsBulk(
+            @RequestHeader("internal-user-id") String internalUserId,
+            @Valid @RequestBody BulkCreateAccountRequest request) {
+
+        log.info(" Request to bulk create {} accounts | Reference: {} | By: {}",
+                request.getItems().size(), request.getReferenceId(), internalUserId);
+
+        BulkCreateAccountResponse response = accountService.createAccountsBulk(request, internalUserId);
+        return ResponseUtil.success("Bulk account creation processed", response);
+    }
+
     /**
      * Get account by account number
      * GET /api/v1/account/get-account/{accountNumber}
@@ -63,6 +86,57 @@ public class AccountController {
         );
     }
 
+    /**
+     * Get many accounts by account number (results in request order)
+     * POST /api/v1/account/batch/by-numbers
+     */
+    @PostMapping("/batch/by-numbers")
+    public ResponseEntity<ApiResponse<List<AccountLookupResult>>> getAccountsByNumbers(
+            @Valid @RequestBody AccountBatchRequest request
+    ) {
+        log.info("Request to fetch {} accounts by number", request.getAccountNumbers().size());
+        List<AccountLookupResult> accounts = accountService.getAccountsByNumbers(request.getAccountNumbers());
+        return ResponseUtil.success(
+                "Accounts fetched successfully",
+                accounts,
+                HttpStatus.OK
+        );
+    }
+
+    /**
+     * Get many accounts by account ID (results in request order)
+     * POST /api/v1/account/batch/by-ids
+     */
+    @PostMapping("/batch/by-ids")
+    public ResponseEntity<ApiResponse<List<AccountLookupResult>>> getAccountsByIds(
+            @Valid @RequestBody AccountIdBatchRequest request
+    ) {
+        log.info("Request to fetch {} accounts by ID", request.getAccountIds().size());
+        List<AccountLookupResult> accounts = accountService.getAccountsByIds(request.getAccountIds());
+        return ResponseUtil.success(
+                "Accounts fetched successfully",
+                accounts,
+                HttpStatus.OK
+        );
+    }
+
+    /**
+     * Get many balances by account number (results in request order)
+     * POST /api/v1/account/batch/balances
+     */
+    @PostMapping("/batch/balances")
+    public ResponseEntity<ApiResponse<List<BalanceLookupResult>>> getAccountBalances(
+            @Valid @RequestBody AccountBatchRequest request
+    ) {
+        log.info("Request to fetch {} balances", request.getAccountNumbers().size());
+        List<BalanceLookupResult> balances = accountService.getAccountBalances(request.getAccountNumbers());
+        return ResponseUtil.success(
+                "Balances fetched successfully",
+                balances,
+                HttpStatus.OK
+        );
+    }
+
     /**
      * Get all accounts for a user
      * GET /api/v1/account/user-accounts/{internalUserId}
@@ -135,6 +209,60 @@ public class AccountController {
         );
     }
 
+    /**
+     * Balance at a point in time, replayed from the ledger
+     * GET /api/v1/account/balance/{accountNumber}/at?at=2026-03-31T23:59:59
+     */
+    @GetMapping("/balance/{accountNumber}/at")
+    public ResponseEntity<ApiResponse<BalanceAtTimeResponse>> getBalanceAt(
+            @PathVariable String accountNumber,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at
+    ) {
+        log.info("Request for balance of account {} at {}", accountNumber, at);
+        BalanceAtTimeResponse response = ledgerService.getBalanceAt(accountNumber, at);
+        return ResponseUtil.success(
+                "Balance fetched successfully",
+                response,
+                HttpStatus.OK
+        );
+    }
+
+    /**
+     * Balance minus funds reserved by active holds
+     * GET /api/v1/account/balance/{accountNumber}/available
+     */
+    @GetMapping("/balance/{accountNumber}/available")
+    public ResponseEntity<ApiResponse<AvailableBalanceResponse>> getAvailableBalance(
+            @PathVariable String accountNumber
+    ) {
+        log.info("Request for available balance of account: {}", accountNumber);
+        AvailableBalanceResponse response = holdService.getAvailableBalance(accountNumber);
+        return ResponseUtil.success(
+                "Available balance fetched successfully",
+                response,
+                HttpStatus.OK
+        );
+    }
+
+    /**
+     * Recompute the balance from the ledger and repair it if it differs
+     * POST /api/v1/account/ledger/{accountNumber}/rebuild
+     */
+    @PostMapping("/ledger/{accountNumber}/rebuild")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ApiResponse<LedgerRebuildResponse>> rebuildBalance(
+            @RequestHeader("internal-user-id") String internalUserId,
+            @PathVariable String accountNumber
+    ) {
+        log.info("Request to rebuild balance of account {} from ledger | By: {}", accountNumber, internalUserId);
+        LedgerRebuildResponse response = ledgerService.rebuildBalance(accountNumber, internalUserId);
+        return ResponseUtil.success(
+                response.isCorrected() ? "Balance rebuilt from ledger" : "Balance matches ledger",
+                response,
+                HttpStatus.OK
+        );
+    }
+
     /**
      * Update account balance (Called by Transaction Service)
      * PUT /api/v1/account/update-balance
@@ -152,6 +280,163 @@ public class AccountController {
         );
     }
 
+    /**
+     * Transfer between two accounts in one call (Called by Transaction Service)
+     * POST /api/v1/account/transfer
+     */
+    @PostMapping("/transfer")
+    public ResponseEntity<ApiResponse<TransferLegResponse>> transferFunds(
+            @Valid @RequestBody TransferLegRequest request
+    ) {
+        log.info("Request to transfer from {} to {}",
+                request.getFromAccountNumber(), request.getToAccountNumber());
+        TransferLegResponse response = accountService.transferFunds(request);
+        return ResponseUtil.success(
+                "Transfer completed successfully",
+                response,
+                HttpStatus.OK
+        );
+    }
+
+    /**
+     * Debit the aggregate of a bulk payout (Called by Transaction Service)
+     * POST /api/v1/account/bulk-payout/debit
+     */
+    @PostMapping("/bulk-payout/debit")
+    public ResponseEntity<ApiResponse<AccountResponse>> debitForBulkPayout(
+            @Valid @RequestBody BulkDebitRequest request
+    ) {
+        log.info("Request to debit bulk payout {} from {}",
+                request.getBatchId(), request.getAccountNumber());
+        AccountResponse account = accountService.debitForBulkPayout(request);
+        return ResponseUtil.success(
+                "Bulk payout debited successfully",
+                account,
+                HttpStatus.OK
+        );
+    }
+
+    /**
+     * Credit one chunk of a bulk payout (Called by Transaction Service)
+     * POST /api/v1/account/bulk-payout/credit
+     */
+    @PostMapping("/bulk-payout/credit")
+    public ResponseEntity<ApiResponse<BulkCreditResponse>> creditBulkPayout(
+            @Valid @RequestBody BulkCreditRequest request
+    ) {
+        log.info("Request to credit {} bulk payout rows for batch {}",
+                request.getItems().size(), request.getBatchId());
+        BulkCreditResponse response = accountService.creditBulkPayout(request);
+        return ResponseUtil.success(
+                "Bulk payout chunk processed",
+                response,
+                HttpStatus.OK
+        );
+    }
+
+    /**
+     * Refund uncredited rows of a bulk payout (Called by Transaction Service)
+     * POST /api/v1/account/bulk-payout/refund
+     */
+    @PostMapping("/bulk-payout/refund")
+    public ResponseEntity<ApiResponse<AccountResponse>> refundBulkPayout(
+            @Valid @RequestBody BulkDebitRequest request
+    ) {
+        log.info("Request to refund bulk payout {} to {}",
+                request.getBatchId(), request.getAccountNumber());
+        AccountResponse account = accountService.refundBulkPayout(request);
+        return ResponseUtil.success(
+                "Bulk payout refunded successfully",
+                account,
+                HttpStatus.OK
+        );
+    }
+
+    /**
+     * Reserve funds for a later capture (Called by Transaction Service)
+     * POST /api/v1/account/holds
+     */
+    @PostMapping("/holds")
+    public ResponseEntity<ApiResponse<HoldResponse>> placeHold(
+            @Valid @RequestBody PlaceHoldRequest request
+    ) {
+        log.info("Request to place hold {} on account {}", request.getHoldReference(), request.getAccountNumber());
+        HoldResponse response = holdService.placeHold(request);
+        return ResponseUtil.success(
+                "Hold placed successfully",
+                response,
+                HttpStatus.OK
+        );
+    }
+
+    /**
+     * Settle a hold (Called by Transaction Service)
+     * POST /api/v1/account/holds/capture
+     */
+    @PostMapping("/holds/capture")
+    public ResponseEntity<ApiResponse<HoldResponse>> captureHold(
+            @Valid @RequestBody CaptureHoldRequest request
+    ) {
+        log.info("Request to capture hold {}", request.getHoldReference());
+        HoldResponse response = holdService.captureHold(request);
+        return ResponseUtil.success(
+                "Hold captured successfully",
+                response,
+                HttpStatus.OK
+        );
+    }
+
+    /**
+     * Settle many holds in one call (Called by Transaction Service)
+     * POST /api/v1/account/holds/capture/batch
+     */
+    @PostMapping("/holds/capture/batch")
+    public ResponseEntity<ApiResponse<List<HoldResponse>>> captureHolds(
+            @Valid @RequestBody HoldBatchCaptureRequest request
+    ) {
+        log.info("Request to capture {} holds", request.getItems().size());
+        List<HoldResponse> response = holdService.captureHolds(request);
+        return ResponseUtil.success(
+                "Hold captures processed",
+                response,
+                HttpStatus.OK
+        );
+    }
+
+    /**
+     * Release a hold without debiting
+     * POST /api/v1/account/holds/{holdReference}/release
+     */
+    @PostMapping("/holds/{holdReference}/release")
+    public ResponseEntity<ApiResponse<HoldResponse>> releaseHold(
+            @PathVariable String holdReference
+    ) {
+        log.info("Request to release hold {}", holdReference);
+        HoldResponse response = holdService.releaseHold(holdReference);
+        return ResponseUtil.success(
+                "Hold released successfully",
+                response,
+                HttpStatus.OK
+        );
+    }
+
+    /**
+     * Get a hold by its reference
+     * GET /api/v1/account/holds/{holdReference}
+     */
+    @GetMapping("/holds/{holdReference}")
+    public ResponseEntity<ApiResponse<HoldResponse>> getHold(
+            @PathVariable String holdReference
+    ) {
+        log.info("Request to fetch hold {}", holdReference);
+        HoldResponse response = holdService.getHold(holdReference);
+        return ResponseUtil.success(
+                "Hold fetched successfully",
+                response,
+                HttpStatus.OK
+        );
+    }
+
     /**
      * Update account status (ACTIVE, INACTIVE, BLOCKED, CLOSED)
      * PATCH /api/v1/account/update-status
@@ -0,0 +1,25 @@
+package com.banking.account_service.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Request DTO for multi-get by account ID
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AccountIdBatchRequest {
+
+    @NotEmpty(message = "At least one account ID is required")
+    @Size(max = 1000, message = "A lookup cannot exceed 1000 accounts")
+    private List<@NotNull(message = "Account ID is required") Long> accountIds;
+}
@@ -0,0 +1,20 @@
+package com.banking.account_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One entry of a multi-get response (same order as the request)
+ * key is the requested account number or ID; account is null when not found
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AccountLookupResult {
+    private String key;
+    private boolean found;
+    private AccountResponse account;
+}
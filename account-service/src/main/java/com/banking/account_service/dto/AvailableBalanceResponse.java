@@ -0,0 +1,22 @@
+package com.banking.account_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Balance, active holds and what is left to spend
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AvailableBalanceResponse {
+    private String accountNumber;
+    private BigDecimal balance;
+    private BigDecimal heldAmount;
+    private BigDecimal availableBalance;
+}
@@ -0,0 +1,25 @@
+package com.banking.account_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Balance of an account at a point in time, replayed from the ledger
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BalanceAtTimeResponse {
+    private String accountNumber;
+    private LocalDateTime at;
+    private BigDecimal balance;
+    private long sequenceNo;          // last ledger entry included (0 = none)
+    private long snapshotSequenceNo;  // snapshot the replay started from
+    private int entriesReplayed;
+}
@@ -0,0 +1,21 @@
+package com.banking.account_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * One entry of a multi-get balance response (same order as the request)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BalanceLookupResult {
+    private String accountNumber;
+    private boolean found;
+    private BigDecimal balance;
+}
@@ -0,0 +1,28 @@
+package com.banking.account_service.dto;
+
+import com.banking.account_service.enums.AccountType;
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One row of a bulk account creation request
+ * Unset type/branch fields fall back to the request defaults
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkCreateAccountItem {
+
+    @NotBlank(message = "Internal user ID is required")
+    private String internalUserId;
+
+    private AccountType accountType;
+
+    private String branchCode;
+
+    private String branchName;
+}
@@ -0,0 +1,54 @@
+package com.banking.account_service.dto;
+
+import com.banking.account_service.enums.AccountType;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Request DTO for bulk account creation (corporate onboarding)
+ * Each row is validated independently; rejected rows do not fail the request
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkCreateAccountRequest {
+
+    /**
+     * Caller's reference for this onboarding run (e.g. corporate client ID)
+     */
+    @NotBlank(message = "Reference ID is required")
+    private String referenceId;
+
+    /**
+     * Default account type for rows that do not set one
+     */
+    @NotNull(message = "Account type is required")
+    private AccountType accountType;
+
+    /**
+     * Default branch for rows that do not set one
+     */
+    @NotBlank(message = "Branch code is required")
+    private String branchCode;
+
+    @NotBlank(message = "Branch name is required")
+    private String branchName;
+
+    /**
+     * Accounts to open
+     */
+    @NotEmpty(message = "At least one item is required")
+    @Size(max = 5000, message = "A request cannot exceed 5000 items")
+    @Valid
+    private List<BulkCreateAccountItem> items;
+}
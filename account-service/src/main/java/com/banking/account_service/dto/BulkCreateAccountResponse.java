@@ -0,0 +1,23 @@
+package com.banking.account_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Response DTO for bulk account creation
+ * Results are in the same order as the request items
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkCreateAccountResponse {
+    private String referenceId;
+    private int createdCount;
+    private int failedCount;
+    private List<BulkCreateAccountResult> results;
+}
@@ -0,0 +1,24 @@
+package com.banking.account_service.dto;
+
+import com.banking.account_service.enums.AccountType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of one bulk account creation row
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkCreateAccountResult {
+    private int row;
+    private String internalUserId;
+    private AccountType accountType;
+    private boolean created;
+    private String accountNumber;
+    private String ifscCode;
+    private String failureReason;
+}
@@ -0,0 +1,40 @@
+package com.banking.account_service.dto;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * One credit row of a bulk payout chunk
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkCreditItem {
+
+    /**
+     * Row transaction ID from Transaction Service
+     */
+    @NotBlank(message = "Transaction ID is required")
+    private String transactionId;
+
+    /**
+     * Account to credit
+     */
+    @NotBlank(message = "Account number is required")
+    private String accountNumber;
+
+    /**
+     * Amount to credit
+     */
+    @NotNull(message = "Amount is required")
+    @DecimalMin(value = "0.01", message = "Amount must be greater than zero")
+    private BigDecimal amount;
+}
@@ -0,0 +1,37 @@
+package com.banking.account_service.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Request DTO for one chunk of bulk payout credits
+ * Each row is credited independently; rejected rows do not fail the chunk
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkCreditRequest {
+
+    /**
+     * Bulk batch ID from Transaction Service
+     */
+    @NotBlank(message = "Batch ID is required")
+    private String batchId;
+
+    /**
+     * Rows to credit (one JDBC batch)
+     */
+    @NotEmpty(message = "At least one item is required")
+    @Size(max = 5000, message = "A chunk cannot exceed 5000 items")
+    @Valid
+    private List<BulkCreditItem> items;
+}
@@ -0,0 +1,23 @@
+package com.banking.account_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Response DTO for one chunk of bulk payout credits
+ * Results are in the same order as the request items
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkCreditResponse {
+    private String batchId;
+    private int creditedCount;
+    private int failedCount;
+    private List<BulkCreditResult> results;
+}
@@ -0,0 +1,21 @@
+package com.banking.account_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of one bulk payout credit row
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkCreditResult {
+    private String transactionId;
+    private String accountNumber;
+    private Long accountId;
+    private boolean credited;
+    private String failureReason;
+}
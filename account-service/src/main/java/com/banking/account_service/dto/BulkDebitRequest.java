@@ -0,0 +1,42 @@
+package com.banking.account_service.dto;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Request DTO for the aggregate leg of a bulk payout
+ * Used by Transaction Service to debit the source account once for a whole batch,
+ * and to refund the rows that could not be credited
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkDebitRequest {
+
+    /**
+     * Source (corporate) account number
+     */
+    @NotBlank(message = "Account number is required")
+    private String accountNumber;
+
+    /**
+     * Aggregate amount (sum of all row totals, or of the failed rows for a refund)
+     */
+    @NotNull(message = "Amount is required")
+    @DecimalMin(value = "0.01", message = "Amount must be greater than zero")
+    private BigDecimal amount;
+
+    /**
+     * Bulk batch ID from Transaction Service
+     */
+    @NotBlank(message = "Batch ID is required")
+    private String batchId;
+}
@@ -0,0 +1,32 @@
+package com.banking.account_service.dto;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Request DTO to settle a hold
+ * Captures the full hold unless a smaller amount is given; the rest is released
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CaptureHoldRequest {
+
+    @NotBlank(message = "Hold reference is required")
+    private String holdReference;
+
+    @DecimalMin(value = "0.01", message = "Amount must be greater than zero")
+    private BigDecimal amount;
+
+    /**
+     * Settlement transaction ID (recorded on the hold and the ledger entry)
+     */
+    private String transactionId;
+}
@@ -0,0 +1,27 @@
+package com.banking.account_service.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Request DTO to settle many holds in one call
+ * Each hold is captured independently; rejected holds do not fail the batch
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class HoldBatchCaptureRequest {
+
+    @NotEmpty(message = "At least one item is required")
+    @Size(max = 1000, message = "A batch cannot exceed 1000 items")
+    @Valid
+    private List<CaptureHoldRequest> items;
+}
@@ -0,0 +1,32 @@
+package com.banking.account_service.dto;
+
+import com.banking.account_service.enums.HoldStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Response DTO for a funds hold
+ * failureReason is set only for rejected items of a batch capture
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class HoldResponse {
+    private String holdReference;
+    private String accountNumber;
+    private BigDecimal amount;
+    private HoldStatus status;
+    private BigDecimal capturedAmount;
+    private String transactionId;
+    private String reason;
+    private LocalDateTime createdAt;
+    private LocalDateTime expiresAt;
+    private LocalDateTime closedAt;
+    private String failureReason;
+}
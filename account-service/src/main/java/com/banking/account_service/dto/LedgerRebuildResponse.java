@@ -0,0 +1,23 @@
+package com.banking.account_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Result of rebuilding an account balance from its ledger
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LedgerRebuildResponse {
+    private String accountNumber;
+    private BigDecimal storedBalance;
+    private BigDecimal ledgerBalance;
+    private long sequenceNo;
+    private boolean corrected;   // stored balance differed and was replaced
+}
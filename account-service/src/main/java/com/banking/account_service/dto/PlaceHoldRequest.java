@@ -0,0 +1,46 @@
+package com.banking.account_service.dto;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Request DTO to reserve funds on an account
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PlaceHoldRequest {
+
+    /**
+     * Caller's idempotency key (e.g. loan EMI ID, RTGS reference)
+     */
+    @NotBlank(message = "Hold reference is required")
+    @Size(max = 100, message = "Hold reference cannot exceed 100 characters")
+    private String holdReference;
+
+    @NotBlank(message = "Account number is required")
+    private String accountNumber;
+
+    @NotNull(message = "Amount is required")
+    @DecimalMin(value = "0.01", message = "Amount must be greater than zero")
+    private BigDecimal amount;
+
+    /**
+     * Seconds until the hold expires (default: account.holds.default-ttl-seconds)
+     */
+    @Positive(message = "Expiry must be positive")
+    private Long expiresInSeconds;
+
+    @Size(max = 200, message = "Reason cannot exceed 200 characters")
+    private String reason;
+}
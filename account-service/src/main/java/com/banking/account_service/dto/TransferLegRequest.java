@@ -0,0 +1,59 @@
+package com.banking.account_service.dto;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Request DTO for an atomic transfer
+ * Used by Transaction Service to debit the source and credit the destination
+ * in a single call (and a single local database transaction)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TransferLegRequest {
+
+    /**
+     * Account to debit
+     */
+    @NotBlank(message = "Source account number is required")
+    private String fromAccountNumber;
+
+    /**
+     * Account to credit
+     */
+    @NotBlank(message = "Destination account number is required")
+    private String toAccountNumber;
+
+    /**
+     * Amount taken from the source (transfer amount + charges + tax)
+     */
+    @NotNull(message = "Debit amount is required")
+    @DecimalMin(value = "0.01", message = "Debit amount must be greater than zero")
+    private BigDecimal debitAmount;
+
+    /**
+     * Amount given to the destination (transfer amount only)
+     */
+    @NotNull(message = "Credit amount is required")
+    @DecimalMin(value = "0.01", message = "Credit amount must be greater than zero")
+    private BigDecimal creditAmount;
+
+    /**
+     * Transaction ID from Transaction Service
+     */
+    private String transactionId;
+
+    /**
+     * Optional remarks
+     */
+    private String remarks;
+}
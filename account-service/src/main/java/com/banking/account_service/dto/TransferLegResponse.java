@@ -0,0 +1,24 @@
+package com.banking.account_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Response DTO for an atomic transfer
+ * Carries the post-transfer balances of both accounts
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TransferLegResponse {
+    private String transactionId;
+    private String fromAccountNumber;
+    private BigDecimal fromBalance;
+    private String toAccountNumber;
+    private BigDecimal toBalance;
+}
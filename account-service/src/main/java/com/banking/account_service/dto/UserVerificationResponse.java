@@ -53,6 +53,11 @@ public class UserVerificationResponse {
 
     private boolean isBlocked;
 
+    /**
+     * False when the user ID is unknown (batch verification only; null otherwise)
+     */
+    private Boolean exists;
+
     /**
      * Date of birth (for age verification)
      */
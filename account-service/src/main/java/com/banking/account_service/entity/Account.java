@@ -6,6 +6,7 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -30,6 +31,7 @@ import java.time.LocalDateTime;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
+@DynamicUpdate  // entity saves write only the changed columns, never the ones moved by SQL
 public class Account {
 
     @Id
@@ -47,9 +49,21 @@ public class Account {
     @Column(name = "account_type", nullable = false, length = 20)
     private AccountType accountType;
 
-    @Column(name = "balance", nullable = false, precision = 15, scale = 2)
+    // Set on insert only; afterwards only the guarded balance UPDATE statements move it,
+    // so saving a stale entity (status change, closure) can never revert a debit/credit
+    @Column(name = "balance", nullable = false, updatable = false, precision = 15, scale = 2)
     private BigDecimal balance = BigDecimal.ZERO;
 
+    // Sequence number of the last ledger entry; only the balance UPDATE statements move it
+    @Column(name = "ledger_sequence", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "BIGINT NOT NULL DEFAULT 0")
+    private Long ledgerSequence;
+
+    // Sum of ACTIVE holds (see AccountHold); only the hold UPDATE statements move it
+    @Column(name = "held_amount", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "DECIMAL(15,2) NOT NULL DEFAULT 0")
+    private BigDecimal heldAmount;
+
     @Enumerated(EnumType.STRING)
     @Column(name = "status", nullable = false, length = 20)
     private AccountStatus status = AccountStatus.ACTIVE;
@@ -101,6 +115,13 @@ public class Account {
         this.lastModifiedDate = LocalDateTime.now();
     }
 
+    /**
+     * Balance minus active holds
+     */
+    public BigDecimal getAvailableBalance() {
+        return heldAmount != null ? balance.subtract(heldAmount) : balance;
+    }
+
     public boolean hasSufficientBalance(BigDecimal amount) {
         return this.balance.compareTo(amount) >= 0;
     }
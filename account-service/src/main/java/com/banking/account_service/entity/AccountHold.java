@@ -0,0 +1,71 @@
+package com.banking.account_service.entity;
+
+import com.banking.account_service.enums.HoldStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Account Hold
+ * Funds reserved on an account until captured (debited), released or expired.
+ * holdReference is the caller's idempotency key: placing, capturing or
+ * releasing the same reference twice returns the same hold.
+ * Rows are written over JDBC (see AccountHoldRepository).
+ */
+@Entity
+@Table(name = "account_hold",
+        uniqueConstraints = @UniqueConstraint(name = "uk_hold_reference", columnNames = "hold_reference"),
+        indexes = {
+                @Index(name = "idx_hold_status_expires", columnList = "status, expires_at"),
+                @Index(name = "idx_hold_account_status", columnList = "account_id, status")
+        })
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AccountHold {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "hold_id")
+    private Long holdId;
+
+    @Column(name = "hold_reference", nullable = false, length = 100)
+    private String holdReference;
+
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    @Column(name = "account_number", nullable = false, length = 14)
+    private String accountNumber;
+
+    @Column(name = "amount", nullable = false, precision = 15, scale = 2)
+    private BigDecimal amount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private HoldStatus status;
+
+    @Column(name = "captured_amount", precision = 15, scale = 2)
+    private BigDecimal capturedAmount;
+
+    @Column(name = "transaction_id", length = 100)
+    private String transactionId; // settlement reference, set on capture
+
+    @Column(name = "reason", length = 200)
+    private String reason; // e.g. "EMI", "RTGS", "CARD_AUTH"
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "closed_at")
+    private LocalDateTime closedAt;
+}
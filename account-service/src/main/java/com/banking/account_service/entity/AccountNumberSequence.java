@@ -0,0 +1,26 @@
+package com.banking.account_service.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Account Number Sequence
+ * Next unreserved serial of an account number series. Instances reserve
+ * blocks of serials from here (see AccountNumberGenerator).
+ */
+@Entity
+@Table(name = "account_number_sequence")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountNumberSequence {
+
+    @Id
+    @Column(name = "sequence_name", length = 50)
+    private String sequenceName;
+
+    @Column(name = "next_value", nullable = false)
+    private Long nextValue;
+}
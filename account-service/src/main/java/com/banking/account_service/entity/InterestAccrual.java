@@ -0,0 +1,54 @@
+package com.banking.account_service.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Interest Accrual
+ * One day's interest on one account, in milli-paise (1/1000 paise) so small
+ * daily amounts are not lost to rounding. Summed and credited at quarter end
+ * (see InterestAccrualJob); the unique key makes re-running a day a no-op.
+ */
+@Entity
+@Table(name = "interest_accrual",
+        uniqueConstraints = @UniqueConstraint(name = "uk_accrual_account_date",
+                columnNames = {"account_id", "accrual_date"}),
+        indexes = @Index(name = "idx_accrual_posted_account", columnList = "posted, account_id"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class InterestAccrual {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "accrual_id")
+    private Long accrualId;
+
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    @Column(name = "account_number", nullable = false, length = 14)
+    private String accountNumber;
+
+    @Column(name = "accrual_date", nullable = false)
+    private LocalDate accrualDate;
+
+    @Column(name = "balance_paise", nullable = false)
+    private Long balancePaise;
+
+    @Column(name = "rate_bps", nullable = false)
+    private Integer rateBps; // annual rate in basis points (3.50% = 350)
+
+    @Column(name = "interest_milli_paise", nullable = false)
+    private Long interestMilliPaise;
+
+    @Column(name = "posted", nullable = false)
+    private boolean posted;
+
+    @Column(name = "posted_date")
+    private LocalDate postedDate;
+}
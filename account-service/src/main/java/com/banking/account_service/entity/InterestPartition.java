@@ -0,0 +1,45 @@
+package com.banking.account_service.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Interest Partition
+ * Marks one account ID range of an interest run (accrual day or quarterly
+ * posting) as done; written in the same transaction as the range's work, so
+ * a restarted run skips exactly the ranges that committed.
+ */
+@Entity
+@Table(name = "interest_partition")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class InterestPartition {
+
+    @Id
+    @Column(name = "partition_key", length = 80)
+    private String partitionKey; // PHASE:run-date:range-start
+
+    @Column(name = "phase", nullable = false, length = 20)
+    private String phase; // ACCRUAL or POSTING
+
+    @Column(name = "run_date", nullable = false)
+    private LocalDate runDate;
+
+    @Column(name = "range_start", nullable = false)
+    private Long rangeStart;
+
+    @Column(name = "range_end", nullable = false)
+    private Long rangeEnd; // exclusive
+
+    @Column(name = "row_count", nullable = false)
+    private Integer rowCount;
+
+    @Column(name = "completed_at", nullable = false)
+    private LocalDateTime completedAt;
+}
@@ -0,0 +1,50 @@
+package com.banking.account_service.entity;
+
+import com.banking.account_service.enums.JobRunStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Job Checkpoint
+ * Progress and lease of a batch job that walks accounts by ID (keyset order).
+ * One row per job; the instance named in leaseOwner is the only one allowed
+ * to advance it until leaseExpiresAt (see JobCheckpointRepository).
+ */
+@Entity
+@Table(name = "job_checkpoint")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobCheckpoint {
+
+    @Id
+    @Column(name = "job_name", length = 50)
+    private String jobName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private JobRunStatus status;
+
+    @Column(name = "run_date")
+    private LocalDate runDate; // "as of" date of the current / last run
+
+    @Column(name = "last_id", nullable = false)
+    private Long lastId; // last account ID processed (keyset cursor)
+
+    @Column(name = "processed_count", nullable = false)
+    private Long processedCount; // accounts changed so far in this run
+
+    @Column(name = "lease_owner", length = 64)
+    private String leaseOwner;
+
+    @Column(name = "lease_expires_at")
+    private LocalDateTime leaseExpiresAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
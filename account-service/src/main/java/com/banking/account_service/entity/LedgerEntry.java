@@ -0,0 +1,66 @@
+package com.banking.account_service.entity;
+
+import com.banking.account_service.enums.LedgerEntryType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Ledger Entry
+ * Append-only record of one balance change. sequenceNo runs 1, 2, 3... per
+ * account and equals accounts.ledger_sequence after the change, so entries of
+ * an account are gap-free and ordered by the row lock that applied them.
+ * Rows are written over JDBC (see LedgerRepository) and never updated.
+ */
+@Entity
+@Table(name = "ledger_entry",
+        uniqueConstraints = @UniqueConstraint(name = "uk_ledger_account_sequence",
+                columnNames = {"account_id", "sequence_no"}),
+        indexes = {
+                @Index(name = "idx_ledger_account_created", columnList = "account_id, created_at"),
+                @Index(name = "idx_ledger_transaction_id", columnList = "transaction_id")
+        })
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LedgerEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "entry_id")
+    private Long entryId;
+
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    @Column(name = "account_number", nullable = false, length = 14)
+    private String accountNumber;
+
+    @Column(name = "sequence_no", nullable = false)
+    private Long sequenceNo;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entry_type", nullable = false, length = 10)
+    private LedgerEntryType entryType;
+
+    @Column(name = "amount", nullable = false, precision = 15, scale = 2)
+    private BigDecimal amount;
+
+    @Column(name = "balance_after", nullable = false, precision = 15, scale = 2)
+    private BigDecimal balanceAfter;
+
+    @Column(name = "transaction_id", length = 100)
+    private String transactionId;
+
+    @Column(name = "description", length = 200)
+    private String description;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,53 @@
+package com.banking.account_service.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Ledger Snapshot
+ * Balance of an account after ledger entry sequenceNo, computed from the
+ * previous snapshot plus the entries since (see LedgerSnapshotJob).
+ * Balance at time T = last snapshot taken by T + the entries after it up to T.
+ *
+ * Accounts that existed before the ledger get a sequence 0 snapshot of their
+ * balance at that moment; their history starts there.
+ */
+@Entity
+@Table(name = "ledger_snapshot",
+        indexes = @Index(name = "idx_snapshot_account_taken", columnList = "account_id, taken_at"))
+@IdClass(LedgerSnapshot.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LedgerSnapshot {
+
+    @Id
+    @Column(name = "account_id")
+    private Long accountId;
+
+    @Id
+    @Column(name = "sequence_no")
+    private Long sequenceNo;
+
+    @Column(name = "balance", nullable = false, precision = 15, scale = 2)
+    private BigDecimal balance;
+
+    @Column(name = "taken_at", nullable = false)
+    private LocalDateTime takenAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private Long accountId;
+        private Long sequenceNo;
+    }
+}
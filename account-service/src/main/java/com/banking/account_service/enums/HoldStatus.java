@@ -0,0 +1,16 @@
+package com.banking.account_service.enums;
+
+/**
+ * Lifecycle of a funds hold
+ *
+ * ACTIVE: amount reserved (counted in accounts.held_amount)
+ * CAPTURED: debited from the balance (any remainder released)
+ * RELEASED: given back on request
+ * EXPIRED: given back because it reached its expiry time
+ */
+public enum HoldStatus {
+    ACTIVE,
+    CAPTURED,
+    RELEASED,
+    EXPIRED
+}
@@ -0,0 +1,12 @@
+package com.banking.account_service.enums;
+
+/**
+ * State of a checkpointed batch job run
+ *
+ * RUNNING: started, not finished (next run resumes from the checkpoint)
+ * COMPLETED: finished for its run date
+ */
+public enum JobRunStatus {
+    RUNNING,
+    COMPLETED
+}
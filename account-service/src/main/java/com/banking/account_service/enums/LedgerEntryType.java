@@ -0,0 +1,12 @@
+package com.banking.account_service.enums;
+
+/**
+ * Direction of a ledger entry
+ *
+ * CREDIT: amount added to the balance
+ * DEBIT: amount taken from the balance
+ */
+public enum LedgerEntryType {
+    CREDIT,
+    DEBIT
+}
@@ -0,0 +1,25 @@
+package com.banking.account_service.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published whenever an account's status changes (status update, closure)
+ * Consumers holding account metadata (e.g. transaction-service's near-cache) evict on it.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountStatusChangedEvent {
+    private Long accountId;
+    private String accountNumber;
+    private String oldStatus;
+    private String newStatus;
+    private String reason;
+    private LocalDateTime changedAt;
+}
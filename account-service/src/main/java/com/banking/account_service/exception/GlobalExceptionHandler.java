@@ -55,6 +55,21 @@ public class GlobalExceptionHandler {
         );
     }
 
+    /**
+     * Handle DailyLimitExceededException
+     * HTTP 400 - Bad Request
+     */
+    @ExceptionHandler(DailyLimitExceededException.class)
+    public ResponseEntity<ApiResponse<String>> handleDailyLimitExceeded(
+            DailyLimitExceededException ex
+    ) {
+        log.error("Daily limit exceeded: {}", ex.getMessage());
+        return ResponseUtil.error(
+                ex.getMessage(),
+                HttpStatus.BAD_REQUEST
+        );
+    }
+
     /**
      * Handle InvalidAccountOperationException
      * HTTP 400 - Bad Request
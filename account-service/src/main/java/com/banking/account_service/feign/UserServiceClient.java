@@ -1,10 +1,15 @@
 package com.banking.account_service.feign;
 
 import com.banking.account_service.config.FeignClientConfig;
+import com.banking.account_service.dto.ApiResponse;
 import com.banking.account_service.dto.UserVerificationResponse;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+
+import java.util.List;
 
 /**
  * Feign Client to communicate with User Service
@@ -31,4 +36,11 @@ public interface UserServiceClient {
      */
     @GetMapping("/api/v1/users/internal/{internalUserId}")
     UserVerificationResponse getUserDetails(@PathVariable("internalUserId") String internalUserId);
+
+    /**
+     * Verify many users in one call (one IN query on the User Service side)
+     * Called by bulk account creation; unknown IDs come back with exists=false
+     */
+    @PostMapping("/api/v1/users/internal/verify/batch")
+    ApiResponse<List<UserVerificationResponse>> verifyUsers(@RequestBody List<String> internalUserIds);
 }
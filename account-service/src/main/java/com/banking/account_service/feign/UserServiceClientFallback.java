@@ -1,10 +1,13 @@
 package com.banking.account_service.feign;
 
+import com.banking.account_service.dto.ApiResponse;
 import com.banking.account_service.dto.UserVerificationResponse;
 import com.banking.account_service.exception.custom.UserServiceUnavailableException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 /**
  * Fallback handler for User Service Feign Client
  *
@@ -38,4 +41,12 @@ public class UserServiceClientFallback implements UserServiceClient {
                 "User Service is temporarily unavailable. Please try again later."
         );
     }
+
+    @Override
+    public ApiResponse<List<UserVerificationResponse>> verifyUsers(List<String> internalUserIds) {
+        log.error("User Service is unavailable. Cannot verify {} users", internalUserIds.size());
+        throw new UserServiceUnavailableException(
+                "User Service is temporarily unavailable. Please try again later."
+        );
+    }
 }
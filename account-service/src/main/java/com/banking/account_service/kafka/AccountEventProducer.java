@@ -0,0 +1,71 @@
+package com.banking.account_service.kafka;
+
+import com.banking.account_service.entity.Account;
+import com.banking.account_service.enums.AccountStatus;
+import com.banking.account_service.event.AccountStatusChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+
+/**
+ * Account event producer
+ * Events are sent after the DB transaction commits, so consumers never see a
+ * status change that was rolled back. Keyed by account number (per-account order).
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AccountEventProducer {
+
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+
+    @Value("${kafka.topics.account-status-changed}")
+    private String accountStatusChangedTopic;
+
+    public void publishAccountStatusChanged(Account account, AccountStatus oldStatus, String reason) {
+        publishAccountStatusChanged(account.getAccountId(), account.getAccountNumber(),
+                oldStatus, account.getStatus(), reason);
+    }
+
+    public void publishAccountStatusChanged(Long accountId, String accountNumber,
+                                            AccountStatus oldStatus, AccountStatus newStatus, String reason) {
+        AccountStatusChangedEvent event = AccountStatusChangedEvent.builder()
+                .accountId(accountId)
+                .accountNumber(accountNumber)
+                .oldStatus(oldStatus.name())
+                .newStatus(newStatus.name())
+                .reason(reason)
+                .changedAt(LocalDateTime.now())
+                .build();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    send(event);
+                }
+            });
+        } else {
+            send(event);
+        }
+    }
+
+    private void send(AccountStatusChangedEvent event) {
+        kafkaTemplate.send(accountStatusChangedTopic, event.getAccountNumber(), event)
+                .whenComplete((result, ex) -> {
+                    if (ex != null) {
+                        log.error(" Failed to publish status change | Account: {} | Error: {}",
+                                event.getAccountNumber(), ex.getMessage());
+                    } else {
+                        log.info(" Published status change | Account: {} | {} -> {}",
+                                event.getAccountNumber(), event.getOldStatus(), event.getNewStatus());
+                    }
+                });
+    }
+}
@@ -0,0 +1,113 @@
+package com.banking.account_service.repository;
+
+import com.banking.account_service.config.AppProperties;
+import com.banking.account_service.dto.BulkCreditItem;
+import com.banking.account_service.entity.Account;
+import com.banking.account_service.entity.AccountAudit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * JDBC batch operations for bulk payouts and bulk account creation
+ *
+ * One statement per row sent in a single round trip (rewriteBatchedStatements),
+ * instead of one JPA insert/update + one audit insert per row.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AccountBatchRepository {
+
+    /**
+     * Same guards as AccountRepository.creditIfAllowed
+     */
+    private static final String GUARDED_CREDIT_SQL =
+            "UPDATE accounts SET balance = balance + ?, ledger_sequence = ledger_sequence + 1, " +
+            "last_transaction_date = ?, last_modified_date = ? " +
+            "WHERE account_number = ? AND status = 'ACTIVE' " +
+            "AND balance + ? <= CASE account_type " +
+            "WHEN 'SAVINGS' THEN ? WHEN 'CURRENT' THEN ? WHEN 'SALARY' THEN ? ELSE ? END";
+
+    private static final String ACCOUNT_INSERT_SQL =
+            "INSERT INTO accounts (account_number, internal_user_id, account_type, balance, status, " +
+            "ifsc_code, branch_code, branch_name, currency, created_date, last_modified_date) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String AUDIT_INSERT_SQL =
+            "INSERT INTO account_audit (account_number, internal_user_id, action, description, " +
+            "old_value, new_value, performed_by, ip_address, timestamp, transaction_id) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AppProperties appProperties;
+
+    /**
+     * Apply guarded credits as one JDBC batch
+     * Returns affected rows per item, in item order (1 = credited, 0 = rejected)
+     */
+    public int[] creditAll(List<BulkCreditItem> items, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+
+        return jdbcTemplate.batchUpdate(GUARDED_CREDIT_SQL, items, items.size(), (ps, item) -> {
+            ps.setBigDecimal(1, item.getAmount());
+            ps.setTimestamp(2, timestamp);
+            ps.setTimestamp(3, timestamp);
+            ps.setString(4, item.getAccountNumber());
+            ps.setBigDecimal(5, item.getAmount());
+            ps.setBigDecimal(6, appProperties.getSavings().getMaxBalance());
+            ps.setBigDecimal(7, appProperties.getCurrent().getMaxBalance());
+            ps.setBigDecimal(8, appProperties.getSalary().getMaxBalance());
+            ps.setBigDecimal(9, appProperties.getWallet().getMaxBalance());
+        })[0];
+    }
+
+    /**
+     * Insert new accounts as one JDBC batch (multi-row INSERT on MySQL)
+     * Generated IDs are not read back; callers identify rows by account number
+     */
+    public void insertAccounts(List<Account> accounts) {
+        if (accounts.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(ACCOUNT_INSERT_SQL, accounts, accounts.size(), (ps, account) -> {
+            ps.setString(1, account.getAccountNumber());
+            ps.setString(2, account.getInternalUserId());
+            ps.setString(3, account.getAccountType().name());
+            ps.setBigDecimal(4, account.getBalance());
+            ps.setString(5, account.getStatus().name());
+            ps.setString(6, account.getIfscCode());
+            ps.setString(7, account.getBranchCode());
+            ps.setString(8, account.getBranchName());
+            ps.setString(9, account.getCurrency());
+            ps.setTimestamp(10, Timestamp.valueOf(account.getCreatedDate()));
+            ps.setTimestamp(11, Timestamp.valueOf(account.getLastModifiedDate()));
+        });
+    }
+
+    /**
+     * Insert audit rows as one JDBC batch (multi-row INSERT on MySQL)
+     */
+    public void insertAudits(List<AccountAudit> audits) {
+        if (audits.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(AUDIT_INSERT_SQL, audits, audits.size(), (ps, audit) -> {
+            ps.setString(1, audit.getAccountNumber());
+            ps.setString(2, audit.getInternalUserId());
+            ps.setString(3, audit.getAction().name());
+            ps.setString(4, audit.getDescription());
+            ps.setString(5, audit.getOldValue());
+            ps.setString(6, audit.getNewValue());
+            ps.setString(7, audit.getPerformedBy());
+            ps.setString(8, audit.getIpAddress());
+            ps.setTimestamp(9, Timestamp.valueOf(audit.getTimestamp()));
+            ps.setString(10, audit.getTransactionId());
+        });
+    }
+}
@@ -0,0 +1,204 @@
+package com.banking.account_service.repository;
+
+import com.banking.account_service.config.AppProperties;
+import com.banking.account_service.entity.AccountHold;
+import com.banking.account_service.enums.HoldStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * JDBC access to account_hold and the held_amount of accounts
+ *
+ * accounts.held_amount is the running sum of ACTIVE holds: every statement
+ * that changes a hold's status adjusts it in the same transaction, so the
+ * available balance (balance - held_amount) is never computed by a scan.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AccountHoldRepository {
+
+    private static final String HOLD_COLUMNS =
+            "hold_id, hold_reference, account_id, account_number, amount, status, captured_amount, " +
+            "transaction_id, reason, created_at, expires_at, closed_at";
+
+    /**
+     * Reserve funds: same guards as a bulk payout debit (ACTIVE, minimum balance
+     * kept on the available balance); no per-type daily withdrawal limit
+     */
+    private static final String RESERVE_SQL =
+            "UPDATE accounts SET held_amount = held_amount + ?, last_modified_date = ? " +
+            "WHERE account_id = ? AND status = 'ACTIVE' " +
+            "AND balance - held_amount - ? >= CASE account_type " +
+            "WHEN 'SAVINGS' THEN ? WHEN 'CURRENT' THEN ? WHEN 'SALARY' THEN ? ELSE ? END";
+
+    private static final String INSERT_HOLD_SQL =
+            "INSERT INTO account_hold (hold_reference, account_id, account_number, amount, status, " +
+            "reason, created_at, expires_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    /**
+     * Settle a hold: debit the captured amount and drop the whole hold from held_amount
+     * Unguarded on purpose: the funds were reserved when the hold was placed
+     */
+    private static final String CAPTURE_SQL =
+            "UPDATE accounts SET balance = balance - ?, held_amount = held_amount - ?, " +
+            "ledger_sequence = ledger_sequence + 1, last_transaction_date = ?, last_modified_date = ? " +
+            "WHERE account_id = ?";
+
+    private static final RowMapper<AccountHold> HOLD_ROW_MAPPER = (rs, rowNum) -> {
+        Timestamp closedAt = rs.getTimestamp("closed_at");
+        return AccountHold.builder()
+                .holdId(rs.getLong("hold_id"))
+                .holdReference(rs.getString("hold_reference"))
+                .accountId(rs.getLong("account_id"))
+                .accountNumber(rs.getString("account_number"))
+                .amount(rs.getBigDecimal("amount"))
+                .status(HoldStatus.valueOf(rs.getString("status")))
+                .capturedAmount(rs.getBigDecimal("captured_amount"))
+                .transactionId(rs.getString("transaction_id"))
+                .reason(rs.getString("reason"))
+                .createdAt(rs.getTimestamp("created_at").toLocalDateTime())
+                .expiresAt(rs.getTimestamp("expires_at").toLocalDateTime())
+                .closedAt(closedAt != null ? closedAt.toLocalDateTime() : null)
+                .build();
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AppProperties appProperties;
+
+    /**
+     * Lock the account row (serializes hold placement per account); empty if it does not exist
+     */
+    public Optional<Long> lockAccountId(String accountNumber) {
+        return jdbcTemplate.queryForList(
+                "SELECT account_id FROM accounts WHERE account_number = ? FOR UPDATE",
+                Long.class, accountNumber).stream().findFirst();
+    }
+
+    public Optional<AccountHold> findByReference(String holdReference) {
+        return jdbcTemplate.query("SELECT " + HOLD_COLUMNS + " FROM account_hold WHERE hold_reference = ?",
+                HOLD_ROW_MAPPER, holdReference).stream().findFirst();
+    }
+
+    /**
+     * Holds of the given references, locked until commit (in reference order)
+     */
+    public List<AccountHold> lockByReferences(Collection<String> holdReferences) {
+        if (holdReferences.isEmpty()) {
+            return Collections.emptyList();
+        }
+        String placeholders = String.join(", ", Collections.nCopies(holdReferences.size(), "?"));
+        return jdbcTemplate.query("SELECT " + HOLD_COLUMNS + " FROM account_hold " +
+                        "WHERE hold_reference IN (" + placeholders + ") ORDER BY hold_reference FOR UPDATE",
+                HOLD_ROW_MAPPER, holdReferences.toArray());
+    }
+
+    public Optional<AccountHold> lockById(long holdId) {
+        return jdbcTemplate.query("SELECT " + HOLD_COLUMNS + " FROM account_hold WHERE hold_id = ? FOR UPDATE",
+                HOLD_ROW_MAPPER, holdId).stream().findFirst();
+    }
+
+    /**
+     * Add to held_amount if the available balance allows it; returns false if rejected
+     */
+    public boolean reserve(long accountId, BigDecimal amount, LocalDateTime now) {
+        return jdbcTemplate.update(RESERVE_SQL,
+                amount, Timestamp.valueOf(now), accountId, amount,
+                appProperties.getSavings().getMinBalance(),
+                appProperties.getCurrent().getMinBalance(),
+                appProperties.getSalary().getMinBalance(),
+                appProperties.getWallet().getMinBalance()) == 1;
+    }
+
+    public void unreserve(long accountId, BigDecimal amount, LocalDateTime now) {
+        jdbcTemplate.update(
+                "UPDATE accounts SET held_amount = held_amount - ?, last_modified_date = ? WHERE account_id = ?",
+                amount, Timestamp.valueOf(now), accountId);
+    }
+
+    public void capture(long accountId, BigDecimal capturedAmount, BigDecimal holdAmount, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        jdbcTemplate.update(CAPTURE_SQL, capturedAmount, holdAmount, timestamp, timestamp, accountId);
+    }
+
+    /**
+     * Insert a new ACTIVE hold and set its generated ID
+     */
+    public void insert(AccountHold hold) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(INSERT_HOLD_SQL, Statement.RETURN_GENERATED_KEYS);
+            ps.setString(1, hold.getHoldReference());
+            ps.setLong(2, hold.getAccountId());
+            ps.setString(3, hold.getAccountNumber());
+            ps.setBigDecimal(4, hold.getAmount());
+            ps.setString(5, hold.getStatus().name());
+            ps.setString(6, hold.getReason());
+            ps.setTimestamp(7, Timestamp.valueOf(hold.getCreatedAt()));
+            ps.setTimestamp(8, Timestamp.valueOf(hold.getExpiresAt()));
+            return ps;
+        }, keyHolder);
+        hold.setHoldId(keyHolder.getKey().longValue());
+    }
+
+    /**
+     * Move an ACTIVE hold to its final status
+     */
+    public void close(AccountHold hold) {
+        jdbcTemplate.update(
+                "UPDATE account_hold SET status = ?, captured_amount = ?, transaction_id = ?, closed_at = ? " +
+                "WHERE hold_id = ? AND status = 'ACTIVE'",
+                hold.getStatus().name(), hold.getCapturedAmount(), hold.getTransactionId(),
+                Timestamp.valueOf(hold.getClosedAt()), hold.getHoldId());
+    }
+
+    /**
+     * Stream every ACTIVE hold's ID and expiry (loading the expiry wheel at startup)
+     */
+    public void forEachActive(ActiveHoldHandler handler) {
+        jdbcTemplate.query("SELECT hold_id, expires_at FROM account_hold WHERE status = 'ACTIVE'",
+                rs -> {
+                    handler.accept(rs.getLong(1), rs.getTimestamp(2).toLocalDateTime());
+                });
+    }
+
+    /**
+     * IDs of ACTIVE holds already past the given time (index range on status, expires_at)
+     */
+    public List<Long> findActiveExpiredBefore(LocalDateTime before, int limit) {
+        return jdbcTemplate.queryForList(
+                "SELECT hold_id FROM account_hold WHERE status = 'ACTIVE' AND expires_at < ? " +
+                "ORDER BY expires_at LIMIT ?",
+                Long.class, Timestamp.valueOf(before), limit);
+    }
+
+    /**
+     * Balance and held amount of an account
+     */
+    public Optional<HeldBalance> findHeldBalance(String accountNumber) {
+        return jdbcTemplate.query("SELECT balance, held_amount FROM accounts WHERE account_number = ?",
+                (rs, rowNum) -> new HeldBalance(rs.getBigDecimal(1), rs.getBigDecimal(2)),
+                accountNumber).stream().findFirst();
+    }
+
+    public record HeldBalance(BigDecimal balance, BigDecimal heldAmount) {
+    }
+
+    @FunctionalInterface
+    public interface ActiveHoldHandler {
+        void accept(long holdId, LocalDateTime expiresAt);
+    }
+}
@@ -0,0 +1,46 @@
+package com.banking.account_service.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * JDBC access to account_number_sequence
+ * Must run inside a (short, dedicated) transaction: the sequence row stays
+ * locked from the SELECT ... FOR UPDATE until commit.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AccountNumberSequenceRepository {
+
+    private static final long INITIAL_VALUE = 1;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Reserve size consecutive serials; returns the first one
+     */
+    public long reserveBlock(String sequenceName, int size) {
+        List<Long> current = jdbcTemplate.queryForList(
+                "SELECT next_value FROM account_number_sequence WHERE sequence_name = ? FOR UPDATE",
+                Long.class, sequenceName);
+
+        if (current.isEmpty()) {
+            // First use: create the row (a concurrent creator wins silently), then lock it
+            jdbcTemplate.update(
+                    "INSERT IGNORE INTO account_number_sequence (sequence_name, next_value) VALUES (?, ?)",
+                    sequenceName, INITIAL_VALUE);
+            current = jdbcTemplate.queryForList(
+                    "SELECT next_value FROM account_number_sequence WHERE sequence_name = ? FOR UPDATE",
+                    Long.class, sequenceName);
+        }
+
+        long start = current.get(0);
+        jdbcTemplate.update(
+                "UPDATE account_number_sequence SET next_value = ? WHERE sequence_name = ?",
+                start + size, sequenceName);
+        return start;
+    }
+}
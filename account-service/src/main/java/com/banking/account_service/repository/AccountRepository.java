@@ -1,13 +1,18 @@
 package com.banking.account_service.repository;
 
+import com.banking.account_service.config.AppProperties;
 import com.banking.account_service.entity.Account;
 import com.banking.account_service.enums.AccountStatus;
 import com.banking.account_service.enums.AccountType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,6 +27,122 @@ public interface AccountRepository extends JpaRepository<Account, Long> {
      */
     Optional<Account> findByAccountNumber(String accountNumber);
 
+    /**
+     * Resolve account ID from account number without loading the entity
+     * Used to order row locks deterministically before a transfer
+     */
+    @Query("SELECT a.accountId FROM Account a WHERE a.accountNumber = :accountNumber")
+    Optional<Long> findAccountIdByAccountNumber(@Param("accountNumber") String accountNumber);
+
+    /**
+     * Read balance without loading the entity
+     */
+    @Query("SELECT a.balance FROM Account a WHERE a.accountNumber = :accountNumber")
+    Optional<BigDecimal> findBalanceByAccountNumber(@Param("accountNumber") String accountNumber);
+
+    /**
+     * Atomic guarded debit (no read-modify-write)
+     *
+     * Same rules as AccountValidationService.validateBalanceOperation, as SQL guards:
+     * - Account must be ACTIVE
+     * - Available balance (balance - active holds) must cover the amount
+     * - Minimum balance for the account type must be kept
+     * - Amount must be within the account type's daily withdrawal limit
+     *
+     * Returns affected rows: 1 = debited, 0 = rejected (or account missing)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE accounts SET balance = balance - :amount, ledger_sequence = ledger_sequence + 1, " +
+            "last_transaction_date = :now, last_modified_date = :now " +
+            "WHERE account_number = :accountNumber AND status = 'ACTIVE' " +
+            "AND balance - held_amount >= :amount " +
+            "AND balance - held_amount - :amount >= CASE account_type " +
+            "WHEN 'SAVINGS' THEN :#{#limits.savings.minBalance} " +
+            "WHEN 'CURRENT' THEN :#{#limits.current.minBalance} " +
+            "WHEN 'SALARY' THEN :#{#limits.salary.minBalance} " +
+            "ELSE :#{#limits.wallet.minBalance} END " +
+            "AND :amount <= CASE account_type " +
+            "WHEN 'SAVINGS' THEN :#{#limits.savings.dailyWithdrawalLimit} " +
+            "WHEN 'CURRENT' THEN :#{#limits.current.dailyWithdrawalLimit} " +
+            "WHEN 'SALARY' THEN :#{#limits.salary.dailyWithdrawalLimit} " +
+            "ELSE :#{#limits.wallet.dailyTransactionLimit} END",
+            nativeQuery = true)
+    int debitIfAllowed(@Param("accountNumber") String accountNumber,
+                       @Param("amount") BigDecimal amount,
+                       @Param("now") LocalDateTime now,
+                       @Param("limits") AppProperties limits);
+
+    /**
+     * Atomic guarded credit (no read-modify-write)
+     *
+     * SQL guards: account must be ACTIVE and stay within the maximum
+     * balance for its type. Returns affected rows (1 = credited, 0 = rejected)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE accounts SET balance = balance + :amount, ledger_sequence = ledger_sequence + 1, " +
+            "last_transaction_date = :now, last_modified_date = :now " +
+            "WHERE account_number = :accountNumber AND status = 'ACTIVE' " +
+            "AND balance + :amount <= CASE account_type " +
+            "WHEN 'SAVINGS' THEN :#{#limits.savings.maxBalance} " +
+            "WHEN 'CURRENT' THEN :#{#limits.current.maxBalance} " +
+            "WHEN 'SALARY' THEN :#{#limits.salary.maxBalance} " +
+            "ELSE :#{#limits.wallet.maxBalance} END",
+            nativeQuery = true)
+    int creditIfAllowed(@Param("accountNumber") String accountNumber,
+                        @Param("amount") BigDecimal amount,
+                        @Param("now") LocalDateTime now,
+                        @Param("limits") AppProperties limits);
+
+    /**
+     * Atomic guarded debit for the aggregate leg of a bulk payout
+     *
+     * Same as debitIfAllowed minus the per-type daily withdrawal limit: a payroll
+     * run is a pre-authorised corporate debit, capped by Transaction Service per row.
+     * Returns affected rows (1 = debited, 0 = rejected)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE accounts SET balance = balance - :amount, ledger_sequence = ledger_sequence + 1, " +
+            "last_transaction_date = :now, last_modified_date = :now " +
+            "WHERE account_number = :accountNumber AND status = 'ACTIVE' " +
+            "AND balance - held_amount >= :amount " +
+            "AND balance - held_amount - :amount >= CASE account_type " +
+            "WHEN 'SAVINGS' THEN :#{#limits.savings.minBalance} " +
+            "WHEN 'CURRENT' THEN :#{#limits.current.minBalance} " +
+            "WHEN 'SALARY' THEN :#{#limits.salary.minBalance} " +
+            "ELSE :#{#limits.wallet.minBalance} END",
+            nativeQuery = true)
+    int debitForBulkPayout(@Param("accountNumber") String accountNumber,
+                           @Param("amount") BigDecimal amount,
+                           @Param("now") LocalDateTime now,
+                           @Param("limits") AppProperties limits);
+
+    /**
+     * Give back part of a bulk payout debit (rows that could not be credited)
+     *
+     * Unguarded on purpose: this returns money taken by debitForBulkPayout,
+     * so it must succeed even if the account was blocked in between
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE accounts SET balance = balance + :amount, ledger_sequence = ledger_sequence + 1, " +
+            "last_modified_date = :now " +
+            "WHERE account_number = :accountNumber",
+            nativeQuery = true)
+    int refundBulkPayout(@Param("accountNumber") String accountNumber,
+                         @Param("amount") BigDecimal amount,
+                         @Param("now") LocalDateTime now);
+
+    /**
+     * Resolve account numbers for many account IDs (one IN query, no entity load)
+     */
+    @Query("SELECT a.accountId AS accountId, a.accountNumber AS accountNumber " +
+            "FROM Account a WHERE a.accountId IN :accountIds")
+    List<AccountNumberRef> findAccountNumbersByIdIn(@Param("accountIds") Collection<Long> accountIds);
+
+    /**
+     * Find accounts by account numbers (one IN query)
+     */
+    List<Account> findByAccountNumberIn(Collection<String> accountNumbers);
+
     /**
      * Check if account number exists
      */
@@ -52,17 +173,67 @@ public interface AccountRepository extends JpaRepository<Account, Long> {
      */
     long countByInternalUserIdAndAccountType(String internalUserId, AccountType accountType);
 
+    /**
+     * Account counts for many users, grouped by user / type / status (one query)
+     * Feeds the same limits as the two counts above, for bulk account creation
+     */
+    @Query("SELECT a.internalUserId AS internalUserId, a.accountType AS accountType, " +
+            "a.status AS status, COUNT(a) AS total FROM Account a " +
+            "WHERE a.internalUserId IN :internalUserIds " +
+            "GROUP BY a.internalUserId, a.accountType, a.status")
+    List<UserAccountCount> countByUserTypeAndStatus(@Param("internalUserIds") Collection<String> internalUserIds);
+
     /**
      * Find all active accounts
      */
     List<Account> findByStatus(AccountStatus status);
 
     /**
-     * Find dormant accounts (no transaction in X days)
+     * Status an account should move to under the dormancy rules (NULL = no change):
+     * - ACTIVE / INACTIVE with no activity since :dormantCutoff -> DORMANT
+     * - ACTIVE with no activity since :inactiveCutoff -> INACTIVE
+     * Accounts that never transacted count from their creation date.
+     */
+    String DORMANCY_TARGET_STATUS =
+            "CASE WHEN status IN ('ACTIVE', 'INACTIVE') " +
+            "AND COALESCE(last_transaction_date, created_date) < :dormantCutoff THEN 'DORMANT' " +
+            "WHEN status = 'ACTIVE' " +
+            "AND COALESCE(last_transaction_date, created_date) < :inactiveCutoff THEN 'INACTIVE' END";
+
+    /**
+     * Next keyset chunk of accounts (ID order) with their dormancy target status
+     * Non-locking; candidates are re-checked under lock by lockDormancyCandidates
+     */
+    @Query(value = "SELECT account_id AS accountId, account_number AS accountNumber, status AS status, " +
+            DORMANCY_TARGET_STATUS + " AS targetStatus FROM accounts " +
+            "WHERE account_id > :afterId ORDER BY account_id LIMIT :limit",
+            nativeQuery = true)
+    List<DormancyRow> findDormancyChunk(@Param("afterId") long afterId,
+                                        @Param("limit") int limit,
+                                        @Param("dormantCutoff") LocalDateTime dormantCutoff,
+                                        @Param("inactiveCutoff") LocalDateTime inactiveCutoff);
+
+    /**
+     * Lock the given accounts and re-evaluate their target status, so a
+     * transaction that lands in between keeps its account ACTIVE
+     */
+    @Query(value = "SELECT account_id AS accountId, account_number AS accountNumber, status AS status, " +
+            DORMANCY_TARGET_STATUS + " AS targetStatus FROM accounts " +
+            "WHERE account_id IN :accountIds FOR UPDATE",
+            nativeQuery = true)
+    List<DormancyRow> lockDormancyCandidates(@Param("accountIds") Collection<Long> accountIds,
+                                             @Param("dormantCutoff") LocalDateTime dormantCutoff,
+                                             @Param("inactiveCutoff") LocalDateTime inactiveCutoff);
+
+    /**
+     * Set the status of many accounts in one statement
      */
-    @Query("SELECT a FROM Account a WHERE a.status = 'ACTIVE' " +
-            "AND a.lastTransactionDate < :cutoffDate")
-    List<Account> findDormantAccounts(@Param("cutoffDate") java.time.LocalDateTime cutoffDate);
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Account a SET a.status = :status, a.lastModifiedDate = :now " +
+            "WHERE a.accountId IN :accountIds")
+    int updateStatusByIdIn(@Param("accountIds") Collection<Long> accountIds,
+                           @Param("status") AccountStatus status,
+                           @Param("now") LocalDateTime now);
 
     /**
      * Get total balance for a user (all active accounts)
@@ -70,4 +241,32 @@ public interface AccountRepository extends JpaRepository<Account, Long> {
     @Query("SELECT SUM(a.balance) FROM Account a " +
             "WHERE a.internalUserId = :userId AND a.status = 'ACTIVE'")
     java.math.BigDecimal getTotalBalanceForUser(@Param("userId") String internalUserId);
-}
\ No newline at end of file
+
+    /**
+     * Row of findAccountNumbersByIdIn
+     */
+    interface AccountNumberRef {
+        Long getAccountId();
+        String getAccountNumber();
+    }
+
+    /**
+     * Row of findDormancyChunk / lockDormancyCandidates
+     */
+    interface DormancyRow {
+        Long getAccountId();
+        String getAccountNumber();
+        String getStatus();
+        String getTargetStatus();
+    }
+
+    /**
+     * Row of countByUserTypeAndStatus
+     */
+    interface UserAccountCount {
+        String getInternalUserId();
+        AccountType getAccountType();
+        AccountStatus getStatus();
+        long getTotal();
+    }
+}
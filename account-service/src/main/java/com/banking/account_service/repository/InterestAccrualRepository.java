@@ -0,0 +1,287 @@
+package com.banking.account_service.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * JDBC access for interest accrual and posting
+ *
+ * All reads and writes are scoped to one account ID range [rangeStart, rangeEnd),
+ * so partitions never touch each other's rows. Amounts are carried as primitive
+ * longs (paise / milli-paise) end to end.
+ */
+@Repository
+@RequiredArgsConstructor
+public class InterestAccrualRepository {
+
+    private static final String ACCRUAL_INPUT_SQL =
+            "SELECT account_id, account_number, account_type, " +
+            "CAST(ROUND(balance * 100) AS SIGNED) AS balance_paise FROM accounts " +
+            "WHERE account_id >= ? AND account_id < ? AND status = 'ACTIVE' " +
+            "AND account_type IN ('SAVINGS', 'SALARY') AND balance > 0";
+
+    // Re-running a day (or a partition) is a no-op thanks to uk_accrual_account_date
+    private static final String ACCRUAL_INSERT_SQL =
+            "INSERT IGNORE INTO interest_accrual (account_id, account_number, accrual_date, " +
+            "balance_paise, rate_bps, interest_milli_paise, posted) VALUES (?, ?, ?, ?, ?, ?, FALSE)";
+
+    private static final String UNPOSTED_TOTALS_SQL =
+            "SELECT account_id, account_number, SUM(interest_milli_paise) AS total FROM interest_accrual " +
+            "WHERE account_id >= ? AND account_id < ? AND posted = FALSE AND accrual_date < ? " +
+            "GROUP BY account_id, account_number";
+
+    // Not customer activity: last_transaction_date is left alone (dormancy rules)
+    private static final String INTEREST_CREDIT_SQL =
+            "UPDATE accounts SET balance = balance + ?, ledger_sequence = ledger_sequence + 1, last_modified_date = ? " +
+            "WHERE account_id = ? AND status <> 'CLOSED'";
+
+    private static final String MARK_POSTED_SQL =
+            "UPDATE interest_accrual SET posted = TRUE, posted_date = ? " +
+            "WHERE account_id = ? AND posted = FALSE AND accrual_date < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Smallest and largest account ID, or null if there are no accounts
+     */
+    public long[] findAccountIdBounds() {
+        return jdbcTemplate.query("SELECT MIN(account_id), MAX(account_id) FROM accounts", rs -> {
+            rs.next();
+            long min = rs.getLong(1);
+            return rs.wasNull() ? null : new long[]{min, rs.getLong(2)};
+        });
+    }
+
+    public Set<Long> findCompletedPartitions(String phase, LocalDate runDate) {
+        return new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT range_start FROM interest_partition WHERE phase = ? AND run_date = ?",
+                Long.class, phase, Date.valueOf(runDate)));
+    }
+
+    /**
+     * Mark a range as done; must run in the transaction that did the range's work
+     */
+    public void markPartitionDone(String phase, LocalDate runDate, long rangeStart, long rangeEnd,
+                                  int rowCount, LocalDateTime now) {
+        jdbcTemplate.update(
+                "INSERT INTO interest_partition (partition_key, phase, run_date, range_start, range_end, " +
+                "row_count, completed_at) VALUES (?, ?, ?, ?, ?, ?, ?)",
+                phase + ":" + runDate + ":" + rangeStart, phase, Date.valueOf(runDate),
+                rangeStart, rangeEnd, rowCount, Timestamp.valueOf(now));
+    }
+
+    /**
+     * Stream the interest-bearing accounts of a range to the handler (no entity load)
+     */
+    public void forEachAccrualInput(long rangeStart, long rangeEnd, AccrualInputHandler handler) {
+        jdbcTemplate.query(ACCRUAL_INPUT_SQL, rs -> {
+            handler.accept(rs.getLong(1), rs.getString(2), rs.getString(3), rs.getLong(4));
+        }, rangeStart, rangeEnd);
+    }
+
+    public void insertAccruals(LocalDate accrualDate, AccrualBatch batch) {
+        if (batch.size == 0) {
+            return;
+        }
+
+        Date date = Date.valueOf(accrualDate);
+        jdbcTemplate.batchUpdate(ACCRUAL_INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setLong(1, batch.accountIds[i]);
+                ps.setString(2, batch.accountNumbers[i]);
+                ps.setDate(3, date);
+                ps.setLong(4, batch.balancePaise[i]);
+                ps.setInt(5, batch.rateBps[i]);
+                ps.setLong(6, batch.interestMilliPaise[i]);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return batch.size;
+            }
+        });
+    }
+
+    /**
+     * Unposted interest per account of a range, accrued before the given date
+     */
+    public PostingBatch findUnpostedTotals(long rangeStart, long rangeEnd, LocalDate before) {
+        PostingBatch batch = new PostingBatch();
+        jdbcTemplate.query(UNPOSTED_TOTALS_SQL, rs -> {
+            batch.add(rs.getLong(1), rs.getString(2), rs.getLong(3));
+        }, rangeStart, rangeEnd, Date.valueOf(before));
+        return batch;
+    }
+
+    /**
+     * Credit batch.creditPaise to each account with a non-zero credit, as one JDBC batch
+     * Returns the batch indexes that were credited (closed accounts are skipped)
+     */
+    public List<Integer> creditInterest(PostingBatch batch, LocalDateTime now) {
+        List<Integer> indexes = new ArrayList<>(batch.size);
+        for (int i = 0; i < batch.size; i++) {
+            if (batch.creditPaise[i] > 0) {
+                indexes.add(i);
+            }
+        }
+        if (indexes.isEmpty()) {
+            return indexes;
+        }
+
+        Timestamp timestamp = Timestamp.valueOf(now);
+        int[] updated = jdbcTemplate.batchUpdate(INTEREST_CREDIT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                int index = indexes.get(i);
+                ps.setBigDecimal(1, BigDecimal.valueOf(batch.creditPaise[index], 2));
+                ps.setTimestamp(2, timestamp);
+                ps.setLong(3, batch.accountIds[index]);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return indexes.size();
+            }
+        });
+
+        List<Integer> credited = new ArrayList<>(indexes.size());
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] != 0) {
+                credited.add(indexes.get(i));
+            }
+        }
+        return credited;
+    }
+
+    /**
+     * Mark the accruals before the given date as posted for every account with a non-zero credit
+     * Accounts whose total rounded to 0 paise keep theirs unposted: it carries into the next posting
+     */
+    public void markPosted(PostingBatch batch, LocalDate before, LocalDate postedDate) {
+        List<Integer> indexes = new ArrayList<>(batch.size);
+        for (int i = 0; i < batch.size; i++) {
+            if (batch.creditPaise[i] > 0) {
+                indexes.add(i);
+            }
+        }
+        if (indexes.isEmpty()) {
+            return;
+        }
+
+        Date posted = Date.valueOf(postedDate);
+        Date cutoff = Date.valueOf(before);
+        jdbcTemplate.batchUpdate(MARK_POSTED_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setDate(1, posted);
+                ps.setLong(2, batch.accountIds[indexes.get(i)]);
+                ps.setDate(3, cutoff);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return indexes.size();
+            }
+        });
+    }
+
+    @FunctionalInterface
+    public interface AccrualInputHandler {
+        void accept(long accountId, String accountNumber, String accountType, long balancePaise);
+    }
+
+    /**
+     * Growable column-wise batch of accrual rows (no per-row objects or boxing)
+     */
+    public static final class AccrualBatch {
+        private long[] accountIds = new long[256];
+        private String[] accountNumbers = new String[256];
+        private long[] balancePaise = new long[256];
+        private int[] rateBps = new int[256];
+        private long[] interestMilliPaise = new long[256];
+        private int size;
+
+        public void add(long accountId, String accountNumber, long balance, int rate, long interest) {
+            if (size == accountIds.length) {
+                int capacity = size * 2;
+                accountIds = Arrays.copyOf(accountIds, capacity);
+                accountNumbers = Arrays.copyOf(accountNumbers, capacity);
+                balancePaise = Arrays.copyOf(balancePaise, capacity);
+                rateBps = Arrays.copyOf(rateBps, capacity);
+                interestMilliPaise = Arrays.copyOf(interestMilliPaise, capacity);
+            }
+            accountIds[size] = accountId;
+            accountNumbers[size] = accountNumber;
+            balancePaise[size] = balance;
+            rateBps[size] = rate;
+            interestMilliPaise[size] = interest;
+            size++;
+        }
+
+        public int size() {
+            return size;
+        }
+    }
+
+    /**
+     * Growable column-wise batch of quarterly credits
+     * creditPaise is filled in by the caller from totalMilliPaise
+     */
+    public static final class PostingBatch {
+        private long[] accountIds = new long[256];
+        private String[] accountNumbers = new String[256];
+        private long[] totalMilliPaise = new long[256];
+        private long[] creditPaise = new long[256];
+        private int size;
+
+        private void add(long accountId, String accountNumber, long total) {
+            if (size == accountIds.length) {
+                int capacity = size * 2;
+                accountIds = Arrays.copyOf(accountIds, capacity);
+                accountNumbers = Arrays.copyOf(accountNumbers, capacity);
+                totalMilliPaise = Arrays.copyOf(totalMilliPaise, capacity);
+                creditPaise = Arrays.copyOf(creditPaise, capacity);
+            }
+            accountIds[size] = accountId;
+            accountNumbers[size] = accountNumber;
+            totalMilliPaise[size] = total;
+            size++;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public String accountNumber(int i) {
+            return accountNumbers[i];
+        }
+
+        public long totalMilliPaise(int i) {
+            return totalMilliPaise[i];
+        }
+
+        public long creditPaise(int i) {
+            return creditPaise[i];
+        }
+
+        public void setCreditPaise(int i, long paise) {
+            creditPaise[i] = paise;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.banking.account_service.repository;
+
+import com.banking.account_service.entity.JobCheckpoint;
+import com.banking.account_service.enums.JobRunStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * JDBC access to job_checkpoint
+ *
+ * Lease: an instance may advance a job only while it is the lease owner.
+ * Taking the lease is one conditional UPDATE (free, ours, or expired), so two
+ * instances can never both succeed. Progress is saved in the same transaction
+ * as the work it describes, and only while the lease is still ours.
+ */
+@Repository
+@RequiredArgsConstructor
+public class JobCheckpointRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Take (or renew) the lease; returns false if another instance holds it
+     */
+    public boolean acquireLease(String jobName, String owner, LocalDateTime now, LocalDateTime expiresAt) {
+        // First use: create the row (a concurrent creator wins silently)
+        jdbcTemplate.update(
+                "INSERT IGNORE INTO job_checkpoint (job_name, status, last_id, processed_count, updated_at) " +
+                "VALUES (?, ?, 0, 0, ?)",
+                jobName, JobRunStatus.COMPLETED.name(), Timestamp.valueOf(now));
+
+        return jdbcTemplate.update(
+                "UPDATE job_checkpoint SET lease_owner = ?, lease_expires_at = ? " +
+                "WHERE job_name = ? AND (lease_owner IS NULL OR lease_owner = ? OR lease_expires_at < ?)",
+                owner, Timestamp.valueOf(expiresAt), jobName, owner, Timestamp.valueOf(now)) == 1;
+    }
+
+    /**
+     * Renew the lease only if it is still ours (locks the row until commit)
+     */
+    public boolean renewLease(String jobName, String owner, LocalDateTime expiresAt) {
+        return jdbcTemplate.update(
+                "UPDATE job_checkpoint SET lease_expires_at = ? WHERE job_name = ? AND lease_owner = ?",
+                Timestamp.valueOf(expiresAt), jobName, owner) == 1;
+    }
+
+    /**
+     * Record progress; returns false if the lease is no longer ours
+     */
+    public boolean saveProgress(String jobName, String owner, JobRunStatus status, LocalDate runDate,
+                                long lastId, long processedCount, LocalDateTime now) {
+        return jdbcTemplate.update(
+                "UPDATE job_checkpoint SET status = ?, run_date = ?, last_id = ?, processed_count = ?, " +
+                "updated_at = ? WHERE job_name = ? AND lease_owner = ?",
+                status.name(), Date.valueOf(runDate), lastId, processedCount,
+                Timestamp.valueOf(now), jobName, owner) == 1;
+    }
+
+    public void releaseLease(String jobName, String owner) {
+        jdbcTemplate.update(
+                "UPDATE job_checkpoint SET lease_owner = NULL, lease_expires_at = NULL " +
+                "WHERE job_name = ? AND lease_owner = ?",
+                jobName, owner);
+    }
+
+    public Optional<JobCheckpoint> find(String jobName) {
+        List<JobCheckpoint> rows = jdbcTemplate.query(
+                "SELECT job_name, status, run_date, last_id, processed_count, lease_owner, " +
+                "lease_expires_at, updated_at FROM job_checkpoint WHERE job_name = ?",
+                (rs, rowNum) -> {
+                    Date runDate = rs.getDate("run_date");
+                    Timestamp leaseExpiresAt = rs.getTimestamp("lease_expires_at");
+                    Timestamp updatedAt = rs.getTimestamp("updated_at");
+                    return new JobCheckpoint(
+                            rs.getString("job_name"),
+                            JobRunStatus.valueOf(rs.getString("status")),
+                            runDate != null ? runDate.toLocalDate() : null,
+                            rs.getLong("last_id"),
+                            rs.getLong("processed_count"),
+                            rs.getString("lease_owner"),
+                            leaseExpiresAt != null ? leaseExpiresAt.toLocalDateTime() : null,
+                            updatedAt != null ? updatedAt.toLocalDateTime() : null);
+                },
+                jobName);
+        return rows.stream().findFirst();
+    }
+}
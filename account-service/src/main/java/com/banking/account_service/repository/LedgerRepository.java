@@ -0,0 +1,240 @@
+package com.banking.account_service.repository;
+
+import com.banking.account_service.entity.LedgerEntry;
+import com.banking.account_service.entity.LedgerSnapshot;
+import com.banking.account_service.enums.LedgerEntryType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * JDBC access to ledger_entry and ledger_snapshot
+ *
+ * Entries are appended in the transaction that changed the balance, right
+ * after the guarded UPDATE that bumped accounts.ledger_sequence; that row is
+ * locked until commit, so reading sequence and balance back from it is exact.
+ */
+@Repository
+@RequiredArgsConstructor
+public class LedgerRepository {
+
+    private static final String SIGNED_AMOUNT = "CASE WHEN e.entry_type = 'CREDIT' THEN e.amount ELSE -e.amount END";
+
+    /**
+     * Append an entry for a change just applied to the (locked) account row
+     */
+    private static final String RECORD_ENTRY_SQL =
+            "INSERT INTO ledger_entry (account_id, account_number, sequence_no, entry_type, amount, " +
+            "balance_after, transaction_id, description, created_at) " +
+            "SELECT account_id, account_number, ledger_sequence, ?, ?, balance, ?, ?, ? " +
+            "FROM accounts WHERE account_number = ?";
+
+    private static final String INSERT_ENTRY_SQL =
+            "INSERT INTO ledger_entry (account_id, account_number, sequence_no, entry_type, amount, " +
+            "balance_after, transaction_id, description, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    /**
+     * Opening snapshot (sequence 0) for accounts of a range that have entries
+     * but no snapshot yet: the balance before their first entry
+     */
+    private static final String BOOTSTRAP_SNAPSHOTS_SQL =
+            "INSERT IGNORE INTO ledger_snapshot (account_id, sequence_no, balance, taken_at) " +
+            "SELECT e.account_id, 0, e.balance_after - (" + SIGNED_AMOUNT + "), ? FROM ledger_entry e " +
+            "WHERE e.account_id >= ? AND e.account_id < ? AND e.sequence_no = 1 " +
+            "AND NOT EXISTS (SELECT 1 FROM ledger_snapshot s WHERE s.account_id = e.account_id)";
+
+    /**
+     * New snapshot = latest snapshot + sum of the entries after it, for accounts
+     * of a range with at least minEntries entries since their latest snapshot
+     */
+    private static final String TAKE_SNAPSHOTS_SQL =
+            "INSERT IGNORE INTO ledger_snapshot (account_id, sequence_no, balance, taken_at) " +
+            "SELECT s.account_id, MAX(e.sequence_no), s.balance + SUM(" + SIGNED_AMOUNT + "), ? " +
+            "FROM ledger_snapshot s " +
+            "JOIN (SELECT account_id, MAX(sequence_no) AS sequence_no FROM ledger_snapshot " +
+            "      WHERE account_id >= ? AND account_id < ? GROUP BY account_id) latest " +
+            "  ON latest.account_id = s.account_id AND latest.sequence_no = s.sequence_no " +
+            "JOIN ledger_entry e ON e.account_id = s.account_id AND e.sequence_no > s.sequence_no " +
+            "GROUP BY s.account_id, s.balance HAVING COUNT(*) >= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void recordEntry(String accountNumber, LedgerEntryType type, BigDecimal amount,
+                            String transactionId, String description, LocalDateTime now) {
+        jdbcTemplate.update(RECORD_ENTRY_SQL,
+                type.name(), amount, transactionId, description, Timestamp.valueOf(now), accountNumber);
+    }
+
+    /**
+     * Append one entry per posting as one JDBC batch
+     * Each account may appear only once, after its UPDATE has run
+     */
+    public void recordEntries(List<Posting> postings, LocalDateTime now) {
+        if (postings.isEmpty()) {
+            return;
+        }
+
+        Timestamp timestamp = Timestamp.valueOf(now);
+        jdbcTemplate.batchUpdate(RECORD_ENTRY_SQL, postings, postings.size(), (ps, posting) -> {
+            ps.setString(1, posting.type().name());
+            ps.setBigDecimal(2, posting.amount());
+            ps.setString(3, posting.transactionId());
+            ps.setString(4, posting.description());
+            ps.setTimestamp(5, timestamp);
+            ps.setString(6, posting.accountNumber());
+        });
+    }
+
+    /**
+     * Append entries whose sequence and balance the caller computed
+     * (one account changed several times in one JDBC batch)
+     */
+    public void insertEntries(List<LedgerEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_ENTRY_SQL, entries, entries.size(), (ps, entry) -> {
+            ps.setLong(1, entry.getAccountId());
+            ps.setString(2, entry.getAccountNumber());
+            ps.setLong(3, entry.getSequenceNo());
+            ps.setString(4, entry.getEntryType().name());
+            ps.setBigDecimal(5, entry.getAmount());
+            ps.setBigDecimal(6, entry.getBalanceAfter());
+            ps.setString(7, entry.getTransactionId());
+            ps.setString(8, entry.getDescription());
+            ps.setTimestamp(9, Timestamp.valueOf(entry.getCreatedAt()));
+        });
+    }
+
+    /**
+     * Whether a change with this transaction ID and type was already posted to the account
+     */
+    public boolean hasEntry(String accountNumber, String transactionId, LedgerEntryType type) {
+        return !jdbcTemplate.queryForList(
+                "SELECT 1 FROM ledger_entry WHERE transaction_id = ? AND entry_type = ? AND account_number = ? LIMIT 1",
+                Integer.class, transactionId, type.name(), accountNumber).isEmpty();
+    }
+
+    /**
+     * Which of the given transaction IDs already have an entry of this type (index on transaction_id)
+     */
+    public Set<String> findPostedTransactionIds(Collection<String> transactionIds, LedgerEntryType type) {
+        if (transactionIds.isEmpty()) {
+            return Collections.emptySet();
+        }
+        String placeholders = String.join(", ", Collections.nCopies(transactionIds.size(), "?"));
+        List<Object> args = new ArrayList<>(transactionIds);
+        args.add(type.name());
+        return new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT DISTINCT transaction_id FROM ledger_entry WHERE transaction_id IN (" + placeholders + ") " +
+                "AND entry_type = ?",
+                String.class, args.toArray()));
+    }
+
+    public Optional<LedgerHead> findHead(String accountNumber) {
+        return jdbcTemplate.query(
+                "SELECT account_id, ledger_sequence, balance FROM accounts WHERE account_number = ?",
+                (rs, rowNum) -> new LedgerHead(rs.getLong(1), rs.getLong(2), rs.getBigDecimal(3)),
+                accountNumber).stream().findFirst();
+    }
+
+    /**
+     * Same as findHead, locking the account row until commit
+     */
+    public Optional<LedgerHead> lockHead(String accountNumber) {
+        return jdbcTemplate.query(
+                "SELECT account_id, ledger_sequence, balance FROM accounts WHERE account_number = ? FOR UPDATE",
+                (rs, rowNum) -> new LedgerHead(rs.getLong(1), rs.getLong(2), rs.getBigDecimal(3)),
+                accountNumber).stream().findFirst();
+    }
+
+    /**
+     * Sequence of the last entry created at or before the given time (null if none)
+     */
+    public Long findLastSequenceAt(long accountId, LocalDateTime at) {
+        return jdbcTemplate.queryForObject(
+                "SELECT MAX(sequence_no) FROM ledger_entry WHERE account_id = ? AND created_at <= ?",
+                Long.class, accountId, Timestamp.valueOf(at));
+    }
+
+    /**
+     * Latest snapshot at or below the given sequence
+     */
+    public Optional<LedgerSnapshot> findSnapshotAtOrBefore(long accountId, long sequenceNo) {
+        return jdbcTemplate.query(
+                "SELECT account_id, sequence_no, balance, taken_at FROM ledger_snapshot " +
+                "WHERE account_id = ? AND sequence_no <= ? ORDER BY sequence_no DESC LIMIT 1",
+                (rs, rowNum) -> new LedgerSnapshot(rs.getLong(1), rs.getLong(2), rs.getBigDecimal(3),
+                        rs.getTimestamp(4).toLocalDateTime()),
+                accountId, sequenceNo).stream().findFirst();
+    }
+
+    /**
+     * Balance before the account's first entry, derived from that entry (null if no entries)
+     */
+    public BigDecimal findOpeningBalance(long accountId) {
+        return jdbcTemplate.query(
+                "SELECT e.balance_after - (" + SIGNED_AMOUNT + ") FROM ledger_entry e " +
+                "WHERE e.account_id = ? AND e.sequence_no = 1",
+                (rs, rowNum) -> rs.getBigDecimal(1), accountId).stream().findFirst().orElse(null);
+    }
+
+    /**
+     * Net amount and count of the entries in (afterSequence, upToSequence]
+     */
+    public EntryTail sumEntries(long accountId, long afterSequence, long upToSequence) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(" + SIGNED_AMOUNT + "), 0), COUNT(*) FROM ledger_entry e " +
+                "WHERE e.account_id = ? AND e.sequence_no > ? AND e.sequence_no <= ?",
+                (rs, rowNum) -> new EntryTail(rs.getBigDecimal(1), rs.getInt(2)),
+                accountId, afterSequence, upToSequence);
+    }
+
+    public void updateBalance(long accountId, BigDecimal balance, LocalDateTime now) {
+        jdbcTemplate.update("UPDATE accounts SET balance = ?, last_modified_date = ? WHERE account_id = ?",
+                balance, Timestamp.valueOf(now), accountId);
+    }
+
+    public long findMaxAccountId() {
+        Long max = jdbcTemplate.queryForObject("SELECT MAX(account_id) FROM accounts", Long.class);
+        return max != null ? max : 0;
+    }
+
+    /**
+     * Snapshot every account of [rangeStart, rangeEnd) that is minEntries or more
+     * past its latest snapshot; returns the number of snapshots written
+     */
+    public int takeSnapshots(long rangeStart, long rangeEnd, int minEntries, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        jdbcTemplate.update(BOOTSTRAP_SNAPSHOTS_SQL, timestamp, rangeStart, rangeEnd);
+        return jdbcTemplate.update(TAKE_SNAPSHOTS_SQL, timestamp, rangeStart, rangeEnd, minEntries);
+    }
+
+    /**
+     * One balance change to append with recordEntries
+     */
+    public record Posting(String accountNumber, LedgerEntryType type, BigDecimal amount,
+                          String transactionId, String description) {
+    }
+
+    /**
+     * Current ledger position of an account
+     */
+    public record LedgerHead(long accountId, long sequenceNo, BigDecimal balance) {
+    }
+
+    public record EntryTail(BigDecimal net, int count) {
+    }
+}
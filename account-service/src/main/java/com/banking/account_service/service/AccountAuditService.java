@@ -2,29 +2,31 @@ package com.banking.account_service.service;
 
 import com.banking.account_service.entity.AccountAudit;
 import com.banking.account_service.enums.AuditAction;
-import com.banking.account_service.repository.AccountAuditRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * Account Audit Service
  * Logs all account operations for compliance
+ *
+ * Rows are handed to AccountAuditWriter, which inserts them in batches off the
+ * request path. Row builders (xxxAudit) are also used by jobs that must write
+ * their audits in the same transaction as the change.
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class AccountAuditService {
 
-    private final AccountAuditRepository auditRepository;
+    private final AccountAuditWriter auditWriter;
 
     /**
-     * Log account operation
+     * Log account operation (queued; written after the caller's transaction commits)
      */
-    @Transactional
     public void logAudit(
             String accountNumber,
             String internalUserId,
@@ -35,24 +37,20 @@ public class AccountAuditService {
             String performedBy,
             String ipAddress
     ) {
-        try {
-            AccountAudit audit = AccountAudit.builder()
-                    .accountNumber(accountNumber)
-                    .internalUserId(internalUserId)
-                    .action(action)
-                    .description(description)
-                    .oldValue(oldValue)
-                    .newValue(newValue)
-                    .performedBy(performedBy != null ? performedBy : "SYSTEM")
-                    .ipAddress(ipAddress)
-                    .timestamp(LocalDateTime.now())
-                    .build();
+        AccountAudit audit = AccountAudit.builder()
+                .accountNumber(accountNumber)
+                .internalUserId(internalUserId)
+                .action(action)
+                .description(description)
+                .oldValue(oldValue)
+                .newValue(newValue)
+                .performedBy(performedBy != null ? performedBy : "SYSTEM")
+                .ipAddress(ipAddress)
+                .timestamp(LocalDateTime.now())
+                .build();
 
-            auditRepository.save(audit);
-            log.info(" Audit logged: {} for account: {}", action, accountNumber);
-        } catch (Exception e) {
-            log.error(" Failed to log audit: {}", e.getMessage());
-        }
+        auditWriter.submit(audit);
+        log.debug(" Audit queued: {} for account: {}", action, accountNumber);
     }
 
     /**
@@ -112,5 +110,88 @@ public class AccountAuditService {
                 null
         );
     }
-}
 
+    /**
+     * Build a balance update audit row without saving it (for batch logging)
+     */
+    public AccountAudit balanceUpdateAudit(
+            String accountNumber,
+            String oldBalance,
+            String newBalance,
+            String operation,
+            String transactionId
+    ) {
+        return AccountAudit.builder()
+                .accountNumber(accountNumber)
+                .action(AuditAction.UPDATE_BALANCE)
+                .description("Balance " + operation)
+                .oldValue(oldBalance)
+                .newValue(newBalance)
+                .performedBy("SYSTEM")
+                .timestamp(LocalDateTime.now())
+                .transactionId(transactionId)
+                .build();
+    }
+
+    /**
+     * Build a status change audit row without saving it (for batch logging)
+     */
+    public AccountAudit statusChangeAudit(
+            String accountNumber,
+            String oldStatus,
+            String newStatus,
+            String reason
+    ) {
+        return AccountAudit.builder()
+                .accountNumber(accountNumber)
+                .action(AuditAction.UPDATE_STATUS)
+                .description("Status changed: " + reason)
+                .oldValue(oldStatus)
+                .newValue(newStatus)
+                .performedBy("SYSTEM")
+                .timestamp(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * Build an interest credit audit row without saving it (for batch logging)
+     */
+    public AccountAudit interestCreditAudit(String accountNumber, String amount, String period) {
+        return AccountAudit.builder()
+                .accountNumber(accountNumber)
+                .action(AuditAction.UPDATE_BALANCE)
+                .description("Interest credited for period ending " + period)
+                .newValue(amount)
+                .performedBy("SYSTEM")
+                .timestamp(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * Build an account creation audit row without saving it (for batch logging)
+     */
+    public AccountAudit accountCreationAudit(
+            String accountNumber,
+            String internalUserId,
+            String accountType,
+            String performedBy
+    ) {
+        return AccountAudit.builder()
+                .accountNumber(accountNumber)
+                .internalUserId(internalUserId)
+                .action(AuditAction.CREATE_ACCOUNT)
+                .description("Account created - Type: " + accountType)
+                .newValue(accountType)
+                .performedBy(performedBy != null ? performedBy : "SYSTEM")
+                .timestamp(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * Log many audit rows (bulk payouts, bulk account creation)
+     */
+    public void logAuditBatch(List<AccountAudit> audits) {
+        auditWriter.submitAll(audits);
+        log.debug(" Audit queued: {} rows", audits.size());
+    }
+}
@@ -0,0 +1,341 @@
+package com.banking.account_service.service;
+
+import com.banking.account_service.config.AppProperties;
+import com.banking.account_service.entity.AccountAudit;
+import com.banking.account_service.repository.AccountBatchRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Account Audit Writer
+ * Takes audit rows off the request path and writes them in multi-row batches
+ *
+ * - Rows are queued after the caller's transaction commits (a rolled-back
+ *   change leaves no audit, as before)
+ * - One background thread drains the bounded queue, batch-size rows (or
+ *   whatever arrived within flush-interval-ms) per INSERT batch and transaction
+ * - Backpressure: a caller waits up to offer-timeout-ms on a full queue, then
+ *   the rows go to the local spool file instead of being dropped
+ * - Rows that fail to insert after write-attempts are spooled too; the spool
+ *   is replayed into the database once the writer is idle again
+ * - On shutdown the queue is drained (or spooled) before the context closes
+ *
+ * Same write-behind design as transaction-service's TransactionAuditWriter, except:
+ * - A full queue makes the caller wait briefly (offer-timeout-ms) before spooling:
+ *   balance changes produce audits in bursts, and a short wait keeps them in the
+ *   database path instead of on local disk
+ * - A failed batch is retried (write-attempts) before it is spooled, since the
+ *   spool is replayed only when the writer is idle
+ */
+@Component
+@Slf4j
+public class AccountAuditWriter implements SmartLifecycle {
+
+    private static final String SPOOL_FILE = "account-audit.spool";
+    private static final String REPLAY_FILE = "account-audit.replay";
+
+    private final AccountBatchRepository batchRepository;
+    private final TransactionTemplate batchTransaction;
+    private final AppProperties.AuditConfig config;
+    private final BlockingQueue<AccountAudit> queue;
+    private final ObjectMapper objectMapper;
+    private final Path spoolFile;
+    private final Path replayFile;
+    private final ReentrantLock spoolLock = new ReentrantLock();  // not synchronized: callers may be virtual threads
+    private final Counter writtenRows;
+    private final Counter spooledRows;
+    private final Counter lostRows;
+
+    private volatile boolean running;
+    private Thread writerThread;
+    private long nextReplayAt;
+
+    public AccountAuditWriter(AccountBatchRepository batchRepository,
+                              PlatformTransactionManager transactionManager,
+                              AppProperties appProperties,
+                              MeterRegistry meterRegistry) {
+        this.batchRepository = batchRepository;
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+        this.batchTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.config = appProperties.getAudit();
+        this.queue = new ArrayBlockingQueue<>(config.getQueueCapacity());
+        this.objectMapper = new ObjectMapper();
+        this.objectMapper.registerModule(new JavaTimeModule());
+        this.objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        this.spoolFile = Path.of(config.getSpoolDir(), SPOOL_FILE);
+        this.replayFile = Path.of(config.getSpoolDir(), REPLAY_FILE);
+
+        this.writtenRows = Counter.builder("account.audit.rows").tag("result", "written").register(meterRegistry);
+        this.spooledRows = Counter.builder("account.audit.rows").tag("result", "spooled").register(meterRegistry);
+        this.lostRows = Counter.builder("account.audit.rows").tag("result", "lost").register(meterRegistry);
+        Gauge.builder("account.audit.queue.size", queue, BlockingQueue::size).register(meterRegistry);
+    }
+
+    /**
+     * Queue one audit row (after commit, if called inside a transaction)
+     */
+    public void submit(AccountAudit audit) {
+        submitAll(List.of(audit));
+    }
+
+    /**
+     * Queue audit rows (after commit, if called inside a transaction)
+     */
+    public void submitAll(List<AccountAudit> audits) {
+        if (audits.isEmpty()) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            List<AccountAudit> rows = new ArrayList<>(audits);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(rows);
+                }
+            });
+        } else {
+            enqueue(audits);
+        }
+    }
+
+    private void enqueue(List<AccountAudit> audits) {
+        if (!running) {
+            spool(audits);
+            return;
+        }
+
+        for (int i = 0; i < audits.size(); i++) {
+            boolean accepted;
+            try {
+                accepted = queue.offer(audits.get(i), config.getOfferTimeoutMs(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                accepted = false;
+            }
+            if (!accepted) {
+                log.warn(" Audit queue full, spooling {} rows", audits.size() - i);
+                spool(audits.subList(i, audits.size()));
+                return;
+            }
+        }
+    }
+
+    private void runWriter() {
+        List<AccountAudit> batch = new ArrayList<>(config.getBatchSize());
+        while (running || !queue.isEmpty()) {
+            AccountAudit first;
+            try {
+                first = queue.poll(config.getFlushIntervalMs(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                continue;  // stop() decides when to exit
+            }
+
+            if (first == null) {
+                replaySpoolIfDue();
+                continue;
+            }
+
+            batch.add(first);
+            queue.drainTo(batch, config.getBatchSize() - 1);
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    /**
+     * Insert one batch, retrying with backoff; spool it if the database stays unavailable
+     */
+    private void write(List<AccountAudit> batch) {
+        for (int attempt = 1; attempt <= config.getWriteAttempts(); attempt++) {
+            try {
+                batchTransaction.executeWithoutResult(status -> batchRepository.insertAudits(batch));
+                writtenRows.increment(batch.size());
+                return;
+            } catch (RuntimeException e) {
+                log.warn(" Audit batch insert failed | Rows: {} | Attempt: {} | Error: {}",
+                        batch.size(), attempt, e.getMessage());
+                if (attempt < config.getWriteAttempts()) {
+                    sleep(config.getFlushIntervalMs() * attempt);
+                }
+            }
+        }
+
+        spool(batch);
+        nextReplayAt = System.currentTimeMillis() + config.getReplayIntervalMs();
+    }
+
+    /**
+     * Append rows to the spool file as JSON lines and fsync; logs them in full as a last resort
+     */
+    private void spool(List<AccountAudit> audits) {
+        try {
+            StringBuilder lines = new StringBuilder();
+            for (AccountAudit audit : audits) {
+                lines.append(objectMapper.writeValueAsString(audit)).append('\n');
+            }
+
+            spoolLock.lock();
+            try {
+                Files.createDirectories(spoolFile.getParent());
+                try (FileChannel channel = FileChannel.open(spoolFile,
+                        StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                    ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+                    while (buffer.hasRemaining()) {
+                        channel.write(buffer);
+                    }
+                    channel.force(true);
+                }
+            } finally {
+                spoolLock.unlock();
+            }
+            spooledRows.increment(audits.size());
+        } catch (IOException e) {
+            lostRows.increment(audits.size());
+            log.error(" Audit spool write failed | Error: {} | Rows: {}", e.getMessage(), audits);
+        }
+    }
+
+    /**
+     * Move the spool aside and insert it batch by batch; rows not inserted go back to the spool
+     */
+    private void replaySpoolIfDue() {
+        if (System.currentTimeMillis() < nextReplayAt) {
+            return;
+        }
+        nextReplayAt = System.currentTimeMillis() + config.getReplayIntervalMs();
+
+        try {
+            spoolLock.lock();
+            try {
+                if (!Files.exists(replayFile)) {
+                    if (!Files.exists(spoolFile)) {
+                        return;
+                    }
+                    Files.move(spoolFile, replayFile, StandardCopyOption.ATOMIC_MOVE);
+                }
+            } finally {
+                spoolLock.unlock();
+            }
+
+            List<AccountAudit> rows = new ArrayList<>();
+            try (BufferedReader reader = Files.newBufferedReader(replayFile, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                    try {
+                        rows.add(objectMapper.readValue(line, AccountAudit.class));
+                    } catch (IOException e) {
+                        lostRows.increment();
+                        log.error(" Unreadable audit spool line skipped | Line: {} | Error: {}", line, e.getMessage());
+                    }
+                }
+            }
+
+            int replayed = 0;
+            for (int from = 0; from < rows.size(); from += config.getBatchSize()) {
+                List<AccountAudit> batch = rows.subList(from, Math.min(from + config.getBatchSize(), rows.size()));
+                try {
+                    batchTransaction.executeWithoutResult(status -> batchRepository.insertAudits(batch));
+                } catch (RuntimeException e) {
+                    log.warn(" Audit spool replay paused | Remaining: {} | Error: {}", rows.size() - from, e.getMessage());
+                    spool(rows.subList(from, rows.size()));
+                    break;
+                }
+                replayed += batch.size();
+            }
+
+            writtenRows.increment(replayed);
+            Files.delete(replayFile);
+            if (replayed > 0) {
+                log.info(" Audit spool replayed: {} rows", replayed);
+            }
+        } catch (IOException e) {
+            log.error(" Audit spool replay failed | File: {} | Error: {}", replayFile, e.getMessage());
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        writerThread = new Thread(this::runWriter, "account-audit-writer");
+        writerThread.setDaemon(false);
+        writerThread.start();
+        log.info(" Audit writer started | Queue capacity: {} | Batch size: {}",
+                config.getQueueCapacity(), config.getBatchSize());
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;  // the writer drains what is queued, then exits
+        try {
+            writerThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        // Anything that slipped in after the writer's last poll
+        List<AccountAudit> rest = new ArrayList<>();
+        queue.drainTo(rest);
+        if (!rest.isEmpty()) {
+            spool(rest);
+        }
+        log.info(" Audit writer stopped");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        // Below the web server's phases: stops after in-flight requests have
+        // finished, and before the DataSource is closed
+        return Integer.MAX_VALUE - 4096;
+    }
+}
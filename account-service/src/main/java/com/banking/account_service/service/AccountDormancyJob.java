@@ -0,0 +1,217 @@
+package com.banking.account_service.service;
+
+import com.banking.account_service.cache.AccountCacheInvalidator;
+import com.banking.account_service.config.AppProperties;
+import com.banking.account_service.entity.AccountAudit;
+import com.banking.account_service.entity.JobCheckpoint;
+import com.banking.account_service.enums.AccountStatus;
+import com.banking.account_service.enums.JobRunStatus;
+import com.banking.account_service.kafka.AccountEventProducer;
+import com.banking.account_service.repository.AccountBatchRepository;
+import com.banking.account_service.repository.AccountRepository;
+import com.banking.account_service.repository.JobCheckpointRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Account Dormancy Job
+ * Nightly regulatory marking of accounts without activity:
+ * - none for account.dormancy.inactive-after-days -> INACTIVE
+ * - none for account.dormancy.dormant-after-days -> DORMANT
+ *
+ * - Walks accounts in ID order, chunk-size at a time; each chunk (status
+ *   UPDATEs, audit batch, checkpoint) commits as one transaction
+ * - Resumable: an unfinished run continues after its last committed chunk,
+ *   with the same cutoffs (they derive from the run date saved with it)
+ * - One instance at a time: the run holds a lease in job_checkpoint, renewed
+ *   per chunk. The cron fires every 15 minutes through the night, so another
+ *   instance picks up a crashed run once its lease expires; a day that is
+ *   already done is a no-op.
+ */
+@Component
+@Slf4j
+public class AccountDormancyJob {
+
+    static final String JOB_NAME = "account-dormancy";
+
+    private final AccountRepository accountRepository;
+    private final AccountBatchRepository batchRepository;
+    private final JobCheckpointRepository checkpointRepository;
+    private final AccountAuditService auditService;
+    private final AccountEventProducer eventProducer;
+    private final AccountCacheInvalidator cacheInvalidator;
+    private final TransactionTemplate chunkTransaction;
+    private final AppProperties.DormancyConfig config;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    public AccountDormancyJob(AccountRepository accountRepository,
+                              AccountBatchRepository batchRepository,
+                              JobCheckpointRepository checkpointRepository,
+                              AccountAuditService auditService,
+                              AccountEventProducer eventProducer,
+                              AccountCacheInvalidator cacheInvalidator,
+                              PlatformTransactionManager transactionManager,
+                              AppProperties appProperties) {
+        this.accountRepository = accountRepository;
+        this.batchRepository = batchRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.auditService = auditService;
+        this.eventProducer = eventProducer;
+        this.cacheInvalidator = cacheInvalidator;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.config = appProperties.getDormancy();
+    }
+
+    @Scheduled(cron = "${account.dormancy.cron:0 */15 1-5 * * *}")
+    public void runNightly() {
+        if (config.isEnabled()) {
+            run(LocalDate.now());
+        }
+    }
+
+    /**
+     * Run (or resume) the dormancy pass for the given day
+     */
+    public void run(LocalDate today) {
+        LocalDateTime now = LocalDateTime.now();
+        if (!checkpointRepository.acquireLease(JOB_NAME, instanceId, now, now.plusSeconds(config.getLeaseSeconds()))) {
+            log.debug(" Dormancy job skipped: lease held by another instance");
+            return;
+        }
+
+        try {
+            JobCheckpoint checkpoint = checkpointRepository.find(JOB_NAME).orElseThrow();
+            LocalDate runDate;
+            long lastId;
+            long changed;
+
+            if (checkpoint.getStatus() == JobRunStatus.RUNNING && checkpoint.getRunDate() != null) {
+                runDate = checkpoint.getRunDate();
+                lastId = checkpoint.getLastId();
+                changed = checkpoint.getProcessedCount();
+                log.info(" Dormancy job resuming | Run date: {} | After account ID: {} | Changed so far: {}",
+                        runDate, lastId, changed);
+            } else if (today.equals(checkpoint.getRunDate())) {
+                return;  // already completed today
+            } else {
+                runDate = today;
+                lastId = 0;
+                changed = 0;
+                log.info(" Dormancy job starting | Run date: {}", runDate);
+            }
+
+            LocalDateTime dormantCutoff = runDate.minusDays(config.getDormantAfterDays()).atStartOfDay();
+            LocalDateTime inactiveCutoff = runDate.minusDays(config.getInactiveAfterDays()).atStartOfDay();
+
+            ChunkResult chunk;
+            do {
+                long afterId = lastId;
+                long changedBefore = changed;
+                chunk = chunkTransaction.execute(status ->
+                        processChunk(status, runDate, afterId, changedBefore, dormantCutoff, inactiveCutoff));
+                if (chunk == null) {
+                    log.warn(" Dormancy job stopped: lease lost | Run date: {} | After account ID: {}",
+                            runDate, afterId);
+                    return;
+                }
+                lastId = chunk.lastId;
+                changed += chunk.changed;
+            } while (!chunk.last);
+
+            log.info(" Dormancy job completed | Run date: {} | Accounts changed: {}", runDate, changed);
+        } finally {
+            checkpointRepository.releaseLease(JOB_NAME, instanceId);
+        }
+    }
+
+    /**
+     * One chunk in one transaction; returns null (rolled back) if the lease was lost
+     */
+    private ChunkResult processChunk(TransactionStatus status, LocalDate runDate, long afterId, long changedBefore,
+                                     LocalDateTime dormantCutoff, LocalDateTime inactiveCutoff) {
+        LocalDateTime now = LocalDateTime.now();
+
+        // Locks the checkpoint row: a competing instance blocks here until we commit
+        if (!checkpointRepository.renewLease(JOB_NAME, instanceId, now.plusSeconds(config.getLeaseSeconds()))) {
+            return null;
+        }
+
+        List<AccountRepository.DormancyRow> rows = accountRepository.findDormancyChunk(
+                afterId, config.getChunkSize(), dormantCutoff, inactiveCutoff);
+        List<Long> candidateIds = rows.stream()
+                .filter(AccountDormancyJob::needsChange)
+                .map(AccountRepository.DormancyRow::getAccountId)
+                .toList();
+
+        int changed = 0;
+        if (!candidateIds.isEmpty()) {
+            List<AccountRepository.DormancyRow> locked = accountRepository
+                    .lockDormancyCandidates(candidateIds, dormantCutoff, inactiveCutoff).stream()
+                    .filter(AccountDormancyJob::needsChange)
+                    .toList();
+            changed = applyStatusChanges(locked, now);
+        }
+
+        boolean last = rows.size() < config.getChunkSize();
+        long lastId = rows.isEmpty() ? afterId : rows.get(rows.size() - 1).getAccountId();
+        if (!checkpointRepository.saveProgress(JOB_NAME, instanceId,
+                last ? JobRunStatus.COMPLETED : JobRunStatus.RUNNING,
+                runDate, lastId, changedBefore + changed, now)) {
+            status.setRollbackOnly();
+            return null;
+        }
+
+        return new ChunkResult(lastId, changed, last);
+    }
+
+    /**
+     * One bulk UPDATE per target status, one audit batch, then events and
+     * cache evictions after commit
+     */
+    private int applyStatusChanges(List<AccountRepository.DormancyRow> rows, LocalDateTime now) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        Map<AccountStatus, List<AccountRepository.DormancyRow>> byTarget = rows.stream()
+                .collect(Collectors.groupingBy(row -> AccountStatus.valueOf(row.getTargetStatus()),
+                        () -> new EnumMap<>(AccountStatus.class), Collectors.toList()));
+
+        List<AccountAudit> audits = new ArrayList<>(rows.size());
+        byTarget.forEach((target, group) -> {
+            accountRepository.updateStatusByIdIn(
+                    group.stream().map(AccountRepository.DormancyRow::getAccountId).toList(), target, now);
+
+            String reason = String.format("No account activity for %d days",
+                    target == AccountStatus.DORMANT ? config.getDormantAfterDays() : config.getInactiveAfterDays());
+            for (AccountRepository.DormancyRow row : group) {
+                audits.add(auditService.statusChangeAudit(
+                        row.getAccountNumber(), row.getStatus(), target.name(), reason));
+                eventProducer.publishAccountStatusChanged(row.getAccountId(), row.getAccountNumber(),
+                        AccountStatus.valueOf(row.getStatus()), target, reason);
+            }
+            log.info(" Dormancy: {} accounts -> {}", group.size(), target);
+        });
+
+        // Regulatory trail: an audit failure rolls the chunk back
+        batchRepository.insertAudits(audits);
+        cacheInvalidator.evictAccounts(rows.stream().map(AccountRepository.DormancyRow::getAccountNumber).toList());
+        return rows.size();
+    }
+
+    private static boolean needsChange(AccountRepository.DormancyRow row) {
+        return row.getTargetStatus() != null && !row.getTargetStatus().equals(row.getStatus());
+    }
+
+    private record ChunkResult(long lastId, int changed, boolean last) {
+    }
+}
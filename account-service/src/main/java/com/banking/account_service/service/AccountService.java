@@ -19,12 +19,29 @@ public interface AccountService {
      */
     AccountResponse createAccount(CreateAccountRequest request);
 
+    /**
+     * Open many accounts at once (corporate onboarding)
+     * Rejected rows are reported per item and do not fail the request
+     */
+    BulkCreateAccountResponse createAccountsBulk(BulkCreateAccountRequest request, String performedBy);
+
     /**
      * Get account by account number
      * Throws AccountNotFoundException if account doesn't exist
      */
     AccountResponse getAccountByNumber(String accountNumber);
 
+    /**
+     * Get many accounts by account number (cache first, misses in one IN query)
+     * Results follow input order, with found=false for unknown numbers
+     */
+    List<AccountLookupResult> getAccountsByNumbers(List<String> accountNumbers);
+
+    /**
+     * Get many accounts by account ID (same contract as getAccountsByNumbers)
+     */
+    List<AccountLookupResult> getAccountsByIds(List<Long> accountIds);
+
     /**
      * Get all accounts for a user (One user can have multiple accounts)
      */
@@ -45,6 +62,11 @@ public interface AccountService {
      */
     BigDecimal getAccountBalance(String accountNumber);
 
+    /**
+     * Get many balances by account number (cache first, misses in one IN query)
+     */
+    List<BalanceLookupResult> getAccountBalances(List<String> accountNumbers);
+
     /**
      * Update account balance (Credit/Debit)
      * Called by Transaction Service
@@ -52,6 +74,29 @@ public interface AccountService {
      */
     AccountResponse updateBalance(BalanceUpdateRequest request);
 
+    /**
+     * Debit source and credit destination atomically (Called by Transaction Service)
+     * Both legs commit or roll back together; rows are locked in account ID order
+     */
+    TransferLegResponse transferFunds(TransferLegRequest request);
+
+    /**
+     * Debit the source account once for a whole bulk payout (Called by Transaction Service)
+     * Not subject to the per-type daily withdrawal limit
+     */
+    AccountResponse debitForBulkPayout(BulkDebitRequest request);
+
+    /**
+     * Credit one chunk of bulk payout rows in a single JDBC batch (Called by Transaction Service)
+     * Rejected rows are reported per item and do not fail the chunk
+     */
+    BulkCreditResponse creditBulkPayout(BulkCreditRequest request);
+
+    /**
+     * Return the amount of bulk payout rows that could not be credited
+     */
+    AccountResponse refundBulkPayout(BulkDebitRequest request);
+
     /**
      * Update account status
      * Throws InvalidAccountOperationException if operation not allowed
@@ -1,26 +1,36 @@
 package com.banking.account_service.service;
 
+import com.banking.account_service.cache.AccountCacheInvalidator;
+import com.banking.account_service.cache.TwoTierCacheManager;
+import com.banking.account_service.config.AppProperties;
 import com.banking.account_service.dto.*;
 import com.banking.account_service.entity.Account;
+import com.banking.account_service.entity.AccountAudit;
+import com.banking.account_service.entity.LedgerEntry;
 import com.banking.account_service.enums.AccountStatus;
 import com.banking.account_service.enums.AccountType;
 import com.banking.account_service.enums.AuditAction;
+import com.banking.account_service.enums.LedgerEntryType;
 import com.banking.account_service.exception.custom.AccountNotFoundException;
+import com.banking.account_service.exception.custom.InvalidAccountOperationException;
 import com.banking.account_service.feign.UserServiceClient;
+import com.banking.account_service.kafka.AccountEventProducer;
+import com.banking.account_service.repository.AccountBatchRepository;
 import com.banking.account_service.repository.AccountRepository;
+import com.banking.account_service.repository.LedgerRepository;
 import com.banking.account_service.util.AccountMapper;
 import com.banking.account_service.util.AccountNumberGenerator;
 import com.banking.account_service.util.IFSCCodeGenerator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
-import java.util.List;
+import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -50,6 +60,12 @@ public class AccountServiceImpl implements AccountService {
     private final AccountMapper accountMapper;
     private final AccountValidationService validationService;
     private final AccountAuditService auditService;
+    private final AppProperties appProperties;
+    private final AccountBatchRepository batchRepository;
+    private final AccountCacheInvalidator cacheInvalidator;
+    private final TwoTierCacheManager cacheManager;
+    private final AccountEventProducer eventProducer;
+    private final LedgerRepository ledgerRepository;
 
     /**
      * Create a new bank account
@@ -64,7 +80,6 @@ public class AccountServiceImpl implements AccountService {
      * 7. Log audit trail
      */
     @Override
-    @CacheEvict(value = "accounts", key = "#request.internalUserId")
     public AccountResponse createAccount(CreateAccountRequest request) {
         log.info(" Creating {} account for user: {}",
                 request.getAccountType(), request.getInternalUserId());
@@ -80,7 +95,7 @@ public class AccountServiceImpl implements AccountService {
         validationService.validateAccountCreation(user, request.getAccountType());
 
         // STEP 3: Generate unique account number
-        String accountNumber = generateUniqueAccountNumber();
+        String accountNumber = accountNumberGenerator.generateAccountNumber();
         log.info(" Generated account number: {}", accountNumber);
 
         // STEP 4: Generate IFSC code
@@ -111,18 +126,109 @@ public class AccountServiceImpl implements AccountService {
                 request.getAccountType().toString()
         );
 
+        cacheInvalidator.evictUser(request.getInternalUserId());
+
         log.info(" Account created successfully: {} for user: {}",
                 accountNumber, request.getInternalUserId());
 
         return accountMapper.toResponse(savedAccount);
     }
 
+    /**
+     * Open many accounts at once (corporate onboarding)
+     *
+     * Flow:
+     * 1. Users are verified in batched User Service calls
+     * 2. Existing account counts for all users come from one grouped query
+     * 3. Rows are validated in memory (counts grow as rows are accepted)
+     * 4. Accounts and audits are inserted as JDBC batches
+     */
+    @Override
+    public BulkCreateAccountResponse createAccountsBulk(BulkCreateAccountRequest request, String performedBy) {
+        List<BulkCreateAccountItem> items = request.getItems();
+        log.info(" Bulk account creation | Reference: {} | Items: {}", request.getReferenceId(), items.size());
+
+        // STEP 1: Batched user verification
+        List<String> userIds = items.stream()
+                .map(BulkCreateAccountItem::getInternalUserId)
+                .distinct()
+                .toList();
+        Map<String, UserVerificationResponse> users = verifyUsers(userIds);
+
+        // STEP 2: Existing counts, one grouped query
+        Map<String, UserAccountCounts> counts = new HashMap<>();
+        for (AccountRepository.UserAccountCount row : accountRepository.countByUserTypeAndStatus(userIds)) {
+            counts.computeIfAbsent(row.getInternalUserId(), id -> new UserAccountCounts())
+                    .add(row.getAccountType(), row.getStatus(), row.getTotal());
+        }
+
+        // STEP 3: Validate and build rows
+        LocalDateTime now = LocalDateTime.now();
+        List<Account> accounts = new ArrayList<>();
+        List<AccountAudit> audits = new ArrayList<>();
+        List<BulkCreateAccountResult> results = new ArrayList<>(items.size());
+
+        for (int i = 0; i < items.size(); i++) {
+            BulkCreateAccountItem item = items.get(i);
+            AccountType accountType = item.getAccountType() != null ? item.getAccountType() : request.getAccountType();
+            String branchCode = item.getBranchCode() != null ? item.getBranchCode() : request.getBranchCode();
+            String branchName = item.getBranchName() != null ? item.getBranchName() : request.getBranchName();
+
+            BulkCreateAccountResult.BulkCreateAccountResultBuilder result = BulkCreateAccountResult.builder()
+                    .row(i)
+                    .internalUserId(item.getInternalUserId())
+                    .accountType(accountType);
+
+            UserVerificationResponse user = users.get(item.getInternalUserId());
+            if (user == null || Boolean.FALSE.equals(user.getExists())) {
+                results.add(result.created(false).failureReason("User not found").build());
+                continue;
+            }
+
+            UserAccountCounts userCounts = counts.computeIfAbsent(item.getInternalUserId(), id -> new UserAccountCounts());
+            String ifscCode;
+            try {
+                validationService.validateAccountCreation(user, accountType,
+                        userCounts.active, userCounts.ofType(accountType));
+                ifscCode = ifscCodeGenerator.generateIFSCCode(branchCode);
+            } catch (RuntimeException e) {
+                results.add(result.created(false).failureReason(e.getMessage()).build());
+                continue;
+            }
+
+            Account account = newAccount(item.getInternalUserId(), accountType, ifscCode, branchCode, branchName, now);
+            userCounts.add(accountType, AccountStatus.ACTIVE, 1);
+            accounts.add(account);
+            audits.add(auditService.accountCreationAudit(account.getAccountNumber(),
+                    account.getInternalUserId(), accountType.toString(), performedBy));
+            results.add(result.created(true)
+                    .accountNumber(account.getAccountNumber())
+                    .ifscCode(account.getIfscCode())
+                    .build());
+        }
+
+        // STEP 4: Batched inserts + cache eviction
+        batchRepository.insertAccounts(accounts);
+        auditService.logAuditBatch(audits);
+        cacheInvalidator.evictUsers(accounts.stream().map(Account::getInternalUserId).collect(Collectors.toSet()));
+
+        log.info(" Bulk account creation done | Reference: {} | Created: {} | Rejected: {}",
+                request.getReferenceId(), accounts.size(), items.size() - accounts.size());
+
+        return BulkCreateAccountResponse.builder()
+                .referenceId(request.getReferenceId())
+                .createdCount(accounts.size())
+                .failedCount(items.size() - accounts.size())
+                .results(results)
+                .build();
+    }
+
     /**
      * Get account by account number (with Redis caching)
      */
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "accounts", key = "#accountNumber")
+    @Cacheable(value = "accounts", key = "#accountNumber", sync = true)
     public AccountResponse getAccountByNumber(String accountNumber) {
         log.info(" Fetching account: {}", accountNumber);
 
@@ -134,12 +240,59 @@ public class AccountServiceImpl implements AccountService {
         return accountMapper.toResponse(account);
     }
 
+    /**
+     * Get many accounts by account number
+     * L1 / Redis first (one MGET), then one IN query for the misses
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<AccountLookupResult> getAccountsByNumbers(List<String> accountNumbers) {
+        log.info(" Fetching {} accounts by number", accountNumbers.size());
+
+        Map<String, AccountResponse> accounts = lookupAccounts(accountNumbers);
+
+        return accountNumbers.stream()
+                .map(accountNumber -> lookupResult(accountNumber, accounts.get(accountNumber)))
+                .toList();
+    }
+
+    /**
+     * Get many accounts by account ID
+     * IDs are resolved to account numbers through the account-ids cache, then
+     * looked up like getAccountsByNumbers
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<AccountLookupResult> getAccountsByIds(List<Long> accountIds) {
+        log.info(" Fetching {} accounts by ID", accountIds.size());
+
+        Set<String> keys = accountIds.stream()
+                .map(String::valueOf)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        Map<String, Object> numbers = cacheManager.getTwoTierCache(AccountCacheInvalidator.ACCOUNT_IDS)
+                .getAll(keys, misses -> accountRepository.findAccountNumbersByIdIn(
+                                misses.stream().map(Long::valueOf).toList()).stream()
+                        .collect(Collectors.toMap(
+                                ref -> String.valueOf(ref.getAccountId()),
+                                AccountRepository.AccountNumberRef::getAccountNumber)));
+
+        Map<String, AccountResponse> accounts = lookupAccounts(
+                numbers.values().stream().map(String::valueOf).toList());
+
+        return accountIds.stream()
+                .map(String::valueOf)
+                .map(key -> lookupResult(key, numbers.containsKey(key)
+                        ? accounts.get(String.valueOf(numbers.get(key)))
+                        : null))
+                .toList();
+    }
+
     /**
      * Get all accounts for a user
      */
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "user-accounts", key = "#internalUserId")
+    @Cacheable(value = "user-accounts", key = "#internalUserId", sync = true)
     public List<AccountResponse> getAccountsByUserId(String internalUserId) {
         log.info(" Fetching all accounts for user: {}", internalUserId);
 
@@ -152,6 +305,9 @@ public class AccountServiceImpl implements AccountService {
             );
         }
 
+        // Index before the list is cached, so changes to any of these accounts evict it
+        cacheInvalidator.indexOwners(accounts);
+
         return accounts.stream()
                 .map(accountMapper::toResponse)
                 .collect(Collectors.toList());
@@ -197,7 +353,7 @@ public class AccountServiceImpl implements AccountService {
      */
     @Override
     @Transactional(readOnly = true)
-    @Cacheable(value = "balance", key = "#accountNumber")
+    @Cacheable(value = "balance", key = "#accountNumber", sync = true)
     public BigDecimal getAccountBalance(String accountNumber) {
         log.info(" Fetching balance for account: {}", accountNumber);
 
@@ -209,6 +365,29 @@ public class AccountServiceImpl implements AccountService {
         return account.getBalance();
     }
 
+    /**
+     * Get many balances by account number
+     * L1 / Redis first (one MGET), then one IN query for the misses
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<BalanceLookupResult> getAccountBalances(List<String> accountNumbers) {
+        log.info(" Fetching {} balances", accountNumbers.size());
+
+        Map<String, Object> balances = cacheManager.getTwoTierCache(AccountCacheInvalidator.BALANCE)
+                .getAll(new LinkedHashSet<>(accountNumbers),
+                        misses -> accountRepository.findByAccountNumberIn(misses).stream()
+                                .collect(Collectors.toMap(Account::getAccountNumber, Account::getBalance)));
+
+        return accountNumbers.stream()
+                .map(accountNumber -> BalanceLookupResult.builder()
+                        .accountNumber(accountNumber)
+                        .found(balances.containsKey(accountNumber))
+                        .balance((BigDecimal) balances.get(accountNumber))
+                        .build())
+                .toList();
+    }
+
     /**
      * Update account balance (Called by Transaction Service)
      *
@@ -216,52 +395,33 @@ public class AccountServiceImpl implements AccountService {
      * Operations:
      * - CREDIT: Deposit, Transfer In, Salary Credit
      * - DEBIT: Withdrawal, Transfer Out, Bill Payment
+     *
+     * The balance is changed by a single guarded UPDATE (balance = balance -/+ amount),
+     * so concurrent debits on the same account cannot lose updates and no row lock
+     * is held while Java code runs.
      */
     @Override
-    @CacheEvict(value = {"accounts", "balance"}, key = "#request.accountNumber")
     public AccountResponse updateBalance(BalanceUpdateRequest request) {
         log.info(" Updating balance | Account: {} | Operation: {} | Amount: {}",
                 request.getAccountNumber(), request.getOperation(), request.getAmount());
 
-        // STEP 1: Find account
-        Account account = accountRepository.findByAccountNumber(request.getAccountNumber())
+        // STEP 1: Guarded in-SQL update
+        applyBalanceChange(request.getAccountNumber(), request.getAmount(), request.getOperation(),
+                request.getTransactionId(), request.getRemarks());
+
+        // STEP 2: Read back the committed-in-this-transaction state
+        Account updatedAccount = accountRepository.findByAccountNumber(request.getAccountNumber())
                 .orElseThrow(() -> new AccountNotFoundException(
                         "Account not found: " + request.getAccountNumber()
                 ));
 
-        // STEP 2: Validate operation
-        validationService.validateBalanceOperation(
-                account,
-                request.getAmount(),
-                request.getOperation()
-        );
-
-        // STEP 3: Get current balance
-        BigDecimal oldBalance = account.getBalance();
-        BigDecimal newBalance;
-
-        // STEP 4: Perform operation
-        switch (request.getOperation()) {
-            case "CREDIT":
-                account.credit(request.getAmount());
-                newBalance = account.getBalance();
-                log.info(" Credit: {} + {} = {}", oldBalance, request.getAmount(), newBalance);
-                break;
-
-            case "DEBIT":
-                account.debit(request.getAmount());
-                newBalance = account.getBalance();
-                log.info(" Debit: {} - {} = {}", oldBalance, request.getAmount(), newBalance);
-                break;
-
-            default:
-                throw new IllegalArgumentException("Invalid operation: " + request.getOperation());
-        }
+        BigDecimal newBalance = updatedAccount.getBalance();
+        BigDecimal oldBalance = "DEBIT".equals(request.getOperation())
+                ? newBalance.add(request.getAmount())
+                : newBalance.subtract(request.getAmount());
+        log.info(" {}: {} -> {}", request.getOperation(), oldBalance, newBalance);
 
-        // STEP 5: Save
-        Account updatedAccount = accountRepository.save(account);
-
-        // STEP 6: Log audit
+        // STEP 3: Log audit
         auditService.logBalanceUpdate(
                 request.getAccountNumber(),
                 oldBalance.toString(),
@@ -269,16 +429,276 @@ public class AccountServiceImpl implements AccountService {
                 request.getOperation()
         );
 
+        cacheInvalidator.evictAccount(request.getAccountNumber());
+
         log.info(" Balance updated successfully for account: {}", request.getAccountNumber());
 
         return accountMapper.toResponse(updatedAccount);
     }
 
+    /**
+     * Transfer funds between two accounts (Called by Transaction Service)
+     *
+     * Replaces the separate DEBIT + CREDIT calls:
+     * - One HTTP hop instead of two
+     * - Both legs run in this local DB transaction, so money is never "in flight"
+     * - Both legs are guarded in-SQL updates applied in ascending account ID order,
+     *   so opposite-direction transfers (A -> B and B -> A) cannot deadlock
+     */
+    @Override
+    public TransferLegResponse transferFunds(TransferLegRequest request) {
+        log.info(" Transfer | From: {} -> To: {} | Debit: {} | Credit: {} | Txn: {}",
+                request.getFromAccountNumber(), request.getToAccountNumber(),
+                request.getDebitAmount(), request.getCreditAmount(), request.getTransactionId());
+
+        if (request.getFromAccountNumber().equals(request.getToAccountNumber())) {
+            throw new InvalidAccountOperationException("Cannot transfer money to the same account");
+        }
+
+        // STEP 1: Resolve IDs (no entity load) to get a deterministic lock order
+        Long fromId = resolveAccountId(request.getFromAccountNumber());
+        Long toId = resolveAccountId(request.getToAccountNumber());
+
+        // STEP 2: Apply both legs, lowest account ID first (each UPDATE locks its row)
+        if (fromId < toId) {
+            applyBalanceChange(request.getFromAccountNumber(), request.getDebitAmount(), "DEBIT",
+                    request.getTransactionId(), "Transfer to " + request.getToAccountNumber());
+            applyBalanceChange(request.getToAccountNumber(), request.getCreditAmount(), "CREDIT",
+                    request.getTransactionId(), "Transfer from " + request.getFromAccountNumber());
+        } else {
+            applyBalanceChange(request.getToAccountNumber(), request.getCreditAmount(), "CREDIT",
+                    request.getTransactionId(), "Transfer from " + request.getFromAccountNumber());
+            applyBalanceChange(request.getFromAccountNumber(), request.getDebitAmount(), "DEBIT",
+                    request.getTransactionId(), "Transfer to " + request.getToAccountNumber());
+        }
+
+        // STEP 3: Read back new balances
+        BigDecimal sourceBalance = getCurrentBalance(request.getFromAccountNumber());
+        BigDecimal destinationBalance = getCurrentBalance(request.getToAccountNumber());
+
+        // STEP 4: Log audit for both legs
+        auditService.logBalanceUpdate(
+                request.getFromAccountNumber(),
+                sourceBalance.add(request.getDebitAmount()).toString(),
+                sourceBalance.toString(),
+                "DEBIT"
+        );
+        auditService.logBalanceUpdate(
+                request.getToAccountNumber(),
+                destinationBalance.subtract(request.getCreditAmount()).toString(),
+                destinationBalance.toString(),
+                "CREDIT"
+        );
+
+        cacheInvalidator.evictAccounts(List.of(request.getFromAccountNumber(), request.getToAccountNumber()));
+
+        log.info(" Transfer completed | Txn: {}", request.getTransactionId());
+
+        return TransferLegResponse.builder()
+                .transactionId(request.getTransactionId())
+                .fromAccountNumber(request.getFromAccountNumber())
+                .fromBalance(sourceBalance)
+                .toAccountNumber(request.getToAccountNumber())
+                .toBalance(destinationBalance)
+                .build();
+    }
+
+    /**
+     * Debit the aggregate of a bulk payout (Called by Transaction Service)
+     *
+     * One guarded UPDATE for the whole batch instead of one debit per row.
+     * The per-type daily withdrawal limit does not apply to this pre-authorised
+     * corporate debit; Transaction Service caps each row instead.
+     * Idempotent per batch: a batch resumed after a Transaction Service crash
+     * sends the debit again, and it is applied only once.
+     */
+    @Override
+    public AccountResponse debitForBulkPayout(BulkDebitRequest request) {
+        log.info(" Bulk payout debit | Account: {} | Amount: {} | Batch: {}",
+                request.getAccountNumber(), request.getAmount(), request.getBatchId());
+
+        if (isBulkLegPosted(request, LedgerEntryType.DEBIT)) {
+            log.info(" Bulk payout debit already applied | Batch: {}", request.getBatchId());
+            return accountMapper.toResponse(accountRepository.findByAccountNumber(request.getAccountNumber())
+                    .orElseThrow(() -> new AccountNotFoundException(
+                            "Account not found: " + request.getAccountNumber()
+                    )));
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int updatedRows = accountRepository.debitForBulkPayout(
+                request.getAccountNumber(), request.getAmount(), now, appProperties);
+
+        if (updatedRows == 0) {
+            Account account = accountRepository.findByAccountNumber(request.getAccountNumber())
+                    .orElseThrow(() -> new AccountNotFoundException(
+                            "Account not found: " + request.getAccountNumber()
+                    ));
+
+            validationService.validateBulkPayoutDebit(account, request.getAmount());
+            throw new InvalidAccountOperationException(
+                    "Balance changed during the operation. Please retry."
+            );
+        }
+
+        ledgerRepository.recordEntry(request.getAccountNumber(), LedgerEntryType.DEBIT, request.getAmount(),
+                request.getBatchId(), "Bulk payout debit", now);
+        cacheInvalidator.evictAccount(request.getAccountNumber());
+        return logBulkPayoutLeg(request, "DEBIT");
+    }
+
+    /**
+     * Credit one chunk of a bulk payout (Called by Transaction Service)
+     *
+     * Flow:
+     * 1. Rows already credited by an earlier delivery are skipped (ledger lookup)
+     * 2. All guarded credits go out as one JDBC batch
+     * 3. Touched accounts are read back with one IN query
+     * 4. Per-row results + audits are built in memory, audits inserted as one batch
+     */
+    @Override
+    public BulkCreditResponse creditBulkPayout(BulkCreditRequest request) {
+        List<BulkCreditItem> items = request.getItems();
+        log.info(" Bulk payout credit | Batch: {} | Items: {}", request.getBatchId(), items.size());
+
+        // STEP 1: Rows of this chunk already credited (a batch resumed after a
+        // Transaction Service crash re-sends them) are reported, not credited again
+        Set<String> alreadyCredited = ledgerRepository.findPostedTransactionIds(
+                items.stream().map(BulkCreditItem::getTransactionId).collect(Collectors.toList()),
+                LedgerEntryType.CREDIT);
+        List<BulkCreditItem> toCredit = alreadyCredited.isEmpty()
+                ? items
+                : items.stream()
+                        .filter(item -> !alreadyCredited.contains(item.getTransactionId()))
+                        .collect(Collectors.toList());
+
+        // STEP 2: Guarded credits, one round trip
+        LocalDateTime now = LocalDateTime.now();
+        int[] credited = toCredit.isEmpty() ? new int[0] : batchRepository.creditAll(toCredit, now);
+        int[] updatedRows = new int[items.size()];
+        for (int i = 0, next = 0; i < items.size(); i++) {
+            updatedRows[i] = alreadyCredited.contains(items.get(i).getTransactionId()) ? -1 : credited[next++];
+        }
+
+        // STEP 3: Read back (rows credited above are locked by this transaction)
+        Set<String> accountNumbers = items.stream()
+                .map(BulkCreditItem::getAccountNumber)
+                .collect(Collectors.toSet());
+        Map<String, Account> accounts = accountRepository.findByAccountNumberIn(accountNumbers).stream()
+                .collect(Collectors.toMap(Account::getAccountNumber, Function.identity()));
+
+        // STEP 4: Walk backwards from the final balance (and ledger sequence) so every
+        // credited row gets its own before/after values, even when an account appears more than once
+        BulkCreditResult[] results = new BulkCreditResult[items.size()];
+        Map<String, BigDecimal> balanceAfter = new HashMap<>();
+        Map<String, Long> sequenceAfter = new HashMap<>();
+        List<AccountAudit> audits = new ArrayList<>();
+        List<LedgerEntry> entries = new ArrayList<>();
+        int creditedCount = 0;
+
+        for (int i = items.size() - 1; i >= 0; i--) {
+            BulkCreditItem item = items.get(i);
+            Account account = accounts.get(item.getAccountNumber());
+
+            if (updatedRows[i] < 0) {
+                results[i] = BulkCreditResult.builder()
+                        .transactionId(item.getTransactionId())
+                        .accountNumber(item.getAccountNumber())
+                        .accountId(account.getAccountId())
+                        .credited(true)
+                        .build();
+                creditedCount++;
+            } else if (updatedRows[i] > 0) {
+                BigDecimal newBalance = balanceAfter.getOrDefault(item.getAccountNumber(), account.getBalance());
+                BigDecimal oldBalance = newBalance.subtract(item.getAmount());
+                balanceAfter.put(item.getAccountNumber(), oldBalance);
+                long sequence = sequenceAfter.getOrDefault(item.getAccountNumber(), account.getLedgerSequence());
+                sequenceAfter.put(item.getAccountNumber(), sequence - 1);
+
+                entries.add(LedgerEntry.builder()
+                        .accountId(account.getAccountId())
+                        .accountNumber(item.getAccountNumber())
+                        .sequenceNo(sequence)
+                        .entryType(LedgerEntryType.CREDIT)
+                        .amount(item.getAmount())
+                        .balanceAfter(newBalance)
+                        .transactionId(item.getTransactionId())
+                        .description("Bulk payout credit - Batch: " + request.getBatchId())
+                        .createdAt(now)
+                        .build());
+                audits.add(auditService.balanceUpdateAudit(item.getAccountNumber(),
+                        oldBalance.toString(), newBalance.toString(), "CREDIT", item.getTransactionId()));
+                results[i] = BulkCreditResult.builder()
+                        .transactionId(item.getTransactionId())
+                        .accountNumber(item.getAccountNumber())
+                        .accountId(account.getAccountId())
+                        .credited(true)
+                        .build();
+                creditedCount++;
+            } else {
+                results[i] = BulkCreditResult.builder()
+                        .transactionId(item.getTransactionId())
+                        .accountNumber(item.getAccountNumber())
+                        .accountId(account != null ? account.getAccountId() : null)
+                        .credited(false)
+                        .failureReason(explainRejectedCredit(account, item.getAmount()))
+                        .build();
+            }
+        }
+
+        // STEP 5: Ledger, audit trail + cache eviction
+        Collections.reverse(entries);
+        ledgerRepository.insertEntries(entries);
+        Collections.reverse(audits);
+        auditService.logAuditBatch(audits);
+        cacheInvalidator.evictAccounts(balanceAfter.keySet());
+
+        log.info(" Bulk payout credit done | Batch: {} | Credited: {} | Rejected: {}",
+                request.getBatchId(), creditedCount, items.size() - creditedCount);
+
+        return BulkCreditResponse.builder()
+                .batchId(request.getBatchId())
+                .creditedCount(creditedCount)
+                .failedCount(items.size() - creditedCount)
+                .results(Arrays.asList(results))
+                .build();
+    }
+
+    /**
+     * Refund the rows of a bulk payout that could not be credited
+     * Idempotent per batch, like the debit
+     */
+    @Override
+    public AccountResponse refundBulkPayout(BulkDebitRequest request) {
+        log.info(" Bulk payout refund | Account: {} | Amount: {} | Batch: {}",
+                request.getAccountNumber(), request.getAmount(), request.getBatchId());
+
+        if (isBulkLegPosted(request, LedgerEntryType.CREDIT)) {
+            log.info(" Bulk payout refund already applied | Batch: {}", request.getBatchId());
+            return accountMapper.toResponse(accountRepository.findByAccountNumber(request.getAccountNumber())
+                    .orElseThrow(() -> new AccountNotFoundException(
+                            "Account not found: " + request.getAccountNumber()
+                    )));
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int updatedRows = accountRepository.refundBulkPayout(
+                request.getAccountNumber(), request.getAmount(), now);
+
+        if (updatedRows == 0) {
+            throw new AccountNotFoundException("Account not found: " + request.getAccountNumber());
+        }
+
+        ledgerRepository.recordEntry(request.getAccountNumber(), LedgerEntryType.CREDIT, request.getAmount(),
+                request.getBatchId(), "Bulk payout refund", now);
+        cacheInvalidator.evictAccount(request.getAccountNumber());
+        return logBulkPayoutLeg(request, "CREDIT");
+    }
+
     /**
      * Update account status
      */
     @Override
-    @CacheEvict(value = {"accounts", "user-accounts"}, allEntries = true)
     public AccountResponse updateAccountStatus(AccountStatusUpdateRequest request) {
         log.info(" Updating status | Account: {} | New Status: {}",
                 request.getAccountNumber(), request.getStatus());
@@ -306,6 +726,9 @@ public class AccountServiceImpl implements AccountService {
                 request.getReason()
         );
 
+        eventProducer.publishAccountStatusChanged(updatedAccount, oldStatus, request.getReason());
+        cacheInvalidator.evictAccount(request.getAccountNumber());
+
         log.info(" Account status updated: {} -> {}", oldStatus, request.getStatus());
 
         return accountMapper.toResponse(updatedAccount);
@@ -320,7 +743,6 @@ public class AccountServiceImpl implements AccountService {
      * - Cannot close blocked account directly
      */
     @Override
-    @CacheEvict(value = {"accounts", "user-accounts"}, allEntries = true)
     public void closeAccount(String accountNumber, String reason) {
         log.info(" Closing account: {} | Reason: {}", accountNumber, reason);
 
@@ -333,6 +755,7 @@ public class AccountServiceImpl implements AccountService {
         validationService.validateAccountClosure(account);
 
         // Close account
+        AccountStatus oldStatus = account.getStatus();
         account.setStatus(AccountStatus.CLOSED);
         account.setClosureDate(LocalDateTime.now());
         account.setClosureReason(reason != null ? reason : "Customer request");
@@ -352,6 +775,9 @@ public class AccountServiceImpl implements AccountService {
                 null
         );
 
+        eventProducer.publishAccountStatusChanged(account, oldStatus, account.getClosureReason());
+        cacheInvalidator.evictAccount(accountNumber);
+
         log.info(" Account closed successfully: {}", accountNumber);
     }
 
@@ -373,25 +799,199 @@ public class AccountServiceImpl implements AccountService {
     // ═══════════════════════════════════════════════════════════════════
 
     /**
-     * Generate unique account number with collision handling
+     * Resolve account ID by account number
      */
-    private String generateUniqueAccountNumber() {
-        String accountNumber = accountNumberGenerator.generateAccountNumber();
+    private Long resolveAccountId(String accountNumber) {
+        return accountRepository.findAccountIdByAccountNumber(accountNumber)
+                .orElseThrow(() -> new AccountNotFoundException(
+                        "Account not found: " + accountNumber
+                ));
+    }
 
-        // Handle collisions (rare but possible)
-        int retries = 0;
-        while (accountRepository.existsByAccountNumber(accountNumber) && retries < 5) {
-            log.warn(" Account number collision detected. Regenerating...");
-            accountNumber = accountNumberGenerator.generateAccountNumber();
-            retries++;
+    /**
+     * Read current balance without loading the full entity
+     */
+    private BigDecimal getCurrentBalance(String accountNumber) {
+        return accountRepository.findBalanceByAccountNumber(accountNumber)
+                .orElseThrow(() -> new AccountNotFoundException(
+                        "Account not found: " + accountNumber
+                ));
+    }
+
+    /**
+     * Apply a CREDIT/DEBIT as one guarded UPDATE statement, then append its ledger entry
+     * On rejection, re-reads the account only to report the precise reason
+     */
+    private void applyBalanceChange(String accountNumber, BigDecimal amount, String operation,
+                                    String transactionId, String description) {
+        LocalDateTime now = LocalDateTime.now();
+
+        int updatedRows = switch (operation) {
+            case "CREDIT" -> accountRepository.creditIfAllowed(accountNumber, amount, now, appProperties);
+            case "DEBIT" -> accountRepository.debitIfAllowed(accountNumber, amount, now, appProperties);
+            default -> throw new IllegalArgumentException("Invalid operation: " + operation);
+        };
+
+        if (updatedRows == 0) {
+            explainRejectedBalanceChange(accountNumber, amount, operation);
         }
 
-        if (retries >= 5) {
-            throw new RuntimeException(
-                    "Unable to generate unique account number after 5 attempts. Please try again."
-            );
+        ledgerRepository.recordEntry(accountNumber, LedgerEntryType.valueOf(operation), amount,
+                transactionId, description, now);
+    }
+
+    /**
+     * Slow path: figure out which rule rejected a guarded update
+     */
+    private void explainRejectedBalanceChange(String accountNumber, BigDecimal amount, String operation) {
+        Account account = accountRepository.findByAccountNumber(accountNumber)
+                .orElseThrow(() -> new AccountNotFoundException(
+                        "Account not found: " + accountNumber
+                ));
+
+        // Throws the specific exception (inactive, insufficient balance, limits...)
+        validationService.validateBalanceOperation(account, amount, operation);
+
+        // Rules pass on re-read: the balance moved between the UPDATE and this read
+        log.warn(" Balance update rejected by concurrent change | Account: {}", accountNumber);
+        throw new InvalidAccountOperationException(
+                "Balance changed during the operation. Please retry."
+        );
+    }
+
+    /**
+     * Lock the account row, then check the ledger for this batch's debit/refund
+     * (the lock keeps two deliveries of the same leg from both passing the check)
+     */
+    private boolean isBulkLegPosted(BulkDebitRequest request, LedgerEntryType type) {
+        ledgerRepository.lockHead(request.getAccountNumber())
+                .orElseThrow(() -> new AccountNotFoundException(
+                        "Account not found: " + request.getAccountNumber()
+                ));
+        return ledgerRepository.hasEntry(request.getAccountNumber(), request.getBatchId(), type);
+    }
+
+    /**
+     * Read back and audit the aggregate leg of a bulk payout
+     */
+    private AccountResponse logBulkPayoutLeg(BulkDebitRequest request, String operation) {
+        Account account = accountRepository.findByAccountNumber(request.getAccountNumber())
+                .orElseThrow(() -> new AccountNotFoundException(
+                        "Account not found: " + request.getAccountNumber()
+                ));
+
+        BigDecimal newBalance = account.getBalance();
+        BigDecimal oldBalance = "DEBIT".equals(operation)
+                ? newBalance.add(request.getAmount())
+                : newBalance.subtract(request.getAmount());
+
+        auditService.logAudit(
+                request.getAccountNumber(),
+                account.getInternalUserId(),
+                AuditAction.UPDATE_BALANCE,
+                "Bulk payout " + operation + " - Batch: " + request.getBatchId(),
+                oldBalance.toString(),
+                newBalance.toString(),
+                "SYSTEM",
+                null
+        );
+
+        return accountMapper.toResponse(account);
+    }
+
+    /**
+     * Resolve accounts from the accounts cache, loading misses with one IN query
+     */
+    private Map<String, AccountResponse> lookupAccounts(Collection<String> accountNumbers) {
+        Map<String, Object> found = cacheManager.getTwoTierCache(AccountCacheInvalidator.ACCOUNTS)
+                .getAll(new LinkedHashSet<>(accountNumbers),
+                        misses -> accountRepository.findByAccountNumberIn(misses).stream()
+                                .collect(Collectors.toMap(Account::getAccountNumber, accountMapper::toResponse)));
+
+        Map<String, AccountResponse> accounts = new HashMap<>();
+        found.forEach((accountNumber, account) -> accounts.put(accountNumber, (AccountResponse) account));
+        return accounts;
+    }
+
+    private AccountLookupResult lookupResult(String key, AccountResponse account) {
+        return AccountLookupResult.builder()
+                .key(key)
+                .found(account != null)
+                .account(account)
+                .build();
+    }
+
+    /**
+     * Verify users in chunks of account.bulk-create.verify-batch-size IDs per call
+     */
+    private Map<String, UserVerificationResponse> verifyUsers(List<String> userIds) {
+        int batchSize = appProperties.getBulkCreate().getVerifyBatchSize();
+        Map<String, UserVerificationResponse> users = new HashMap<>();
+
+        for (int from = 0; from < userIds.size(); from += batchSize) {
+            List<String> chunk = userIds.subList(from, Math.min(from + batchSize, userIds.size()));
+            List<UserVerificationResponse> verified = userServiceClient.verifyUsers(chunk).getData();
+            if (verified != null) {
+                verified.forEach(user -> users.put(user.getInternalUserId(), user));
+            }
         }
 
-        return accountNumber;
+        log.info(" Users verified | Requested: {} | Returned: {}", userIds.size(), users.size());
+        return users;
+    }
+
+    /**
+     * Build a new zero-balance ACTIVE account (same defaults as createAccount)
+     */
+    private Account newAccount(String internalUserId, AccountType accountType, String ifscCode,
+                               String branchCode, String branchName, LocalDateTime now) {
+        Account account = new Account();
+        account.setAccountNumber(accountNumberGenerator.generateAccountNumber());
+        account.setInternalUserId(internalUserId);
+        account.setAccountType(accountType);
+        account.setBalance(BigDecimal.ZERO);
+        account.setStatus(AccountStatus.ACTIVE);
+        account.setIfscCode(ifscCode);
+        account.setBranchCode(branchCode);
+        account.setBranchName(branchName);
+        account.setCurrency("INR");
+        account.setCreatedDate(now);
+        account.setLastModifiedDate(now);
+        return account;
+    }
+
+    /**
+     * Reason a bulk credit row was rejected by the SQL guard
+     */
+    private String explainRejectedCredit(Account account, BigDecimal amount) {
+        if (account == null) {
+            return "Account not found";
+        }
+
+        try {
+            validationService.validateBalanceOperation(account, amount, "CREDIT");
+        } catch (RuntimeException e) {
+            return e.getMessage();
+        }
+        return "Balance changed during the operation";
+    }
+
+    /**
+     * A user's existing account counts, as used by the creation limits
+     */
+    private static final class UserAccountCounts {
+        private long active;
+        private final Map<AccountType, Long> byType = new EnumMap<>(AccountType.class);
+
+        private void add(AccountType accountType, AccountStatus status, long total) {
+            if (status == AccountStatus.ACTIVE) {
+                active += total;
+            }
+            byType.merge(accountType, total, Long::sum);
+        }
+
+        private long ofType(AccountType accountType) {
+            return byType.getOrDefault(accountType, 0L);
+        }
     }
-}
\ No newline at end of file
+}
@@ -45,6 +45,28 @@ public class AccountValidationService {
     public void validateAccountCreation(
             UserVerificationResponse user,
             AccountType accountType
+    ) {
+        long activeAccounts = accountRepository.countByInternalUserIdAndStatus(
+                user.getInternalUserId(),
+                AccountStatus.ACTIVE
+        );
+        long typeAccounts = accountRepository.countByInternalUserIdAndAccountType(
+                user.getInternalUserId(),
+                accountType
+        );
+
+        validateAccountCreation(user, accountType, activeAccounts, typeAccounts);
+    }
+
+    /**
+     * Same rules with the user's counts already known
+     * (bulk creation loads them for all users with one grouped query)
+     */
+    public void validateAccountCreation(
+            UserVerificationResponse user,
+            AccountType accountType,
+            long activeAccounts,
+            long typeAccounts
     ) {
         // Rule 1: KYC must be verified
         if (!user.isKycVerified()) {
@@ -63,12 +85,7 @@ public class AccountValidationService {
         }
 
         // Rule 3: Check max accounts per user
-        long totalAccounts = accountRepository.countByInternalUserIdAndStatus(
-                user.getInternalUserId(),
-                AccountStatus.ACTIVE
-        );
-
-        if (totalAccounts >= appProperties.getMaxPerUser()) {
+        if (activeAccounts >= appProperties.getMaxPerUser()) {
             log.error(" Max accounts limit exceeded for user: {}", user.getInternalUserId());
             throw new AccountLimitExceededException(
                     String.format("Cannot create more than %d accounts per user",
@@ -77,7 +94,7 @@ public class AccountValidationService {
         }
 
         // Rule 4: Check account type specific limits
-        validateAccountTypeLimit(user.getInternalUserId(), accountType);
+        validateAccountTypeLimit(accountType, typeAccounts);
 
         log.info(" Account creation validation passed for user: {}", user.getInternalUserId());
     }
@@ -86,12 +103,7 @@ public class AccountValidationService {
      * Validate account type specific limits
      * Real Banking: Max 2 savings, 1 current per user
      */
-    private void validateAccountTypeLimit(String internalUserId, AccountType accountType) {
-        long typeCount = accountRepository.countByInternalUserIdAndAccountType(
-                internalUserId,
-                accountType
-        );
-
+    private void validateAccountTypeLimit(AccountType accountType, long typeCount) {
         switch (accountType) {
             case SAVINGS:
                 if (typeCount >= appProperties.getMaxSavingsPerUser()) {
@@ -121,6 +133,9 @@ public class AccountValidationService {
     /**
      * Validate balance operation
      * Checks: sufficient balance, daily limits, minimum balance
+     *
+     * Note: the same rules are enforced atomically as SQL guards in
+     * AccountRepository.debitIfAllowed / creditIfAllowed. Keep them in sync.
      */
     public void validateBalanceOperation(
             Account account,
@@ -148,11 +163,71 @@ public class AccountValidationService {
         }
     }
 
+    /**
+     * Validate the aggregate debit of a bulk payout
+     * Same as a DEBIT minus the daily withdrawal limit
+     * (mirrors AccountRepository.debitForBulkPayout)
+     */
+    public void validateBulkPayoutDebit(Account account, BigDecimal amount) {
+        if (account.getStatus() != AccountStatus.ACTIVE) {
+            throw new InvalidAccountOperationException(
+                    "Cannot perform operation. Account is " + account.getStatus()
+            );
+        }
+
+        validateDebitBalance(account, amount);
+    }
+
+    /**
+     * Validate placing a hold (reserving funds)
+     * (mirrors the guard of AccountHoldRepository.reserve)
+     */
+    public void validateHoldPlacement(Account account, BigDecimal amount) {
+        if (account.getStatus() != AccountStatus.ACTIVE) {
+            throw new InvalidAccountOperationException(
+                    "Cannot place hold. Account is " + account.getStatus()
+            );
+        }
+
+        BigDecimal available = account.getAvailableBalance();
+        if (available.compareTo(amount) < 0) {
+            log.error(" Insufficient funds for hold. Available: {}, Required: {}", available, amount);
+            throw new InsufficientBalanceException(
+                    String.format("Insufficient balance to hold. Available: %s, Required: %s", available, amount)
+            );
+        }
+
+        BigDecimal minBalance = getMinimumBalance(account.getAccountType());
+        if (available.subtract(amount).compareTo(minBalance) < 0) {
+            log.error(" Hold would break minimum balance. Min required: {}", minBalance);
+            throw new InvalidAccountOperationException(
+                    String.format("Cannot hold funds below the minimum balance of %s", minBalance)
+            );
+        }
+    }
+
     /**
      * Validate debit operation
      */
     private void validateDebitOperation(Account account, BigDecimal amount) {
-        BigDecimal currentBalance = account.getBalance();
+        validateDebitBalance(account, amount);
+
+        // Check daily withdrawal limit
+        BigDecimal dailyLimit = getDailyWithdrawalLimit(account.getAccountType());
+        if (amount.compareTo(dailyLimit) > 0) {
+            log.error(" Daily withdrawal limit exceeded. Limit: {}", dailyLimit);
+            throw new DailyLimitExceededException(
+                    String.format("Daily withdrawal limit of %s exceeded", dailyLimit)
+            );
+        }
+    }
+
+    /**
+     * Validate sufficient balance and minimum balance for a debit
+     */
+    private void validateDebitBalance(Account account, BigDecimal amount) {
+        // Funds reserved by active holds cannot be debited
+        BigDecimal currentBalance = account.getAvailableBalance();
 
         // Check sufficient balance
         if (currentBalance.compareTo(amount) < 0) {
@@ -175,15 +250,6 @@ public class AccountValidationService {
                             minBalance)
             );
         }
-
-        // Check daily withdrawal limit
-        BigDecimal dailyLimit = getDailyWithdrawalLimit(account.getAccountType());
-        if (amount.compareTo(dailyLimit) > 0) {
-            log.error(" Daily withdrawal limit exceeded. Limit: {}", dailyLimit);
-            throw new DailyLimitExceededException(
-                    String.format("Daily withdrawal limit of %s exceeded", dailyLimit)
-            );
-        }
     }
 
     /**
@@ -267,6 +333,14 @@ public class AccountValidationService {
             throw new InvalidAccountOperationException("Account is already closed");
         }
 
+        // No funds may still be reserved
+        if (account.getHeldAmount() != null && account.getHeldAmount().compareTo(BigDecimal.ZERO) != 0) {
+            throw new InvalidAccountOperationException(
+                    String.format("Cannot close account with active holds. Held amount: %s",
+                            account.getHeldAmount())
+            );
+        }
+
         // Balance must be zero
         if (account.getBalance().compareTo(BigDecimal.ZERO) != 0) {
             throw new InvalidAccountOperationException(
@@ -0,0 +1,189 @@
+package com.banking.account_service.service;
+
+import com.banking.account_service.config.AppProperties;
+import com.banking.account_service.entity.AccountHold;
+import com.banking.account_service.enums.HoldStatus;
+import com.banking.account_service.repository.AccountHoldRepository;
+import com.banking.account_service.util.TimerWheel;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Hold Expiry Service
+ * Releases holds that reach their expiry time without scanning account_hold:
+ * - Every hold placed on this instance is put on an in-memory timer wheel
+ *   (after commit); captured/released holds are taken off it
+ * - At startup the wheel is loaded with all ACTIVE holds
+ * - A low-frequency sweep (index range on status, expires_at) picks up holds
+ *   whose placing instance went away before they expired
+ *
+ * Expiring is idempotent: the hold row is locked and must still be ACTIVE and
+ * due, so several instances expiring the same hold is harmless.
+ */
+@Component
+@Slf4j
+public class HoldExpiryService implements SmartLifecycle {
+
+    private final AccountHoldRepository holdRepository;
+    private final TransactionTemplate expiryTransaction;
+    private final AppProperties.HoldConfig config;
+    private final AtomicReference<TimerWheel> wheel = new AtomicReference<>();  // built in start()
+
+    private volatile boolean running;
+
+    public HoldExpiryService(AccountHoldRepository holdRepository,
+                             PlatformTransactionManager transactionManager,
+                             AppProperties appProperties,
+                             MeterRegistry meterRegistry) {
+        this.holdRepository = holdRepository;
+        this.expiryTransaction = new TransactionTemplate(transactionManager);
+        this.config = appProperties.getHolds();
+
+        Gauge.builder("account.holds.wheel.size", wheel, ref -> {
+            TimerWheel current = ref.get();
+            return current != null ? current.size() : 0;
+        }).register(meterRegistry);
+    }
+
+    /**
+     * Put a hold on the wheel once the current transaction commits
+     */
+    public void schedule(long holdId, LocalDateTime expiresAt) {
+        long deadline = expiresAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        afterCommit(() -> {
+            TimerWheel current = wheel.get();
+            if (current != null) {  // else not started yet: start() loads every ACTIVE hold
+                current.schedule(holdId, deadline);
+            }
+        });
+    }
+
+    /**
+     * Take a hold off the wheel once the current transaction commits
+     */
+    public void cancel(long holdId) {
+        afterCommit(() -> {
+            TimerWheel current = wheel.get();
+            if (current != null) {
+                current.cancel(holdId);
+            }
+        });
+    }
+
+    /**
+     * Catch holds whose expiry timer lived on an instance that is gone
+     */
+    @Scheduled(fixedDelayString = "${account.holds.sweep-interval-ms:300000}",
+            initialDelayString = "${account.holds.sweep-interval-ms:300000}")
+    public void sweep() {
+        LocalDateTime before = LocalDateTime.now().minusSeconds(config.getSweepGraceSeconds());
+        List<Long> holdIds = holdRepository.findActiveExpiredBefore(before, config.getSweepBatchSize());
+        if (!holdIds.isEmpty()) {
+            log.info(" Hold sweep found {} overdue holds", holdIds.size());
+            expireAll(holdIds);
+        }
+    }
+
+    private void expireAll(List<Long> holdIds) {
+        int expired = 0;
+        for (Long holdId : holdIds) {
+            try {
+                if (Boolean.TRUE.equals(expiryTransaction.execute(status -> expire(holdId)))) {
+                    expired++;
+                }
+            } catch (RuntimeException e) {
+                // Left ACTIVE: the sweep retries it
+                log.error(" Hold expiry failed | Hold ID: {} | Error: {}", holdId, e.getMessage());
+            }
+        }
+        if (expired > 0) {
+            log.info(" Holds expired: {}", expired);
+        }
+    }
+
+    /**
+     * Expire one hold if it is still ACTIVE and due; returns true if it was expired
+     */
+    private boolean expire(long holdId) {
+        AccountHold hold = holdRepository.lockById(holdId).orElse(null);
+        if (hold == null || hold.getStatus() != HoldStatus.ACTIVE) {
+            return false;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        if (hold.getExpiresAt().isAfter(now)) {
+            // Fired early (clock adjustment): wait for the real deadline
+            schedule(holdId, hold.getExpiresAt());
+            return false;
+        }
+
+        holdRepository.unreserve(hold.getAccountId(), hold.getAmount(), now);
+        hold.setStatus(HoldStatus.EXPIRED);
+        hold.setClosedAt(now);
+        holdRepository.close(hold);
+        log.debug(" Hold expired | Reference: {} | Account: {} | Amount: {}",
+                hold.getHoldReference(), hold.getAccountNumber(), hold.getAmount());
+        return true;
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    @Override
+    public void start() {
+        // Built here rather than in the constructor so the callback never sees a half-constructed service
+        TimerWheel started = new TimerWheel("hold-expiry-wheel", config.getWheelTickMillis(),
+                config.getWheelSize(), this::expireAll);
+        wheel.set(started);
+
+        ZoneId zone = ZoneId.systemDefault();
+        holdRepository.forEachActive((holdId, expiresAt) ->
+                started.schedule(holdId, expiresAt.atZone(zone).toInstant().toEpochMilli()));
+        started.start();
+        running = true;
+        log.info(" Hold expiry wheel started | Active holds: {}", started.size());
+    }
+
+    @Override
+    public void stop() {
+        TimerWheel stopped = wheel.getAndSet(null);
+        if (stopped != null) {
+            stopped.stop();
+        }
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        // Same phase as the audit writer: stops after in-flight requests, before the DataSource
+        return Integer.MAX_VALUE - 4096;
+    }
+}
@@ -0,0 +1,331 @@
+package com.banking.account_service.service;
+
+import com.banking.account_service.cache.AccountCacheInvalidator;
+import com.banking.account_service.config.AppProperties;
+import com.banking.account_service.dto.AvailableBalanceResponse;
+import com.banking.account_service.dto.CaptureHoldRequest;
+import com.banking.account_service.dto.HoldBatchCaptureRequest;
+import com.banking.account_service.dto.HoldResponse;
+import com.banking.account_service.dto.PlaceHoldRequest;
+import com.banking.account_service.entity.Account;
+import com.banking.account_service.entity.AccountHold;
+import com.banking.account_service.enums.AuditAction;
+import com.banking.account_service.enums.HoldStatus;
+import com.banking.account_service.enums.LedgerEntryType;
+import com.banking.account_service.exception.custom.AccountNotFoundException;
+import com.banking.account_service.exception.custom.InvalidAccountOperationException;
+import com.banking.account_service.repository.AccountHoldRepository;
+import com.banking.account_service.repository.AccountRepository;
+import com.banking.account_service.repository.LedgerRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Hold Service
+ * Two-phase debits: reserve funds now, settle (capture) or release them later
+ *
+ * - Place: one guarded UPDATE adds the amount to accounts.held_amount;
+ *   every debit path checks balance - held_amount, so held funds cannot be spent twice
+ * - Capture: debits the captured amount (ledger entry), drops the hold from held_amount
+ * - Release / expiry: drops the hold from held_amount, balance untouched
+ * - Idempotent per hold_reference: repeating a place/capture/release returns the
+ *   hold as it is instead of applying it again
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class HoldService {
+
+    private final AccountHoldRepository holdRepository;
+    private final AccountRepository accountRepository;
+    private final LedgerRepository ledgerRepository;
+    private final AccountValidationService validationService;
+    private final AccountAuditService auditService;
+    private final AccountCacheInvalidator cacheInvalidator;
+    private final HoldExpiryService expiryService;
+    private final AppProperties appProperties;
+
+    /**
+     * Reserve funds on an account
+     */
+    public HoldResponse placeHold(PlaceHoldRequest request) {
+        log.info(" Place hold | Reference: {} | Account: {} | Amount: {}",
+                request.getHoldReference(), request.getAccountNumber(), request.getAmount());
+
+        // STEP 1: Lock the account (also serializes retries of the same reference)
+        long accountId = holdRepository.lockAccountId(request.getAccountNumber())
+                .orElseThrow(() -> new AccountNotFoundException(
+                        "Account not found: " + request.getAccountNumber()
+                ));
+
+        // STEP 2: Idempotency
+        AccountHold existing = holdRepository.findByReference(request.getHoldReference()).orElse(null);
+        if (existing != null) {
+            if (!existing.getAccountNumber().equals(request.getAccountNumber())
+                    || existing.getAmount().compareTo(request.getAmount()) != 0) {
+                throw new InvalidAccountOperationException(
+                        "Hold reference already used for a different hold: " + request.getHoldReference()
+                );
+            }
+            log.info(" Hold already placed | Reference: {} | Status: {}",
+                    existing.getHoldReference(), existing.getStatus());
+            return toResponse(existing);
+        }
+
+        // STEP 3: Reserve
+        LocalDateTime now = LocalDateTime.now();
+        if (!holdRepository.reserve(accountId, request.getAmount(), now)) {
+            Account account = accountRepository.findByAccountNumber(request.getAccountNumber())
+                    .orElseThrow(() -> new AccountNotFoundException(
+                            "Account not found: " + request.getAccountNumber()
+                    ));
+
+            validationService.validateHoldPlacement(account, request.getAmount());
+            throw new InvalidAccountOperationException(
+                    "Balance changed during the operation. Please retry."
+            );
+        }
+
+        // STEP 4: Record the hold and arm its expiry
+        AccountHold hold = AccountHold.builder()
+                .holdReference(request.getHoldReference())
+                .accountId(accountId)
+                .accountNumber(request.getAccountNumber())
+                .amount(request.getAmount())
+                .status(HoldStatus.ACTIVE)
+                .reason(request.getReason())
+                .createdAt(now)
+                .expiresAt(now.plusSeconds(ttlSeconds(request.getExpiresInSeconds())))
+                .build();
+        holdRepository.insert(hold);
+        expiryService.schedule(hold.getHoldId(), hold.getExpiresAt());
+
+        log.info(" Hold placed | Reference: {} | Expires: {}", hold.getHoldReference(), hold.getExpiresAt());
+        return toResponse(hold);
+    }
+
+    /**
+     * Settle one hold
+     */
+    public HoldResponse captureHold(CaptureHoldRequest request) {
+        log.info(" Capture hold | Reference: {} | Amount: {}", request.getHoldReference(), request.getAmount());
+
+        AccountHold hold = holdRepository.lockByReferences(List.of(request.getHoldReference())).stream()
+                .findFirst()
+                .orElseThrow(() -> new InvalidAccountOperationException(
+                        "Hold not found: " + request.getHoldReference()
+                ));
+
+        String failure = validateCapture(hold, request);
+        if (failure != null) {
+            throw new InvalidAccountOperationException(failure);
+        }
+
+        if (hold.getStatus() == HoldStatus.ACTIVE) {
+            capture(hold, request, LocalDateTime.now());
+            cacheInvalidator.evictAccount(hold.getAccountNumber());
+        }
+        return toResponse(hold);
+    }
+
+    /**
+     * Settle many holds in one transaction
+     *
+     * All holds are locked up front in reference order, and the captures then
+     * update the account rows in account ID order, so concurrent batches lock rows
+     * in one global order and cannot deadlock. A rejected item is reported and skipped.
+     */
+    public List<HoldResponse> captureHolds(HoldBatchCaptureRequest request) {
+        List<CaptureHoldRequest> items = request.getItems();
+        log.info(" Batch capture | Items: {}", items.size());
+
+        Set<String> references = items.stream()
+                .map(CaptureHoldRequest::getHoldReference)
+                .collect(Collectors.toSet());
+        Map<String, AccountHold> holds = holdRepository.lockByReferences(references).stream()
+                .collect(Collectors.toMap(AccountHold::getHoldReference, Function.identity()));
+
+        // STEP 1: Validate in request order; rejected items are answered now, the rest after capture
+        List<HoldResponse> results = new ArrayList<>(items.size());
+        List<CaptureHoldRequest> toCapture = new ArrayList<>();
+        Set<String> queued = new HashSet<>();
+        for (CaptureHoldRequest item : items) {
+            AccountHold hold = holds.get(item.getHoldReference());
+            if (hold == null) {
+                results.add(HoldResponse.builder()
+                        .holdReference(item.getHoldReference())
+                        .failureReason("Hold not found: " + item.getHoldReference())
+                        .build());
+                continue;
+            }
+
+            String failure = validateCapture(hold, item);
+            if (failure != null) {
+                HoldResponse rejected = toResponse(hold);
+                rejected.setFailureReason(failure);
+                results.add(rejected);
+                continue;
+            }
+
+            // A repeated reference is captured once, by its first item
+            if (hold.getStatus() == HoldStatus.ACTIVE && queued.add(hold.getHoldReference())) {
+                toCapture.add(item);
+            }
+            results.add(null);
+        }
+
+        // STEP 2: Capture in account ID order (account rows are locked in one global order)
+        toCapture.sort(Comparator.comparingLong(item -> holds.get(item.getHoldReference()).getAccountId()));
+        LocalDateTime now = LocalDateTime.now();
+        Set<String> touchedAccounts = new HashSet<>();
+        for (CaptureHoldRequest item : toCapture) {
+            AccountHold hold = holds.get(item.getHoldReference());
+            capture(hold, item, now);
+            touchedAccounts.add(hold.getAccountNumber());
+        }
+
+        for (int i = 0; i < results.size(); i++) {
+            if (results.get(i) == null) {
+                results.set(i, toResponse(holds.get(items.get(i).getHoldReference())));
+            }
+        }
+
+        cacheInvalidator.evictAccounts(touchedAccounts);
+        log.info(" Batch capture completed | Captured: {} | Items: {}", toCapture.size(), items.size());
+        return results;
+    }
+
+    /**
+     * Give reserved funds back
+     */
+    public HoldResponse releaseHold(String holdReference) {
+        log.info(" Release hold | Reference: {}", holdReference);
+
+        AccountHold hold = holdRepository.lockByReferences(List.of(holdReference)).stream()
+                .findFirst()
+                .orElseThrow(() -> new InvalidAccountOperationException("Hold not found: " + holdReference));
+
+        if (hold.getStatus() == HoldStatus.CAPTURED) {
+            throw new InvalidAccountOperationException("Hold already captured: " + holdReference);
+        }
+        if (hold.getStatus() != HoldStatus.ACTIVE) {
+            return toResponse(hold);  // released or expired already
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        holdRepository.unreserve(hold.getAccountId(), hold.getAmount(), now);
+        hold.setStatus(HoldStatus.RELEASED);
+        hold.setClosedAt(now);
+        holdRepository.close(hold);
+        expiryService.cancel(hold.getHoldId());
+
+        log.info(" Hold released | Reference: {} | Amount: {}", holdReference, hold.getAmount());
+        return toResponse(hold);
+    }
+
+    @Transactional(readOnly = true)
+    public HoldResponse getHold(String holdReference) {
+        return holdRepository.findByReference(holdReference)
+                .map(this::toResponse)
+                .orElseThrow(() -> new InvalidAccountOperationException("Hold not found: " + holdReference));
+    }
+
+    /**
+     * Balance minus active holds (held_amount is maintained incrementally, no scan)
+     */
+    @Transactional(readOnly = true)
+    public AvailableBalanceResponse getAvailableBalance(String accountNumber) {
+        AccountHoldRepository.HeldBalance held = holdRepository.findHeldBalance(accountNumber)
+                .orElseThrow(() -> new AccountNotFoundException("Account not found: " + accountNumber));
+
+        return AvailableBalanceResponse.builder()
+                .accountNumber(accountNumber)
+                .balance(held.balance())
+                .heldAmount(held.heldAmount())
+                .availableBalance(held.balance().subtract(held.heldAmount()))
+                .build();
+    }
+
+    /**
+     * Why a hold cannot be captured as requested (null if it can, or was already)
+     */
+    private String validateCapture(AccountHold hold, CaptureHoldRequest request) {
+        switch (hold.getStatus()) {
+            case CAPTURED:
+                return null;  // repeated capture: returned as it is
+            case RELEASED:
+            case EXPIRED:
+                return "Hold is " + hold.getStatus() + ": " + hold.getHoldReference();
+            default:
+                break;
+        }
+        if (request.getAmount() != null && request.getAmount().compareTo(hold.getAmount()) > 0) {
+            return String.format("Capture amount %s exceeds hold amount %s", request.getAmount(), hold.getAmount());
+        }
+        return null;
+    }
+
+    /**
+     * Debit a locked ACTIVE hold and close it as CAPTURED
+     */
+    private void capture(AccountHold hold, CaptureHoldRequest request, LocalDateTime now) {
+        BigDecimal amount = request.getAmount() != null ? request.getAmount() : hold.getAmount();
+
+        holdRepository.capture(hold.getAccountId(), amount, hold.getAmount(), now);
+        ledgerRepository.recordEntry(hold.getAccountNumber(), LedgerEntryType.DEBIT, amount,
+                request.getTransactionId(), "Hold capture: " + hold.getHoldReference(), now);
+
+        hold.setStatus(HoldStatus.CAPTURED);
+        hold.setCapturedAmount(amount);
+        hold.setTransactionId(request.getTransactionId());
+        hold.setClosedAt(now);
+        holdRepository.close(hold);
+        expiryService.cancel(hold.getHoldId());
+
+        auditService.logAudit(
+                hold.getAccountNumber(),
+                null,
+                AuditAction.UPDATE_BALANCE,
+                "Hold captured: " + hold.getHoldReference(),
+                null,
+                amount.toString(),
+                null,
+                null
+        );
+    }
+
+    private long ttlSeconds(Long requested) {
+        AppProperties.HoldConfig config = appProperties.getHolds();
+        long ttl = requested != null ? requested : config.getDefaultTtlSeconds();
+        return Math.min(ttl, config.getMaxTtlSeconds());
+    }
+
+    private HoldResponse toResponse(AccountHold hold) {
+        return HoldResponse.builder()
+                .holdReference(hold.getHoldReference())
+                .accountNumber(hold.getAccountNumber())
+                .amount(hold.getAmount())
+                .status(hold.getStatus())
+                .capturedAmount(hold.getCapturedAmount())
+                .transactionId(hold.getTransactionId())
+                .reason(hold.getReason())
+                .createdAt(hold.getCreatedAt())
+                .expiresAt(hold.getExpiresAt())
+                .closedAt(hold.getClosedAt())
+                .build();
+    }
+}
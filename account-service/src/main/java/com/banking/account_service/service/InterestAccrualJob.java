@@ -0,0 +1,333 @@
+package com.banking.account_service.service;
+
+import com.banking.account_service.cache.AccountCacheInvalidator;
+import com.banking.account_service.config.AppProperties;
+import com.banking.account_service.entity.AccountAudit;
+import com.banking.account_service.entity.JobCheckpoint;
+import com.banking.account_service.enums.JobRunStatus;
+import com.banking.account_service.enums.LedgerEntryType;
+import com.banking.account_service.repository.AccountBatchRepository;
+import com.banking.account_service.repository.InterestAccrualRepository;
+import com.banking.account_service.repository.JobCheckpointRepository;
+import com.banking.account_service.repository.LedgerRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Interest Accrual Job
+ *
+ * Daily accrual: every ACTIVE SAVINGS / SALARY account with a positive balance
+ * accrues balance x annual rate / days-in-year, recorded per account and day in
+ * interest_accrual (milli-paise, long arithmetic only).
+ * Quarterly posting: on the first day of a quarter, each account's unposted
+ * accruals are summed, rounded to paise and credited in bulk. A total that rounds
+ * to 0 paise stays unposted and carries into the next quarter.
+ *
+ * - Account IDs are cut into fixed ranges of account.interest.partition-size,
+ *   processed in parallel on a dedicated ForkJoinPool
+ * - Each range commits as one transaction together with its interest_partition
+ *   row, so a restarted run skips exactly the ranges that are done
+ * - One instance at a time, via the job_checkpoint lease; an interrupted run is
+ *   finished before a new one starts
+ * - A night with no run at all is not backfilled (a past day's balance is not
+ *   known here); the gap is logged so it can be accrued manually through run()
+ */
+@Component
+@Slf4j
+public class InterestAccrualJob {
+
+    static final String ACCRUAL_JOB = "interest-accrual";
+    static final String POSTING_JOB = "interest-posting";
+
+    private final InterestAccrualRepository accrualRepository;
+    private final AccountBatchRepository batchRepository;
+    private final JobCheckpointRepository checkpointRepository;
+    private final LedgerRepository ledgerRepository;
+    private final AccountAuditService auditService;
+    private final AccountCacheInvalidator cacheInvalidator;
+    private final TransactionTemplate partitionTransaction;
+    private final AppProperties.InterestConfig config;
+    private final int savingsRateBps;
+    private final int salaryRateBps;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    public InterestAccrualJob(InterestAccrualRepository accrualRepository,
+                              AccountBatchRepository batchRepository,
+                              JobCheckpointRepository checkpointRepository,
+                              LedgerRepository ledgerRepository,
+                              AccountAuditService auditService,
+                              AccountCacheInvalidator cacheInvalidator,
+                              PlatformTransactionManager transactionManager,
+                              AppProperties appProperties) {
+        this.accrualRepository = accrualRepository;
+        this.batchRepository = batchRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.ledgerRepository = ledgerRepository;
+        this.auditService = auditService;
+        this.cacheInvalidator = cacheInvalidator;
+        this.partitionTransaction = new TransactionTemplate(transactionManager);
+        this.config = appProperties.getInterest();
+        this.savingsRateBps = toBasisPoints(appProperties.getSavings().getInterestRate());
+        this.salaryRateBps = toBasisPoints(appProperties.getSalary().getInterestRate());
+    }
+
+    /**
+     * Accrue yesterday's interest (retried through the night; a finished day is a no-op)
+     */
+    @Scheduled(cron = "${account.interest.accrual-cron:0 */15 0-5 * * *}")
+    public void accrueNightly() {
+        if (!config.isEnabled()) {
+            return;
+        }
+
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        checkpointRepository.find(ACCRUAL_JOB)
+                .map(JobCheckpoint::getRunDate)
+                .filter(lastRun -> lastRun.isBefore(yesterday.minusDays(1)))
+                .ifPresent(lastRun -> log.warn(" Interest accrual missed {} - {}: those days are not backfilled",
+                        lastRun.plusDays(1), yesterday.minusDays(1)));
+        run(ACCRUAL_JOB, Phase.ACCRUAL, yesterday);
+    }
+
+    /**
+     * Post the previous quarter's interest, once its last accrual day is complete
+     */
+    @Scheduled(cron = "${account.interest.posting-cron:0 */15 6-9 1 1,4,7,10 *}")
+    public void postQuarterly() {
+        if (!config.isEnabled()) {
+            return;
+        }
+
+        LocalDate today = LocalDate.now();
+        LocalDate quarterStart = today.withMonth(today.getMonth().firstMonthOfQuarter().getValue()).withDayOfMonth(1);
+        JobCheckpoint accrual = checkpointRepository.find(ACCRUAL_JOB).orElse(null);
+        if (accrual == null || accrual.getStatus() != JobRunStatus.COMPLETED
+                || accrual.getRunDate() == null || accrual.getRunDate().isBefore(quarterStart.minusDays(1))) {
+            log.info(" Interest posting waiting for accrual of {}", quarterStart.minusDays(1));
+            return;
+        }
+        run(POSTING_JOB, Phase.POSTING, quarterStart);
+    }
+
+    /**
+     * Run (or finish) a job for runDate: the accrual day, or the quarter start for posting
+     */
+    public void run(String jobName, Phase phase, LocalDate runDate) {
+        LocalDateTime now = LocalDateTime.now();
+        if (!checkpointRepository.acquireLease(jobName, instanceId, now, now.plusSeconds(config.getLeaseSeconds()))) {
+            log.debug(" Interest job {} skipped: lease held by another instance", jobName);
+            return;
+        }
+
+        try {
+            JobCheckpoint checkpoint = checkpointRepository.find(jobName).orElseThrow();
+            if (checkpoint.getStatus() == JobRunStatus.RUNNING && checkpoint.getRunDate() != null
+                    && !checkpoint.getRunDate().equals(runDate)) {
+                log.info(" Interest job {} finishing interrupted run of {}", jobName, checkpoint.getRunDate());
+                if (!runPartitions(jobName, phase, checkpoint.getRunDate())) {
+                    return;
+                }
+            } else if (checkpoint.getStatus() == JobRunStatus.COMPLETED && runDate.equals(checkpoint.getRunDate())) {
+                return;  // already done
+            }
+            runPartitions(jobName, phase, runDate);
+        } finally {
+            checkpointRepository.releaseLease(jobName, instanceId);
+        }
+    }
+
+    /**
+     * Process every ID range not yet done for runDate; returns false if the lease was lost
+     */
+    private boolean runPartitions(String jobName, Phase phase, LocalDate runDate) {
+        long started = System.currentTimeMillis();
+        checkpointRepository.saveProgress(jobName, instanceId, JobRunStatus.RUNNING, runDate, 0, 0, LocalDateTime.now());
+
+        long rows = 0;
+        long[] bounds = accrualRepository.findAccountIdBounds();
+        PartitionRun partitionRun = new PartitionRun(jobName, phase, runDate,
+                accrualRepository.findCompletedPartitions(phase.name(), runDate));
+
+        if (bounds != null) {
+            long size = config.getPartitionSize();
+            ForkJoinPool pool = new ForkJoinPool(config.getParallelism());
+            try {
+                rows = pool.invoke(new PartitionTask(partitionRun, bounds[0] / size, bounds[1] / size + 1));
+            } finally {
+                pool.shutdown();
+            }
+        }
+
+        if (partitionRun.leaseLost.get()) {
+            log.warn(" Interest job {} stopped: lease lost | Run date: {}", jobName, runDate);
+            return false;
+        }
+
+        checkpointRepository.saveProgress(jobName, instanceId, JobRunStatus.COMPLETED, runDate, 0, rows,
+                LocalDateTime.now());
+        log.info(" Interest job {} completed | Run date: {} | Accounts: {} | Took: {} ms",
+                jobName, runDate, rows, System.currentTimeMillis() - started);
+        return true;
+    }
+
+    /**
+     * Accrue one day of interest for one ID range
+     */
+    private int accrue(LocalDate accrualDate, long rangeStart, long rangeEnd) {
+        // milli-paise per day = paise x bps / 10000 / days x 1000 = paise x bps / (days x 10)
+        long divisor = accrualDate.lengthOfYear() * 10L;
+        InterestAccrualRepository.AccrualBatch batch = new InterestAccrualRepository.AccrualBatch();
+
+        accrualRepository.forEachAccrualInput(rangeStart, rangeEnd, (accountId, accountNumber, accountType, balancePaise) -> {
+            int rateBps = "SAVINGS".equals(accountType) ? savingsRateBps : salaryRateBps;
+            if (rateBps <= 0) {
+                return;
+            }
+            long interest = Math.multiplyExact(balancePaise, rateBps) / divisor;
+            if (interest > 0) {
+                batch.add(accountId, accountNumber, balancePaise, rateBps, interest);
+            }
+        });
+
+        accrualRepository.insertAccruals(accrualDate, batch);
+        return batch.size();
+    }
+
+    /**
+     * Credit one ID range's unposted interest accrued before quarterStart
+     */
+    private int post(LocalDate quarterStart, long rangeStart, long rangeEnd) {
+        LocalDateTime now = LocalDateTime.now();
+        String period = quarterStart.minusDays(1).toString();
+        InterestAccrualRepository.PostingBatch batch =
+                accrualRepository.findUnpostedTotals(rangeStart, rangeEnd, quarterStart);
+
+        for (int i = 0; i < batch.size(); i++) {
+            batch.setCreditPaise(i, (batch.totalMilliPaise(i) + 500) / 1000);  // half-up to whole paise
+        }
+        List<Integer> credited = accrualRepository.creditInterest(batch, now);
+
+        List<AccountAudit> audits = new ArrayList<>(credited.size());
+        List<LedgerRepository.Posting> postings = new ArrayList<>(credited.size());
+        List<String> accountNumbers = new ArrayList<>(credited.size());
+        for (int i : credited) {
+            BigDecimal amount = BigDecimal.valueOf(batch.creditPaise(i), 2);
+            audits.add(auditService.interestCreditAudit(batch.accountNumber(i), amount.toString(), period));
+            postings.add(new LedgerRepository.Posting(batch.accountNumber(i), LedgerEntryType.CREDIT, amount,
+                    null, "Interest for period ending " + period));
+            accountNumbers.add(batch.accountNumber(i));
+        }
+
+        ledgerRepository.recordEntries(postings, now);
+        accrualRepository.markPosted(batch, quarterStart, quarterStart);
+        batchRepository.insertAudits(audits);
+        cacheInvalidator.evictAccounts(accountNumbers);
+        return credited.size();
+    }
+
+    private static int toBasisPoints(BigDecimal annualPercent) {
+        return annualPercent == null ? 0 : annualPercent.movePointRight(2).setScale(0, RoundingMode.HALF_UP).intValueExact();
+    }
+
+    public enum Phase {
+        ACCRUAL,
+        POSTING
+    }
+
+    /**
+     * Shared state of one run across the fork-join tasks
+     */
+    private final class PartitionRun {
+        private final String jobName;
+        private final Phase phase;
+        private final LocalDate runDate;
+        private final Set<Long> completed;
+        private final AtomicBoolean leaseLost = new AtomicBoolean();
+
+        private PartitionRun(String jobName, Phase phase, LocalDate runDate, Set<Long> completed) {
+            this.jobName = jobName;
+            this.phase = phase;
+            this.runDate = runDate;
+            this.completed = completed;
+        }
+
+        /**
+         * One ID range in one transaction, then renew the lease (outside it, so
+         * parallel ranges do not serialize on the checkpoint row)
+         */
+        private long process(long partition) {
+            long rangeStart = partition * config.getPartitionSize();
+            long rangeEnd = rangeStart + config.getPartitionSize();
+            if (completed.contains(rangeStart) || leaseLost.get()) {
+                return 0;
+            }
+
+            Integer rows;
+            try {
+                rows = partitionTransaction.execute(status -> {
+                    int count = phase == Phase.ACCRUAL
+                            ? accrue(runDate, rangeStart, rangeEnd)
+                            : post(runDate, rangeStart, rangeEnd);
+                    accrualRepository.markPartitionDone(phase.name(), runDate, rangeStart, rangeEnd,
+                            count, LocalDateTime.now());
+                    return count;
+                });
+            } catch (DuplicateKeyException e) {
+                // Done meanwhile by an instance that took over an expired lease; ours rolled back
+                log.warn(" Interest partition {} [{}, {}) already done for {}", phase, rangeStart, rangeEnd, runDate);
+                return 0;
+            }
+
+            LocalDateTime now = LocalDateTime.now();
+            if (!checkpointRepository.renewLease(jobName, instanceId, now.plusSeconds(config.getLeaseSeconds()))) {
+                leaseLost.set(true);
+            }
+            return rows != null ? rows : 0;
+        }
+    }
+
+    /**
+     * Splits a range of partition indexes in halves until one partition is left
+     */
+    private static final class PartitionTask extends RecursiveTask<Long> {
+        private static final long serialVersionUID = 1L;
+
+        private final transient PartitionRun run;  // tasks only ever run in this pool, never serialized
+        private final long from;
+        private final long to;
+
+        private PartitionTask(PartitionRun run, long from, long to) {
+            this.run = run;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Long compute() {
+            if (to - from == 1) {
+                return run.process(from);
+            }
+            long mid = (from + to) >>> 1;
+            PartitionTask left = new PartitionTask(run, from, mid);
+            left.fork();
+            long right = new PartitionTask(run, mid, to).compute();
+            return right + left.join();
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.banking.account_service.service;
+
+import com.banking.account_service.cache.AccountCacheInvalidator;
+import com.banking.account_service.dto.BalanceAtTimeResponse;
+import com.banking.account_service.dto.LedgerRebuildResponse;
+import com.banking.account_service.entity.LedgerSnapshot;
+import com.banking.account_service.enums.AuditAction;
+import com.banking.account_service.exception.custom.AccountNotFoundException;
+import com.banking.account_service.repository.LedgerRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Ledger Service
+ * Balance history from the append-only ledger:
+ * - Balance at time T: the last snapshot at or before T's entry + the few entries after it
+ * - Rebuild: recompute the current balance from the ledger and repair the stored one
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LedgerService {
+
+    private final LedgerRepository ledgerRepository;
+    private final AccountAuditService auditService;
+    private final AccountCacheInvalidator cacheInvalidator;
+
+    /**
+     * Balance of an account at the given time
+     */
+    @Transactional(readOnly = true)
+    public BalanceAtTimeResponse getBalanceAt(String accountNumber, LocalDateTime at) {
+        LedgerRepository.LedgerHead head = ledgerRepository.findHead(accountNumber)
+                .orElseThrow(() -> new AccountNotFoundException("Account not found: " + accountNumber));
+
+        Long sequence = ledgerRepository.findLastSequenceAt(head.accountId(), at);
+        if (sequence == null) {
+            // Nothing recorded by then: the balance before the first entry (or now, if there is none)
+            BigDecimal opening = head.sequenceNo() == 0
+                    ? head.balance()
+                    : ledgerRepository.findOpeningBalance(head.accountId());
+            return BalanceAtTimeResponse.builder()
+                    .accountNumber(accountNumber)
+                    .at(at)
+                    .balance(opening)
+                    .build();
+        }
+
+        LedgerBalance ledger = replay(head.accountId(), sequence);
+        log.info(" Balance at {} | Account: {} | Sequence: {} | From snapshot: {} | Entries: {}",
+                at, accountNumber, sequence, ledger.snapshotSequenceNo, ledger.entriesReplayed);
+
+        return BalanceAtTimeResponse.builder()
+                .accountNumber(accountNumber)
+                .at(at)
+                .balance(ledger.balance)
+                .sequenceNo(sequence)
+                .snapshotSequenceNo(ledger.snapshotSequenceNo)
+                .entriesReplayed(ledger.entriesReplayed)
+                .build();
+    }
+
+    /**
+     * Recompute the balance from the ledger; replaces the stored balance if they differ
+     * The account row stays locked meanwhile, so no balance change can interleave
+     */
+    @Transactional
+    public LedgerRebuildResponse rebuildBalance(String accountNumber, String performedBy) {
+        LedgerRepository.LedgerHead head = ledgerRepository.lockHead(accountNumber)
+                .orElseThrow(() -> new AccountNotFoundException("Account not found: " + accountNumber));
+
+        BigDecimal ledgerBalance = head.sequenceNo() == 0
+                ? head.balance()  // no entries: nothing to rebuild from
+                : replay(head.accountId(), head.sequenceNo()).balance;
+
+        boolean corrected = ledgerBalance.compareTo(head.balance()) != 0;
+        if (corrected) {
+            ledgerRepository.updateBalance(head.accountId(), ledgerBalance, LocalDateTime.now());
+            auditService.logAudit(
+                    accountNumber,
+                    null,
+                    AuditAction.UPDATE_BALANCE,
+                    "Balance rebuilt from ledger at sequence " + head.sequenceNo(),
+                    head.balance().toString(),
+                    ledgerBalance.toString(),
+                    performedBy,
+                    null
+            );
+            log.warn(" Balance rebuilt from ledger | Account: {} | Stored: {} | Ledger: {}",
+                    accountNumber, head.balance(), ledgerBalance);
+        }
+
+        // Cached copies may predate the incident even if the balance was right
+        cacheInvalidator.evictAccount(accountNumber);
+
+        return LedgerRebuildResponse.builder()
+                .accountNumber(accountNumber)
+                .storedBalance(head.balance())
+                .ledgerBalance(ledgerBalance)
+                .sequenceNo(head.sequenceNo())
+                .corrected(corrected)
+                .build();
+    }
+
+    /**
+     * Balance after entry `sequence`: nearest snapshot + the entries after it
+     */
+    private LedgerBalance replay(long accountId, long sequence) {
+        LedgerSnapshot snapshot = ledgerRepository.findSnapshotAtOrBefore(accountId, sequence).orElse(null);
+        long base = snapshot != null ? snapshot.getSequenceNo() : 0;
+        BigDecimal balance = snapshot != null
+                ? snapshot.getBalance()
+                : ledgerRepository.findOpeningBalance(accountId);
+
+        LedgerRepository.EntryTail tail = ledgerRepository.sumEntries(accountId, base, sequence);
+        return new LedgerBalance(balance.add(tail.net()), base, tail.count());
+    }
+
+    private record LedgerBalance(BigDecimal balance, long snapshotSequenceNo, int entriesReplayed) {
+    }
+}
@@ -0,0 +1,125 @@
+package com.banking.account_service.service;
+
+import com.banking.account_service.config.AppProperties;
+import com.banking.account_service.entity.JobCheckpoint;
+import com.banking.account_service.enums.JobRunStatus;
+import com.banking.account_service.repository.JobCheckpointRepository;
+import com.banking.account_service.repository.LedgerRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Ledger Snapshot Job
+ * Nightly: every account that is snapshot-min-entries or more past its latest
+ * snapshot gets a new one (previous snapshot + entries since), so a
+ * balance-at-time query never replays more than about that many entries.
+ *
+ * - Walks account IDs in ranges of snapshot-range-size; each range (snapshot
+ *   inserts + checkpoint) commits as one transaction
+ * - Resumable and single-instance through job_checkpoint, like the dormancy job
+ */
+@Component
+@Slf4j
+public class LedgerSnapshotJob {
+
+    static final String JOB_NAME = "ledger-snapshot";
+
+    private final LedgerRepository ledgerRepository;
+    private final JobCheckpointRepository checkpointRepository;
+    private final TransactionTemplate rangeTransaction;
+    private final AppProperties.LedgerConfig config;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    public LedgerSnapshotJob(LedgerRepository ledgerRepository,
+                             JobCheckpointRepository checkpointRepository,
+                             PlatformTransactionManager transactionManager,
+                             AppProperties appProperties) {
+        this.ledgerRepository = ledgerRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.rangeTransaction = new TransactionTemplate(transactionManager);
+        this.config = appProperties.getLedger();
+    }
+
+    @Scheduled(cron = "${account.ledger.snapshot-cron:0 */15 2-5 * * *}")
+    public void runNightly() {
+        if (config.isSnapshotEnabled()) {
+            run(LocalDate.now());
+        }
+    }
+
+    /**
+     * Run (or resume) the snapshot pass for the given day
+     */
+    public void run(LocalDate today) {
+        LocalDateTime now = LocalDateTime.now();
+        if (!checkpointRepository.acquireLease(JOB_NAME, instanceId, now, now.plusSeconds(config.getLeaseSeconds()))) {
+            log.debug(" Ledger snapshot job skipped: lease held by another instance");
+            return;
+        }
+
+        try {
+            JobCheckpoint checkpoint = checkpointRepository.find(JOB_NAME).orElseThrow();
+            LocalDate runDate;
+            long nextId;
+            long snapshots;
+
+            if (checkpoint.getStatus() == JobRunStatus.RUNNING && checkpoint.getRunDate() != null) {
+                runDate = checkpoint.getRunDate();
+                nextId = checkpoint.getLastId();
+                snapshots = checkpoint.getProcessedCount();
+                log.info(" Ledger snapshot job resuming | Run date: {} | From account ID: {}", runDate, nextId);
+            } else if (today.equals(checkpoint.getRunDate())) {
+                return;  // already completed today
+            } else {
+                runDate = today;
+                nextId = 0;
+                snapshots = 0;
+            }
+
+            long maxId = ledgerRepository.findMaxAccountId();
+            boolean last;
+            do {
+                long rangeStart = nextId;
+                long rangeEnd = rangeStart + config.getSnapshotRangeSize();
+                long snapshotsBefore = snapshots;
+                last = rangeEnd > maxId;
+
+                boolean finalRange = last;
+                Integer taken = rangeTransaction.execute(status -> {
+                    LocalDateTime rangeNow = LocalDateTime.now();
+                    if (!checkpointRepository.renewLease(JOB_NAME, instanceId,
+                            rangeNow.plusSeconds(config.getLeaseSeconds()))) {
+                        return null;
+                    }
+                    int count = ledgerRepository.takeSnapshots(rangeStart, rangeEnd,
+                            config.getSnapshotMinEntries(), rangeNow);
+                    if (!checkpointRepository.saveProgress(JOB_NAME, instanceId,
+                            finalRange ? JobRunStatus.COMPLETED : JobRunStatus.RUNNING,
+                            runDate, rangeEnd, snapshotsBefore + count, rangeNow)) {
+                        status.setRollbackOnly();
+                        return null;
+                    }
+                    return count;
+                });
+                if (taken == null) {
+                    log.warn(" Ledger snapshot job stopped: lease lost | From account ID: {}", rangeStart);
+                    return;
+                }
+
+                nextId = rangeEnd;
+                snapshots += taken;
+            } while (!last);
+
+            log.info(" Ledger snapshot job completed | Run date: {} | Snapshots: {}", runDate, snapshots);
+        } finally {
+            checkpointRepository.releaseLease(JOB_NAME, instanceId);
+        }
+    }
+}
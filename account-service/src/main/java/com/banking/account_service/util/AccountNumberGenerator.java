@@ -1,61 +1,103 @@
 package com.banking.account_service.util;
 
-import lombok.RequiredArgsConstructor;
+import com.banking.account_service.config.AppProperties;
+import com.banking.account_service.repository.AccountNumberSequenceRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.security.SecureRandom;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Account Number Generator
  *
  * Real Banking Standard: 14-digit account number
- * Format: YYYYMMDD + 6 random digits
- * Example: 20251101123456
+ * Format: 1 (series) + 12-digit serial + Luhn check digit
+ * Example: 10000000123453
  *
- * Used by: SBI, HDFC, ICICI
+ * - Serials come from blocks reserved in account_number_sequence (one short
+ *   DB transaction per block), then are handed out from memory with one CAS each
+ * - Unique by construction: no existence query, no retries
+ * - Older date-based numbers (YYYYMMDD + 6 random digits) start with '2',
+ *   so the '1' series can never collide with them
+ * - Serials left in a block when an instance stops are skipped, not reused
  */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class AccountNumberGenerator {
 
-    private static final SecureRandom RANDOM = new SecureRandom();
-    private static final int RANDOM_DIGITS_LENGTH = 6;
+    private static final String SEQUENCE_NAME = "account_number";
+    private static final char SERIES = '1';
+    private static final int SERIAL_DIGITS = 12;
+    private static final long MAX_SERIAL = 999_999_999_999L;
+    private static final int ACCOUNT_NUMBER_LENGTH = 1 + SERIAL_DIGITS + 1;
+
+    private final AccountNumberSequenceRepository sequenceRepository;
+    private final TransactionTemplate blockTransaction;
+    private final int blockSize;
+    private final ReentrantLock refillLock = new ReentrantLock();
+
+    private volatile Block block = new Block(0, 0);
+
+    public AccountNumberGenerator(AccountNumberSequenceRepository sequenceRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  AppProperties appProperties) {
+        this.sequenceRepository = sequenceRepository;
+        this.blockTransaction = new TransactionTemplate(transactionManager);
+        this.blockTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.blockSize = appProperties.getNumber().getBlockSize();
+    }
 
     /**
      * Generate 14-digit account number
-     * Format: YYYYMMDD (8) + Random (6) = 14 digits
+     * Format: Series (1) + Serial (12) + Check digit (1) = 14 digits
      */
     public String generateAccountNumber() {
-        // Get current date: YYYYMMDD (8 digits)
-        String datePart = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-
-        // Generate 6 random digits
-        StringBuilder randomPart = new StringBuilder();
-        for (int i = 0; i < RANDOM_DIGITS_LENGTH; i++) {
-            randomPart.append(RANDOM.nextInt(10));
+        long serial = nextSerial();
+        if (serial > MAX_SERIAL) {
+            throw new IllegalStateException("Account number series exhausted");
         }
 
-        String accountNumber = datePart + randomPart.toString();
+        char[] digits = new char[ACCOUNT_NUMBER_LENGTH];
+        digits[0] = SERIES;
+        long remaining = serial;
+        for (int i = SERIAL_DIGITS; i >= 1; i--) {
+            digits[i] = (char) ('0' + remaining % 10);
+            remaining /= 10;
+        }
+        digits[ACCOUNT_NUMBER_LENGTH - 1] = (char) ('0' + luhnCheckDigit(digits, ACCOUNT_NUMBER_LENGTH - 1));
 
+        String accountNumber = new String(digits);
         log.debug("Generated account number: {}", accountNumber);
         return accountNumber;
     }
 
     /**
      * Validate account number format
+     * Numbers of the current series must also carry a valid Luhn check digit
      */
     public boolean isValidAccountNumber(String accountNumber) {
-        return accountNumber != null &&
-                accountNumber.matches("\\d{14}");
+        if (accountNumber == null || !accountNumber.matches("\\d{14}")) {
+            return false;
+        }
+        return accountNumber.charAt(0) != SERIES || hasValidCheckDigit(accountNumber);
+    }
+
+    /**
+     * Luhn check over the whole number (last digit = check digit)
+     */
+    public static boolean hasValidCheckDigit(String accountNumber) {
+        char[] digits = accountNumber.toCharArray();
+        int last = digits.length - 1;
+        return digits[last] - '0' == luhnCheckDigit(digits, last);
     }
 
     /**
      * Format account number for display
-     * Example: 20251101123456 -> 2025-1101-123456
+     * Example: 10000000123453 -> 1000-0000-123453
      */
     public String formatAccountNumber(String accountNumber) {
         if (!isValidAccountNumber(accountNumber)) {
@@ -65,5 +107,57 @@ public class AccountNumberGenerator {
                 accountNumber.substring(4, 8) + "-" +
                 accountNumber.substring(8);
     }
-}
 
+    private long nextSerial() {
+        while (true) {
+            Block current = block;
+            long serial = current.next.getAndIncrement();
+            if (serial < current.end) {
+                return serial;
+            }
+            refill(current);
+        }
+    }
+
+    private void refill(Block exhausted) {
+        refillLock.lock();
+        try {
+            if (block != exhausted) {
+                return;  // another thread already reserved a new block
+            }
+            Long start = blockTransaction.execute(status -> sequenceRepository.reserveBlock(SEQUENCE_NAME, blockSize));
+            block = new Block(start, start + blockSize);
+            log.info(" Reserved account number block | Serials: {} - {}", start, start + blockSize - 1);
+        } finally {
+            refillLock.unlock();
+        }
+    }
+
+    // Check digit for digits[0, length): double every second digit, starting from the rightmost
+    private static int luhnCheckDigit(char[] digits, int length) {
+        int sum = 0;
+        boolean doubleIt = true;
+        for (int i = length - 1; i >= 0; i--) {
+            int digit = digits[i] - '0';
+            if (doubleIt) {
+                digit *= 2;
+                if (digit > 9) {
+                    digit -= 9;
+                }
+            }
+            sum += digit;
+            doubleIt = !doubleIt;
+        }
+        return (10 - sum % 10) % 10;
+    }
+
+    private static final class Block {
+        private final AtomicLong next;
+        private final long end;
+
+        private Block(long start, long end) {
+            this.next = new AtomicLong(start);
+            this.end = end;
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.banking.account_service.util;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+/**
+ * Hashed Timer Wheel
+ * Fires IDs at (or shortly after) their deadline without scanning or sorting:
+ * - `size` slots of `tickMillis` each; a deadline lands in slot (tick % size)
+ *   with the number of full revolutions still to wait
+ * - schedule/cancel are O(1) from any thread; one worker thread advances the
+ *   wheel each tick and hands the IDs that are due to the callback
+ * - Precision is one tick; nothing fires early
+ */
+@Slf4j
+public final class TimerWheel {
+
+    private final long tickMillis;
+    private final int mask;
+    private final List<List<Timeout>> slots;
+    private final Queue<Timeout> pending = new ConcurrentLinkedQueue<>();
+    private final Map<Long, Timeout> timeouts = new ConcurrentHashMap<>();
+    private final Consumer<List<Long>> onExpired;
+    private final String threadName;
+
+    private volatile boolean running;
+    private Thread worker;
+    private long startMillis;
+    private long tick;
+
+    public TimerWheel(String threadName, long tickMillis, int size, Consumer<List<Long>> onExpired) {
+        if (Integer.bitCount(size) != 1) {
+            throw new IllegalArgumentException("Timer wheel size must be a power of two: " + size);
+        }
+        this.threadName = threadName;
+        this.tickMillis = tickMillis;
+        this.mask = size - 1;
+        this.slots = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            slots.add(new ArrayList<>());
+        }
+        this.onExpired = onExpired;
+    }
+
+    /**
+     * Fire `id` at deadlineMillis (epoch); replaces an earlier schedule of the same ID
+     */
+    public void schedule(long id, long deadlineMillis) {
+        Timeout timeout = new Timeout(id, deadlineMillis);
+        Timeout previous = timeouts.put(id, timeout);
+        if (previous != null) {
+            previous.cancelled = true;
+        }
+        pending.add(timeout);
+    }
+
+    public void cancel(long id) {
+        Timeout timeout = timeouts.remove(id);
+        if (timeout != null) {
+            timeout.cancelled = true;
+        }
+    }
+
+    public int size() {
+        return timeouts.size();
+    }
+
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        startMillis = System.currentTimeMillis();
+        tick = 0;
+        worker = new Thread(this::run, threadName);
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    public synchronized void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+            try {
+                worker.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void run() {
+        while (running) {
+            long sleepMillis = startMillis + (tick + 1) * tickMillis - System.currentTimeMillis();
+            if (sleepMillis > 0) {
+                try {
+                    Thread.sleep(sleepMillis);
+                } catch (InterruptedException e) {
+                    continue;  // stop() clears running
+                }
+            }
+
+            transferPending();
+            List<Long> expired = expireSlot(slots.get((int) (tick & mask)));
+            tick++;
+
+            if (!expired.isEmpty()) {
+                try {
+                    onExpired.accept(expired);
+                } catch (RuntimeException e) {
+                    log.error(" Timer wheel callback failed | Thread: {} | IDs: {} | Error: {}",
+                            threadName, expired.size(), e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Place newly scheduled timeouts into their slots (worker thread only)
+     */
+    private void transferPending() {
+        Timeout timeout;
+        while ((timeout = pending.poll()) != null) {
+            if (timeout.cancelled) {
+                continue;
+            }
+            // Deadlines already past go into the slot processed right now
+            long deadlineTick = Math.max((timeout.deadlineMillis - startMillis) / tickMillis, tick);
+            timeout.rounds = (deadlineTick - tick) / slots.size();
+            slots.get((int) (deadlineTick & mask)).add(timeout);
+        }
+    }
+
+    /**
+     * Collect the due timeouts of a slot and age the rest by one revolution (worker thread only)
+     */
+    private List<Long> expireSlot(List<Timeout> slot) {
+        List<Long> expired = new ArrayList<>();
+        int kept = 0;
+        for (Timeout timeout : slot) {
+            if (timeout.cancelled) {
+                continue;
+            }
+            if (timeout.rounds <= 0) {
+                if (timeouts.remove(timeout.id, timeout)) {
+                    expired.add(timeout.id);
+                }
+                continue;
+            }
+            timeout.rounds--;
+            slot.set(kept++, timeout);
+        }
+        slot.subList(kept, slot.size()).clear();
+        return expired;
+    }
+
+    private static final class Timeout {
+        private final long id;
+        private final long deadlineMillis;
+        private long rounds;
+        private volatile boolean cancelled;
+
+        private Timeout(long id, long deadlineMillis) {
+            this.id = id;
+            this.deadlineMillis = deadlineMillis;
+        }
+    }
+}
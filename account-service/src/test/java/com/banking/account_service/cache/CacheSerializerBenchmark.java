@@ -0,0 +1,95 @@
+package com.banking.account_service.cache;
+
+import com.banking.account_service.dto.AccountResponse;
+import com.banking.account_service.enums.AccountStatus;
+import com.banking.account_service.enums.AccountType;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Size and speed of CompactCacheSerializer vs the JSON serializer, on typical cache values.
+ * Standalone (no Spring context, no Redis), after mvn test-compile:
+ *
+ *   java -cp target/test-classes:target/classes:$(mvn -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout) \
+ *        com.banking.account_service.cache.CacheSerializerBenchmark [iterations]
+ */
+public final class CacheSerializerBenchmark {
+
+    // Keeps the JIT from discarding the measured work
+    private static volatile long sink;
+
+    private CacheSerializerBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+        RedisSerializer<Object> json = new GenericJackson2JsonRedisSerializer();
+        RedisSerializer<Object> compact = new CompactCacheSerializer();
+
+        List<AccountResponse> userAccounts = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            userAccounts.add(sampleAccount(i));
+        }
+        Map<String, Object> samples = new LinkedHashMap<>();
+        samples.put("accounts (AccountResponse)", sampleAccount(0));
+        samples.put("user-accounts (5 x AccountResponse)", userAccounts);
+        samples.put("balance (BigDecimal)", new BigDecimal("125430.75"));
+
+        System.out.printf("%-36s %-8s %8s %12s %12s%n", "value", "format", "bytes", "ser ns/op", "deser ns/op");
+        samples.forEach((name, value) -> {
+            run(name, "json", json, value, iterations);
+            run(name, "compact", compact, value, iterations);
+        });
+    }
+
+    private static void run(String name, String format, RedisSerializer<Object> serializer,
+                            Object value, int iterations) {
+        byte[] bytes = serializer.serialize(value);
+        if (!value.equals(serializer.deserialize(bytes))) {
+            throw new IllegalStateException(format + " did not round-trip " + name);
+        }
+
+        for (int i = 0; i < iterations / 4; i++) {  // warm-up
+            sink += serializer.serialize(value).length;
+            sink += serializer.deserialize(bytes) != null ? 1 : 0;
+        }
+
+        long started = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            sink += serializer.serialize(value).length;
+        }
+        long serializeNs = (System.nanoTime() - started) / iterations;
+
+        started = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            sink += serializer.deserialize(bytes) != null ? 1 : 0;
+        }
+        long deserializeNs = (System.nanoTime() - started) / iterations;
+
+        System.out.printf("%-36s %-8s %8d %12d %12d%n", name, format, bytes.length,
+                serializeNs, deserializeNs);
+    }
+
+    private static AccountResponse sampleAccount(int i) {
+        return AccountResponse.builder()
+                .accountId(100_000L + i)
+                .accountNumber("1234567890123" + i)
+                .internalUserId("USR20260101000" + i)
+                .accountType(i % 2 == 0 ? AccountType.SAVINGS : AccountType.CURRENT)
+                .balance(new BigDecimal("125430.75"))
+                .status(AccountStatus.ACTIVE)
+                .ifscCode("BNKL0001234")
+                .branchCode("001234")
+                .branchName("Connaught Place, New Delhi")
+                .currency("INR")
+                .createdDate("2026-01-15T10:32:11.482")
+                .lastTransactionDate("2026-10-16T18:04:55.120")
+                .build();
+    }
+}
@@ -0,0 +1,125 @@
+package com.banking.account_service.cache;
+
+import com.banking.account_service.dto.AccountResponse;
+import com.banking.account_service.enums.AccountStatus;
+import com.banking.account_service.enums.AccountType;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompactCodecTest {
+
+    private final CompactCacheSerializer serializer = new CompactCacheSerializer();
+
+    @Test
+    void primitivesRoundTrip() {
+        BigDecimal huge = new BigDecimal("123456789012345678901234567890.1234");
+        LocalDateTime time = LocalDateTime.of(2026, 10, 16, 14, 30, 5, 123_456_789);
+
+        CompactCodec.Writer out = new CompactCodec.Writer();
+        out.writeVarLong(0);
+        out.writeVarLong(300);
+        out.writeSignedVarLong(-1);
+        out.writeSignedVarLong(Long.MIN_VALUE);
+        out.writeLong(Long.MAX_VALUE);
+        out.writeInteger(-42);
+        out.writeDouble(-0.125);
+        out.writeBoolean(true);
+        out.writeString("Pune — शाखा");
+        out.writeEnum(AccountType.SALARY);
+        out.writeBigDecimal(new BigDecimal("-125430.75"));
+        out.writeBigDecimal(huge);
+        out.writeLocalDate(LocalDate.of(1969, 12, 31));
+        out.writeLocalDateTime(time);
+
+        CompactCodec.Reader in = new CompactCodec.Reader(out.toByteArray(), 0);
+        assertEquals(0L, in.readVarLong());
+        assertEquals(300L, in.readVarLong());
+        assertEquals(-1L, in.readSignedVarLong());
+        assertEquals(Long.MIN_VALUE, in.readSignedVarLong());
+        assertEquals(Long.MAX_VALUE, in.readLong());
+        assertEquals(-42, in.readInteger());
+        assertEquals(-0.125, in.readDouble());
+        assertTrue(in.readBoolean());
+        assertEquals("Pune — शाखा", in.readString());
+        assertEquals(AccountType.SALARY, in.readEnum(AccountType.class));
+        assertEquals(new BigDecimal("-125430.75"), in.readBigDecimal());
+        assertEquals(huge, in.readBigDecimal());
+        assertEquals(LocalDate.of(1969, 12, 31), in.readLocalDate());
+        assertEquals(time, in.readLocalDateTime());
+        assertThrows(IllegalArgumentException.class, in::readByte);
+    }
+
+    @Test
+    void nullFieldsAreSkippedAndFlaggedAbsent() {
+        long presence = CompactCodec.presence("a", null, 1L, null);
+        assertTrue(CompactCodec.has(presence, 0));
+        assertFalse(CompactCodec.has(presence, 1));
+        assertTrue(CompactCodec.has(presence, 2));
+        assertFalse(CompactCodec.has(presence, 3));
+
+        CompactCodec.Writer out = new CompactCodec.Writer();
+        out.writeString(null);
+        out.writeLong(null);
+        out.writeBigDecimal(null);
+        out.writeLocalDateTime(null);
+        assertEquals(0, out.toByteArray().length);
+    }
+
+    @Test
+    void accountRoundTripsWithAndWithoutNullFields() {
+        AccountResponse full = account();
+        AccountResponse sparse = AccountResponse.builder()
+                .accountNumber("10000000123453")
+                .balance(BigDecimal.ZERO)
+                .build();
+
+        assertEquals(full, serializer.deserialize(serializer.serialize(full)));
+        assertEquals(sparse, serializer.deserialize(serializer.serialize(sparse)));
+        assertEquals(List.of(full, sparse), serializer.deserialize(serializer.serialize(List.of(full, sparse))));
+        assertEquals(new BigDecimal("125430.75"), serializer.deserialize(serializer.serialize(new BigDecimal("125430.75"))));
+    }
+
+    @Test
+    void unknownVersionReadsAsMiss() {
+        byte[] bytes = serializer.serialize(account());
+        bytes[1] = 99;  // [type tag][schema version][payload]
+
+        assertNull(serializer.deserialize(bytes));
+    }
+
+    @Test
+    void truncatedValueReadsAsMiss() {
+        byte[] bytes = serializer.serialize(account());
+        byte[] truncated = Arrays.copyOf(bytes, bytes.length - 3);
+
+        assertNull(serializer.deserialize(truncated));
+    }
+
+    private static AccountResponse account() {
+        return AccountResponse.builder()
+                .accountId(42L)
+                .accountNumber("10000000123453")
+                .internalUserId("USR-7")
+                .accountType(AccountType.SAVINGS)
+                .balance(new BigDecimal("125430.75"))
+                .status(AccountStatus.ACTIVE)
+                .ifscCode("BANK0001234")
+                .branchCode("001234")
+                .branchName("Main Branch")
+                .currency("INR")
+                .createdDate("2026-01-15T10:00:00")
+                .lastTransactionDate("2026-10-16T14:30:05")
+                .build();
+    }
+}
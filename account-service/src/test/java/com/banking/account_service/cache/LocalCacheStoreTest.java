@@ -0,0 +1,74 @@
+package com.banking.account_service.cache;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LocalCacheStoreTest {
+
+    private final LocalCacheStore store = new LocalCacheStore(100, 60);
+
+    @Test
+    void readEvictedMeanwhileIsNotStored() {
+        LocalCacheStore.ReadTicket ticket = store.beginRead("ACC1");
+        store.evict("ACC1");
+        store.putIfCurrent("ACC1", new SimpleValueWrapper("stale"), ticket);
+        store.endRead(ticket);
+
+        assertFalse(ticket.isCurrent());
+        assertNull(store.get("ACC1"));
+    }
+
+    @Test
+    void evictingOneKeyLeavesOtherReadsCurrent() {
+        LocalCacheStore.ReadTicket evicted = store.beginRead("ACC1");
+        LocalCacheStore.ReadTicket other = store.beginRead("ACC2");
+        store.evict("ACC1");
+
+        store.putIfCurrent("ACC2", new SimpleValueWrapper("fresh"), other);
+
+        assertFalse(evicted.isCurrent());
+        assertTrue(other.isCurrent());
+        assertEquals("fresh", store.get("ACC2").get());
+    }
+
+    @Test
+    void readStartedAfterEvictionGetsFreshTicket() {
+        LocalCacheStore.ReadTicket before = store.beginRead("ACC1");
+        store.evict("ACC1");
+        LocalCacheStore.ReadTicket after = store.beginRead("ACC1");
+
+        store.putIfCurrent("ACC1", new SimpleValueWrapper("fresh"), after);
+
+        assertFalse(before.isCurrent());
+        assertTrue(after.isCurrent());
+        assertEquals("fresh", store.get("ACC1").get());
+    }
+
+    @Test
+    void clearInvalidatesEveryInFlightRead() {
+        LocalCacheStore.ReadTicket first = store.beginRead("ACC1");
+        LocalCacheStore.ReadTicket second = store.beginRead("ACC2");
+        store.clear();
+
+        assertFalse(first.isCurrent());
+        assertFalse(second.isCurrent());
+    }
+
+    @Test
+    void leastRecentlyUsedEntryGoesFirst() {
+        LocalCacheStore small = new LocalCacheStore(2, 60);
+        small.put("ACC1", new SimpleValueWrapper(1));
+        small.put("ACC2", new SimpleValueWrapper(2));
+        small.get("ACC1");
+        small.put("ACC3", new SimpleValueWrapper(3));
+
+        assertEquals(2, small.size());
+        assertNull(small.get("ACC2"));
+        assertEquals(1, small.get("ACC1").get());
+    }
+}
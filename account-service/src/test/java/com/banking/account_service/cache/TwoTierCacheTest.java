@@ -0,0 +1,118 @@
+package com.banking.account_service.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TwoTierCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    private final CacheInvalidationPublisher publisher = new CacheInvalidationPublisher(null, "test", "test") {
+        @Override
+        void publishEvict(String cacheName, String key) {
+        }
+
+        @Override
+        void publishClear(String cacheName) {
+        }
+    };
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void evictDuringWriteBackDoesNotLeaveLoadedValueInRedis() {
+        Runnable[] beforePut = new Runnable[1];
+        Cache redis = new ConcurrentMapCache("accounts") {
+            @Override
+            public void put(Object key, Object value) {
+                Runnable hook = beforePut[0];
+                beforePut[0] = null;
+                if (hook != null) {
+                    hook.run();
+                }
+                super.put(key, value);
+            }
+        };
+        TwoTierCache cache = newCache(redis);
+        beforePut[0] = () -> cache.evict("ACC1");  // lands after the ticket check, before the write
+
+        assertEquals("old", cache.get("ACC1", () -> "old"));
+
+        assertNull(redis.get("ACC1"));
+        assertNull(cache.get("ACC1"));
+    }
+
+    @Test
+    void loadStartedBeforeEvictionIsNotJoined() throws Exception {
+        Cache redis = new ConcurrentMapCache("accounts");
+        TwoTierCache cache = newCache(redis);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> stale = executor.submit(() -> cache.get("ACC1", () -> {
+            loading.countDown();
+            release.await();
+            return "stale";
+        }));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+        cache.evict("ACC1");
+
+        Future<String> fresh = executor.submit(() -> cache.get("ACC1", () -> "fresh"));
+        assertEquals("fresh", fresh.get(5, TimeUnit.SECONDS));
+
+        release.countDown();
+        assertEquals("stale", stale.get(5, TimeUnit.SECONDS));
+        assertEquals("fresh", redis.get("ACC1").get());
+        assertEquals("fresh", cache.get("ACC1").get());
+    }
+
+    @Test
+    void concurrentMissesShareOneLoad() throws Exception {
+        TwoTierCache cache = newCache(new ConcurrentMapCache("accounts"));
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> first = executor.submit(() -> cache.get("ACC1", () -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            release.await();
+            return "value";
+        }));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+        Future<String> second = executor.submit(() -> cache.get("ACC1", () -> {
+            loads.incrementAndGet();
+            return "other";
+        }));
+        while (meterRegistry.counter("account.cache.loads.coalesced", "cache", "accounts").count() < 1) {
+            Thread.sleep(5);
+        }
+
+        release.countDown();
+        assertEquals("value", first.get(5, TimeUnit.SECONDS));
+        assertEquals("value", second.get(5, TimeUnit.SECONDS));
+        assertEquals(1, loads.get());
+    }
+
+    private TwoTierCache newCache(Cache redis) {
+        return new TwoTierCache("accounts", new LocalCacheStore(100, 60), redis, null, publisher, meterRegistry);
+    }
+}
@@ -0,0 +1,59 @@
+package com.banking.account_service.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.repository.Query;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AccountRepositoryTest {
+
+    private static final Pattern BALANCE_UPDATE = Pattern.compile("UPDATE accounts SET .*\\bbalance = balance [-+]");
+
+    /**
+     * Ledger entries take their sequence number from accounts.ledger_sequence, so every
+     * statement that moves a balance must bump it, or two entries would share a number
+     */
+    @Test
+    void everyBalanceUpdateBumpsLedgerSequence() {
+        List<String> balanceUpdates = new ArrayList<>();
+        for (Method method : AccountRepository.class.getDeclaredMethods()) {
+            Query query = method.getAnnotation(Query.class);
+            if (query != null && BALANCE_UPDATE.matcher(query.value()).find()) {
+                balanceUpdates.add(method.getName());
+                assertTrue(query.value().contains("ledger_sequence = ledger_sequence + 1"),
+                        method.getName() + " changes the balance without bumping ledger_sequence");
+            }
+        }
+        assertEquals(4, balanceUpdates.size(), "balance updates found: " + balanceUpdates);
+    }
+
+    /**
+     * Debits are guarded in SQL: the WHERE clause must check status and the available balance
+     */
+    @Test
+    void debitsAreGuarded() throws Exception {
+        for (String name : List.of("debitIfAllowed", "debitForBulkPayout")) {
+            String sql = queryOf(name);
+            assertTrue(sql.contains("status = 'ACTIVE'"), name + " does not require an ACTIVE account");
+            assertTrue(sql.contains("balance - held_amount"), name + " does not check the available balance");
+        }
+        assertFalse(queryOf("refundBulkPayout").contains("status = 'ACTIVE'"),
+                "a refund must go through even if the account was frozen meanwhile");
+    }
+
+    private static String queryOf(String methodName) {
+        for (Method method : AccountRepository.class.getDeclaredMethods()) {
+            if (method.getName().equals(methodName)) {
+                return method.getAnnotation(Query.class).value();
+            }
+        }
+        throw new IllegalArgumentException(methodName);
+    }
+}
@@ -0,0 +1,112 @@
+package com.banking.account_service.service;
+
+import com.banking.account_service.cache.AccountCacheInvalidator;
+import com.banking.account_service.cache.TwoTierCacheManager;
+import com.banking.account_service.config.AppProperties;
+import com.banking.account_service.dto.BalanceUpdateRequest;
+import com.banking.account_service.entity.Account;
+import com.banking.account_service.enums.LedgerEntryType;
+import com.banking.account_service.exception.custom.InsufficientBalanceException;
+import com.banking.account_service.exception.custom.InvalidAccountOperationException;
+import com.banking.account_service.feign.UserServiceClient;
+import com.banking.account_service.kafka.AccountEventProducer;
+import com.banking.account_service.repository.AccountBatchRepository;
+import com.banking.account_service.repository.AccountRepository;
+import com.banking.account_service.repository.LedgerRepository;
+import com.banking.account_service.util.AccountMapper;
+import com.banking.account_service.util.AccountNumberGenerator;
+import com.banking.account_service.util.IFSCCodeGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AccountServiceImplTest {
+
+    private static final String ACCOUNT = "10000000123453";
+    private static final BigDecimal AMOUNT = new BigDecimal("100.00");
+
+    private final AccountRepository accountRepository = mock(AccountRepository.class);
+    private final AccountValidationService validationService = mock(AccountValidationService.class);
+    private final LedgerRepository ledgerRepository = mock(LedgerRepository.class);
+    private final AppProperties appProperties = new AppProperties();
+
+    private final AccountServiceImpl accountService = new AccountServiceImpl(accountRepository,
+            mock(UserServiceClient.class), mock(AccountNumberGenerator.class), mock(IFSCCodeGenerator.class),
+            mock(AccountMapper.class), validationService, mock(AccountAuditService.class), appProperties,
+            mock(AccountBatchRepository.class), mock(AccountCacheInvalidator.class),
+            mock(TwoTierCacheManager.class), mock(AccountEventProducer.class), ledgerRepository);
+
+    @Test
+    void appliedBalanceChangeAppendsOneLedgerEntry() {
+        when(accountRepository.creditIfAllowed(eq(ACCOUNT), eq(AMOUNT), any(), eq(appProperties))).thenReturn(1);
+        when(accountRepository.findByAccountNumber(ACCOUNT)).thenReturn(Optional.of(account("1100.00")));
+
+        accountService.updateBalance(request("CREDIT"));
+
+        verify(ledgerRepository).recordEntry(eq(ACCOUNT), eq(LedgerEntryType.CREDIT), eq(AMOUNT),
+                eq("TXN1"), eq("Deposit"), any());
+    }
+
+    @Test
+    void balanceChangeIsOneGuardedUpdateWithoutEntitySave() {
+        when(accountRepository.debitIfAllowed(eq(ACCOUNT), eq(AMOUNT), any(), eq(appProperties))).thenReturn(1);
+        when(accountRepository.findByAccountNumber(ACCOUNT)).thenReturn(Optional.of(account("900.00")));
+
+        accountService.updateBalance(request("DEBIT"));
+
+        verify(accountRepository).debitIfAllowed(eq(ACCOUNT), eq(AMOUNT), any(), eq(appProperties));
+        verify(accountRepository, never()).save(any());
+        verify(validationService, never()).validateBalanceOperation(any(), any(), anyString());
+    }
+
+    @Test
+    void rejectedGuardedUpdateAppendsNoLedgerEntry() {
+        when(accountRepository.debitIfAllowed(eq(ACCOUNT), eq(AMOUNT), any(), eq(appProperties))).thenReturn(0);
+        Account account = account("50.00");
+        when(accountRepository.findByAccountNumber(ACCOUNT)).thenReturn(Optional.of(account));
+        doThrow(new InsufficientBalanceException("Insufficient balance"))
+                .when(validationService).validateBalanceOperation(account, AMOUNT, "DEBIT");
+
+        assertThrows(InsufficientBalanceException.class, () -> accountService.updateBalance(request("DEBIT")));
+
+        verify(ledgerRepository, never()).recordEntry(anyString(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void updateRejectedByConcurrentChangeAppendsNoLedgerEntry() {
+        when(accountRepository.debitIfAllowed(eq(ACCOUNT), eq(AMOUNT), any(), eq(appProperties))).thenReturn(0);
+        when(accountRepository.findByAccountNumber(ACCOUNT)).thenReturn(Optional.of(account("5000.00")));
+
+        assertThrows(InvalidAccountOperationException.class, () -> accountService.updateBalance(request("DEBIT")));
+
+        verify(ledgerRepository, never()).recordEntry(anyString(), any(), any(), any(), any(), any());
+    }
+
+    private static BalanceUpdateRequest request(String operation) {
+        return BalanceUpdateRequest.builder()
+                .accountNumber(ACCOUNT)
+                .amount(AMOUNT)
+                .operation(operation)
+                .transactionId("TXN1")
+                .remarks("Deposit")
+                .build();
+    }
+
+    private static Account account(String balance) {
+        Account account = new Account();
+        account.setAccountNumber(ACCOUNT);
+        account.setBalance(new BigDecimal(balance));
+        return account;
+    }
+}
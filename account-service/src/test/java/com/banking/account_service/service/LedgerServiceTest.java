@@ -0,0 +1,98 @@
+package com.banking.account_service.service;
+
+import com.banking.account_service.cache.AccountCacheInvalidator;
+import com.banking.account_service.dto.BalanceAtTimeResponse;
+import com.banking.account_service.dto.LedgerRebuildResponse;
+import com.banking.account_service.entity.LedgerSnapshot;
+import com.banking.account_service.enums.AuditAction;
+import com.banking.account_service.repository.LedgerRepository;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LedgerServiceTest {
+
+    private static final String ACCOUNT = "10000000123453";
+    private static final long ACCOUNT_ID = 42L;
+    private static final LocalDateTime AT = LocalDateTime.of(2026, 10, 16, 12, 0);
+
+    private final LedgerRepository ledgerRepository = mock(LedgerRepository.class);
+    private final AccountAuditService auditService = mock(AccountAuditService.class);
+    private final AccountCacheInvalidator cacheInvalidator = mock(AccountCacheInvalidator.class);
+
+    private final LedgerService ledgerService = new LedgerService(ledgerRepository, auditService, cacheInvalidator);
+
+    @Test
+    void balanceAtTimeIsNearestSnapshotPlusLaterEntries() {
+        when(ledgerRepository.findHead(ACCOUNT)).thenReturn(Optional.of(head(120, "900.00")));
+        when(ledgerRepository.findLastSequenceAt(ACCOUNT_ID, AT)).thenReturn(57L);
+        when(ledgerRepository.findSnapshotAtOrBefore(ACCOUNT_ID, 57L))
+                .thenReturn(Optional.of(new LedgerSnapshot(ACCOUNT_ID, 50L, new BigDecimal("1000.00"), AT)));
+        when(ledgerRepository.sumEntries(ACCOUNT_ID, 50L, 57L))
+                .thenReturn(new LedgerRepository.EntryTail(new BigDecimal("-250.00"), 7));
+
+        BalanceAtTimeResponse response = ledgerService.getBalanceAt(ACCOUNT, AT);
+
+        assertEquals(new BigDecimal("750.00"), response.getBalance());
+        assertEquals(57L, response.getSequenceNo());
+        assertEquals(50L, response.getSnapshotSequenceNo());
+        assertEquals(7, response.getEntriesReplayed());
+    }
+
+    @Test
+    void balanceBeforeFirstEntryIsOpeningBalance() {
+        when(ledgerRepository.findHead(ACCOUNT)).thenReturn(Optional.of(head(3, "900.00")));
+        when(ledgerRepository.findLastSequenceAt(ACCOUNT_ID, AT)).thenReturn(null);
+        when(ledgerRepository.findOpeningBalance(ACCOUNT_ID)).thenReturn(new BigDecimal("500.00"));
+
+        assertEquals(new BigDecimal("500.00"), ledgerService.getBalanceAt(ACCOUNT, AT).getBalance());
+    }
+
+    @Test
+    void rebuildRepairsBalanceThatDriftedFromLedger() {
+        when(ledgerRepository.lockHead(ACCOUNT)).thenReturn(Optional.of(head(3, "900.00")));
+        when(ledgerRepository.findSnapshotAtOrBefore(ACCOUNT_ID, 3L)).thenReturn(Optional.empty());
+        when(ledgerRepository.findOpeningBalance(ACCOUNT_ID)).thenReturn(new BigDecimal("500.00"));
+        when(ledgerRepository.sumEntries(ACCOUNT_ID, 0L, 3L))
+                .thenReturn(new LedgerRepository.EntryTail(new BigDecimal("300.00"), 3));
+
+        LedgerRebuildResponse response = ledgerService.rebuildBalance(ACCOUNT, "ops");
+
+        assertTrue(response.isCorrected());
+        assertEquals(new BigDecimal("800.00"), response.getLedgerBalance());
+        verify(ledgerRepository).updateBalance(eq(ACCOUNT_ID), eq(new BigDecimal("800.00")), any());
+        verify(auditService).logAudit(eq(ACCOUNT), any(), eq(AuditAction.UPDATE_BALANCE), anyString(),
+                eq("900.00"), eq("800.00"), eq("ops"), any());
+        verify(cacheInvalidator).evictAccount(ACCOUNT);
+    }
+
+    @Test
+    void rebuildLeavesMatchingBalanceAlone() {
+        when(ledgerRepository.lockHead(ACCOUNT)).thenReturn(Optional.of(head(3, "800.00")));
+        when(ledgerRepository.findSnapshotAtOrBefore(ACCOUNT_ID, 3L)).thenReturn(Optional.empty());
+        when(ledgerRepository.findOpeningBalance(ACCOUNT_ID)).thenReturn(new BigDecimal("500.00"));
+        when(ledgerRepository.sumEntries(ACCOUNT_ID, 0L, 3L))
+                .thenReturn(new LedgerRepository.EntryTail(new BigDecimal("300.00"), 3));
+
+        assertFalse(ledgerService.rebuildBalance(ACCOUNT, "ops").isCorrected());
+        verify(ledgerRepository, never()).updateBalance(anyLong(), any(), any());
+    }
+
+    private static LedgerRepository.LedgerHead head(long sequenceNo, String balance) {
+        return new LedgerRepository.LedgerHead(ACCOUNT_ID, sequenceNo, new BigDecimal(balance));
+    }
+}
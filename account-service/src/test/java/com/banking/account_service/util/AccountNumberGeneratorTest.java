@@ -0,0 +1,109 @@
+package com.banking.account_service.util;
+
+import com.banking.account_service.config.AppProperties;
+import com.banking.account_service.repository.AccountNumberSequenceRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AccountNumberGeneratorTest {
+
+    @Test
+    void acceptsKnownLuhnNumbers() {
+        assertTrue(AccountNumberGenerator.hasValidCheckDigit("79927398713"));
+        assertTrue(AccountNumberGenerator.hasValidCheckDigit("10000000000008"));
+        assertFalse(AccountNumberGenerator.hasValidCheckDigit("79927398710"));
+        assertFalse(AccountNumberGenerator.hasValidCheckDigit("10000000000001"));
+    }
+
+    @Test
+    void generatedNumbersCarryValidCheckDigit() {
+        AccountNumberGenerator generator = generator(123_450L, 4);
+
+        Set<String> numbers = new HashSet<>();
+        for (int i = 0; i < 10; i++) {  // spans several reserved blocks
+            String number = generator.generateAccountNumber();
+
+            assertEquals(14, number.length());
+            assertEquals('1', number.charAt(0));
+            assertTrue(AccountNumberGenerator.hasValidCheckDigit(number), number);
+            assertTrue(generator.isValidAccountNumber(number), number);
+            numbers.add(number);
+        }
+        assertEquals(10, numbers.size());
+    }
+
+    @Test
+    void checkDigitCatchesEverySingleDigitTypo() {
+        String number = generator(987_654_321L, 10).generateAccountNumber();
+
+        for (int position = 0; position < number.length(); position++) {
+            for (char digit = '0'; digit <= '9'; digit++) {
+                if (digit == number.charAt(position)) {
+                    continue;
+                }
+                String typo = number.substring(0, position) + digit + number.substring(position + 1);
+                assertFalse(AccountNumberGenerator.hasValidCheckDigit(typo), typo);
+            }
+        }
+    }
+
+    @Test
+    void validatesFormatAndSeries() {
+        AccountNumberGenerator generator = generator(1L, 10);
+
+        assertTrue(generator.isValidAccountNumber("10000000000008"));
+        assertFalse(generator.isValidAccountNumber("10000000000001"));  // current series, bad check digit
+        assertTrue(generator.isValidAccountNumber("20240115123456"));   // older date-based series: no check digit
+        assertFalse(generator.isValidAccountNumber("1000000000009"));
+        assertFalse(generator.isValidAccountNumber("1000000000000A"));
+        assertFalse(generator.isValidAccountNumber(null));
+    }
+
+    private static AccountNumberGenerator generator(long firstSerial, int blockSize) {
+        AppProperties properties = new AppProperties();
+        properties.getNumber().setBlockSize(blockSize);
+        return new AccountNumberGenerator(new FakeSequenceRepository(firstSerial), new NoOpTransactionManager(),
+                properties);
+    }
+
+    private static final class FakeSequenceRepository extends AccountNumberSequenceRepository {
+        private long next;
+
+        private FakeSequenceRepository(long firstSerial) {
+            super(null);
+            this.next = firstSerial;
+        }
+
+        @Override
+        public long reserveBlock(String sequenceName, int size) {
+            long start = next;
+            next += size;
+            return start;
+        }
+    }
+
+    private static final class NoOpTransactionManager implements PlatformTransactionManager {
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.banking.account_service.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimerWheelTest {
+
+    private static final long TICK_MILLIS = 10;
+    private static final int SIZE = 8;  // one revolution = 80 ms
+
+    private final Map<Long, Long> firedAt = new ConcurrentHashMap<>();
+    private final List<Long> fired = new CopyOnWriteArrayList<>();
+    private volatile CountDownLatch expected = new CountDownLatch(0);
+
+    private final TimerWheel wheel = new TimerWheel("timer-wheel-test", TICK_MILLIS, SIZE, ids -> {
+        long now = System.currentTimeMillis();
+        for (Long id : ids) {
+            firedAt.put(id, now);
+            fired.add(id);
+            expected.countDown();
+        }
+    });
+
+    @AfterEach
+    void stopWheel() {
+        wheel.stop();
+    }
+
+    @Test
+    void neverFiresBeforeDeadline() throws InterruptedException {
+        wheel.start();
+        expected = new CountDownLatch(40);
+        long now = System.currentTimeMillis();
+        Map<Long, Long> deadlines = new ConcurrentHashMap<>();
+        for (long id = 0; id < 40; id++) {
+            long deadline = now + id * 7;  // spread over several slots and revolutions
+            deadlines.put(id, deadline);
+            wheel.schedule(id, deadline);
+        }
+
+        assertTrue(expected.await(5, TimeUnit.SECONDS), "not all timeouts fired");
+        deadlines.forEach((id, deadline) ->
+                assertTrue(firedAt.get(id) >= deadline, "id " + id + " fired before its deadline"));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void waitsFullRevolutionsForDistantDeadlines() throws InterruptedException {
+        wheel.start();
+        expected = new CountDownLatch(1);
+        long deadline = System.currentTimeMillis() + 3 * SIZE * TICK_MILLIS + 25;  // lands in a slot passed 3 times first
+        wheel.schedule(1, deadline);
+
+        assertTrue(expected.await(5, TimeUnit.SECONDS), "timeout did not fire");
+        assertTrue(firedAt.get(1L) >= deadline, "fired on an earlier revolution");
+        assertEquals(List.of(1L), fired);
+    }
+
+    @Test
+    void cancelledTimeoutNeverFires() throws InterruptedException {
+        wheel.start();
+        expected = new CountDownLatch(1);
+        long now = System.currentTimeMillis();
+        wheel.schedule(1, now + 30);
+        wheel.schedule(2, now + 120);
+        wheel.cancel(1);
+
+        assertTrue(expected.await(5, TimeUnit.SECONDS), "timeout did not fire");
+        assertFalse(firedAt.containsKey(1L), "cancelled timeout fired");
+        assertEquals(List.of(2L), fired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void rescheduleReplacesEarlierDeadline() throws InterruptedException {
+        wheel.start();
+        expected = new CountDownLatch(1);
+        long now = System.currentTimeMillis();
+        wheel.schedule(1, now + 20);
+        long later = now + 200;
+        wheel.schedule(1, later);
+        assertEquals(1, wheel.size());
+
+        assertTrue(expected.await(5, TimeUnit.SECONDS), "timeout did not fire");
+        assertTrue(firedAt.get(1L) >= later, "fired at the replaced deadline");
+        Thread.sleep(2 * SIZE * TICK_MILLIS);
+        assertEquals(List.of(1L), fired);
+    }
+
+    @Test
+    void rejectsSizeThatIsNotPowerOfTwo() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new TimerWheel("bad", TICK_MILLIS, 6, ids -> { }));
+    }
+}
@@ -0,0 +1,163 @@
+package com.banking.loan_service.cache;
+
+import com.banking.loan_service.dto.LoanResponse;
+import com.banking.loan_service.enums.LoanStatus;
+import com.banking.loan_service.enums.LoanType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compact binary Redis serializer for the loan caches.
+ *
+ * Value layout: [type tag][schema version][payload] (see CompactCodec)
+ * - LOAN       LoanResponse
+ * - LOAN_LIST  List<LoanResponse> (varint count, then records)
+ * Anything else is written as JSON by the default serializer; JSON never starts
+ * with a tag byte, so values cached before the switch are still read.
+ *
+ * A value with an unknown schema version (or that fails to decode) reads as a
+ * cache miss and is simply reloaded. Change the layout only together with LOAN_VERSION.
+ */
+@Slf4j
+public class CompactCacheSerializer implements RedisSerializer<Object> {
+
+    private static final int LOAN = 1;
+    private static final int LOAN_LIST = 2;
+
+    private static final int LOAN_VERSION = 1;
+
+    private final RedisSerializer<Object> json = new GenericJackson2JsonRedisSerializer();
+
+    @Override
+    public byte[] serialize(Object value) {
+        CompactCodec.Writer out = new CompactCodec.Writer();
+        if (value instanceof LoanResponse loan) {
+            out.writeByte(LOAN);
+            out.writeByte(LOAN_VERSION);
+            writeLoan(out, loan);
+        } else if (value instanceof List<?> list && list.stream().allMatch(LoanResponse.class::isInstance)) {
+            out.writeByte(LOAN_LIST);
+            out.writeByte(LOAN_VERSION);
+            out.writeVarLong(list.size());
+            list.forEach(loan -> writeLoan(out, (LoanResponse) loan));
+        } else {
+            return json.serialize(value);
+        }
+        return out.toByteArray();
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        int tag = bytes[0];
+        if (tag != LOAN && tag != LOAN_LIST) {
+            return json.deserialize(bytes);
+        }
+
+        try {
+            CompactCodec.Reader in = new CompactCodec.Reader(bytes, 1);
+            int version = in.readByte();
+            if (version != LOAN_VERSION) {
+                log.debug("Cached value has schema version {} of type {}; treating as miss", version, tag);
+                return null;
+            }
+            if (tag == LOAN) {
+                return readLoan(in);
+            }
+            int count = Math.toIntExact(in.readVarLong());
+            List<LoanResponse> loans = new ArrayList<>(Math.min(count, 64));
+            for (int i = 0; i < count; i++) {
+                loans.add(readLoan(in));
+            }
+            return loans;
+        } catch (RuntimeException e) {
+            log.warn("Unreadable compact cache value (type {}); treating as miss | Error: {}", tag, e.getMessage());
+            return null;
+        }
+    }
+
+    private static void writeLoan(CompactCodec.Writer out, LoanResponse loan) {
+        out.writeVarLong(CompactCodec.presence(
+                loan.getId(), loan.getLoanNumber(), loan.getInternalUserId(), loan.getAccountNumber(),
+                loan.getLoanType(), loan.getLoanAmount(), loan.getInterestRate(), loan.getTenureMonths(),
+                loan.getEmiAmount(), loan.getTotalAmount(), loan.getRemainingAmount(), loan.getPaidEmis(),
+                loan.getRemainingEmis(), loan.getStatus(), loan.getPurpose(), loan.getMonthlyIncome(),
+                loan.getCreditScore(), loan.getCreditRating(), loan.getApplicationDate(), loan.getApprovalDate(),
+                loan.getDisbursementDate(), loan.getNextEmiDueDate(), loan.getFirstEmiDate(), loan.getLastEmiDate(),
+                loan.getIsDisbursed(), loan.getMissedEmis(), loan.getPenaltyAmount(), loan.getLastPaymentDate(),
+                loan.getCreatedAt(), loan.getUpdatedAt()));
+
+        out.writeLong(loan.getId());
+        out.writeString(loan.getLoanNumber());
+        out.writeString(loan.getInternalUserId());
+        out.writeString(loan.getAccountNumber());
+        out.writeEnum(loan.getLoanType());
+        out.writeBigDecimal(loan.getLoanAmount());
+        out.writeDouble(loan.getInterestRate());
+        out.writeInteger(loan.getTenureMonths());
+        out.writeBigDecimal(loan.getEmiAmount());
+        out.writeBigDecimal(loan.getTotalAmount());
+        out.writeBigDecimal(loan.getRemainingAmount());
+        out.writeInteger(loan.getPaidEmis());
+        out.writeInteger(loan.getRemainingEmis());
+        out.writeEnum(loan.getStatus());
+        out.writeString(loan.getPurpose());
+        out.writeBigDecimal(loan.getMonthlyIncome());
+        out.writeInteger(loan.getCreditScore());
+        out.writeString(loan.getCreditRating());
+        out.writeLocalDate(loan.getApplicationDate());
+        out.writeLocalDate(loan.getApprovalDate());
+        out.writeLocalDate(loan.getDisbursementDate());
+        out.writeLocalDate(loan.getNextEmiDueDate());
+        out.writeLocalDate(loan.getFirstEmiDate());
+        out.writeLocalDate(loan.getLastEmiDate());
+        out.writeBoolean(loan.getIsDisbursed());
+        out.writeInteger(loan.getMissedEmis());
+        out.writeBigDecimal(loan.getPenaltyAmount());
+        out.writeLocalDate(loan.getLastPaymentDate());
+        out.writeLocalDateTime(loan.getCreatedAt());
+        out.writeLocalDateTime(loan.getUpdatedAt());
+    }
+
+    private static LoanResponse readLoan(CompactCodec.Reader in) {
+        long present = in.readVarLong();
+        return LoanResponse.builder()
+                .id(CompactCodec.has(present, 0) ? in.readLong() : null)
+                .loanNumber(CompactCodec.has(present, 1) ? in.readString() : null)
+                .internalUserId(CompactCodec.has(present, 2) ? in.readString() : null)
+                .accountNumber(CompactCodec.has(present, 3) ? in.readString() : null)
+                .loanType(CompactCodec.has(present, 4) ? in.readEnum(LoanType.class) : null)
+                .loanAmount(CompactCodec.has(present, 5) ? in.readBigDecimal() : null)
+                .interestRate(CompactCodec.has(present, 6) ? in.readDouble() : null)
+                .tenureMonths(CompactCodec.has(present, 7) ? in.readInteger() : null)
+                .emiAmount(CompactCodec.has(present, 8) ? in.readBigDecimal() : null)
+                .totalAmount(CompactCodec.has(present, 9) ? in.readBigDecimal() : null)
+                .remainingAmount(CompactCodec.has(present, 10) ? in.readBigDecimal() : null)
+                .paidEmis(CompactCodec.has(present, 11) ? in.readInteger() : null)
+                .remainingEmis(CompactCodec.has(present, 12) ? in.readInteger() : null)
+                .status(CompactCodec.has(present, 13) ? in.readEnum(LoanStatus.class) : null)
+                .purpose(CompactCodec.has(present, 14) ? in.readString() : null)
+                .monthlyIncome(CompactCodec.has(present, 15) ? in.readBigDecimal() : null)
+                .creditScore(CompactCodec.has(present, 16) ? in.readInteger() : null)
+                .creditRating(CompactCodec.has(present, 17) ? in.readString() : null)
+                .applicationDate(CompactCodec.has(present, 18) ? in.readLocalDate() : null)
+                .approvalDate(CompactCodec.has(present, 19) ? in.readLocalDate() : null)
+                .disbursementDate(CompactCodec.has(present, 20) ? in.readLocalDate() : null)
+                .nextEmiDueDate(CompactCodec.has(present, 21) ? in.readLocalDate() : null)
+                .firstEmiDate(CompactCodec.has(present, 22) ? in.readLocalDate() : null)
+                .lastEmiDate(CompactCodec.has(present, 23) ? in.readLocalDate() : null)
+                .isDisbursed(CompactCodec.has(present, 24) ? in.readBoolean() : null)
+                .missedEmis(CompactCodec.has(present, 25) ? in.readInteger() : null)
+                .penaltyAmount(CompactCodec.has(present, 26) ? in.readBigDecimal() : null)
+                .lastPaymentDate(CompactCodec.has(present, 27) ? in.readLocalDate() : null)
+                .createdAt(CompactCodec.has(present, 28) ? in.readLocalDateTime() : null)
+                .updatedAt(CompactCodec.has(present, 29) ? in.readLocalDateTime() : null)
+                .build();
+    }
+}
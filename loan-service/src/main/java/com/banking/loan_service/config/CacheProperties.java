@@ -0,0 +1,27 @@
+package com.banking.loan_service.config;
+
+import com.banking.loan_service.enums.CacheSerializer;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Per-cache Redis settings (loan.cache.specs.<cache>.*), same shape as account-service's
+ * account.cache.specs; caches without a spec use the defaults in RedisConfig
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "loan.cache")
+public class CacheProperties {
+
+    private Map<String, CacheSpec> specs = new HashMap<>();
+
+    @Data
+    public static class CacheSpec {
+        private long redisTtlSeconds = 600;
+        private CacheSerializer serializer = CacheSerializer.JSON;
+    }
+}
@@ -1,5 +1,7 @@
 package com.banking.loan_service.config;
 
+import com.banking.loan_service.cache.CompactCacheSerializer;
+import com.banking.loan_service.enums.CacheSerializer;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -8,10 +10,13 @@ import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
 
 @Configuration
 @EnableCaching
@@ -28,8 +33,12 @@ public class RedisConfig {
         return template;
     }
 
+    /**
+     * Per-cache TTL and value serializer from loan.cache.specs; caches without a
+     * spec keep the 10 minute TTL and the JSON serializer
+     */
     @Bean
-    public RedisCacheManager cacheManager(RedisConnectionFactory connectionFactory) {
+    public RedisCacheManager cacheManager(RedisConnectionFactory connectionFactory, CacheProperties cacheProperties) {
         RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig()
                 .entryTtl(Duration.ofMinutes(10))
                 .serializeKeysWith(
@@ -38,8 +47,20 @@ public class RedisConfig {
                         RedisSerializationContext.SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer()))
                 .disableCachingNullValues();
 
+        Map<String, RedisCacheConfiguration> perCache = new HashMap<>();
+        RedisSerializer<Object> compactSerializer = new CompactCacheSerializer();
+        cacheProperties.getSpecs().forEach((name, spec) -> {
+            RedisCacheConfiguration specConfig = config.entryTtl(Duration.ofSeconds(spec.getRedisTtlSeconds()));
+            if (spec.getSerializer() == CacheSerializer.COMPACT) {
+                specConfig = specConfig.serializeValuesWith(
+                        RedisSerializationContext.SerializationPair.fromSerializer(compactSerializer));
+            }
+            perCache.put(name, specConfig);
+        });
+
         return RedisCacheManager.builder(connectionFactory)
                 .cacheDefaults(config)
+                .withInitialCacheConfigurations(perCache)
                 .build();
     }
-}
\ No newline at end of file
+}
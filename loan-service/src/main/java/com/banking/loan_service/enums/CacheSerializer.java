@@ -0,0 +1,12 @@
+package com.banking.loan_service.enums;
+
+/**
+ * Redis value encoding of a cache
+ *
+ * JSON: GenericJackson2JsonRedisSerializer (class names embedded)
+ * COMPACT: CompactCacheSerializer (schema-versioned binary, reads JSON too)
+ */
+public enum CacheSerializer {
+    JSON,
+    COMPACT
+}
@@ -0,0 +1,128 @@
+package com.banking.loan_service.cache;
+
+import com.banking.loan_service.dto.LoanResponse;
+import com.banking.loan_service.enums.LoanStatus;
+import com.banking.loan_service.enums.LoanType;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Size and speed of CompactCacheSerializer vs the JSON serializer, on typical cache values.
+ * (The JSON side gets the JavaTimeModule it needs for LoanResponse's dates.)
+ * Standalone (no Spring context, no Redis), after mvn test-compile:
+ *
+ *   java -cp target/test-classes:target/classes:$(mvn -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout) \
+ *        com.banking.loan_service.cache.CacheSerializerBenchmark [iterations]
+ */
+public final class CacheSerializerBenchmark {
+
+    // Keeps the JIT from discarding the measured work
+    private static volatile long sink;
+
+    private CacheSerializerBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+        RedisSerializer<Object> json = jsonWithJavaTime();
+        RedisSerializer<Object> compact = new CompactCacheSerializer();
+
+        List<LoanResponse> userLoans = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            userLoans.add(sampleLoan(i));
+        }
+        Map<String, Object> samples = new LinkedHashMap<>();
+        samples.put("loans (LoanResponse)", sampleLoan(0));
+        samples.put("user-loans (3 x LoanResponse)", userLoans);
+
+        System.out.printf("%-36s %-8s %8s %12s %12s%n", "value", "format", "bytes", "ser ns/op", "deser ns/op");
+        samples.forEach((name, value) -> {
+            run(name, "json", json, value, iterations);
+            run(name, "compact", compact, value, iterations);
+        });
+    }
+
+    private static void run(String name, String format, RedisSerializer<Object> serializer,
+                            Object value, int iterations) {
+        byte[] bytes = serializer.serialize(value);
+        if (!value.equals(serializer.deserialize(bytes))) {
+            throw new IllegalStateException(format + " did not round-trip " + name);
+        }
+
+        for (int i = 0; i < iterations / 4; i++) {  // warm-up
+            sink += serializer.serialize(value).length;
+            sink += serializer.deserialize(bytes) != null ? 1 : 0;
+        }
+
+        long started = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            sink += serializer.serialize(value).length;
+        }
+        long serializeNs = (System.nanoTime() - started) / iterations;
+
+        started = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            sink += serializer.deserialize(bytes) != null ? 1 : 0;
+        }
+        long deserializeNs = (System.nanoTime() - started) / iterations;
+
+        System.out.printf("%-36s %-8s %8d %12d %12d%n", name, format, bytes.length,
+                serializeNs, deserializeNs);
+    }
+
+    private static RedisSerializer<Object> jsonWithJavaTime() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        objectMapper.activateDefaultTyping(objectMapper.getPolymorphicTypeValidator(),
+                ObjectMapper.DefaultTyping.NON_FINAL, JsonTypeInfo.As.PROPERTY);
+        return new GenericJackson2JsonRedisSerializer(objectMapper);
+    }
+
+    private static LoanResponse sampleLoan(int i) {
+        return LoanResponse.builder()
+                .id(5_000L + i)
+                .loanNumber("LN2026101600000" + i)
+                .internalUserId("USR202601010001")
+                .accountNumber("12345678901234")
+                .loanType(i % 2 == 0 ? LoanType.HOME_LOAN : LoanType.CAR_LOAN)
+                .loanAmount(new BigDecimal("2500000.00"))
+                .interestRate(8.5)
+                .tenureMonths(240)
+                .emiAmount(new BigDecimal("21695.55"))
+                .totalAmount(new BigDecimal("5206932.00"))
+                .remainingAmount(new BigDecimal("4946585.40"))
+                .paidEmis(12)
+                .remainingEmis(228)
+                .status(LoanStatus.ACTIVE)
+                .purpose("Purchase of residential flat")
+                .monthlyIncome(new BigDecimal("150000.00"))
+                .creditScore(782)
+                .creditRating("EXCELLENT")
+                .applicationDate(LocalDate.of(2025, 9, 2))
+                .approvalDate(LocalDate.of(2025, 9, 10))
+                .disbursementDate(LocalDate.of(2025, 9, 15))
+                .nextEmiDueDate(LocalDate.of(2026, 11, 5))
+                .firstEmiDate(LocalDate.of(2025, 10, 5))
+                .lastEmiDate(LocalDate.of(2045, 9, 5))
+                .isDisbursed(true)
+                .missedEmis(0)
+                .penaltyAmount(BigDecimal.ZERO)
+                .lastPaymentDate(LocalDate.of(2026, 10, 5))
+                .createdAt(LocalDateTime.of(2025, 9, 2, 11, 20, 31, 482_000_000))
+                .updatedAt(LocalDateTime.of(2026, 10, 5, 9, 1, 12, 7_000_000))
+                .build();
+    }
+}
@@ -0,0 +1,143 @@
+package com.banking.loan_service.cache;
+
+import com.banking.loan_service.dto.LoanResponse;
+import com.banking.loan_service.enums.LoanStatus;
+import com.banking.loan_service.enums.LoanType;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompactCodecTest {
+
+    private final CompactCacheSerializer serializer = new CompactCacheSerializer();
+
+    @Test
+    void primitivesRoundTrip() {
+        BigDecimal huge = new BigDecimal("123456789012345678901234567890.1234");
+        LocalDateTime time = LocalDateTime.of(2026, 10, 16, 14, 30, 5, 123_456_789);
+
+        CompactCodec.Writer out = new CompactCodec.Writer();
+        out.writeVarLong(0);
+        out.writeVarLong(300);
+        out.writeSignedVarLong(-1);
+        out.writeSignedVarLong(Long.MIN_VALUE);
+        out.writeLong(Long.MAX_VALUE);
+        out.writeInteger(-42);
+        out.writeDouble(10.75);
+        out.writeBoolean(false);
+        out.writeString("Home loan — गृह ऋण");
+        out.writeEnum(LoanStatus.FORECLOSED);
+        out.writeBigDecimal(new BigDecimal("-2500000.00"));
+        out.writeBigDecimal(huge);
+        out.writeLocalDate(LocalDate.of(1969, 12, 31));
+        out.writeLocalDateTime(time);
+
+        CompactCodec.Reader in = new CompactCodec.Reader(out.toByteArray(), 0);
+        assertEquals(0L, in.readVarLong());
+        assertEquals(300L, in.readVarLong());
+        assertEquals(-1L, in.readSignedVarLong());
+        assertEquals(Long.MIN_VALUE, in.readSignedVarLong());
+        assertEquals(Long.MAX_VALUE, in.readLong());
+        assertEquals(-42, in.readInteger());
+        assertEquals(10.75, in.readDouble());
+        assertFalse(in.readBoolean());
+        assertEquals("Home loan — गृह ऋण", in.readString());
+        assertEquals(LoanStatus.FORECLOSED, in.readEnum(LoanStatus.class));
+        assertEquals(new BigDecimal("-2500000.00"), in.readBigDecimal());
+        assertEquals(huge, in.readBigDecimal());
+        assertEquals(LocalDate.of(1969, 12, 31), in.readLocalDate());
+        assertEquals(time, in.readLocalDateTime());
+        assertThrows(IllegalArgumentException.class, in::readByte);
+    }
+
+    @Test
+    void nullFieldsAreSkippedAndFlaggedAbsent() {
+        long presence = CompactCodec.presence("a", null, 1L, null);
+        assertTrue(CompactCodec.has(presence, 0));
+        assertFalse(CompactCodec.has(presence, 1));
+        assertTrue(CompactCodec.has(presence, 2));
+        assertFalse(CompactCodec.has(presence, 3));
+
+        CompactCodec.Writer out = new CompactCodec.Writer();
+        out.writeString(null);
+        out.writeInteger(null);
+        out.writeBigDecimal(null);
+        out.writeLocalDate(null);
+        assertEquals(0, out.toByteArray().length);
+    }
+
+    @Test
+    void loanRoundTripsWithAndWithoutNullFields() {
+        LoanResponse full = loan();
+        LoanResponse sparse = LoanResponse.builder()
+                .loanNumber("LN2026000017")
+                .status(LoanStatus.PENDING)
+                .build();
+
+        assertEquals(full, serializer.deserialize(serializer.serialize(full)));
+        assertEquals(sparse, serializer.deserialize(serializer.serialize(sparse)));
+        assertEquals(List.of(full, sparse), serializer.deserialize(serializer.serialize(List.of(full, sparse))));
+        assertEquals(List.of(), serializer.deserialize(serializer.serialize(List.of())));
+    }
+
+    @Test
+    void unknownVersionReadsAsMiss() {
+        byte[] bytes = serializer.serialize(loan());
+        bytes[1] = 99;  // [type tag][schema version][payload]
+
+        assertNull(serializer.deserialize(bytes));
+    }
+
+    @Test
+    void truncatedValueReadsAsMiss() {
+        byte[] bytes = serializer.serialize(List.of(loan(), loan()));
+        byte[] truncated = Arrays.copyOf(bytes, bytes.length - 3);
+
+        assertNull(serializer.deserialize(truncated));
+    }
+
+    private static LoanResponse loan() {
+        return LoanResponse.builder()
+                .id(17L)
+                .loanNumber("LN2026000017")
+                .internalUserId("USR-7")
+                .accountNumber("10000000123453")
+                .loanType(LoanType.HOME_LOAN)
+                .loanAmount(new BigDecimal("2500000.00"))
+                .interestRate(8.5)
+                .tenureMonths(240)
+                .emiAmount(new BigDecimal("21695.58"))
+                .totalAmount(new BigDecimal("5206939.20"))
+                .remainingAmount(new BigDecimal("4990000.00"))
+                .paidEmis(10)
+                .remainingEmis(230)
+                .status(LoanStatus.ACTIVE)
+                .purpose("Flat purchase")
+                .monthlyIncome(new BigDecimal("150000.00"))
+                .creditScore(782)
+                .creditRating("EXCELLENT")
+                .applicationDate(LocalDate.of(2025, 11, 20))
+                .approvalDate(LocalDate.of(2025, 12, 1))
+                .disbursementDate(LocalDate.of(2025, 12, 5))
+                .nextEmiDueDate(LocalDate.of(2026, 11, 5))
+                .firstEmiDate(LocalDate.of(2026, 1, 5))
+                .lastEmiDate(LocalDate.of(2045, 12, 5))
+                .isDisbursed(true)
+                .missedEmis(0)
+                .penaltyAmount(BigDecimal.ZERO)
+                .lastPaymentDate(LocalDate.of(2026, 10, 5))
+                .createdAt(LocalDateTime.of(2025, 11, 20, 11, 15))
+                .updatedAt(LocalDateTime.of(2026, 10, 5, 9, 0, 2))
+                .build();
+    }
+}
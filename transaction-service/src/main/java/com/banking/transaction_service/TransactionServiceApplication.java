@@ -7,6 +7,7 @@ import org.springframework.cloud.openfeign.EnableFeignClients;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Transaction Service - Banking Microservice
@@ -15,7 +16,7 @@ import org.springframework.scheduling.annotation.EnableAsync;
  * - Money Transfer (IMPS/NEFT/RTGS)
  * - Deposit/Withdrawal
  * - Redis Caching
- * - Kafka Event Publishing
+ * - Kafka Event Publishing (transactional outbox)
  * - JWT Security
  * - Feign Client for Account Service
  *
@@ -26,6 +27,7 @@ import org.springframework.scheduling.annotation.EnableAsync;
 @EnableCaching
 @EnableKafka
 @EnableAsync
+@EnableScheduling
 @EnableJpaAuditing
 public class TransactionServiceApplication {
 
@@ -13,6 +13,16 @@ public class AppProperties {
     private Limit limit;
     private Transfer transfer;
     private Long idempotencyTtl;
+    private Idempotency idempotency = new Idempotency();
+    private Sequencer sequencer = new Sequencer();
+    private Bulk bulk = new Bulk();
+    private Outbox outbox = new Outbox();
+    private Audit audit = new Audit();
+    private Export export = new Export();
+    private IdGenerator idGenerator = new IdGenerator();
+    private Preflight preflight = new Preflight();
+    private VirtualThreads virtualThreads = new VirtualThreads();
+    private AccountCache accountCache = new AccountCache();
 
     @Data
     public static class Limit {
@@ -43,4 +53,71 @@ public class AppProperties {
             private BigDecimal minAmount;
         }
     }
-}
\ No newline at end of file
+
+    @Data
+    public static class Idempotency {
+        private long inProgressTtl = 60;
+        private long waitTimeoutMs = 5000;
+        private long pollIntervalMs = 50;
+    }
+
+    @Data
+    public static class Sequencer {
+        private int stripes = 64;
+        private long lockTimeoutMs = 5000;
+    }
+
+    @Data
+    public static class Bulk {
+        private int maxItems = 50000;
+        private int chunkSize = 1000;
+        private int workerThreads = 2;
+        private int queueCapacity = 20;
+        private long leaseSeconds = 600;          // worker lease, renewed every chunk
+        private long retryDelaySeconds = 60;      // before a run stopped on an unknown outcome is retried
+        private int recoveryBatchSize = 20;       // stalled batches handed back to workers per recovery pass
+    }
+
+    @Data
+    public static class Outbox {
+        private int batchSize = 500;
+        private long sendTimeoutMs = 10000;
+        private int retentionDays = 7;
+    }
+
+    @Data
+    public static class Audit {
+        private int queueCapacity = 10000;
+        private int batchSize = 500;
+        private long flushIntervalMs = 200;
+        private String spillFile = "data/transaction-audit-spill.ndjson";
+    }
+
+    @Data
+    public static class Export {
+        private int maxRangeDays = 366;
+    }
+
+    @Data
+    public static class IdGenerator {
+        private Integer nodeId;
+    }
+
+    @Data
+    public static class Preflight {
+        private int threads = 16;
+        private int queueCapacity = 100;
+        private long timeoutMs = 12000;
+    }
+
+    @Data
+    public static class VirtualThreads {
+        private long pinnedThresholdMs = 20;
+    }
+
+    @Data
+    public static class AccountCache {
+        private long maxSize = 100000;
+        private long ttlSeconds = 300;
+    }
+}
@@ -0,0 +1,82 @@
+package com.banking.transaction_service.config;
+
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.task.SimpleAsyncTaskExecutorBuilder;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Executors for async and background work
+ * Bulk transfers get their own pool so a payroll run cannot starve the shared one
+ *
+ * bulkTransferExecutor stays a small platform pool even in virtual-thread mode:
+ * its size is a deliberate cap on concurrent payroll runs, not a thread budget.
+ */
+@Configuration
+public class AsyncConfig {
+
+    /**
+     * Shared executor for @Async and MVC async (statement streaming)
+     * Declared here because defining any other Executor bean switches off Boot's auto-configured one.
+     * Virtual-thread mode: a virtual thread per task; otherwise the spring.task.execution.pool settings.
+     */
+    @Bean(name = {"applicationTaskExecutor", "taskExecutor"})
+    public AsyncTaskExecutor applicationTaskExecutor(ThreadPoolTaskExecutorBuilder poolBuilder,
+                                                     SimpleAsyncTaskExecutorBuilder virtualThreadBuilder,
+                                                     Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            return virtualThreadBuilder.build();
+        }
+        return poolBuilder.build();
+    }
+
+    @Bean(name = "bulkTransferExecutor")
+    public ThreadPoolTaskExecutor bulkTransferExecutor(AppProperties appProperties) {
+        AppProperties.Bulk bulk = appProperties.getBulk();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(bulk.getWorkerThreads());
+        executor.setMaxPoolSize(bulk.getWorkerThreads());
+        executor.setQueueCapacity(bulk.getQueueCapacity());
+        executor.setThreadNamePrefix("bulk-transfer-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Short remote lookups fanned out from a request thread (e.g. transfer pre-flight)
+     * Virtual-thread mode: one virtual thread per lookup, no pool to size.
+     * Platform mode: runs on the caller when saturated, which degrades to sequential calls.
+     */
+    @Bean(name = "accountLookupExecutor")
+    public TaskExecutor accountLookupExecutor(AppProperties appProperties, Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("account-lookup-");
+            executor.setVirtualThreads(true);
+            executor.setTaskDecorator(new ContextPropagatingTaskDecorator());
+            return executor;
+        }
+
+        AppProperties.Preflight preflight = appProperties.getPreflight();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(preflight.getThreads());
+        executor.setMaxPoolSize(preflight.getThreads());
+        executor.setQueueCapacity(preflight.getQueueCapacity());
+        executor.setThreadNamePrefix("account-lookup-");
+        executor.setTaskDecorator(new ContextPropagatingTaskDecorator());
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,47 @@
+package com.banking.transaction_service.config;
+
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Map;
+
+/**
+ * Carries the caller's request attributes, security context and MDC onto pool threads,
+ * so Feign calls made there still forward the Authorization header and log with the
+ * same correlation data
+ */
+public class ContextPropagatingTaskDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        SecurityContext securityContext = SecurityContextHolder.getContext();
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
+
+        return () -> {
+            RequestAttributes previousAttributes = RequestContextHolder.getRequestAttributes();
+            SecurityContext previousSecurity = SecurityContextHolder.getContext();
+            Map<String, String> previousMdc = MDC.getCopyOfContextMap();
+            try {
+                RequestContextHolder.setRequestAttributes(requestAttributes);
+                SecurityContextHolder.setContext(securityContext);
+                if (mdc != null) {
+                    MDC.setContextMap(mdc);
+                }
+                runnable.run();
+            } finally {
+                RequestContextHolder.setRequestAttributes(previousAttributes);
+                SecurityContextHolder.setContext(previousSecurity);
+                if (previousMdc != null) {
+                    MDC.setContextMap(previousMdc);
+                } else {
+                    MDC.clear();
+                }
+            }
+        };
+    }
+}
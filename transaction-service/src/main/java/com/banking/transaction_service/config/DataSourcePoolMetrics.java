@@ -0,0 +1,73 @@
+package com.banking.transaction_service.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Connection pool sizing signals
+ *
+ * With virtual threads the request thread pool no longer caps concurrency, so the
+ * Hikari pool becomes the limit for DB-bound work. Alongside Hikari's own
+ * hikaricp.connections.* meters this exports:
+ * - transaction.db.pool.saturation: (active + waiting) / max; above 1.0 requests queue for connections
+ * - transaction.db.pool.waiting.per.connection: threads waiting per pooled connection
+ * Sustained saturation above 1 with low DB CPU means the pool is too small;
+ * high DB CPU means the DB, not the pool, is the bottleneck.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DataSourcePoolMetrics {
+
+    private final DataSource dataSource;
+    private final MeterRegistry meterRegistry;
+    private final Environment environment;
+
+    @PostConstruct
+    public void registerGauges() {
+        if (!(dataSource instanceof HikariDataSource hikari)) {
+            return;
+        }
+
+        Gauge.builder("transaction.db.pool.saturation", hikari, DataSourcePoolMetrics::saturation)
+                .description("(active + waiting connections) / maximum pool size")
+                .register(meterRegistry);
+        Gauge.builder("transaction.db.pool.waiting.per.connection", hikari, DataSourcePoolMetrics::waitingPerConnection)
+                .description("Threads waiting for a connection per pooled connection")
+                .register(meterRegistry);
+
+        if (Threading.VIRTUAL.isActive(environment)) {
+            log.info(" Virtual threads enabled: DB concurrency is capped by the Hikari pool (max {}). " +
+                            "Requests beyond that wait up to {} ms for a connection; " +
+                            "watch transaction.db.pool.saturation before raising it",
+                    hikari.getMaximumPoolSize(), hikari.getConnectionTimeout());
+        }
+    }
+
+    private static double saturation(HikariDataSource hikari) {
+        HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+        if (pool == null) {
+            return 0;
+        }
+        return (double) (pool.getActiveConnections() + pool.getThreadsAwaitingConnection())
+                / hikari.getMaximumPoolSize();
+    }
+
+    private static double waitingPerConnection(HikariDataSource hikari) {
+        HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+        if (pool == null) {
+            return 0;
+        }
+        return (double) pool.getThreadsAwaitingConnection() / hikari.getMaximumPoolSize();
+    }
+}
@@ -1,7 +1,9 @@
 package com.banking.transaction_service.config;
 
+import com.banking.transaction_service.feign.AccountServiceErrorDecoder;
 import feign.Logger;
 import feign.RequestInterceptor;
+import feign.codec.ErrorDecoder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.context.request.RequestContextHolder;
@@ -15,6 +17,11 @@ public class FeignConfig {
         return Logger.Level.FULL;
     }
 
+    @Bean
+    public ErrorDecoder errorDecoder() {
+        return new AccountServiceErrorDecoder();
+    }
+
     @Bean
     public RequestInterceptor requestInterceptor() {
         return requestTemplate -> {
@@ -0,0 +1,43 @@
+package com.banking.transaction_service.config;
+
+import com.banking.transaction_service.util.TransactionIdGenerator;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+
+/**
+ * Assigns this instance's node id to TransactionIdGenerator at startup
+ * Set transaction.id-generator.node-id (env TRANSACTION_NODE_ID) uniquely per replica;
+ * without it a node id is derived from the host name, which is only probably unique.
+ */
+@Configuration
+@RequiredArgsConstructor
+@Slf4j
+public class IdGeneratorConfig {
+
+    private final AppProperties appProperties;
+
+    @PostConstruct
+    public void configureNodeId() {
+        Integer nodeId = appProperties.getIdGenerator().getNodeId();
+        if (nodeId == null) {
+            nodeId = deriveNodeId();
+            log.warn(" No transaction.id-generator.node-id set, derived node id {} from host name. " +
+                    "Configure a unique node id per replica to guarantee unique transaction ids", nodeId);
+        }
+        TransactionIdGenerator.configureNode(nodeId);
+        log.info(" Transaction id generator node id: {}", nodeId);
+    }
+
+    private int deriveNodeId() {
+        try {
+            return InetAddress.getLocalHost().getHostName().hashCode() & TransactionIdGenerator.MAX_NODE_ID;
+        } catch (UnknownHostException e) {
+            return (int) (ProcessHandle.current().pid() & TransactionIdGenerator.MAX_NODE_ID);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.banking.transaction_service.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Virtual Thread Pinning Monitor (virtual-thread mode only)
+ * Streams JFR jdk.VirtualThreadPinned events in-process: a virtual thread that blocks
+ * inside a synchronized block or native frame holds on to its carrier thread.
+ *
+ * Each pinning site is exported as timer jvm.threads.virtual.pinned{site=Class.method}
+ * and logged with its stack the first time it is seen.
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@Slf4j
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private final MeterRegistry meterRegistry;
+    private final AppProperties appProperties;
+    private final Map<String, Timer> timersBySite = new ConcurrentHashMap<>();
+
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry, AppProperties appProperties) {
+        this.meterRegistry = meterRegistry;
+        this.appProperties = appProperties;
+    }
+
+    @Override
+    public void start() {
+        long thresholdMs = appProperties.getVirtualThreads().getPinnedThresholdMs();
+
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(Duration.ofMillis(thresholdMs)).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::record);
+        stream.startAsync();
+        log.info(" Virtual thread pinning monitor started | Threshold: {} ms", thresholdMs);
+    }
+
+    @Override
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    private void record(RecordedEvent event) {
+        String site = pinningSite(event);
+        Timer timer = timersBySite.computeIfAbsent(site, key -> {
+            log.warn(" Virtual thread pinned for {} ms at {}\n{}",
+                    event.getDuration().toMillis(), key, stackOf(event));
+            return Timer.builder("jvm.threads.virtual.pinned")
+                    .description("Time virtual threads spent pinned to their carrier")
+                    .tag("site", key)
+                    .register(meterRegistry);
+        });
+        timer.record(event.getDuration());
+    }
+
+    // First application frame; JDK/library frames only say *how* it blocked, not who
+    private String pinningSite(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return "unknown";
+        }
+        List<RecordedFrame> frames = event.getStackTrace().getFrames();
+        for (RecordedFrame frame : frames) {
+            String type = frame.getMethod().getType().getName();
+            if (type.startsWith("com.banking.")) {
+                return type.substring(type.lastIndexOf('.') + 1) + "." + frame.getMethod().getName();
+            }
+        }
+        if (frames.isEmpty()) {
+            return "unknown";
+        }
+        RecordedFrame top = frames.get(0);
+        return top.getMethod().getType().getName() + "." + top.getMethod().getName();
+    }
+
+    private String stackOf(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return "";
+        }
+        StringBuilder stack = new StringBuilder();
+        for (RecordedFrame frame : event.getStackTrace().getFrames()) {
+            stack.append("\tat ")
+                    .append(frame.getMethod().getType().getName())
+                    .append('.')
+                    .append(frame.getMethod().getName())
+                    .append(':')
+                    .append(frame.getLineNumber())
+                    .append('\n');
+        }
+        return stack.toString();
+    }
+}
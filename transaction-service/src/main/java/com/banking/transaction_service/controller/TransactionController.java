@@ -1,6 +1,11 @@
 package com.banking.transaction_service.controller;
 
 import com.banking.transaction_service.dto.*;
+import com.banking.transaction_service.enums.StatementFormat;
+import com.banking.transaction_service.enums.TransferMode;
+import com.banking.transaction_service.exception.custom.InvalidTransactionException;
+import com.banking.transaction_service.service.BulkTransferService;
+import com.banking.transaction_service.service.StatementExportService;
 import com.banking.transaction_service.service.TransactionService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
@@ -9,10 +14,17 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.time.LocalDate;
 
 /**
  * Transaction Controller
@@ -31,6 +43,10 @@ import org.springframework.web.bind.annotation.*;
 public class TransactionController {
 
     private final TransactionService transactionService;
+    private final BulkTransferService bulkTransferService;
+    private final StatementExportService statementExportService;
+
+    private static final int MAX_HISTORY_PAGE_SIZE = 100;
 
     /**
      * Process money transfer (IMPS/NEFT/RTGS)
@@ -54,6 +70,86 @@ public class TransactionController {
                 .body(ApiResponse.success("Transfer initiated successfully", response));
     }
 
+    /**
+     * Submit a bulk transfer (payroll / vendor payouts)
+     * POST /api/v1/transactions/bulk-transfer
+     *
+     * All rows are validated before anything is stored; money moves asynchronously.
+     * Poll GET /bulk-transfer/{batchId} for progress.
+     */
+    @PostMapping(value = "/bulk-transfer", consumes = "application/json")
+    public ResponseEntity<ApiResponse<BulkTransferResponse>> bulkTransfer(
+            @Valid @RequestBody BulkTransferRequest request,
+            Authentication authentication) {
+
+        String username = authentication.getName();
+        log.info(" Bulk transfer request | User: {} | From: {} | Rows: {}",
+                username, request.getFromAccountId(), request.getItems().size());
+
+        BulkTransferResponse response = bulkTransferService.submit(request, username);
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success("Bulk transfer accepted", response));
+    }
+
+    /**
+     * Submit a bulk transfer as a streamed NDJSON file (one item per line)
+     * POST /api/v1/transactions/bulk-transfer?fromAccountId=1&transferMode=NEFT
+     */
+    @PostMapping(value = "/bulk-transfer", consumes = "application/x-ndjson")
+    public ResponseEntity<ApiResponse<BulkTransferResponse>> bulkTransferNdjson(
+            @RequestParam Long fromAccountId,
+            @RequestParam TransferMode transferMode,
+            @RequestParam(required = false) String description,
+            @RequestParam(required = false) String idempotencyKey,
+            Authentication authentication,
+            HttpServletRequest httpRequest) throws IOException {
+
+        String username = authentication.getName();
+        log.info(" Bulk transfer file | User: {} | From: {} | Mode: {}",
+                username, fromAccountId, transferMode);
+
+        BulkTransferResponse response = bulkTransferService.submitNdjson(fromAccountId, transferMode,
+                description, idempotencyKey, httpRequest.getInputStream(), username);
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success("Bulk transfer accepted", response));
+    }
+
+    /**
+     * Get bulk transfer progress
+     * GET /api/v1/transactions/bulk-transfer/{batchId}
+     */
+    @GetMapping("/bulk-transfer/{batchId}")
+    public ResponseEntity<ApiResponse<BulkTransferResponse>> getBulkTransfer(
+            @PathVariable String batchId) {
+
+        log.info(" Fetching bulk transfer: {}", batchId);
+        BulkTransferResponse response = bulkTransferService.getBatch(batchId);
+
+        return ResponseEntity.ok(ApiResponse.success("Bulk transfer retrieved successfully", response));
+    }
+
+    /**
+     * Get per-row results of a bulk transfer
+     * GET /api/v1/transactions/bulk-transfer/{batchId}/results?page=0&size=100
+     */
+    @GetMapping("/bulk-transfer/{batchId}/results")
+    public ResponseEntity<ApiResponse<Page<TransactionResponse>>> getBulkTransferResults(
+            @PathVariable String batchId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "100") int size) {
+
+        log.info(" Fetching bulk transfer results | Batch: {} | Page: {} | Size: {}", batchId, page, size);
+
+        Pageable pageable = PageRequest.of(page, size);
+        Page<TransactionResponse> results = bulkTransferService.getBatchResults(batchId, pageable);
+
+        return ResponseEntity.ok(ApiResponse.success(
+                String.format("Retrieved %d rows", results.getNumberOfElements()),
+                results));
+    }
+
     /**
      * Process deposit
      * POST /api/v1/transactions/deposit
@@ -133,6 +229,59 @@ public class TransactionController {
                 history));
     }
 
+    /**
+     * Get transaction history with keyset pagination (newest first, no total by default)
+     * GET /api/v1/transactions/account/{accountId}/history/cursor?cursor=...&size=20
+     */
+    @GetMapping("/account/{accountId}/history/cursor")
+    public ResponseEntity<ApiResponse<TransactionHistoryPage>> getTransactionHistoryPage(
+            @PathVariable Long accountId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+
+        log.info(" Fetching transaction history page | Account: {} | Size: {}", accountId, size);
+
+        int pageSize = Math.max(1, Math.min(size, MAX_HISTORY_PAGE_SIZE));
+        TransactionHistoryPage history =
+                transactionService.getTransactionHistory(accountId, cursor, pageSize, includeTotal);
+
+        return ResponseEntity.ok(ApiResponse.success(
+                String.format("Retrieved %d transactions", history.getSize()),
+                history));
+    }
+
+    /**
+     * Stream an account statement for a date range (inclusive) as CSV or NDJSON
+     * GET /api/v1/transactions/account/{accountId}/statement?from=2025-04-01&to=2026-03-31&format=csv
+     */
+    @GetMapping("/account/{accountId}/statement")
+    public ResponseEntity<StreamingResponseBody> exportStatement(
+            @PathVariable Long accountId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "csv") String format) {
+
+        log.info(" Statement export | Account: {} | {} to {} | Format: {}", accountId, from, to, format);
+
+        StatementFormat statementFormat = parseStatementFormat(format);
+        statementExportService.validateRange(from, to);
+
+        MediaType contentType = statementFormat == StatementFormat.CSV
+                ? MediaType.parseMediaType("text/csv")
+                : MediaType.parseMediaType("application/x-ndjson");
+        String fileName = String.format("statement_%d_%s_%s.%s",
+                accountId, from, to, statementFormat.name().toLowerCase());
+
+        StreamingResponseBody body = out ->
+                statementExportService.export(accountId, from, to, statementFormat, out);
+
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+                .body(body);
+    }
+
     /**
      * Get transaction by reference number (UTR/RRN)
      * GET /api/v1/transactions/reference/{referenceNumber}
@@ -177,6 +326,17 @@ public class TransactionController {
         return ResponseEntity.ok(ApiResponse.success("Transaction Service is healthy", "UP"));
     }
 
+    /**
+     * Map the format request parameter (csv / ndjson, any case) to a StatementFormat
+     */
+    private StatementFormat parseStatementFormat(String format) {
+        try {
+            return StatementFormat.valueOf(format.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidTransactionException("Unsupported statement format: " + format + " (use csv or ndjson)");
+        }
+    }
+
     /**
      * Extract userId from JWT token stored in request attributes
      * This is set by JwtAuthenticationFilter
@@ -0,0 +1,30 @@
+package com.banking.transaction_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The slow-changing part of an account, safe to cache locally.
+ * Balance is deliberately absent: it is only ever checked by account-service's atomic debit.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AccountMetadata {
+    private Long accountId;
+    private String accountNumber;
+    private String accountStatus;
+    private String currency;
+
+    public static AccountMetadata from(AccountBalanceResponse account) {
+        return AccountMetadata.builder()
+                .accountId(account.getAccountId())
+                .accountNumber(account.getAccountNumber())
+                .accountStatus(account.getAccountStatus())
+                .currency(account.getCurrency())
+                .build();
+    }
+}
@@ -0,0 +1,17 @@
+package com.banking.transaction_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkCreditRequest {
+    private String batchId;
+    private List<BulkCreditItem> items;
+}
@@ -0,0 +1,19 @@
+package com.banking.transaction_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkCreditResponse {
+    private String batchId;
+    private int creditedCount;
+    private int failedCount;
+    private List<BulkCreditResult> results;   // Same order as the request items
+}
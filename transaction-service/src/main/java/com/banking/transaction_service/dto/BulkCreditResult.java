@@ -0,0 +1,18 @@
+package com.banking.transaction_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkCreditResult {
+    private String transactionId;
+    private String accountNumber;
+    private Long accountId;
+    private boolean credited;
+    private String failureReason;
+}
@@ -0,0 +1,18 @@
+package com.banking.transaction_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkDebitRequest {
+    private String accountNumber;
+    private BigDecimal amount;        // Sum of row totals (or of failed rows for a refund)
+    private String batchId;
+}
@@ -0,0 +1,31 @@
+package com.banking.transaction_service.dto;
+
+import jakarta.validation.constraints.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * One row of a bulk transfer (payroll / vendor payout)
+ * Rows are validated up front; limits are checked against transaction.limit.*
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkTransferItem {
+
+    @NotNull(message = "To account number is required")
+    @Pattern(regexp = "\\d{10,20}", message = "Invalid account number format")
+    private String toAccountNumber;
+
+    @NotNull(message = "Amount is required")
+    @DecimalMin(value = "1.00", message = "Amount must be at least 1.00")
+    private BigDecimal amount;
+
+    @Size(max = 500, message = "Remarks cannot exceed 500 characters")
+    private String remarks;
+}
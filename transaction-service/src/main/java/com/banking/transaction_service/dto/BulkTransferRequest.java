@@ -0,0 +1,38 @@
+package com.banking.transaction_service.dto;
+
+import com.banking.transaction_service.enums.TransferMode;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Bulk transfer request: one source account, many destination rows
+ * Items are validated row by row in BulkTransferService so errors carry row numbers
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkTransferRequest {
+
+    @NotNull(message = "From account ID is required")
+    private Long fromAccountId;
+
+    @NotNull(message = "Transfer mode is required")
+    private TransferMode transferMode;
+
+    @Size(max = 500, message = "Description cannot exceed 500 characters")
+    private String description;
+
+    @Size(max = 100, message = "Idempotency key cannot exceed 100 characters")
+    private String idempotencyKey;
+
+    @NotEmpty(message = "At least one item is required")
+    private List<BulkTransferItem> items;
+}
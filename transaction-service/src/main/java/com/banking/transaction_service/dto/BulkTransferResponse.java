@@ -0,0 +1,37 @@
+package com.banking.transaction_service.dto;
+
+import com.banking.transaction_service.enums.BulkTransferStatus;
+import com.banking.transaction_service.enums.TransferMode;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkTransferResponse {
+    private String batchId;
+    private BulkTransferStatus status;
+    private TransferMode transferMode;
+    private Long fromAccountId;
+    private String fromAccountNumber;
+    private int totalItems;
+    private int successCount;
+    private int failedCount;
+    private int pendingCount;
+    private BigDecimal totalAmount;      // Sum of row amounts
+    private BigDecimal totalCharges;     // Sum of row charges + GST
+    private BigDecimal totalDebit;       // Debited from source once (amount + charges)
+    private BigDecimal refundedAmount;   // Returned for rows that could not be credited
+    private String failureReason;
+    private String initiatedBy;
+    private LocalDateTime createdDate;
+    private LocalDateTime completedDate;
+}
@@ -0,0 +1,26 @@
+package com.banking.transaction_service.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of cursor-paginated transaction history
+ * Pass nextCursor back to fetch the following (older) page.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TransactionHistoryPage {
+    private List<TransactionResponse> transactions;
+    private int size;
+    private boolean hasMore;
+    private String nextCursor;
+    private Long totalCount;  // only when includeTotal=true
+}
@@ -0,0 +1,21 @@
+package com.banking.transaction_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TransferLegRequest {
+    private String fromAccountNumber;
+    private String toAccountNumber;
+    private BigDecimal debitAmount;   // Amount + charges + tax
+    private BigDecimal creditAmount;  // Amount only
+    private String transactionId;
+    private String remarks;
+}
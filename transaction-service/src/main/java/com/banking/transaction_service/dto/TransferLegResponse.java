@@ -0,0 +1,20 @@
+package com.banking.transaction_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TransferLegResponse {
+    private String transactionId;
+    private String fromAccountNumber;
+    private BigDecimal fromBalance;
+    private String toAccountNumber;
+    private BigDecimal toBalance;
+}
@@ -0,0 +1,109 @@
+package com.banking.transaction_service.entity;
+
+import com.banking.transaction_service.enums.BulkTransferStatus;
+import com.banking.transaction_service.enums.TransferMode;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Bulk transfer batch (payroll / vendor payouts)
+ * One row per batch; the per-row results are Transaction rows with bulkBatchId set
+ */
+@Entity
+@Table(name = "bulk_transfer_batches", indexes = {
+        @Index(name = "idx_bulk_from_account", columnList = "fromAccountId"),
+        @Index(name = "idx_bulk_status", columnList = "status")
+})
+@EntityListeners(AuditingEntityListener.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkTransferBatch {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 50)
+    private String batchId;
+
+    @Column(nullable = false)
+    private Long fromAccountId;
+
+    @Column(length = 20)
+    private String fromAccountNumber;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private TransferMode transferMode;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    @Builder.Default
+    private BulkTransferStatus status = BulkTransferStatus.ACCEPTED;
+
+    @Column(nullable = false)
+    private int totalItems;
+
+    @Column(nullable = false)
+    private int successCount;
+
+    @Column(nullable = false)
+    private int failedCount;
+
+    @Column(nullable = false, precision = 17, scale = 2)
+    private BigDecimal totalAmount;
+
+    @Column(nullable = false, precision = 15, scale = 2)
+    private BigDecimal totalCharges;
+
+    @Column(nullable = false, precision = 17, scale = 2)
+    private BigDecimal totalDebit;
+
+    @Column(precision = 17, scale = 2)
+    @Builder.Default
+    private BigDecimal refundedAmount = BigDecimal.ZERO;
+
+    @Column(length = 500)
+    private String description;
+
+    @Column(unique = true, length = 100)
+    private String idempotencyKey;
+
+    @Column(nullable = false, length = 100)
+    private String initiatedBy;
+
+    @Column(length = 500)
+    private String failureReason;
+
+    @Column
+    private LocalDateTime completedDate;
+
+    // Worker lease (BulkTransferProcessor); only the repository's lease UPDATEs write these
+    @Column(length = 36, insertable = false, updatable = false)
+    private String workerId;
+
+    @Column(insertable = false, updatable = false)
+    private LocalDateTime leaseExpiresAt;
+
+    @CreatedDate
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdDate;
+
+    @LastModifiedDate
+    @Column(nullable = false)
+    private LocalDateTime modifiedDate;
+
+    @Version
+    private Long version;
+}
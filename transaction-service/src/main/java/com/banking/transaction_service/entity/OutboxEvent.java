@@ -0,0 +1,60 @@
+package com.banking.transaction_service.entity;
+
+import com.banking.transaction_service.enums.OutboxStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Transactional outbox row
+ * Written in the same DB transaction as the Transaction change it describes,
+ * then relayed to Kafka by OutboxRelay (in id order, per-key ordered)
+ */
+@Entity
+@Table(name = "outbox_events", indexes = {
+        @Index(name = "idx_outbox_status_id", columnList = "status, id"),
+        @Index(name = "idx_outbox_sent_date", columnList = "sentDate")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 100)
+    private String topic;
+
+    @Column(nullable = false, length = 100)
+    private String aggregateKey;      // Kafka message key (transaction ID)
+
+    @Column(nullable = false, length = 200)
+    private String payloadType;       // Event class, used to rebuild the message
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;           // Event as JSON
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private OutboxStatus status = OutboxStatus.PENDING;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(length = 500)
+    private String lastError;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdDate;
+
+    @Column
+    private LocalDateTime sentDate;
+}
@@ -3,6 +3,7 @@ package com.banking.transaction_service.entity;
 import com.banking.transaction_service.enums.TransactionStatus;
 import com.banking.transaction_service.enums.TransactionType;
 import com.banking.transaction_service.enums.TransferMode;
+import com.banking.transaction_service.util.TransactionIdGenerator;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -18,11 +19,12 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "transactions", indexes = {
         @Index(name = "idx_transaction_id", columnList = "transactionId"),
-        @Index(name = "idx_from_account", columnList = "fromAccountId"),
-        @Index(name = "idx_to_account", columnList = "toAccountId"),
+        @Index(name = "idx_from_account_created", columnList = "fromAccountId, createdDate, id"),
+        @Index(name = "idx_to_account_created", columnList = "toAccountId, createdDate, id"),
         @Index(name = "idx_status", columnList = "status"),
         @Index(name = "idx_created_date", columnList = "createdDate"),
-        @Index(name = "idx_reference_number", columnList = "referenceNumber")
+        @Index(name = "idx_reference_number", columnList = "referenceNumber"),
+        @Index(name = "idx_bulk_batch_id", columnList = "bulkBatchId")
 })
 @EntityListeners(AuditingEntityListener.class)
 @Data
@@ -92,6 +94,9 @@ public class Transaction {
     @Column(length = 100)
     private String idempotencyKey;
 
+    @Column(length = 50)
+    private String bulkBatchId;   // Set for rows of a bulk transfer (BulkTransferBatch.batchId)
+
 
     @Column(nullable = false, length = 100)
     private String initiatedBy;
@@ -125,14 +130,10 @@ public class Transaction {
     @PrePersist
     public void prePersist() {
         if (transactionId == null) {
-            transactionId = generateTransactionId();
+            transactionId = TransactionIdGenerator.generateTransactionId();
         }
         if (totalAmount == null) {
             totalAmount = amount.add(chargesAmount).add(taxAmount);
         }
     }
-
-    private String generateTransactionId() {
-        return "TXN" + System.currentTimeMillis() + (int)(Math.random() * 1000);
-    }
 }
\ No newline at end of file
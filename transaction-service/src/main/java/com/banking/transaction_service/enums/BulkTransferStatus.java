@@ -0,0 +1,9 @@
+package com.banking.transaction_service.enums;
+
+public enum BulkTransferStatus {
+    ACCEPTED,             // Validated and stored, waiting for a worker
+    PROCESSING,           // Aggregate debited, credits in progress
+    COMPLETED,            // Every row credited
+    PARTIALLY_COMPLETED,  // Some rows failed (refunded)
+    FAILED                // Aggregate debit rejected, nothing credited
+}
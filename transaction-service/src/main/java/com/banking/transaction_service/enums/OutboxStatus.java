@@ -0,0 +1,7 @@
+package com.banking.transaction_service.enums;
+
+public enum OutboxStatus {
+    PENDING,  // Written with the business change, not yet on Kafka
+    SENT,     // Acknowledged by Kafka
+    FAILED    // Payload could not be rebuilt (needs manual replay)
+}
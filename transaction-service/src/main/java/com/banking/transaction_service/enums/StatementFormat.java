@@ -0,0 +1,6 @@
+package com.banking.transaction_service.enums;
+
+public enum StatementFormat {
+    CSV,     // text/csv with a header row
+    NDJSON   // one JSON object per line
+}
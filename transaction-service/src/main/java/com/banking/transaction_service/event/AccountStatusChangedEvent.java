@@ -0,0 +1,24 @@
+package com.banking.transaction_service.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published by account-service when an account's status changes (status update, closure)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountStatusChangedEvent {
+    private Long accountId;
+    private String accountNumber;
+    private String oldStatus;
+    private String newStatus;
+    private String reason;
+    private LocalDateTime changedAt;
+}
@@ -74,6 +74,30 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
     }
 
+    @ExceptionHandler(AccountBusyException.class)
+    public ResponseEntity<ApiResponse<String>> handleAccountBusy(AccountBusyException ex) {
+        log.warn("Account busy: {}", ex.getMessage());
+        ApiResponse<String> response = ApiResponse.<String>builder()
+                .timestamp(LocalDateTime.now())
+                .status("ERROR")
+                .message(ex.getMessage())
+                .build();
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(response);
+    }
+
+    @ExceptionHandler(BulkTransferValidationException.class)
+    public ResponseEntity<ApiResponse<Map<String, String>>> handleBulkTransferValidation(
+            BulkTransferValidationException ex) {
+        log.error("Bulk transfer rejected: {}", ex.getMessage());
+        ApiResponse<Map<String, String>> response = ApiResponse.<Map<String, String>>builder()
+                .timestamp(LocalDateTime.now())
+                .status("ERROR")
+                .message(ex.getMessage())
+                .data(ex.getRowErrors())
+                .build();
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+    }
+
     @ExceptionHandler(AccountServiceUnavailableException.class)
     public ResponseEntity<ApiResponse<String>> handleServiceUnavailable(AccountServiceUnavailableException ex) {
         log.error("Account service unavailable: {}", ex.getMessage());
@@ -0,0 +1,7 @@
+package com.banking.transaction_service.exception.custom;
+
+public class AccountBusyException extends RuntimeException {
+    public AccountBusyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,18 @@
+package com.banking.transaction_service.exception.custom;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class BulkTransferValidationException extends RuntimeException {
+
+    private final LinkedHashMap<String, String> rowErrors;  // serializable copy, in row order
+
+    public BulkTransferValidationException(String message, Map<String, String> rowErrors) {
+        super(message);
+        this.rowErrors = new LinkedHashMap<>(rowErrors);
+    }
+
+    public Map<String, String> getRowErrors() {
+        return rowErrors;
+    }
+}
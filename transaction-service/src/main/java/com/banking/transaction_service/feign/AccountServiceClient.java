@@ -4,7 +4,15 @@ import com.banking.transaction_service.config.FeignConfig;
 import com.banking.transaction_service.dto.AccountBalanceResponse;
 import com.banking.transaction_service.dto.ApiResponse;
 import com.banking.transaction_service.dto.BalanceUpdateRequest;
+import com.banking.transaction_service.dto.BulkCreditRequest;
+import com.banking.transaction_service.dto.BulkCreditResponse;
+import com.banking.transaction_service.dto.BulkDebitRequest;
+import com.banking.transaction_service.dto.TransferLegRequest;
+import com.banking.transaction_service.dto.TransferLegResponse;
+import com.banking.transaction_service.exception.custom.AccountNotFoundException;
 import com.banking.transaction_service.exception.custom.AccountServiceUnavailableException;
+import com.banking.transaction_service.exception.custom.InsufficientBalanceException;
+import com.banking.transaction_service.exception.custom.InvalidTransactionException;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import io.github.resilience4j.retry.annotation.Retry;
 import org.springframework.cloud.openfeign.FeignClient;
@@ -51,6 +59,26 @@ public interface AccountServiceClient {
             @PathVariable("accountId") Long accountId,
             @RequestBody BalanceUpdateRequest request);
 
+    // Atomic transfer: debit + credit in one account-service DB transaction.
+    // Not retried: a timed-out call may already have committed on the account side.
+    @PostMapping("/api/v1/account/transfer")
+    @CircuitBreaker(name = "account-service", fallbackMethod = "transferFallback")
+    ApiResponse<TransferLegResponse> transfer(@RequestBody TransferLegRequest request);
+
+    // Bulk payouts: aggregate debit, chunked credits, refund of failed rows.
+    // Not retried for the same reason as transfer().
+    @PostMapping("/api/v1/account/bulk-payout/debit")
+    @CircuitBreaker(name = "account-service", fallbackMethod = "bulkDebitFallback")
+    ApiResponse<AccountBalanceResponse> bulkPayoutDebit(@RequestBody BulkDebitRequest request);
+
+    @PostMapping("/api/v1/account/bulk-payout/credit")
+    @CircuitBreaker(name = "account-service", fallbackMethod = "bulkCreditFallback")
+    ApiResponse<BulkCreditResponse> bulkPayoutCredit(@RequestBody BulkCreditRequest request);
+
+    @PostMapping("/api/v1/account/bulk-payout/refund")
+    @CircuitBreaker(name = "account-service", fallbackMethod = "bulkDebitFallback")
+    ApiResponse<AccountBalanceResponse> bulkPayoutRefund(@RequestBody BulkDebitRequest request);
+
     // Fallback methods
     default ApiResponse<AccountBalanceResponse> getBalanceFallback(Long accountId, Exception e) {
         throw new AccountServiceUnavailableException("Account service unavailable");
@@ -64,4 +92,30 @@ public interface AccountServiceClient {
             Long accountId, BalanceUpdateRequest request, Exception e) {
         throw new AccountServiceUnavailableException("Account service unavailable");
     }
-}
\ No newline at end of file
+
+    default ApiResponse<TransferLegResponse> transferFallback(TransferLegRequest request, Exception e) {
+        // Business rejections (insufficient balance, inactive account...) are not outages
+        if (e instanceof InsufficientBalanceException
+                || e instanceof InvalidTransactionException
+                || e instanceof AccountNotFoundException) {
+            throw (RuntimeException) e;
+        }
+        throw new AccountServiceUnavailableException("Account service unavailable");
+    }
+
+    default ApiResponse<AccountBalanceResponse> bulkDebitFallback(BulkDebitRequest request, Exception e) {
+        if (e instanceof InsufficientBalanceException
+                || e instanceof InvalidTransactionException
+                || e instanceof AccountNotFoundException) {
+            throw (RuntimeException) e;
+        }
+        throw new AccountServiceUnavailableException("Account service unavailable");
+    }
+
+    default ApiResponse<BulkCreditResponse> bulkCreditFallback(BulkCreditRequest request, Exception e) {
+        if (e instanceof InvalidTransactionException) {
+            throw (RuntimeException) e;
+        }
+        throw new AccountServiceUnavailableException("Account service unavailable");
+    }
+}
@@ -0,0 +1,55 @@
+package com.banking.transaction_service.feign;
+
+import com.banking.transaction_service.exception.custom.AccountNotFoundException;
+import com.banking.transaction_service.exception.custom.InsufficientBalanceException;
+import com.banking.transaction_service.exception.custom.InvalidTransactionException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.Response;
+import feign.codec.ErrorDecoder;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.InputStream;
+
+/**
+ * Maps Account Service business errors (4xx) to local exceptions
+ * so they reach the client as-is instead of a generic "service unavailable"
+ */
+@Slf4j
+public class AccountServiceErrorDecoder implements ErrorDecoder {
+
+    private final ErrorDecoder defaultDecoder = new Default();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Override
+    public Exception decode(String methodKey, Response response) {
+        int status = response.status();
+        if (status < 400 || status >= 500) {
+            return defaultDecoder.decode(methodKey, response);
+        }
+
+        String message = readMessage(response);
+        log.warn("Account service rejected {} | Status: {} | Message: {}", methodKey, status, message);
+
+        if (status == 404) {
+            return new AccountNotFoundException(message);
+        }
+        if (message.startsWith("Insufficient balance")) {
+            return new InsufficientBalanceException(message);
+        }
+        return new InvalidTransactionException(message);
+    }
+
+    private String readMessage(Response response) {
+        if (response.body() == null) {
+            return "Account service rejected the request";
+        }
+        try (InputStream body = response.body().asInputStream()) {
+            JsonNode node = objectMapper.readTree(body);
+            JsonNode message = node.get("message");
+            return message != null ? message.asText() : "Account service rejected the request";
+        } catch (Exception e) {
+            return "Account service rejected the request";
+        }
+    }
+}
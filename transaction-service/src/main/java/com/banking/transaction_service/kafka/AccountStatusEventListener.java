@@ -0,0 +1,27 @@
+package com.banking.transaction_service.kafka;
+
+import com.banking.transaction_service.event.AccountStatusChangedEvent;
+import com.banking.transaction_service.service.AccountMetadataCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Evicts cached account metadata when account-service reports a status change
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AccountStatusEventListener {
+
+    private final AccountMetadataCache accountMetadataCache;
+
+    @KafkaListener(topics = "${kafka.topics.account-status-changed}",
+            containerFactory = "accountEventListenerFactory")
+    public void onAccountStatusChanged(AccountStatusChangedEvent event) {
+        accountMetadataCache.evict(event.getAccountId(), event.getAccountNumber());
+        log.info(" Account status changed | Account: {} | {} -> {} | Cache evicted",
+                event.getAccountNumber(), event.getOldStatus(), event.getNewStatus());
+    }
+}
@@ -0,0 +1,197 @@
+package com.banking.transaction_service.kafka;
+
+import com.banking.transaction_service.config.AppProperties;
+import com.banking.transaction_service.entity.OutboxEvent;
+import com.banking.transaction_service.enums.OutboxStatus;
+import com.banking.transaction_service.repository.OutboxEventRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Outbox Relay
+ * Drains outbox_events to Kafka in id order, in batches, off the request path.
+ *
+ * Ordering: at most one event per key is in flight per batch, and an event is only
+ * sent once every earlier event for its key is SENT, so consumers see each key in order.
+ * Delivery is at-least-once; every record carries an "outbox-id" header for dedupe.
+ */
+@Component
+@Slf4j
+public class OutboxRelay {
+
+    public static final String OUTBOX_ID_HEADER = "outbox-id";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final AppProperties appProperties;
+
+    private final AtomicLong pendingEvents = new AtomicLong();
+    private final AtomicLong oldestPendingAgeMs = new AtomicLong();
+    private final Counter sentCounter;
+    private final Counter failedCounter;
+    private final Timer batchTimer;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       KafkaTemplate<String, Object> kafkaTemplate,
+                       ObjectMapper objectMapper,
+                       TransactionTemplate transactionTemplate,
+                       AppProperties appProperties,
+                       MeterRegistry meterRegistry) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.kafkaTemplate = kafkaTemplate;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.appProperties = appProperties;
+
+        Gauge.builder("transaction.outbox.pending", pendingEvents, AtomicLong::get)
+                .description("Outbox events not yet acknowledged by Kafka")
+                .register(meterRegistry);
+        Gauge.builder("transaction.outbox.lag", oldestPendingAgeMs, AtomicLong::get)
+                .description("Age of the oldest pending outbox event")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        this.sentCounter = Counter.builder("transaction.outbox.sent")
+                .description("Outbox events delivered to Kafka")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("transaction.outbox.send.failures")
+                .description("Failed outbox send attempts")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("transaction.outbox.batch")
+                .description("Time to relay one outbox batch")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${transaction.outbox.poll-interval-ms:200}")
+    public void relay() {
+        boolean drainMore;
+        do {
+            drainMore = Boolean.TRUE.equals(
+                    batchTimer.record(() -> transactionTemplate.execute(status -> relayBatch())));
+        } while (drainMore);
+
+        pendingEvents.set(outboxEventRepository.countByStatus(OutboxStatus.PENDING));
+    }
+
+    @Scheduled(cron = "${transaction.outbox.cleanup-cron:0 15 * * * *}")
+    public void purgeSentEvents() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(appProperties.getOutbox().getRetentionDays());
+        Integer deleted = transactionTemplate.execute(status -> outboxEventRepository.deleteSentBefore(cutoff));
+        log.info(" Outbox cleanup | Deleted {} sent events older than {}", deleted, cutoff);
+    }
+
+    /**
+     * Relay one batch inside a DB transaction that holds the row locks until
+     * Kafka has acknowledged (or rejected) every record.
+     * Returns true when a full batch went out cleanly and more may be waiting.
+     */
+    private boolean relayBatch() {
+        AppProperties.Outbox config = appProperties.getOutbox();
+        List<OutboxEvent> events = outboxEventRepository.findPendingForUpdate(
+                PageRequest.of(0, config.getBatchSize()));
+
+        if (events.isEmpty()) {
+            oldestPendingAgeMs.set(0);
+            return false;
+        }
+        oldestPendingAgeMs.set(Duration.between(events.get(0).getCreatedDate(), LocalDateTime.now()).toMillis());
+
+        // One event per key per batch; later events of that key wait for the next batch
+        Set<String> keysInFlight = new HashSet<>();
+        Map<OutboxEvent, CompletableFuture<SendResult<String, Object>>> inFlight = new LinkedHashMap<>();
+
+        for (OutboxEvent event : events) {
+            if (!keysInFlight.add(event.getAggregateKey())) {
+                continue;
+            }
+            ProducerRecord<String, Object> record;
+            try {
+                record = toRecord(event);
+            } catch (Exception e) {
+                // Poison event (unknown type / bad payload): park it, do not block its key
+                event.setStatus(OutboxStatus.FAILED);
+                recordFailure(event, e);
+                continue;
+            }
+            try {
+                inFlight.put(event, kafkaTemplate.send(record));
+            } catch (RuntimeException e) {
+                recordFailure(event, e);  // e.g. metadata unavailable; retried next poll
+            }
+        }
+
+        // Wait for acknowledgements under one shared deadline
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(config.getSendTimeoutMs());
+        List<Long> sentIds = new ArrayList<>(inFlight.size());
+
+        for (Map.Entry<OutboxEvent, CompletableFuture<SendResult<String, Object>>> entry : inFlight.entrySet()) {
+            try {
+                entry.getValue().get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                sentIds.add(entry.getKey().getId());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                recordFailure(entry.getKey(), e);
+            } catch (ExecutionException | TimeoutException e) {
+                // Stays PENDING: retried next poll, its key stays blocked until then
+                recordFailure(entry.getKey(), e);
+            }
+        }
+
+        if (!sentIds.isEmpty()) {
+            outboxEventRepository.markSent(sentIds, LocalDateTime.now());
+            sentCounter.increment(sentIds.size());
+        }
+
+        log.debug(" Outbox batch | Claimed: {} | Sent: {} | Failed: {}",
+                events.size(), sentIds.size(), inFlight.size() - sentIds.size());
+        return events.size() == config.getBatchSize() && sentIds.size() == inFlight.size();
+    }
+
+    private ProducerRecord<String, Object> toRecord(OutboxEvent event) throws Exception {
+        // Rebuild the original event so the wire format (JSON + type headers) is unchanged
+        Object payload = objectMapper.readValue(event.getPayload(), Class.forName(event.getPayloadType()));
+
+        ProducerRecord<String, Object> record =
+                new ProducerRecord<>(event.getTopic(), event.getAggregateKey(), payload);
+        record.headers().add(OUTBOX_ID_HEADER, event.getId().toString().getBytes(StandardCharsets.UTF_8));
+        return record;
+    }
+
+    private void recordFailure(OutboxEvent event, Exception e) {
+        Throwable cause = e.getCause() != null ? e.getCause() : e;
+        String message = cause.getClass().getSimpleName() + ": " + cause.getMessage();
+
+        event.setAttempts(event.getAttempts() + 1);
+        event.setLastError(message.length() > 500 ? message.substring(0, 500) : message);
+        if (event.getStatus() == OutboxStatus.FAILED) {
+            log.error(" Outbox event {} parked as FAILED | Key: {} | Error: {}",
+                    event.getId(), event.getAggregateKey(), message);
+        } else {
+            log.warn(" Outbox event {} send failed (attempt {}) | Key: {} | Error: {}",
+                    event.getId(), event.getAttempts(), event.getAggregateKey(), message);
+        }
+        failedCounter.increment();
+    }
+}
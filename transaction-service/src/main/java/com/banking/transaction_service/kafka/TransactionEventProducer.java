@@ -1,19 +1,35 @@
 package com.banking.transaction_service.kafka;
 
+import com.banking.transaction_service.entity.OutboxEvent;
 import com.banking.transaction_service.entity.Transaction;
 import com.banking.transaction_service.event.*;
+import com.banking.transaction_service.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+
+/**
+ * Transaction event producer (transactional outbox)
+ *
+ * Events are not sent here: they are stored as OutboxEvent rows in the caller's
+ * DB transaction, so an event exists if and only if the change it describes commits.
+ * OutboxRelay ships them to Kafka in the background.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class TransactionEventProducer {
 
-    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
 
     @Value("${kafka.topics.transaction-completed}")
     private String transactionCompletedTopic;
@@ -24,6 +40,7 @@ public class TransactionEventProducer {
     @Value("${kafka.topics.transaction-reversed}")
     private String transactionReversedTopic;
 
+    @Transactional(propagation = Propagation.MANDATORY)
     public void publishTransactionCompleted(Transaction transaction) {
         TransactionCompletedEvent event = TransactionCompletedEvent.builder()
                 .transactionId(transaction.getTransactionId())
@@ -35,10 +52,11 @@ public class TransactionEventProducer {
                 .completedAt(transaction.getCompletedDate())
                 .build();
 
-        kafkaTemplate.send(transactionCompletedTopic, transaction.getTransactionId(), event);
-        log.info(" Published completed event: {}", transaction.getTransactionId());
+        enqueue(transactionCompletedTopic, transaction.getTransactionId(), event);
+        log.info(" Queued completed event: {}", transaction.getTransactionId());
     }
 
+    @Transactional(propagation = Propagation.MANDATORY)
     public void publishTransactionFailed(Transaction transaction) {
         TransactionFailedEvent event = TransactionFailedEvent.builder()
                 .transactionId(transaction.getTransactionId())
@@ -50,12 +68,32 @@ public class TransactionEventProducer {
                 .failedAt(transaction.getCreatedDate())
                 .build();
 
-        kafkaTemplate.send(transactionFailedTopic, transaction.getTransactionId(), event);
-        log.info(" Published failed event: {}", transaction.getTransactionId());
+        enqueue(transactionFailedTopic, transaction.getTransactionId(), event);
+        log.info(" Queued failed event: {}", transaction.getTransactionId());
     }
 
+    @Transactional(propagation = Propagation.MANDATORY)
     public void publishTransactionReversed(Transaction transaction) {
-        kafkaTemplate.send(transactionReversedTopic, transaction.getTransactionId(), transaction);
-        log.info(" Published reversed event: {}", transaction.getTransactionId());
+        enqueue(transactionReversedTopic, transaction.getTransactionId(), transaction);
+        log.info(" Queued reversed event: {}", transaction.getTransactionId());
+    }
+
+    private void enqueue(String topic, String key, Object event) {
+        String payload;
+        try {
+            payload = objectMapper.writer()
+                    .without(SerializationFeature.INDENT_OUTPUT)
+                    .writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize event for " + key, e);
+        }
+
+        outboxEventRepository.save(OutboxEvent.builder()
+                .topic(topic)
+                .aggregateKey(key)
+                .payloadType(event.getClass().getName())
+                .payload(payload)
+                .createdDate(LocalDateTime.now())
+                .build());
     }
-}
\ No newline at end of file
+}
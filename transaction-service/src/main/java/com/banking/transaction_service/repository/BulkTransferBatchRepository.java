@@ -0,0 +1,63 @@
+package com.banking.transaction_service.repository;
+
+import com.banking.transaction_service.entity.BulkTransferBatch;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface BulkTransferBatchRepository extends JpaRepository<BulkTransferBatch, Long> {
+
+    Optional<BulkTransferBatch> findByBatchId(String batchId);
+    Optional<BulkTransferBatch> findByIdempotencyKey(String idempotencyKey);
+
+    /**
+     * Take the worker lease of an unfinished batch if it is free or expired
+     */
+    @Modifying
+    @Query("UPDATE BulkTransferBatch b SET b.workerId = :workerId, b.leaseExpiresAt = :expiresAt " +
+            "WHERE b.batchId = :batchId AND b.status IN ('ACCEPTED', 'PROCESSING') " +
+            "AND (b.workerId IS NULL OR b.leaseExpiresAt < :now)")
+    int acquireLease(
+            @Param("batchId") String batchId,
+            @Param("workerId") String workerId,
+            @Param("now") LocalDateTime now,
+            @Param("expiresAt") LocalDateTime expiresAt
+    );
+
+    /**
+     * Extend the lease only if it is still ours (locks the batch row until commit)
+     */
+    @Modifying
+    @Query("UPDATE BulkTransferBatch b SET b.leaseExpiresAt = :expiresAt " +
+            "WHERE b.batchId = :batchId AND b.workerId = :workerId")
+    int renewLease(
+            @Param("batchId") String batchId,
+            @Param("workerId") String workerId,
+            @Param("expiresAt") LocalDateTime expiresAt
+    );
+
+    @Modifying
+    @Query("UPDATE BulkTransferBatch b SET b.workerId = NULL, b.leaseExpiresAt = NULL " +
+            "WHERE b.batchId = :batchId AND b.workerId = :workerId")
+    int releaseLease(@Param("batchId") String batchId, @Param("workerId") String workerId);
+
+    /**
+     * Unfinished batches no worker is running: lease expired, or never taken since acceptedBefore
+     */
+    @Query("SELECT b.batchId FROM BulkTransferBatch b WHERE b.status IN ('ACCEPTED', 'PROCESSING') " +
+            "AND (b.leaseExpiresAt < :now OR (b.workerId IS NULL AND b.createdDate < :acceptedBefore)) " +
+            "ORDER BY b.id")
+    List<String> findStalledBatchIds(
+            @Param("now") LocalDateTime now,
+            @Param("acceptedBefore") LocalDateTime acceptedBefore,
+            Pageable pageable
+    );
+}
@@ -0,0 +1,35 @@
+package com.banking.transaction_service.repository;
+
+import com.banking.transaction_service.entity.OutboxEvent;
+import com.banking.transaction_service.enums.OutboxStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // Oldest pending events, row-locked: a second relay instance waits instead of
+    // sending the same events (or the same key) out of order
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM OutboxEvent e WHERE e.status = 'PENDING' ORDER BY e.id")
+    List<OutboxEvent> findPendingForUpdate(Pageable pageable);
+
+    long countByStatus(OutboxStatus status);
+
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.status = 'SENT', e.sentDate = :now WHERE e.id IN :ids")
+    int markSent(@Param("ids") List<Long> ids, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.status = 'SENT' AND e.sentDate < :cutoff")
+    int deleteSentBefore(@Param("cutoff") LocalDateTime cutoff);
+}
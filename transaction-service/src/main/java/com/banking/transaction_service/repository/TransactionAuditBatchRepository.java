@@ -0,0 +1,36 @@
+package com.banking.transaction_service.repository;
+
+import com.banking.transaction_service.entity.TransactionAudit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * JDBC batch inserts for audit rows
+ *
+ * TransactionAudit uses IDENTITY ids, so Hibernate cannot batch its inserts;
+ * the audit writer flushes a whole batch as one multi-row INSERT instead.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TransactionAuditBatchRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO transaction_audit (transaction_id, action, description, performed_by, timestamp) " +
+            "VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertAll(List<TransactionAudit> audits) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, audits, audits.size(), (ps, audit) -> {
+            ps.setString(1, audit.getTransactionId());
+            ps.setString(2, audit.getAction().name());
+            ps.setString(3, audit.getDescription());
+            ps.setString(4, audit.getPerformedBy());
+            ps.setTimestamp(5, Timestamp.valueOf(audit.getTimestamp()));
+        });
+    }
+}
@@ -0,0 +1,83 @@
+package com.banking.transaction_service.repository;
+
+import com.banking.transaction_service.entity.Transaction;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * JDBC batch writes for bulk transfer rows
+ *
+ * Transaction uses IDENTITY ids, so Hibernate cannot batch its inserts;
+ * here a whole chunk goes out as one multi-row INSERT (rewriteBatchedStatements).
+ */
+@Repository
+@RequiredArgsConstructor
+public class TransactionBatchRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO transactions (transaction_id, reference_number, transaction_type, transfer_mode, " +
+            "from_account_id, from_account_number, to_account_number, amount, charges_amount, tax_amount, " +
+            "total_amount, status, description, remarks, initiated_by, bulk_batch_id, " +
+            "created_date, modified_date, version) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)";
+
+    private static final String UPDATE_RESULT_SQL =
+            "UPDATE transactions SET status = ?, to_account_id = ?, failure_reason = ?, " +
+            "completed_date = ?, modified_date = ?, version = version + 1 WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Insert bulk rows in JDBC batches of batchSize
+     */
+    public void insertAll(List<Transaction> transactions, int batchSize) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, transactions, batchSize, (ps, t) -> {
+            ps.setString(1, t.getTransactionId());
+            ps.setString(2, t.getReferenceNumber());
+            ps.setString(3, t.getTransactionType().name());
+            ps.setString(4, t.getTransferMode().name());
+            ps.setLong(5, t.getFromAccountId());
+            ps.setString(6, t.getFromAccountNumber());
+            ps.setString(7, t.getToAccountNumber());
+            ps.setBigDecimal(8, t.getAmount());
+            ps.setBigDecimal(9, t.getChargesAmount());
+            ps.setBigDecimal(10, t.getTaxAmount());
+            ps.setBigDecimal(11, t.getTotalAmount());
+            ps.setString(12, t.getStatus().name());
+            ps.setString(13, t.getDescription());
+            ps.setString(14, t.getRemarks());
+            ps.setString(15, t.getInitiatedBy());
+            ps.setString(16, t.getBulkBatchId());
+            ps.setTimestamp(17, now);
+            ps.setTimestamp(18, now);
+        });
+    }
+
+    /**
+     * Write final status of a chunk of bulk rows in one JDBC batch
+     */
+    public void updateResults(List<Transaction> transactions) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(UPDATE_RESULT_SQL, transactions, transactions.size(), (ps, t) -> {
+            ps.setString(1, t.getStatus().name());
+            if (t.getToAccountId() != null) {
+                ps.setLong(2, t.getToAccountId());
+            } else {
+                ps.setNull(2, Types.BIGINT);
+            }
+            ps.setString(3, t.getFailureReason());
+            ps.setTimestamp(4, t.getCompletedDate() != null ? Timestamp.valueOf(t.getCompletedDate()) : null);
+            ps.setTimestamp(5, now);
+            ps.setLong(6, t.getId());
+        });
+    }
+}
@@ -1,15 +1,18 @@
 package com.banking.transaction_service.repository;
 
 import com.banking.transaction_service.entity.Transaction;
+import com.banking.transaction_service.enums.TransactionStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -22,8 +25,61 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
     Page<Transaction> findByFromAccountIdOrToAccountIdOrderByCreatedDateDesc(
             Long fromAccountId, Long toAccountId, Pageable pageable);
 
+    // History keyset pages: each side walks its (accountId, createdDate, id) index, newest first
+    List<Transaction> findByFromAccountIdOrderByCreatedDateDescIdDesc(Long fromAccountId, Pageable pageable);
+
+    List<Transaction> findByToAccountIdOrderByCreatedDateDescIdDesc(Long toAccountId, Pageable pageable);
+
+    @Query("SELECT t FROM Transaction t WHERE t.fromAccountId = :accountId " +
+            "AND (t.createdDate < :createdDate OR (t.createdDate = :createdDate AND t.id < :id)) " +
+            "ORDER BY t.createdDate DESC, t.id DESC")
+    List<Transaction> findOutgoingBefore(
+            @Param("accountId") Long accountId,
+            @Param("createdDate") LocalDateTime createdDate,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
+    @Query("SELECT t FROM Transaction t WHERE t.toAccountId = :accountId " +
+            "AND (t.createdDate < :createdDate OR (t.createdDate = :createdDate AND t.id < :id)) " +
+            "ORDER BY t.createdDate DESC, t.id DESC")
+    List<Transaction> findIncomingBefore(
+            @Param("accountId") Long accountId,
+            @Param("createdDate") LocalDateTime createdDate,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
+    long countByFromAccountId(Long fromAccountId);
+
+    long countByToAccountId(Long toAccountId);
+
+    // Bulk transfer rows: keyset walk over one batch (id > lastId)
+    List<Transaction> findByBulkBatchIdAndStatusAndIdGreaterThanOrderByIdAsc(
+            String bulkBatchId, TransactionStatus status, Long id, Pageable pageable);
+
+    Page<Transaction> findByBulkBatchIdOrderByIdAsc(String bulkBatchId, Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE Transaction t SET t.status = 'FAILED', t.failureReason = :reason, " +
+            "t.modifiedDate = :now WHERE t.bulkBatchId = :bulkBatchId AND t.status = 'PENDING'")
+    int failPendingBulkRows(
+            @Param("bulkBatchId") String bulkBatchId,
+            @Param("reason") String reason,
+            @Param("now") LocalDateTime now
+    );
+
+    /**
+     * Amount to give back for the rows of a bulk batch that could not be credited
+     */
+    @Query("SELECT COALESCE(SUM(t.totalAmount), 0) FROM Transaction t " +
+            "WHERE t.bulkBatchId = :bulkBatchId AND t.status = 'FAILED'")
+    BigDecimal sumFailedBulkRows(@Param("bulkBatchId") String bulkBatchId);
+
+    // Bulk payout rows are exempt from the daily limit (see BulkTransferProcessor), so they are not counted
     @Query("SELECT COALESCE(SUM(t.totalAmount), 0) FROM Transaction t WHERE " +
             "t.fromAccountId = :accountId " +
+            "AND t.bulkBatchId IS NULL " +
             "AND t.status = 'SUCCESS' " +
             "AND t.createdDate BETWEEN :startDate AND :endDate")
     BigDecimal calculateDailyDebitTotal(
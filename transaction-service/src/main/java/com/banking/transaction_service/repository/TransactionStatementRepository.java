@@ -0,0 +1,54 @@
+package com.banking.transaction_service.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * Forward-only read of an account's transactions for statement export
+ *
+ * Uses a dedicated JdbcTemplate with fetch size Integer.MIN_VALUE, which makes
+ * MySQL Connector/J stream the result set row by row instead of buffering it,
+ * so memory stays flat whatever the date range.
+ */
+@Repository
+public class TransactionStatementRepository {
+
+    private static final String COLUMNS =
+            "id, transaction_id, reference_number, transaction_type, transfer_mode, " +
+            "from_account_id, from_account_number, to_account_number, amount, charges_amount, " +
+            "tax_amount, total_amount, status, description, created_date, completed_date";
+
+    // Each branch seeks its own (account, created_date, id) index
+    private static final String STATEMENT_SQL =
+            "SELECT " + COLUMNS + " FROM transactions " +
+            "WHERE from_account_id = ? AND created_date >= ? AND created_date < ? " +
+            "UNION ALL " +
+            "SELECT " + COLUMNS + " FROM transactions " +
+            "WHERE to_account_id = ? AND created_date >= ? AND created_date < ? " +
+            "AND (from_account_id IS NULL OR from_account_id <> ?) " +
+            "ORDER BY created_date, id";
+
+    private final JdbcTemplate streamingJdbcTemplate;
+
+    public TransactionStatementRepository(DataSource dataSource) {
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(Integer.MIN_VALUE);
+    }
+
+    /**
+     * Stream rows in [from, to) oldest first to the handler, one at a time
+     */
+    public void streamStatement(Long accountId, LocalDateTime from, LocalDateTime to, RowCallbackHandler handler) {
+        Timestamp start = Timestamp.valueOf(from);
+        Timestamp end = Timestamp.valueOf(to);
+
+        streamingJdbcTemplate.query(STATEMENT_SQL, handler,
+                accountId, start, end,
+                accountId, start, end, accountId);
+    }
+}
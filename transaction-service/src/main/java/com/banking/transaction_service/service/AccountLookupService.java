@@ -0,0 +1,100 @@
+package com.banking.transaction_service.service;
+
+import com.banking.transaction_service.config.AppProperties;
+import com.banking.transaction_service.dto.AccountMetadata;
+import com.banking.transaction_service.exception.custom.AccountServiceUnavailableException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Account Lookup Service
+ * Runs independent account lookups concurrently on accountLookupExecutor
+ * (served from AccountMetadataCache; only misses reach account-service):
+ * - one deadline shared by all lookups
+ * - the first failure cancels the siblings and is rethrown as-is
+ *   (AccountNotFoundException etc. reach GlobalExceptionHandler unchanged)
+ */
+@Service
+@Slf4j
+public class AccountLookupService {
+
+    private final AccountMetadataCache accountMetadataCache;
+    private final TaskExecutor accountLookupExecutor;
+    private final AppProperties appProperties;
+
+    public AccountLookupService(AccountMetadataCache accountMetadataCache,
+                                @Qualifier("accountLookupExecutor") TaskExecutor accountLookupExecutor,
+                                AppProperties appProperties) {
+        this.accountMetadataCache = accountMetadataCache;
+        this.accountLookupExecutor = accountLookupExecutor;
+        this.appProperties = appProperties;
+    }
+
+    /**
+     * Fetch source (by id) and destination (by number) of a transfer in parallel
+     */
+    public TransferAccounts fetchTransferAccounts(Long fromAccountId, String toAccountNumber) {
+        CompletionService<AccountMetadata> lookups = new ExecutorCompletionService<>(accountLookupExecutor);
+
+        Future<AccountMetadata> source = lookups.submit(
+                () -> accountMetadataCache.getById(fromAccountId));
+        Future<AccountMetadata> destination = lookups.submit(
+                () -> accountMetadataCache.getByNumber(toAccountNumber));
+
+        awaitAll(lookups, List.of(source, destination));
+        return new TransferAccounts(completedResult(source), completedResult(destination));
+    }
+
+    private <T> void awaitAll(CompletionService<T> lookups, List<Future<T>> futures) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(appProperties.getPreflight().getTimeoutMs());
+        try {
+            for (int done = 0; done < futures.size(); done++) {
+                Future<T> completed = lookups.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                if (completed == null) {
+                    log.error(" Account lookups timed out after {} ms", appProperties.getPreflight().getTimeoutMs());
+                    throw new AccountServiceUnavailableException(
+                            "Account service did not respond in time. Please try again later");
+                }
+                completed.get();  // rethrows the first failure
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AccountServiceUnavailableException("Interrupted while fetching account details");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new AccountServiceUnavailableException("Account lookup failed: " + cause.getMessage());
+        } finally {
+            // No-op for finished lookups; interrupts the sibling of a failed or timed-out one
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+
+    private static <T> T completedResult(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException | ExecutionException e) {
+            throw new IllegalStateException("Lookup was expected to be complete", e);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class TransferAccounts {
+        private final AccountMetadata source;
+        private final AccountMetadata destination;
+    }
+}
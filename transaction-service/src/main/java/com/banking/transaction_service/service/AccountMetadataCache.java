@@ -0,0 +1,171 @@
+package com.banking.transaction_service.service;
+
+import com.banking.transaction_service.config.AppProperties;
+import com.banking.transaction_service.dto.AccountMetadata;
+import com.banking.transaction_service.feign.AccountServiceClient;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Account Metadata Cache
+ * In-process cache of account id / number / status, so the common transfer,
+ * deposit and withdrawal paths skip the account-service lookups.
+ *
+ * - Bounded (LRU beyond transaction.account-cache.max-size) with a write TTL
+ * - Evicted by account-status-changed events (AccountStatusEventListener);
+ *   the TTL bounds staleness if an event is missed
+ * - Balance is never cached: a stale ACTIVE status or a low balance is still
+ *   rejected by account-service's guarded debit/credit
+ *
+ * Loads run outside the lock. A load that overlaps an eviction is returned to
+ * its caller but not stored, so an event can never be undone by a slow load.
+ *
+ * Metrics:
+ * - transaction.account.cache.requests{result=hit|miss}
+ * - transaction.account.cache.size
+ */
+@Service
+@Slf4j
+public class AccountMetadataCache {
+
+    private final AccountServiceClient accountServiceClient;
+    private final long ttlNanos;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<Long, CachedAccount> byId;
+    private final Map<String, CachedAccount> byNumber;
+    private final Counter hits;
+    private final Counter misses;
+    private final MeterRegistry meterRegistry;
+
+    // Bumped on every eviction; guarded by lock
+    private long evictionGeneration;
+
+    public AccountMetadataCache(AccountServiceClient accountServiceClient,
+                                AppProperties appProperties,
+                                MeterRegistry meterRegistry) {
+        AppProperties.AccountCache config = appProperties.getAccountCache();
+        this.accountServiceClient = accountServiceClient;
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(config.getTtlSeconds());
+        this.byId = lruMap(config.getMaxSize());
+        this.byNumber = lruMap(config.getMaxSize());
+
+        this.hits = Counter.builder("transaction.account.cache.requests")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("transaction.account.cache.requests")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void registerGauges() {
+        Gauge.builder("transaction.account.cache.size", this, AccountMetadataCache::size)
+                .register(meterRegistry);
+    }
+
+    public AccountMetadata getById(Long accountId) {
+        return get(byId, accountId,
+                () -> AccountMetadata.from(accountServiceClient.getAccountBalance(accountId).getData()));
+    }
+
+    public AccountMetadata getByNumber(String accountNumber) {
+        return get(byNumber, accountNumber,
+                () -> AccountMetadata.from(accountServiceClient.getAccountByNumber(accountNumber).getData()));
+    }
+
+    /**
+     * Drop an account from both views (either key may be null)
+     */
+    public void evict(Long accountId, String accountNumber) {
+        lock.lock();
+        try {
+            evictionGeneration++;
+            CachedAccount cached = accountId != null ? byId.remove(accountId) : null;
+            if (cached == null && accountNumber != null) {
+                cached = byNumber.remove(accountNumber);
+            }
+            if (cached != null) {
+                byId.remove(cached.metadata.getAccountId());
+                byNumber.remove(cached.metadata.getAccountNumber());
+            }
+            if (accountNumber != null) {
+                byNumber.remove(accountNumber);
+            }
+        } finally {
+            lock.unlock();
+        }
+        log.debug(" Account metadata evicted | Id: {} | Number: {}", accountId, accountNumber);
+    }
+
+    private <K> AccountMetadata get(Map<K, CachedAccount> view, K key, Supplier<AccountMetadata> loader) {
+        long generation;
+        lock.lock();
+        try {
+            CachedAccount cached = view.get(key);
+            if (cached != null && System.nanoTime() - cached.expiresAt < 0) {
+                hits.increment();
+                return cached.metadata;
+            }
+            generation = evictionGeneration;
+        } finally {
+            lock.unlock();
+        }
+
+        misses.increment();
+        AccountMetadata loaded = loader.get();
+        store(loaded, generation);
+        return loaded;
+    }
+
+    private void store(AccountMetadata metadata, long generation) {
+        CachedAccount cached = new CachedAccount(metadata, System.nanoTime() + ttlNanos);
+        lock.lock();
+        try {
+            if (generation == evictionGeneration) {
+                byId.put(metadata.getAccountId(), cached);
+                byNumber.put(metadata.getAccountNumber(), cached);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int size() {
+        lock.lock();
+        try {
+            return byId.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static <K> Map<K, CachedAccount> lruMap(long maxSize) {
+        return new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, CachedAccount> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    private static final class CachedAccount {
+        private final AccountMetadata metadata;
+        private final long expiresAt;
+
+        private CachedAccount(AccountMetadata metadata, long expiresAt) {
+            this.metadata = metadata;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
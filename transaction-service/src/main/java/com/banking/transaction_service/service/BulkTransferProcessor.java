@@ -0,0 +1,327 @@
+package com.banking.transaction_service.service;
+
+import com.banking.transaction_service.config.AppProperties;
+import com.banking.transaction_service.dto.*;
+import com.banking.transaction_service.entity.BulkTransferBatch;
+import com.banking.transaction_service.entity.Transaction;
+import com.banking.transaction_service.enums.BulkTransferStatus;
+import com.banking.transaction_service.enums.TransactionStatus;
+import com.banking.transaction_service.exception.custom.AccountNotFoundException;
+import com.banking.transaction_service.exception.custom.InsufficientBalanceException;
+import com.banking.transaction_service.exception.custom.InvalidTransactionException;
+import com.banking.transaction_service.feign.AccountServiceClient;
+import com.banking.transaction_service.kafka.TransactionEventProducer;
+import com.banking.transaction_service.repository.BulkTransferBatchRepository;
+import com.banking.transaction_service.repository.TransactionBatchRepository;
+import com.banking.transaction_service.repository.TransactionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk Transfer Processor
+ * Runs an accepted batch on the bulkTransferExecutor:
+ * 1. Debit the source once for the aggregate (amount + charges of every row)
+ * 2. Credit rows in chunks (one account-service call + one JDBC batch per chunk)
+ * 3. Refund the rows that could not be credited with one credit
+ *
+ * A worker runs a batch only while it holds the batch's lease (renewed with every
+ * chunk). account-service applies the debit, each row credit and the refund at most
+ * once per batch / row, so a batch can always be run again from the start:
+ * - Outcome unknown (account service unavailable, timeout, unexpected error): the
+ *   run stops and the batch stays ACCEPTED / PROCESSING with its lease set to expire
+ *   after retry-delay-seconds; BulkTransferRecoveryJob then hands it to a worker again
+ * - Instance died: the same, once the lease expires
+ * A batch is only finished once every row is SUCCESS or FAILED and the failed rows
+ * are refunded, so a finished batch never holds PENDING rows.
+ *
+ * The aggregate debit goes through the TransferSequencer like any other debit of
+ * the source account. It is not counted against DailyLimitService: a bulk payout
+ * is a pre-authorised corporate debit (account-service skips its daily withdrawal
+ * limit for it too), and each row is capped by the per-transaction limit instead.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BulkTransferProcessor {
+
+    private final BulkTransferBatchRepository batchRepository;
+    private final TransactionRepository transactionRepository;
+    private final TransactionBatchRepository transactionBatchRepository;
+    private final AccountServiceClient accountServiceClient;
+    private final TransactionEventProducer eventProducer;
+    private final TransactionAuditService auditService;
+    private final TransactionTemplate transactionTemplate;
+    private final TransferSequencer transferSequencer;
+    private final AppProperties appProperties;
+
+    private final String workerId = UUID.randomUUID().toString();
+
+    /**
+     * Run (or resume) a batch; does nothing if another worker holds it or it is finished
+     */
+    @Async("bulkTransferExecutor")
+    public void process(String batchId) {
+        LocalDateTime now = LocalDateTime.now();
+        Integer acquired = transactionTemplate.execute(status ->
+                batchRepository.acquireLease(batchId, workerId, now, leaseExpiry()));
+        if (acquired == null || acquired == 0) {
+            log.debug(" Bulk transfer skipped: finished or held by another worker | Batch: {}", batchId);
+            return;
+        }
+
+        boolean done;
+        try {
+            BulkTransferBatch batch = batchRepository.findByBatchId(batchId)
+                    .orElseThrow(() -> new InvalidTransactionException("Bulk batch not found: " + batchId));
+
+            log.info(" Bulk transfer started | Batch: {} | Status: {} | Rows: {} | Debit: ₹{}",
+                    batchId, batch.getStatus(), batch.getTotalItems(), batch.getTotalDebit());
+            done = run(batch);
+        } catch (RuntimeException e) {
+            log.error(" Bulk transfer interrupted | Batch: {} | Error: {}", batchId, e.getMessage(), e);
+            done = false;
+        }
+
+        if (done) {
+            transactionTemplate.executeWithoutResult(status -> batchRepository.releaseLease(batchId, workerId));
+        } else {
+            retryLater(batchId);
+        }
+    }
+
+    /**
+     * Run the batch to its end; false if it stopped on an unknown outcome and must be run again
+     * (a lost lease counts as done here: the batch belongs to another worker now)
+     */
+    private boolean run(BulkTransferBatch batch) {
+        String batchId = batch.getBatchId();
+
+        // STEP 1: One debit for the whole batch (applied once even if this is a resumed run)
+        BulkDebitRequest debit = BulkDebitRequest.builder()
+                .accountNumber(batch.getFromAccountNumber())
+                .amount(batch.getTotalDebit())
+                .batchId(batchId)
+                .build();
+        try {
+            transferSequencer.execute(batch.getFromAccountId(), () -> accountServiceClient.bulkPayoutDebit(debit));
+        } catch (InsufficientBalanceException | InvalidTransactionException | AccountNotFoundException e) {
+            failAllRows(batch, "Bulk debit rejected: " + e.getMessage());
+            return true;
+        } catch (RuntimeException e) {
+            // The debit may have committed on the account side: re-sending it later is safe
+            log.warn(" Bulk debit outcome unknown, batch will be retried | Batch: {} | Error: {}",
+                    batchId, e.getMessage());
+            return false;
+        }
+
+        if (batch.getStatus() != BulkTransferStatus.PROCESSING) {
+            BulkTransferBatch debited = batch;
+            debited.setStatus(BulkTransferStatus.PROCESSING);
+            batch = transactionTemplate.execute(status -> renewLease(batchId) ? batchRepository.save(debited) : null);
+            if (batch == null) {
+                log.warn(" Bulk transfer stopped: lease lost | Batch: {}", batchId);
+                return true;
+            }
+        }
+
+        // STEP 2: Credits, chunk by chunk (keyset walk over PENDING rows)
+        int chunkSize = appProperties.getBulk().getChunkSize();
+        long lastId = 0L;
+
+        while (true) {
+            List<Transaction> rows = transactionRepository.findByBulkBatchIdAndStatusAndIdGreaterThanOrderByIdAsc(
+                    batchId, TransactionStatus.PENDING, lastId, PageRequest.of(0, chunkSize));
+            if (rows.isEmpty()) {
+                break;
+            }
+            lastId = rows.get(rows.size() - 1).getId();
+
+            int credited;
+            try {
+                BulkCreditResponse response = accountServiceClient.bulkPayoutCredit(toCreditRequest(batchId, rows))
+                        .getData();
+                applyResults(rows, response);
+                credited = response.getCreditedCount();
+            } catch (InvalidTransactionException e) {
+                // The whole chunk was rejected (nothing credited): fail its rows, they are refunded below
+                log.error(" Bulk credit chunk rejected | Batch: {} | Rows: {} | Error: {}",
+                        batchId, rows.size(), e.getMessage());
+                failRows(rows, "Credit rejected: " + e.getMessage());
+                credited = 0;
+            } catch (RuntimeException e) {
+                // Some rows may have been credited: the next run re-sends the chunk, account-service skips those
+                log.warn(" Bulk credit chunk outcome unknown, batch will be retried | Batch: {} | Rows: {} | Error: {}",
+                        batchId, rows.size(), e.getMessage());
+                return false;
+            }
+            batch.setSuccessCount(batch.getSuccessCount() + credited);
+            batch.setFailedCount(batch.getFailedCount() + rows.size() - credited);
+
+            BulkTransferBatch progress = batch;
+            batch = transactionTemplate.execute(status -> {
+                if (!renewLease(batchId)) {
+                    return null;
+                }
+                transactionBatchRepository.updateResults(rows);
+                publishRowEvents(rows);
+                return batchRepository.save(progress);
+            });
+            if (batch == null) {
+                // Another worker took over; it re-sends this chunk and account-service skips the credited rows
+                log.warn(" Bulk transfer stopped: lease lost | Batch: {}", batchId);
+                return true;
+            }
+
+            log.debug(" Bulk chunk done | Batch: {} | Credited: {} | Failed: {}",
+                    batchId, credited, rows.size() - credited);
+        }
+
+        // STEP 3: One refund for every row that could not be credited (this run or an earlier one)
+        BigDecimal refund = transactionRepository.sumFailedBulkRows(batchId);
+        if (refund.signum() > 0) {
+            try {
+                accountServiceClient.bulkPayoutRefund(BulkDebitRequest.builder()
+                        .accountNumber(batch.getFromAccountNumber())
+                        .amount(refund)
+                        .batchId(batchId)
+                        .build());
+                batch.setRefundedAmount(refund);
+            } catch (RuntimeException e) {
+                log.warn(" Bulk refund failed, batch will be retried | Batch: {} | Amount: ₹{} | Error: {}",
+                        batchId, refund, e.getMessage());
+                return false;
+            }
+        }
+
+        // STEP 4: Final status
+        BulkTransferStatus finalStatus;
+        if (batch.getSuccessCount() == batch.getTotalItems()) {
+            finalStatus = BulkTransferStatus.COMPLETED;
+        } else if (batch.getSuccessCount() == 0) {
+            finalStatus = BulkTransferStatus.FAILED;
+        } else {
+            finalStatus = BulkTransferStatus.PARTIALLY_COMPLETED;
+        }
+        finish(batch, finalStatus, null);
+        return true;
+    }
+
+    private BulkCreditRequest toCreditRequest(String batchId, List<Transaction> rows) {
+        return BulkCreditRequest.builder()
+                .batchId(batchId)
+                .items(rows.stream()
+                        .map(row -> BulkCreditItem.builder()
+                                .transactionId(row.getTransactionId())
+                                .accountNumber(row.getToAccountNumber())
+                                .amount(row.getAmount())
+                                .build())
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    /**
+     * Copy per-row outcomes onto the rows
+     */
+    private void applyResults(List<Transaction> rows, BulkCreditResponse response) {
+        Map<String, BulkCreditResult> results = response.getResults().stream()
+                .collect(Collectors.toMap(BulkCreditResult::getTransactionId, Function.identity()));
+
+        LocalDateTime now = LocalDateTime.now();
+
+        for (Transaction row : rows) {
+            BulkCreditResult result = results.get(row.getTransactionId());
+            row.setToAccountId(result.getAccountId());
+
+            if (result.isCredited()) {
+                row.setStatus(TransactionStatus.SUCCESS);
+                row.setCompletedDate(now);
+            } else {
+                row.setStatus(TransactionStatus.FAILED);
+                row.setFailureReason(result.getFailureReason());
+            }
+        }
+    }
+
+    private void failRows(List<Transaction> rows, String reason) {
+        for (Transaction row : rows) {
+            row.setStatus(TransactionStatus.FAILED);
+            row.setFailureReason(reason);
+        }
+    }
+
+    private void publishRowEvents(List<Transaction> rows) {
+        for (Transaction row : rows) {
+            if (row.getStatus() == TransactionStatus.SUCCESS) {
+                eventProducer.publishTransactionCompleted(row);
+            } else {
+                eventProducer.publishTransactionFailed(row);
+            }
+        }
+    }
+
+    /**
+     * Renew this worker's lease; call first inside the transaction it guards
+     */
+    private boolean renewLease(String batchId) {
+        return batchRepository.renewLease(batchId, workerId, leaseExpiry()) == 1;
+    }
+
+    /**
+     * Stop here and let BulkTransferRecoveryJob run the batch again after the retry delay
+     */
+    private void retryLater(String batchId) {
+        LocalDateTime retryAt = LocalDateTime.now().plusSeconds(appProperties.getBulk().getRetryDelaySeconds());
+        transactionTemplate.executeWithoutResult(status -> batchRepository.renewLease(batchId, workerId, retryAt));
+        log.info(" Bulk transfer will be retried | Batch: {} | After: {}", batchId, retryAt);
+    }
+
+    private LocalDateTime leaseExpiry() {
+        return LocalDateTime.now().plusSeconds(appProperties.getBulk().getLeaseSeconds());
+    }
+
+    private void failAllRows(BulkTransferBatch batch, String reason) {
+        int failed = transactionTemplate.execute(status ->
+                transactionRepository.failPendingBulkRows(batch.getBatchId(), reason, LocalDateTime.now()));
+        batch.setFailedCount(failed);
+        finish(batch, BulkTransferStatus.FAILED, reason);
+    }
+
+    private void finish(BulkTransferBatch batch, BulkTransferStatus status, String failureReason) {
+        batch.setStatus(status);
+        batch.setFailureReason(failureReason);
+        batch.setCompletedDate(LocalDateTime.now());
+        Boolean saved = transactionTemplate.execute(tx -> {
+            if (!renewLease(batch.getBatchId())) {
+                return false;
+            }
+            batchRepository.save(batch);
+            return true;
+        });
+        if (!Boolean.TRUE.equals(saved)) {
+            log.warn(" Bulk transfer not finished here: lease lost | Batch: {}", batch.getBatchId());
+            return;
+        }
+
+        if (status == BulkTransferStatus.FAILED) {
+            auditService.logTransactionFailed(batch.getBatchId(), failureReason);
+        } else {
+            auditService.logTransactionCompleted(batch.getBatchId(), batch.getInitiatedBy());
+        }
+
+        log.info(" Bulk transfer finished | Batch: {} | Status: {} | Success: {} | Failed: {} | Refunded: ₹{}",
+                batch.getBatchId(), status, batch.getSuccessCount(), batch.getFailedCount(),
+                batch.getRefundedAmount());
+    }
+}
@@ -0,0 +1,53 @@
+package com.banking.transaction_service.service;
+
+import com.banking.transaction_service.config.AppProperties;
+import com.banking.transaction_service.repository.BulkTransferBatchRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Bulk Transfer Recovery Job
+ * Hands stalled batches back to a worker: ACCEPTED/PROCESSING batches whose worker
+ * lease expired (the instance died mid-run, or the run stopped on an unknown outcome
+ * and its retry delay has passed), or that were never picked up at all.
+ * The worker resumes the PENDING rows and refunds whatever could not be credited;
+ * see BulkTransferProcessor for why re-running a batch is safe.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BulkTransferRecoveryJob {
+
+    private final BulkTransferBatchRepository batchRepository;
+    private final BulkTransferProcessor bulkTransferProcessor;
+    private final AppProperties appProperties;
+
+    @Scheduled(fixedDelayString = "${transaction.bulk.recovery-interval-ms:60000}",
+            initialDelayString = "${transaction.bulk.recovery-interval-ms:60000}")
+    public void recoverStalledBatches() {
+        AppProperties.Bulk config = appProperties.getBulk();
+        LocalDateTime now = LocalDateTime.now();
+        List<String> batchIds = batchRepository.findStalledBatchIds(
+                now, now.minusSeconds(config.getLeaseSeconds()), PageRequest.of(0, config.getRecoveryBatchSize()));
+        if (batchIds.isEmpty()) {
+            return;
+        }
+
+        log.warn(" Resuming {} stalled bulk batches: {}", batchIds.size(), batchIds);
+        for (String batchId : batchIds) {
+            try {
+                bulkTransferProcessor.process(batchId);
+            } catch (TaskRejectedException e) {
+                log.warn(" Bulk transfer queue full, batch left for the next recovery pass | Batch: {}", batchId);
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,350 @@
+package com.banking.transaction_service.service;
+
+import com.banking.transaction_service.config.AppProperties;
+import com.banking.transaction_service.dto.*;
+import com.banking.transaction_service.entity.BulkTransferBatch;
+import com.banking.transaction_service.entity.Transaction;
+import com.banking.transaction_service.enums.BulkTransferStatus;
+import com.banking.transaction_service.enums.TransactionStatus;
+import com.banking.transaction_service.enums.TransactionType;
+import com.banking.transaction_service.enums.TransferMode;
+import com.banking.transaction_service.exception.custom.*;
+import com.banking.transaction_service.feign.AccountServiceClient;
+import com.banking.transaction_service.repository.BulkTransferBatchRepository;
+import com.banking.transaction_service.repository.TransactionBatchRepository;
+import com.banking.transaction_service.repository.TransactionRepository;
+import com.banking.transaction_service.util.TransactionChargeCalculator;
+import com.banking.transaction_service.util.TransactionIdGenerator;
+import com.banking.transaction_service.util.TransactionMapper;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk Transfer Service (payroll / vendor payouts)
+ *
+ * Accepting a batch is synchronous: every row is validated up front, the batch and
+ * its rows (PENDING Transaction rows, JDBC-batched) are stored in one DB transaction,
+ * and the caller gets the batch ID back. Money moves later in BulkTransferProcessor.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BulkTransferService {
+
+    private static final int MAX_REPORTED_ROW_ERRORS = 100;
+
+    private final BulkTransferBatchRepository batchRepository;
+    private final TransactionRepository transactionRepository;
+    private final TransactionBatchRepository transactionBatchRepository;
+    private final AccountServiceClient accountServiceClient;
+    private final TransactionAuditService auditService;
+    private final BulkTransferProcessor bulkTransferProcessor;
+    private final TransactionTemplate transactionTemplate;
+    private final AppProperties appProperties;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Accept a JSON batch
+     */
+    public BulkTransferResponse submit(BulkTransferRequest request, String username) {
+        return accept(request, new LinkedHashMap<>(), username);
+    }
+
+    /**
+     * Accept a streamed NDJSON file: one BulkTransferItem JSON object per line
+     * Malformed lines are reported with the other row errors
+     */
+    public BulkTransferResponse submitNdjson(Long fromAccountId, TransferMode transferMode,
+                                             String description, String idempotencyKey,
+                                             InputStream body, String username) throws IOException {
+        int maxItems = appProperties.getBulk().getMaxItems();
+        List<BulkTransferItem> items = new ArrayList<>();
+        Map<String, String> rowErrors = new LinkedHashMap<>();
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (items.size() == maxItems) {
+                    throw new InvalidTransactionException(
+                            String.format("Bulk transfer cannot exceed %d items", maxItems));
+                }
+                try {
+                    items.add(objectMapper.readValue(line, BulkTransferItem.class));
+                } catch (JsonProcessingException e) {
+                    items.add(null);
+                    addRowError(rowErrors, items.size(), "Malformed JSON line");
+                }
+            }
+        }
+
+        BulkTransferRequest request = BulkTransferRequest.builder()
+                .fromAccountId(fromAccountId)
+                .transferMode(transferMode)
+                .description(description)
+                .idempotencyKey(idempotencyKey)
+                .items(items)
+                .build();
+
+        return accept(request, rowErrors, username);
+    }
+
+    @Transactional(readOnly = true)
+    public BulkTransferResponse getBatch(String batchId) {
+        return toResponse(findBatch(batchId));
+    }
+
+    @Transactional(readOnly = true)
+    public Page<TransactionResponse> getBatchResults(String batchId, Pageable pageable) {
+        findBatch(batchId);
+        return transactionRepository.findByBulkBatchIdOrderByIdAsc(batchId, pageable)
+                .map(TransactionMapper::toResponse);
+    }
+
+
+    // PRIVATE HELPER METHODS
+
+
+    private BulkTransferResponse accept(BulkTransferRequest request,
+                                        Map<String, String> rowErrors,
+                                        String username) {
+        List<BulkTransferItem> items = request.getItems();
+        log.info(" Bulk transfer request | From: {} | Rows: {} | Mode: {} | By: {}",
+                request.getFromAccountId(), items.size(), request.getTransferMode(), username);
+
+        // Same idempotency key -> same batch, never a second payroll run
+        if (request.getIdempotencyKey() != null) {
+            Optional<BulkTransferBatch> existing = batchRepository.findByIdempotencyKey(request.getIdempotencyKey());
+            if (existing.isPresent()) {
+                log.warn(" Duplicate bulk transfer detected | Key: {}", request.getIdempotencyKey());
+                return toResponse(existing.get());
+            }
+        }
+
+        if (items.isEmpty()) {
+            throw new InvalidTransactionException("At least one item is required");
+        }
+        if (items.size() > appProperties.getBulk().getMaxItems()) {
+            throw new InvalidTransactionException(String.format(
+                    "Bulk transfer cannot exceed %d items", appProperties.getBulk().getMaxItems()));
+        }
+
+        // Source account: one lookup for the whole batch
+        AccountBalanceResponse source = accountServiceClient.getAccountBalance(request.getFromAccountId()).getData();
+        if (!"ACTIVE".equalsIgnoreCase(source.getAccountStatus())) {
+            throw new InvalidTransactionException(
+                    "Source account is not active. Current status: " + source.getAccountStatus());
+        }
+
+        // Validate every row before anything is stored
+        int invalidRows = validateItems(items, request.getTransferMode(), source.getAccountNumber(), rowErrors);
+        if (invalidRows > 0) {
+            throw new BulkTransferValidationException(
+                    String.format("Bulk transfer rejected: %d of %d rows are invalid", invalidRows, items.size()),
+                    rowErrors);
+        }
+
+        String batchId = TransactionIdGenerator.generateBatchId();
+        List<Transaction> rows = buildRows(batchId, request, source, username);
+
+        BigDecimal totalAmount = BigDecimal.ZERO;
+        BigDecimal totalDebit = BigDecimal.ZERO;
+        for (Transaction row : rows) {
+            totalAmount = totalAmount.add(row.getAmount());
+            totalDebit = totalDebit.add(row.getTotalAmount());
+        }
+
+        if (source.getBalance().compareTo(totalDebit) < 0) {
+            throw new InsufficientBalanceException(
+                    String.format("Insufficient balance. Available: ₹%s, Required: ₹%s",
+                            source.getBalance(), totalDebit));
+        }
+
+        BulkTransferBatch batch = BulkTransferBatch.builder()
+                .batchId(batchId)
+                .fromAccountId(request.getFromAccountId())
+                .fromAccountNumber(source.getAccountNumber())
+                .transferMode(request.getTransferMode())
+                .status(BulkTransferStatus.ACCEPTED)
+                .totalItems(rows.size())
+                .totalAmount(totalAmount)
+                .totalCharges(totalDebit.subtract(totalAmount))
+                .totalDebit(totalDebit)
+                .description(request.getDescription())
+                .idempotencyKey(request.getIdempotencyKey())
+                .initiatedBy(username)
+                .build();
+
+        BulkTransferBatch savedBatch;
+        try {
+            savedBatch = transactionTemplate.execute(status -> {
+                BulkTransferBatch saved = batchRepository.save(batch);
+                transactionBatchRepository.insertAll(rows, appProperties.getBulk().getChunkSize());
+                auditService.logTransactionInitiated(batchId, username);
+                return saved;
+            });
+        } catch (DataIntegrityViolationException e) {
+            if (request.getIdempotencyKey() == null) {
+                throw e;
+            }
+            throw new DuplicateTransactionException(
+                    "Bulk transfer already submitted with idempotency key: " + request.getIdempotencyKey());
+        }
+
+        // Hand over to the worker only after the batch is committed
+        try {
+            bulkTransferProcessor.process(batchId);
+        } catch (TaskRejectedException e) {
+            log.warn(" Bulk transfer queue full | Batch: {}", batchId);
+            String reason = "Bulk transfer queue is full. Please resubmit later";
+            transactionTemplate.executeWithoutResult(status ->
+                    transactionRepository.failPendingBulkRows(batchId, reason, LocalDateTime.now()));
+            savedBatch.setStatus(BulkTransferStatus.FAILED);
+            savedBatch.setFailedCount(rows.size());
+            savedBatch.setFailureReason(reason);
+            savedBatch.setCompletedDate(LocalDateTime.now());
+            batchRepository.save(savedBatch);
+            throw new AccountBusyException(reason);
+        }
+
+        log.info(" Bulk transfer accepted | Batch: {} | Rows: {} | Debit: ₹{}",
+                batchId, rows.size(), totalDebit);
+        return toResponse(savedBatch);
+    }
+
+    /**
+     * Validate all rows; returns the number of invalid rows
+     * (row errors are reported up to MAX_REPORTED_ROW_ERRORS)
+     */
+    private int validateItems(List<BulkTransferItem> items, TransferMode mode,
+                              String sourceAccountNumber, Map<String, String> rowErrors) {
+        BigDecimal perTransactionLimit = appProperties.getLimit().getPerTransaction();
+        BigDecimal rtgsMinimum = appProperties.getTransfer().getRtgs().getMinAmount();
+        int invalidRows = 0;
+
+        for (int i = 0; i < items.size(); i++) {
+            BulkTransferItem item = items.get(i);
+            if (item == null) {
+                invalidRows++;  // Unparseable line, already reported
+                continue;
+            }
+
+            String error = null;
+            Set<ConstraintViolation<BulkTransferItem>> violations = validator.validate(item);
+            if (!violations.isEmpty()) {
+                error = violations.stream()
+                        .map(ConstraintViolation::getMessage)
+                        .sorted()
+                        .collect(Collectors.joining("; "));
+            } else if (item.getAmount().compareTo(perTransactionLimit) > 0) {
+                error = String.format("Amount exceeds per-transaction limit of ₹%s", perTransactionLimit);
+            } else if (mode == TransferMode.RTGS && item.getAmount().compareTo(rtgsMinimum) < 0) {
+                error = String.format("RTGS requires minimum amount of ₹%s", rtgsMinimum);
+            } else if (item.getToAccountNumber().equals(sourceAccountNumber)) {
+                error = "Cannot transfer money to the same account";
+            }
+
+            if (error != null) {
+                invalidRows++;
+                addRowError(rowErrors, i + 1, error);
+            }
+        }
+        return invalidRows;
+    }
+
+    private void addRowError(Map<String, String> rowErrors, int rowNumber, String error) {
+        if (rowErrors.size() < MAX_REPORTED_ROW_ERRORS) {
+            rowErrors.put("row " + rowNumber, error);
+        }
+    }
+
+    /**
+     * Row IDs are derived from the batch ID, so a 50k-row batch cannot collide
+     */
+    private List<Transaction> buildRows(String batchId, BulkTransferRequest request,
+                                        AccountBalanceResponse source, String username) {
+        String referencePrefix = "REF" + batchId.substring(3);
+        List<BulkTransferItem> items = request.getItems();
+        List<Transaction> rows = new ArrayList<>(items.size());
+
+        for (int i = 0; i < items.size(); i++) {
+            BulkTransferItem item = items.get(i);
+            String rowSuffix = String.format("-%05d", i + 1);
+
+            BigDecimal charges = TransactionChargeCalculator.calculateTransferCharges(
+                    item.getAmount(), request.getTransferMode());
+            BigDecimal tax = TransactionChargeCalculator.calculateGST(charges);
+
+            rows.add(Transaction.builder()
+                    .transactionId(batchId + rowSuffix)
+                    .referenceNumber(referencePrefix + rowSuffix)
+                    .transactionType(TransactionType.TRANSFER)
+                    .transferMode(request.getTransferMode())
+                    .fromAccountId(request.getFromAccountId())
+                    .fromAccountNumber(source.getAccountNumber())
+                    .toAccountNumber(item.getToAccountNumber())
+                    .amount(item.getAmount())
+                    .chargesAmount(charges)
+                    .taxAmount(tax)
+                    .totalAmount(item.getAmount().add(charges).add(tax))
+                    .status(TransactionStatus.PENDING)
+                    .description(request.getDescription())
+                    .remarks(item.getRemarks())
+                    .initiatedBy(username)
+                    .bulkBatchId(batchId)
+                    .build());
+        }
+        return rows;
+    }
+
+    private BulkTransferBatch findBatch(String batchId) {
+        return batchRepository.findByBatchId(batchId)
+                .orElseThrow(() -> new InvalidTransactionException("Bulk batch not found: " + batchId));
+    }
+
+    private BulkTransferResponse toResponse(BulkTransferBatch batch) {
+        return BulkTransferResponse.builder()
+                .batchId(batch.getBatchId())
+                .status(batch.getStatus())
+                .transferMode(batch.getTransferMode())
+                .fromAccountId(batch.getFromAccountId())
+                .fromAccountNumber(batch.getFromAccountNumber())
+                .totalItems(batch.getTotalItems())
+                .successCount(batch.getSuccessCount())
+                .failedCount(batch.getFailedCount())
+                .pendingCount(batch.getTotalItems() - batch.getSuccessCount() - batch.getFailedCount())
+                .totalAmount(batch.getTotalAmount())
+                .totalCharges(batch.getTotalCharges())
+                .totalDebit(batch.getTotalDebit())
+                .refundedAmount(batch.getRefundedAmount())
+                .failureReason(batch.getFailureReason())
+                .initiatedBy(batch.getInitiatedBy())
+                .createdDate(batch.getCreatedDate())
+                .completedDate(batch.getCompletedDate())
+                .build();
+    }
+}
@@ -0,0 +1,185 @@
+package com.banking.transaction_service.service;
+
+import com.banking.transaction_service.config.AppProperties;
+import com.banking.transaction_service.exception.custom.TransactionLimitExceededException;
+import com.banking.transaction_service.repository.TransactionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Daily Limit Service
+ * Keeps each account's debit total for the day in a Redis hash
+ * (daily-debit:{yyyyMMdd} -> accountId -> paise) and checks-and-adds in one Lua call,
+ * instead of running SUM(totalAmount) over the day's transactions per check.
+ *
+ * - Missing counter (cold start / Redis flush) -> seeded once from the DB, then retried
+ * - Reservation is undone if the DB transaction rolls back
+ * - Amounts are held in paise (integers), so no floating point creeps into the totals
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DailyLimitService {
+
+    private static final String KEY_PREFIX = "daily-debit:";
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final long KEY_TTL_SECONDS = 2 * 24 * 60 * 60;
+
+    private static final long RESERVED = 1;
+    private static final long LIMIT_EXCEEDED = 0;
+    private static final long NOT_SEEDED = -1;
+
+    // Returns {status, current total}; only adds when the new total stays within the limit
+    @SuppressWarnings("unchecked")  // Lua integer arrays come back as List<Long>
+    private static final RedisScript<List<Long>> RESERVE_SCRIPT = new DefaultRedisScript<>(
+            "local current = redis.call('HGET', KEYS[1], ARGV[1]) " +
+            "if not current then return {-1, 0} end " +
+            "current = tonumber(current) " +
+            "if current + tonumber(ARGV[2]) > tonumber(ARGV[3]) then return {0, current} end " +
+            "return {1, redis.call('HINCRBY', KEYS[1], ARGV[1], ARGV[2])}",
+            (Class<List<Long>>) (Class<?>) List.class);
+
+    // Seed only if nobody else did in the meantime, and make sure the day's hash expires
+    private static final RedisScript<Long> SEED_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('HSETNX', KEYS[1], ARGV[1], ARGV[2]) " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[3]) " +
+            "return tonumber(redis.call('HGET', KEYS[1], ARGV[1]))",
+            Long.class);
+
+    // Never create a counter by decrementing: a missing counter is re-seeded from the DB instead
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('HEXISTS', KEYS[1], ARGV[1]) == 1 then " +
+            "return redis.call('HINCRBY', KEYS[1], ARGV[1], ARGV[2]) end " +
+            "return 0",
+            Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final TransactionRepository transactionRepository;
+    private final AppProperties appProperties;
+
+    /**
+     * Add amount to today's debit total, or throw if it would cross the daily limit.
+     * Inside a DB transaction the amount is given back if that transaction does not commit.
+     *
+     * @throws TransactionLimitExceededException if the daily limit would be exceeded
+     */
+    public void reserve(Long accountId, BigDecimal amount) {
+        LocalDate today = LocalDate.now();
+        String key = dayKey(today);
+        String field = accountId.toString();
+        BigDecimal dailyLimit = appProperties.getLimit().getDaily();
+        long paise = toPaise(amount);
+
+        List<Long> result = redisTemplate.execute(RESERVE_SCRIPT, List.of(key),
+                field, Long.toString(paise), Long.toString(toPaise(dailyLimit)));
+        if (result.get(0) == NOT_SEEDED) {
+            seed(accountId, today);
+            result = redisTemplate.execute(RESERVE_SCRIPT, List.of(key),
+                    field, Long.toString(paise), Long.toString(toPaise(dailyLimit)));
+        }
+
+        long status = result.get(0);
+        BigDecimal current = fromPaise(result.get(1));
+        if (status == LIMIT_EXCEEDED) {
+            log.error(" Daily limit exceeded | Account: {} | Current: ₹{} | Attempted: ₹{} | Limit: ₹{}",
+                    accountId, current, amount, dailyLimit);
+            throw new TransactionLimitExceededException(
+                    String.format("Daily transaction limit of ₹%s exceeded. Current total: ₹%s",
+                            dailyLimit, current));
+        }
+        if (status != RESERVED) {
+            throw new IllegalStateException("Daily limit counter missing after seeding for account " + accountId);
+        }
+
+        releaseOnRollback(key, field, paise);
+        log.debug(" Daily limit reserved | Account: {} | Amount: ₹{} | Today: ₹{}", accountId, amount, current);
+    }
+
+    /**
+     * Give back a debit that no longer counts (e.g. reversed), once the current DB transaction commits
+     */
+    public void release(Long accountId, BigDecimal amount, LocalDate day) {
+        String key = dayKey(day);
+        String field = accountId.toString();
+        long paise = toPaise(amount);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    decrement(key, field, paise);
+                }
+            });
+        } else {
+            decrement(key, field, paise);
+        }
+    }
+
+    /**
+     * Today's debit total for the account (one HGET; seeded from the DB when missing)
+     */
+    public BigDecimal getDailyTotal(Long accountId) {
+        LocalDate today = LocalDate.now();
+        Object value = redisTemplate.opsForHash().get(dayKey(today), accountId.toString());
+        if (value == null) {
+            return fromPaise(seed(accountId, today));
+        }
+        return fromPaise(Long.parseLong(value.toString()));
+    }
+
+    private long seed(Long accountId, LocalDate day) {
+        LocalDateTime startOfDay = day.atStartOfDay();
+        BigDecimal total = transactionRepository.calculateDailyDebitTotal(
+                accountId, startOfDay, startOfDay.plusDays(1));
+        long paise = toPaise(total == null ? BigDecimal.ZERO : total);
+
+        Long seeded = redisTemplate.execute(SEED_SCRIPT, List.of(dayKey(day)),
+                accountId.toString(), Long.toString(paise), Long.toString(KEY_TTL_SECONDS));
+        log.info(" Daily limit counter seeded from DB | Account: {} | Day: {} | Total: ₹{}",
+                accountId, day, fromPaise(seeded));
+        return seeded;
+    }
+
+    private void releaseOnRollback(String key, String field, long paise) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    decrement(key, field, paise);
+                }
+            }
+        });
+    }
+
+    private void decrement(String key, String field, long paise) {
+        redisTemplate.execute(RELEASE_SCRIPT, List.of(key), field, Long.toString(-paise));
+    }
+
+    private static String dayKey(LocalDate day) {
+        return KEY_PREFIX + day.format(DAY_FORMAT);
+    }
+
+    private static long toPaise(BigDecimal amount) {
+        return amount.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValueExact();
+    }
+
+    private static BigDecimal fromPaise(long paise) {
+        return BigDecimal.valueOf(paise, 2);
+    }
+}
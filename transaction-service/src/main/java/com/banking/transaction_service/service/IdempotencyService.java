@@ -0,0 +1,186 @@
+package com.banking.transaction_service.service;
+
+import com.banking.transaction_service.config.AppProperties;
+import com.banking.transaction_service.dto.TransactionResponse;
+import com.banking.transaction_service.exception.custom.DuplicateTransactionException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency Service
+ * One Redis key per idempotency key, moving through two states:
+ * 1. reserve()  -> SET NX "IN_PROGRESS:<token>" (short TTL): exactly one request wins
+ * 2. complete() -> after commit, overwrite with the serialized TransactionResponse (idempotency TTL)
+ *
+ * Duplicates return the cached response without touching MySQL, or wait for the
+ * in-flight request to finish. If the winner's DB transaction rolls back (or, with
+ * execute(), its operation throws), its marker is released so a retry can run.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class IdempotencyService {
+
+    private static final String KEY_PREFIX = "idempotency:";
+    private static final String IN_PROGRESS_PREFIX = "IN_PROGRESS:";
+
+    // Delete the marker only if it is still ours (it may have expired and been re-reserved)
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final AppProperties appProperties;
+
+    /**
+     * Reserve the key for this request.
+     * Returns the cached response for a completed duplicate, or empty when the
+     * caller now owns the key and should execute the operation.
+     */
+    public Optional<TransactionResponse> reserve(String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return Optional.empty();
+        }
+        String key = KEY_PREFIX + idempotencyKey;
+        String marker = IN_PROGRESS_PREFIX + UUID.randomUUID();
+        Optional<TransactionResponse> cached = acquire(idempotencyKey, key, marker);
+        if (cached.isEmpty()) {
+            releaseOnRollback(key, marker);
+        }
+        return cached;
+    }
+
+    /**
+     * Reserve the key, then run the operation, for callers that must not wait on a
+     * duplicate inside a lock or DB transaction. Returns the cached response for a
+     * completed duplicate; if the operation throws, the marker is released so a
+     * retry can run. The operation stores its own response via complete().
+     */
+    public TransactionResponse execute(String idempotencyKey, Supplier<TransactionResponse> operation) {
+        if (idempotencyKey == null) {
+            return operation.get();
+        }
+        String key = KEY_PREFIX + idempotencyKey;
+        String marker = IN_PROGRESS_PREFIX + UUID.randomUUID();
+        Optional<TransactionResponse> cached = acquire(idempotencyKey, key, marker);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        try {
+            return operation.get();
+        } catch (RuntimeException e) {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(key), marker);
+            throw e;
+        }
+    }
+
+    /**
+     * Store the final response for the key once the current DB transaction commits
+     */
+    public void complete(String idempotencyKey, TransactionResponse response) {
+        if (idempotencyKey == null) {
+            return;
+        }
+        String key = KEY_PREFIX + idempotencyKey;
+        String value = serialize(response);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    store(key, value);
+                }
+            });
+        } else {
+            store(key, value);
+        }
+    }
+
+    /**
+     * SET NX the marker, or wait for the in-flight duplicate to finish.
+     * Returns empty once the marker is ours, or the completed duplicate's response.
+     */
+    private Optional<TransactionResponse> acquire(String idempotencyKey, String key, String marker) {
+        AppProperties.Idempotency config = appProperties.getIdempotency();
+        long deadline = System.currentTimeMillis() + config.getWaitTimeoutMs();
+
+        while (true) {
+            Boolean reserved = redisTemplate.opsForValue()
+                    .setIfAbsent(key, marker, Duration.ofSeconds(config.getInProgressTtl()));
+            if (Boolean.TRUE.equals(reserved)) {
+                return Optional.empty();
+            }
+
+            String value = redisTemplate.opsForValue().get(key);
+            if (value != null && !value.startsWith(IN_PROGRESS_PREFIX)) {
+                log.warn(" Duplicate transaction detected | Key: {}", idempotencyKey);
+                return Optional.of(deserialize(value));
+            }
+
+            // In progress elsewhere (or released in between): wait and try again
+            if (System.currentTimeMillis() >= deadline) {
+                throw new DuplicateTransactionException(
+                        "Transaction with idempotency key " + idempotencyKey + " is still in progress. Retry shortly");
+            }
+            sleep(config.getPollIntervalMs());
+        }
+    }
+
+    private void releaseOnRollback(String key, String marker) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    redisTemplate.execute(RELEASE_SCRIPT, List.of(key), marker);
+                }
+            }
+        });
+    }
+
+    private void store(String key, String value) {
+        redisTemplate.opsForValue().set(key, value, Duration.ofSeconds(appProperties.getIdempotencyTtl()));
+    }
+
+    private String serialize(TransactionResponse response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize idempotent response", e);
+        }
+    }
+
+    private TransactionResponse deserialize(String value) {
+        try {
+            return objectMapper.readValue(value, TransactionResponse.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Corrupt idempotent response in Redis", e);
+        }
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DuplicateTransactionException("Interrupted while waiting for in-flight duplicate transaction");
+        }
+    }
+}
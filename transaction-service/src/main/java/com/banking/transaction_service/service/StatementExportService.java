@@ -0,0 +1,181 @@
+package com.banking.transaction_service.service;
+
+import com.banking.transaction_service.config.AppProperties;
+import com.banking.transaction_service.enums.StatementFormat;
+import com.banking.transaction_service.exception.custom.InvalidTransactionException;
+import com.banking.transaction_service.repository.TransactionStatementRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Statement Export Service
+ * Streams an account's transactions for a date range as CSV or NDJSON.
+ * Rows go from the JDBC result set straight to the response stream, so memory
+ * use does not grow with the number of rows exported.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StatementExportService {
+
+    private static final String CSV_HEADER =
+            "transaction_id,reference_number,date,type,mode,direction,counterparty_account," +
+            "amount,charges,tax,total_amount,status,description,completed_date";
+
+    private final TransactionStatementRepository statementRepository;
+    private final ObjectMapper objectMapper;
+    private final AppProperties appProperties;
+
+    /**
+     * Check the requested range before any bytes are written, so bad requests still get a 400
+     */
+    public void validateRange(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new InvalidTransactionException("Statement 'from' date must not be after 'to' date");
+        }
+        int maxDays = appProperties.getExport().getMaxRangeDays();
+        if (ChronoUnit.DAYS.between(from, to) + 1 > maxDays) {
+            throw new InvalidTransactionException(
+                    String.format("Statement range cannot exceed %d days", maxDays));
+        }
+    }
+
+    /**
+     * Write all transactions of the account between from and to (inclusive) to out
+     */
+    public void export(Long accountId, LocalDate from, LocalDate to,
+                       StatementFormat format, OutputStream out) throws IOException {
+        long started = System.currentTimeMillis();
+        AtomicLong rows = new AtomicLong();
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+
+        try {
+            if (format == StatementFormat.CSV) {
+                writer.write(CSV_HEADER);
+                writer.write('\n');
+                statementRepository.streamStatement(accountId, from.atStartOfDay(), to.plusDays(1).atStartOfDay(),
+                        rs -> {
+                            writeCsvRow(writer, rs, accountId);
+                            rows.incrementAndGet();
+                        });
+                writer.flush();
+            } else {
+                JsonGenerator generator = objectMapper.getFactory().createGenerator(writer);
+                generator.setPrettyPrinter(new MinimalPrettyPrinter("\n"));
+                statementRepository.streamStatement(accountId, from.atStartOfDay(), to.plusDays(1).atStartOfDay(),
+                        rs -> {
+                            writeJsonRow(generator, rs, accountId);
+                            rows.incrementAndGet();
+                        });
+                generator.writeRaw('\n');
+                generator.flush();
+            }
+        } catch (UncheckedIOException e) {
+            // Client went away mid-download
+            log.warn(" Statement export aborted | Account: {} | Rows sent: {} | Error: {}",
+                    accountId, rows.get(), e.getCause().getMessage());
+            throw e.getCause();
+        }
+
+        log.info(" Statement exported | Account: {} | {} to {} | Format: {} | Rows: {} | Took: {} ms",
+                accountId, from, to, format, rows.get(), System.currentTimeMillis() - started);
+    }
+
+    private void writeCsvRow(Writer writer, ResultSet rs, Long accountId) throws SQLException {
+        boolean debit = accountId.equals(rs.getObject("from_account_id", Long.class));
+        try {
+            writer.write(csv(rs.getString("transaction_id")));
+            writer.write(',');
+            writer.write(csv(rs.getString("reference_number")));
+            writer.write(',');
+            writer.write(csv(timestamp(rs.getTimestamp("created_date"))));
+            writer.write(',');
+            writer.write(csv(rs.getString("transaction_type")));
+            writer.write(',');
+            writer.write(csv(rs.getString("transfer_mode")));
+            writer.write(',');
+            writer.write(debit ? "DEBIT" : "CREDIT");
+            writer.write(',');
+            writer.write(csv(rs.getString(debit ? "to_account_number" : "from_account_number")));
+            writer.write(',');
+            writer.write(amount(rs.getBigDecimal("amount")));
+            writer.write(',');
+            writer.write(amount(rs.getBigDecimal("charges_amount")));
+            writer.write(',');
+            writer.write(amount(rs.getBigDecimal("tax_amount")));
+            writer.write(',');
+            writer.write(amount(rs.getBigDecimal("total_amount")));
+            writer.write(',');
+            writer.write(csv(rs.getString("status")));
+            writer.write(',');
+            writer.write(csv(rs.getString("description")));
+            writer.write(',');
+            writer.write(csv(timestamp(rs.getTimestamp("completed_date"))));
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeJsonRow(JsonGenerator generator, ResultSet rs, Long accountId) throws SQLException {
+        boolean debit = accountId.equals(rs.getObject("from_account_id", Long.class));
+        try {
+            generator.writeStartObject();
+            generator.writeStringField("transactionId", rs.getString("transaction_id"));
+            generator.writeStringField("referenceNumber", rs.getString("reference_number"));
+            generator.writeStringField("date", timestamp(rs.getTimestamp("created_date")));
+            generator.writeStringField("type", rs.getString("transaction_type"));
+            generator.writeStringField("mode", rs.getString("transfer_mode"));
+            generator.writeStringField("direction", debit ? "DEBIT" : "CREDIT");
+            generator.writeStringField("counterpartyAccount",
+                    rs.getString(debit ? "to_account_number" : "from_account_number"));
+            generator.writeNumberField("amount", rs.getBigDecimal("amount"));
+            generator.writeNumberField("charges", rs.getBigDecimal("charges_amount"));
+            generator.writeNumberField("tax", rs.getBigDecimal("tax_amount"));
+            generator.writeNumberField("totalAmount", rs.getBigDecimal("total_amount"));
+            generator.writeStringField("status", rs.getString("status"));
+            generator.writeStringField("description", rs.getString("description"));
+            generator.writeStringField("completedDate", timestamp(rs.getTimestamp("completed_date")));
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private static String amount(BigDecimal value) {
+        return value == null ? "" : value.toPlainString();
+    }
+
+    private static String timestamp(Timestamp value) {
+        return value == null ? null : value.toLocalDateTime().toString();
+    }
+}
@@ -2,19 +2,26 @@ package com.banking.transaction_service.service;
 
 import com.banking.transaction_service.entity.TransactionAudit;
 import com.banking.transaction_service.enums.AuditAction;
-import com.banking.transaction_service.repository.TransactionAuditRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
 
+/**
+ * Transaction Audit Service
+ * Audit rows are handed to TransactionAuditWriter (batched write-behind) instead of
+ * one INSERT each. Inside a DB transaction they are queued only after commit, so a
+ * rolled-back operation leaves no audit trail, same as when they were saved in it.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class TransactionAuditService {
 
-    private final TransactionAuditRepository auditRepository;
+    private final TransactionAuditWriter auditWriter;
 
     public void logTransactionInitiated(String transactionId, String performedBy) {
         createAuditLog(transactionId, AuditAction.TRANSACTION_INITIATED,
@@ -46,7 +53,16 @@ public class TransactionAuditService {
                 .timestamp(LocalDateTime.now())
                 .build();
 
-        auditRepository.save(audit);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    auditWriter.enqueue(audit);
+                }
+            });
+        } else {
+            auditWriter.enqueue(audit);
+        }
         log.debug(" Audit: {}", action);
     }
 }
@@ -0,0 +1,252 @@
+package com.banking.transaction_service.service;
+
+import com.banking.transaction_service.config.AppProperties;
+import com.banking.transaction_service.entity.TransactionAudit;
+import com.banking.transaction_service.repository.TransactionAuditBatchRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Transaction Audit Writer
+ * Write-behind for audit rows: callers enqueue into a bounded buffer, one writer
+ * thread flushes it to transaction_audit in multi-row JDBC batches.
+ *
+ * Durability:
+ * - Buffer full or DB insert failing -> rows are appended to a local spill file (NDJSON)
+ * - The spill file is replayed into the DB on startup and once the DB accepts writes again
+ * - On shutdown the buffer is drained before the DataSource closes (SmartLifecycle stop)
+ */
+@Component
+@Slf4j
+public class TransactionAuditWriter implements SmartLifecycle {
+
+    private static final long REPLAY_RETRY_MS = 30_000;
+
+    private final TransactionAuditBatchRepository auditBatchRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final AppProperties.Audit config;
+
+    private final BlockingQueue<TransactionAudit> buffer;
+    private final Path spillFile;
+    private final Path replayFile;
+    private final ReentrantLock spillLock = new ReentrantLock();  // not synchronized: callers may be virtual threads
+    private final Counter spilledCounter;
+
+    private volatile boolean running;
+    private volatile boolean spillPending;
+    private long lastReplayAttempt;
+    private Thread writerThread;
+
+    public TransactionAuditWriter(TransactionAuditBatchRepository auditBatchRepository,
+                                  TransactionTemplate transactionTemplate,
+                                  ObjectMapper objectMapper,
+                                  AppProperties appProperties,
+                                  MeterRegistry meterRegistry) {
+        this.auditBatchRepository = auditBatchRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper.copy().disable(SerializationFeature.INDENT_OUTPUT);
+        this.config = appProperties.getAudit();
+
+        this.buffer = new ArrayBlockingQueue<>(config.getQueueCapacity());
+        this.spillFile = Paths.get(config.getSpillFile());
+        this.replayFile = Paths.get(config.getSpillFile() + ".replay");
+
+        Gauge.builder("transaction.audit.buffer.size", buffer, BlockingQueue::size)
+                .description("Audit rows waiting to be flushed")
+                .register(meterRegistry);
+        this.spilledCounter = Counter.builder("transaction.audit.spilled")
+                .description("Audit rows written to the local spill file")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Queue an audit row; never blocks the caller on the database
+     */
+    public void enqueue(TransactionAudit audit) {
+        if (!running || !buffer.offer(audit)) {
+            spill(List.of(audit));
+        }
+    }
+
+    @Override
+    public void start() {
+        spillPending = Files.exists(spillFile) || Files.exists(replayFile);
+        running = true;
+
+        writerThread = new Thread(this::runWriter, "transaction-audit-writer");
+        writerThread.start();
+        log.info(" Audit writer started | Buffer: {} | Batch: {} | Spill pending: {}",
+                config.getQueueCapacity(), config.getBatchSize(), spillPending);
+    }
+
+    @Override
+    public void stop() {
+        running = false;  // writer drains the buffer and exits within one poll interval
+        try {
+            writerThread.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        // Whatever the writer could not get to goes to disk, not to the floor
+        List<TransactionAudit> leftover = new ArrayList<>();
+        buffer.drainTo(leftover);
+        if (!leftover.isEmpty()) {
+            spill(leftover);
+        }
+        log.info(" Audit writer stopped | Spilled on shutdown: {}", leftover.size());
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        // Below the web server's phases: stops after in-flight requests have
+        // finished, and before the DataSource is closed
+        return Integer.MAX_VALUE - 4096;
+    }
+
+    private void runWriter() {
+        List<TransactionAudit> batch = new ArrayList<>(config.getBatchSize());
+
+        while (running || !buffer.isEmpty()) {
+            try {
+                TransactionAudit first = buffer.poll(config.getFlushIntervalMs(), TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    buffer.drainTo(batch, config.getBatchSize() - 1);
+                    flush(batch);
+                    batch.clear();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;  // stop() spills whatever is left in the buffer
+            }
+
+            if (spillPending && running
+                    && System.currentTimeMillis() - lastReplayAttempt > REPLAY_RETRY_MS) {
+                replaySpill();
+            }
+        }
+    }
+
+    private void flush(List<TransactionAudit> batch) {
+        try {
+            auditBatchRepository.insertAll(batch);
+            log.debug(" Audit batch flushed | Rows: {}", batch.size());
+        } catch (RuntimeException e) {
+            log.warn(" Audit batch insert failed, spilling {} rows | Error: {}", batch.size(), e.getMessage());
+            spill(batch);
+        }
+    }
+
+    private void spill(List<TransactionAudit> audits) {
+        spillLock.lock();
+        try {
+            try {
+                Files.createDirectories(spillFile.toAbsolutePath().getParent());
+                try (BufferedWriter writer = Files.newBufferedWriter(spillFile, StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.SYNC)) {
+                    for (TransactionAudit audit : audits) {
+                        writer.write(objectMapper.writeValueAsString(audit));
+                        writer.newLine();
+                    }
+                }
+                spillPending = true;
+                spilledCounter.increment(audits.size());
+            } catch (IOException e) {
+                log.error(" Audit spill failed, {} rows lost | First: {} | Error: {}",
+                        audits.size(), audits.get(0).getTransactionId(), e.getMessage());
+            }
+        } finally {
+            spillLock.unlock();
+        }
+    }
+
+    /**
+     * Load the spill file back into the DB in one DB transaction, so a failed
+     * replay leaves nothing half-written and is simply retried later
+     */
+    private void replaySpill() {
+        lastReplayAttempt = System.currentTimeMillis();
+        try {
+            spillLock.lock();
+            try {
+                // New spills keep going to spillFile while the rotated copy is replayed
+                if (!Files.exists(replayFile) && Files.exists(spillFile)) {
+                    Files.move(spillFile, replayFile, StandardCopyOption.ATOMIC_MOVE);
+                }
+                if (!Files.exists(replayFile)) {
+                    spillPending = false;
+                    return;
+                }
+            } finally {
+                spillLock.unlock();
+            }
+
+            int replayed = transactionTemplate.execute(status -> {
+                int count = 0;
+                List<TransactionAudit> chunk = new ArrayList<>(config.getBatchSize());
+                try (BufferedReader reader = Files.newBufferedReader(replayFile, StandardCharsets.UTF_8)) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        if (line.isBlank()) {
+                            continue;
+                        }
+                        chunk.add(objectMapper.readValue(line, TransactionAudit.class));
+                        if (chunk.size() == config.getBatchSize()) {
+                            auditBatchRepository.insertAll(chunk);
+                            count += chunk.size();
+                            chunk.clear();
+                        }
+                    }
+                } catch (IOException e) {
+                    throw new IllegalStateException("Unreadable audit spill file " + replayFile, e);
+                }
+                if (!chunk.isEmpty()) {
+                    auditBatchRepository.insertAll(chunk);
+                    count += chunk.size();
+                }
+                return count;
+            });
+
+            Files.delete(replayFile);
+            spillLock.lock();
+            try {
+                spillPending = Files.exists(spillFile);
+            } finally {
+                spillLock.unlock();
+            }
+            log.info(" Audit spill replayed | Rows: {}", replayed);
+        } catch (IOException | RuntimeException e) {
+            log.warn(" Audit spill replay failed, will retry | Error: {}", e.getMessage());
+        }
+    }
+}
@@ -9,6 +9,7 @@ public interface TransactionService {
     TransactionResponse getTransaction(String transactionId);
     TransactionResponse getTransactionByReference(String referenceNumber);
     Page<TransactionResponse> getTransactionHistory(Long accountId, Pageable pageable);
+    TransactionHistoryPage getTransactionHistory(Long accountId, String cursor, int size, boolean includeTotal);
 
 
     TransactionResponse transfer(TransferRequest request, Long userId, String username);
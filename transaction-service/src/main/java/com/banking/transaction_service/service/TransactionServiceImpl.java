@@ -8,21 +8,26 @@ import com.banking.transaction_service.exception.custom.*;
 import com.banking.transaction_service.feign.AccountServiceClient;
 import com.banking.transaction_service.kafka.TransactionEventProducer;
 import com.banking.transaction_service.repository.TransactionRepository;
+import com.banking.transaction_service.util.TransactionChargeCalculator;
+import com.banking.transaction_service.util.TransactionCursor;
 import com.banking.transaction_service.util.TransactionMapper;
 import com.banking.transaction_service.util.TransactionIdGenerator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 /**
  * Transaction Service Implementation
@@ -44,51 +49,61 @@ public class TransactionServiceImpl implements TransactionService {
     private final AccountServiceClient accountServiceClient;
     private final TransactionEventProducer eventProducer;
     private final TransactionAuditService auditService;
-    private final RedisTemplate<String, String> redisTemplate;
+    private final IdempotencyService idempotencyService;
+    private final DailyLimitService dailyLimitService;
+    private final AccountLookupService accountLookupService;
+    private final AccountMetadataCache accountMetadataCache;
     private final AppProperties appProperties;
-
-    private static final String IDEMPOTENCY_KEY_PREFIX = "idempotency:";
-    private static final BigDecimal GST_RATE = new BigDecimal("0.18");
-    private static final int DECIMAL_SCALE = 2;
+    private final TransferSequencer transferSequencer;
+    private final TransactionTemplate transactionTemplate;
 
 
     // TRANSFER OPERATION
 
 
+    /**
+     * Transfers from the same source account are serialized by the sequencer;
+     * the DB transaction runs inside the stripe lock so it commits before the
+     * next transfer on that account starts. The idempotency key is reserved
+     * first, so a duplicate waits for its original without holding the stripe.
+     */
     @Override
-    @Transactional
     public TransactionResponse transfer(TransferRequest request, Long userId, String username) {
+        return idempotencyService.execute(request.getIdempotencyKey(),
+                () -> transferSequencer.execute(request.getFromAccountId(),
+                        () -> transactionTemplate.execute(status -> executeTransfer(request, username))));
+    }
+
+    private TransactionResponse executeTransfer(TransferRequest request, String username) {
         log.info("Transfer initiated | From: {} → To: {} | Amount: ₹{} | Mode: {} | By: {}",
                 request.getFromAccountId(), request.getToAccountNumber(),
                 request.getAmount(), request.getTransferMode(), username);
 
-        // Check for duplicate transaction
-        Optional<String> cachedTransactionId = checkIdempotency(request.getIdempotencyKey());
-        if (cachedTransactionId.isPresent()) {
-            log.warn(" Duplicate transaction detected | Key: {}", request.getIdempotencyKey());
-            return getTransaction(cachedTransactionId.get());
-        }
-
         // Validate business rules
         validateTransferLimits(request.getAmount(), request.getTransferMode());
 
-        // Fetch and validate accounts
-        AccountBalanceResponse sourceAccount = getAccountBalance(request.getFromAccountId());
-        AccountBalanceResponse destinationAccount = getAccountByNumber(request.getToAccountNumber());
-
-        validateAccountStatus(sourceAccount.getAccountStatus(), "Source");
-        validateAccountStatus(destinationAccount.getAccountStatus(), "Destination");
-        validateDifferentAccounts(request.getFromAccountId(), destinationAccount.getAccountId());
-
         // Calculate transaction costs
-        BigDecimal charges = calculateTransferCharges(request.getAmount(), request.getTransferMode());
-        BigDecimal tax = calculateGST(charges);
+        BigDecimal charges = TransactionChargeCalculator.calculateTransferCharges(
+                request.getAmount(), request.getTransferMode());
+        BigDecimal tax = TransactionChargeCalculator.calculateGST(charges);
         BigDecimal totalAmount = request.getAmount().add(charges).add(tax);
 
         log.debug(" Breakdown | Amount: ₹{} | Charges: ₹{} | GST: ₹{} | Total: ₹{}",
                 request.getAmount(), charges, tax, totalAmount);
 
-        validateSufficientBalance(sourceAccount.getBalance(), totalAmount);
+        // Daily limit: one Redis check-and-add before any account-service call
+        dailyLimitService.reserve(request.getFromAccountId(), totalAmount);
+
+        // Fetch both accounts in parallel, then validate
+        AccountLookupService.TransferAccounts accounts = accountLookupService.fetchTransferAccounts(
+                request.getFromAccountId(), request.getToAccountNumber());
+        AccountMetadata sourceAccount = accounts.getSource();
+        AccountMetadata destinationAccount = accounts.getDestination();
+
+        validateAccountStatus(sourceAccount.getAccountStatus(), "Source");
+        validateAccountStatus(destinationAccount.getAccountStatus(), "Destination");
+        validateDifferentAccounts(request.getFromAccountId(), destinationAccount.getAccountId());
+        // Balance is checked by account-service's atomic debit, not against a possibly stale read
 
         // Create pending transaction record
         Transaction transaction = buildTransaction(request, sourceAccount, destinationAccount,
@@ -98,7 +113,7 @@ public class TransactionServiceImpl implements TransactionService {
         auditService.logTransactionInitiated(savedTransaction.getTransactionId(), username);
 
         // Execute money transfer
-        executeMoneyTransfer(savedTransaction, sourceAccount, destinationAccount, request.getAmount(), totalAmount);
+        executeMoneyTransfer(savedTransaction, request.getAmount(), totalAmount);
 
         // Finalize transaction
         return finalizeTransaction(savedTransaction, username);
@@ -114,12 +129,12 @@ public class TransactionServiceImpl implements TransactionService {
         log.info(" Deposit initiated | Account: {} | Amount: ₹{} | By: {}",
                 request.getAccountId(), request.getAmount(), username);
 
-        Optional<String> cachedTransactionId = checkIdempotency(request.getIdempotencyKey());
-        if (cachedTransactionId.isPresent()) {
-            return getTransaction(cachedTransactionId.get());
+        Optional<TransactionResponse> cachedResponse = idempotencyService.reserve(request.getIdempotencyKey());
+        if (cachedResponse.isPresent()) {
+            return cachedResponse.get();
         }
 
-        AccountBalanceResponse account = getAccountBalance(request.getAccountId());
+        AccountMetadata account = accountMetadataCache.getById(request.getAccountId());
         validateAccountStatus(account.getAccountStatus(), "Deposit");
 
         Transaction transaction = Transaction.builder()
@@ -158,14 +173,15 @@ public class TransactionServiceImpl implements TransactionService {
         log.info(" Withdrawal initiated | Account: {} | Amount: ₹{} | By: {}",
                 request.getAccountId(), request.getAmount(), username);
 
-        Optional<String> cachedTransactionId = checkIdempotency(request.getIdempotencyKey());
-        if (cachedTransactionId.isPresent()) {
-            return getTransaction(cachedTransactionId.get());
+        Optional<TransactionResponse> cachedResponse = idempotencyService.reserve(request.getIdempotencyKey());
+        if (cachedResponse.isPresent()) {
+            return cachedResponse.get();
         }
 
-        AccountBalanceResponse account = getAccountBalance(request.getAccountId());
+        dailyLimitService.reserve(request.getAccountId(), request.getAmount());
+
+        AccountMetadata account = accountMetadataCache.getById(request.getAccountId());
         validateAccountStatus(account.getAccountStatus(), "Withdrawal");
-        validateSufficientBalance(account.getBalance(), request.getAmount());
 
         Transaction transaction = Transaction.builder()
                 .transactionId(TransactionIdGenerator.generateTransactionId())
@@ -228,6 +244,50 @@ public class TransactionServiceImpl implements TransactionService {
     }
 
 
+    /**
+     * Keyset history: newest first, constant cost per page regardless of depth.
+     * Outgoing and incoming rows are read from their own (accountId, createdDate, id)
+     * indexes and merged, instead of one OR query with a filesort and COUNT(*).
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public TransactionHistoryPage getTransactionHistory(Long accountId, String cursor,
+                                                        int size, boolean includeTotal) {
+        log.debug(" Fetching transaction history | Account: {} | Cursor: {} | Size: {}",
+                accountId, cursor, size);
+
+        // One extra row per side tells us whether another page exists
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<Transaction> outgoing;
+        List<Transaction> incoming;
+        if (cursor == null || cursor.isBlank()) {
+            outgoing = transactionRepository.findByFromAccountIdOrderByCreatedDateDescIdDesc(accountId, limit);
+            incoming = transactionRepository.findByToAccountIdOrderByCreatedDateDescIdDesc(accountId, limit);
+        } else {
+            TransactionCursor position = TransactionCursor.decode(cursor);
+            outgoing = transactionRepository.findOutgoingBefore(
+                    accountId, position.getCreatedDate(), position.getId(), limit);
+            incoming = transactionRepository.findIncomingBefore(
+                    accountId, position.getCreatedDate(), position.getId(), limit);
+        }
+
+        List<Transaction> merged = mergeNewestFirst(outgoing, incoming, size + 1);
+        boolean hasMore = merged.size() > size;
+        List<Transaction> page = hasMore ? merged.subList(0, size) : merged;
+
+        return TransactionHistoryPage.builder()
+                .transactions(page.stream().map(TransactionMapper::toResponse).collect(Collectors.toList()))
+                .size(page.size())
+                .hasMore(hasMore)
+                .nextCursor(hasMore ? TransactionCursor.encode(page.get(page.size() - 1)) : null)
+                .totalCount(includeTotal
+                        ? transactionRepository.countByFromAccountId(accountId)
+                          + transactionRepository.countByToAccountId(accountId)
+                        : null)
+                .build();
+    }
+
+
     // REVERSAL OPERATION
 
     @Override
@@ -251,6 +311,12 @@ public class TransactionServiceImpl implements TransactionService {
         transaction.setReversalReason(reason);
         transactionRepository.save(transaction);
 
+        // A reversed debit no longer counts towards the day's limit
+        if (transaction.getFromAccountId() != null) {
+            dailyLimitService.release(transaction.getFromAccountId(), transaction.getTotalAmount(),
+                    transaction.getCreatedDate().toLocalDate());
+        }
+
         eventProducer.publishTransactionReversed(transaction);
         auditService.logTransactionReversed(transactionId, reason);
 
@@ -262,37 +328,34 @@ public class TransactionServiceImpl implements TransactionService {
     // PRIVATE HELPER METHODS
 
 
-    private Optional<String> checkIdempotency(String idempotencyKey) {
-        if (idempotencyKey == null) {
-            return Optional.empty();
-        }
-        String cachedTransactionId = redisTemplate.opsForValue()
-                .get(IDEMPOTENCY_KEY_PREFIX + idempotencyKey);
-        return Optional.ofNullable(cachedTransactionId);
-    }
-
-    private void cacheIdempotencyKey(String idempotencyKey, String transactionId) {
-        if (idempotencyKey != null) {
-            redisTemplate.opsForValue().set(
-                    IDEMPOTENCY_KEY_PREFIX + idempotencyKey,
-                    transactionId,
-                    appProperties.getIdempotencyTtl(),
-                    TimeUnit.SECONDS
-            );
+    private List<Transaction> mergeNewestFirst(List<Transaction> outgoing, List<Transaction> incoming, int limit) {
+        Comparator<Transaction> newestFirst = Comparator
+                .comparing(Transaction::getCreatedDate)
+                .thenComparing(Transaction::getId)
+                .reversed();
+
+        List<Transaction> merged = new ArrayList<>(limit);
+        int i = 0;
+        int j = 0;
+        while (merged.size() < limit && (i < outgoing.size() || j < incoming.size())) {
+            Transaction next;
+            if (j >= incoming.size()
+                    || (i < outgoing.size() && newestFirst.compare(outgoing.get(i), incoming.get(j)) <= 0)) {
+                next = outgoing.get(i++);
+            } else {
+                next = incoming.get(j++);
+            }
+            // A row on both sides (same account as source and destination) appears once
+            if (merged.isEmpty() || !merged.get(merged.size() - 1).getId().equals(next.getId())) {
+                merged.add(next);
+            }
         }
-    }
-
-    private AccountBalanceResponse getAccountBalance(Long accountId) {
-        return accountServiceClient.getAccountBalance(accountId).getData();
-    }
-
-    private AccountBalanceResponse getAccountByNumber(String accountNumber) {
-        return accountServiceClient.getAccountByNumber(accountNumber).getData();
+        return merged;
     }
 
     private Transaction buildTransaction(TransferRequest request,
-                                         AccountBalanceResponse sourceAccount,
-                                         AccountBalanceResponse destinationAccount,
+                                         AccountMetadata sourceAccount,
+                                         AccountMetadata destinationAccount,
                                          BigDecimal charges, BigDecimal tax,
                                          BigDecimal totalAmount, String username) {
         return Transaction.builder()
@@ -318,19 +381,23 @@ public class TransactionServiceImpl implements TransactionService {
     }
 
     private void executeMoneyTransfer(Transaction transaction,
-                                      AccountBalanceResponse sourceAccount,
-                                      AccountBalanceResponse destinationAccount,
                                       BigDecimal transferAmount,
                                       BigDecimal totalAmount) {
-        // Debit from source (including charges)
-        updateAccountBalance(transaction.getFromAccountId(), totalAmount, "DEBIT",
-                transaction.getTransactionId(),
-                "Transfer to " + destinationAccount.getAccountNumber());
-
-        // Credit to destination (only transfer amount)
-        updateAccountBalance(transaction.getToAccountId(), transferAmount, "CREDIT",
-                transaction.getTransactionId(),
-                "Transfer from " + sourceAccount.getAccountNumber());
+        // Debit source (including charges) and credit destination (only transfer amount)
+        // in one account-service call, so both legs commit or roll back together
+        TransferLegRequest legRequest = TransferLegRequest.builder()
+                .fromAccountNumber(transaction.getFromAccountNumber())
+                .toAccountNumber(transaction.getToAccountNumber())
+                .debitAmount(totalAmount)
+                .creditAmount(transferAmount)
+                .transactionId(transaction.getTransactionId())
+                .remarks("Transfer " + transaction.getFromAccountNumber()
+                        + " → " + transaction.getToAccountNumber())
+                .build();
+
+        accountServiceClient.transfer(legRequest);
+        log.debug(" TRANSFER ₹{} (debit ₹{}) | {} → {}", transferAmount, totalAmount,
+                transaction.getFromAccountNumber(), transaction.getToAccountNumber());
     }
 
     private void updateAccountBalance(Long accountId, BigDecimal amount,
@@ -359,26 +426,30 @@ public class TransactionServiceImpl implements TransactionService {
         transaction.setCompletedDate(LocalDateTime.now());
         Transaction completedTransaction = transactionRepository.save(transaction);
 
-        cacheIdempotencyKey(transaction.getIdempotencyKey(), transaction.getTransactionId());
         eventProducer.publishTransactionCompleted(completedTransaction);
         auditService.logTransactionCompleted(completedTransaction.getTransactionId(), username);
 
         log.info(" Transaction completed | ID: {} | Status: {}",
                 completedTransaction.getTransactionId(), completedTransaction.getStatus());
 
-        return TransactionMapper.toResponse(completedTransaction);
+        TransactionResponse response = TransactionMapper.toResponse(completedTransaction);
+        idempotencyService.complete(transaction.getIdempotencyKey(), response);
+        return response;
     }
 
     private void reverseTransfer(Transaction transaction) {
-        // Credit back to source account (full amount including charges)
-        updateAccountBalance(transaction.getFromAccountId(), transaction.getTotalAmount(),
-                "CREDIT", transaction.getTransactionId() + "_REVERSAL",
-                "Reversal of " + transaction.getTransactionId());
-
-        // Debit from destination account (only transfer amount)
-        updateAccountBalance(transaction.getToAccountId(), transaction.getAmount(),
-                "DEBIT", transaction.getTransactionId() + "_REVERSAL",
-                "Reversal of " + transaction.getTransactionId());
+        // Debit destination (only transfer amount) and credit source back
+        // (full amount including charges) atomically
+        TransferLegRequest legRequest = TransferLegRequest.builder()
+                .fromAccountNumber(transaction.getToAccountNumber())
+                .toAccountNumber(transaction.getFromAccountNumber())
+                .debitAmount(transaction.getAmount())
+                .creditAmount(transaction.getTotalAmount())
+                .transactionId(transaction.getTransactionId() + "_REVERSAL")
+                .remarks("Reversal of " + transaction.getTransactionId())
+                .build();
+
+        accountServiceClient.transfer(legRequest);
     }
 
 
@@ -408,14 +479,6 @@ public class TransactionServiceImpl implements TransactionService {
         }
     }
 
-    private void validateSufficientBalance(BigDecimal balance, BigDecimal required) {
-        if (balance.compareTo(required) < 0) {
-            throw new InsufficientBalanceException(
-                    String.format("Insufficient balance. Available: ₹%s, Required: ₹%s",
-                            balance, required));
-        }
-    }
-
     private void validateDifferentAccounts(Long sourceAccountId, Long destinationAccountId) {
         if (sourceAccountId.equals(destinationAccountId)) {
             throw new InvalidTransactionException(
@@ -435,28 +498,4 @@ public class TransactionServiceImpl implements TransactionService {
                     "Transaction has already been reversed");
         }
     }
-
-
-    // CALCULATION METHODS (Enhanced Switch Expressions)
-
-    private BigDecimal calculateTransferCharges(BigDecimal amount, TransferMode mode) {
-        return switch (mode) {
-            case IMPS -> amount.compareTo(new BigDecimal("1000")) <= 0
-                    ? new BigDecimal("5.00")
-                    : new BigDecimal("15.00");
-
-            case NEFT -> amount.compareTo(new BigDecimal("10000")) <= 0
-                    ? new BigDecimal("2.50")
-                    : new BigDecimal("5.00");
-
-            case RTGS -> amount.compareTo(new BigDecimal("200000")) <= 0
-                    ? new BigDecimal("25.00")
-                    : new BigDecimal("50.00");
-        };
-    }
-
-    private BigDecimal calculateGST(BigDecimal charges) {
-        return charges.multiply(GST_RATE)
-                .setScale(DECIMAL_SCALE, RoundingMode.HALF_UP);
-    }
-}
\ No newline at end of file
+}
@@ -1,19 +1,13 @@
 package com.banking.transaction_service.service;
 
-import com.banking.transaction_service.dto.AccountBalanceResponse;
-import com.banking.transaction_service.dto.ApiResponse;
 import com.banking.transaction_service.enums.TransferMode;
 import com.banking.transaction_service.exception.custom.*;
-import com.banking.transaction_service.feign.AccountServiceClient;
-import com.banking.transaction_service.repository.TransactionRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
 
 /**
  * Transaction Validation Service
@@ -29,8 +23,8 @@ import java.time.LocalDateTime;
 @Slf4j
 public class TransactionValidationService {
 
-    private final AccountServiceClient accountServiceClient;
-    private final TransactionRepository transactionRepository;
+    private final AccountMetadataCache accountMetadataCache;
+    private final DailyLimitService dailyLimitService;
 
     @Value("${transaction.limit.daily}")
     private BigDecimal dailyLimit;
@@ -49,14 +43,7 @@ public class TransactionValidationService {
     public void validateAccount(Long accountId) {
         log.debug("Validating account: {}", accountId);
 
-        ApiResponse<AccountBalanceResponse> response = accountServiceClient.getAccountBalance(accountId);
-
-        if (response == null || response.getData() == null) {
-            log.error("Account not found: {}", accountId);
-            throw new AccountNotFoundException("Account not found: " + accountId);
-        }
-
-        String status = response.getData().getAccountStatus();
+        String status = accountMetadataCache.getById(accountId).getAccountStatus();
         if (!"ACTIVE".equalsIgnoreCase(status)) {
             log.error("Account {} is not active. Status: {}", accountId, status);
             throw new InvalidTransactionException("Account is not active: " + accountId);
@@ -103,20 +90,12 @@ public class TransactionValidationService {
     }
 
     /**
-     * Checks if adding amount would exceed daily limit
+     * Checks if adding amount would exceed daily limit (reads the incremental counter)
+     * Transfers and withdrawals enforce the limit atomically via DailyLimitService.reserve
      * @throws TransactionLimitExceededException if daily limit exceeded
      */
     public void checkDailyLimit(Long accountId, BigDecimal amount) {
-        LocalDateTime startOfDay = LocalDate.now().atStartOfDay();
-        LocalDateTime endOfDay = startOfDay.plusDays(1);
-
-        BigDecimal dailyTotal = transactionRepository.calculateDailyDebitTotal(
-                accountId, startOfDay, endOfDay);
-
-        if (dailyTotal == null) {
-            dailyTotal = BigDecimal.ZERO;
-        }
-
+        BigDecimal dailyTotal = dailyLimitService.getDailyTotal(accountId);
         BigDecimal newTotal = dailyTotal.add(amount);
 
         if (newTotal.compareTo(dailyLimit) > 0) {
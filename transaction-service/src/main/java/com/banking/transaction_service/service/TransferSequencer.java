@@ -0,0 +1,102 @@
+package com.banking.transaction_service.service;
+
+import com.banking.transaction_service.config.AppProperties;
+import com.banking.transaction_service.exception.custom.AccountBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Per-account striped sequencer for transfers
+ *
+ * Work for the same source account runs one at a time, in arrival order
+ * (fair locks), while different accounts proceed in parallel. Accounts are
+ * hashed onto a fixed number of stripes, so memory stays constant no matter
+ * how many accounts are active.
+ *
+ * Metrics (per stripe):
+ * - transaction.sequencer.queue.depth : threads waiting on the stripe
+ * - transaction.sequencer.wait        : time spent waiting for the stripe
+ * - transaction.sequencer.timeouts    : callers that gave up waiting
+ */
+@Component
+@Slf4j
+public class TransferSequencer {
+
+    private final ReentrantLock[] stripes;
+    private final Timer[] waitTimers;
+    private final Counter[] timeoutCounters;
+    private final long lockTimeoutMs;
+
+    public TransferSequencer(AppProperties appProperties, MeterRegistry meterRegistry) {
+        AppProperties.Sequencer config = appProperties.getSequencer();
+        this.lockTimeoutMs = config.getLockTimeoutMs();
+        this.stripes = new ReentrantLock[config.getStripes()];
+        this.waitTimers = new Timer[stripes.length];
+        this.timeoutCounters = new Counter[stripes.length];
+
+        for (int i = 0; i < stripes.length; i++) {
+            ReentrantLock lock = new ReentrantLock(true);
+            String stripe = String.valueOf(i);
+            stripes[i] = lock;
+            Gauge.builder("transaction.sequencer.queue.depth", lock, ReentrantLock::getQueueLength)
+                    .tag("stripe", stripe)
+                    .register(meterRegistry);
+            waitTimers[i] = Timer.builder("transaction.sequencer.wait")
+                    .tag("stripe", stripe)
+                    .register(meterRegistry);
+            timeoutCounters[i] = Counter.builder("transaction.sequencer.timeouts")
+                    .tag("stripe", stripe)
+                    .register(meterRegistry);
+        }
+
+        log.info(" Transfer sequencer ready | Stripes: {} | Lock timeout: {}ms",
+                stripes.length, lockTimeoutMs);
+    }
+
+    /**
+     * Run work while holding the stripe of the given account
+     * @throws AccountBusyException if the stripe could not be acquired in time
+     */
+    public <T> T execute(Long accountId, Supplier<T> work) {
+        int stripe = stripeFor(accountId);
+        ReentrantLock lock = stripes[stripe];
+
+        long waitStart = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = lock.tryLock(lockTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AccountBusyException("Interrupted while waiting for account " + accountId);
+        }
+        waitTimers[stripe].record(System.nanoTime() - waitStart, TimeUnit.NANOSECONDS);
+
+        if (!acquired) {
+            timeoutCounters[stripe].increment();
+            log.warn(" Sequencer timeout | Account: {} | Stripe: {} | Waiting: {}",
+                    accountId, stripe, lock.getQueueLength());
+            throw new AccountBusyException(
+                    "Account " + accountId + " is busy with other transfers. Please retry.");
+        }
+
+        try {
+            return work.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int stripeFor(Long accountId) {
+        // Spread sequential IDs across stripes
+        int hash = Long.hashCode(accountId) * 0x9E3779B9;
+        return Math.floorMod(hash ^ (hash >>> 16), stripes.length);
+    }
+}
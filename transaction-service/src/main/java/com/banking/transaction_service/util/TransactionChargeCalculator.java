@@ -0,0 +1,36 @@
+package com.banking.transaction_service.util;
+
+import com.banking.transaction_service.enums.TransferMode;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Transfer charges and GST, shared by single and bulk transfers
+ */
+public class TransactionChargeCalculator {
+
+    private static final BigDecimal GST_RATE = new BigDecimal("0.18");
+    private static final int DECIMAL_SCALE = 2;
+
+    public static BigDecimal calculateTransferCharges(BigDecimal amount, TransferMode mode) {
+        return switch (mode) {
+            case IMPS -> amount.compareTo(new BigDecimal("1000")) <= 0
+                    ? new BigDecimal("5.00")
+                    : new BigDecimal("15.00");
+
+            case NEFT -> amount.compareTo(new BigDecimal("10000")) <= 0
+                    ? new BigDecimal("2.50")
+                    : new BigDecimal("5.00");
+
+            case RTGS -> amount.compareTo(new BigDecimal("200000")) <= 0
+                    ? new BigDecimal("25.00")
+                    : new BigDecimal("50.00");
+        };
+    }
+
+    public static BigDecimal calculateGST(BigDecimal charges) {
+        return charges.multiply(GST_RATE)
+                .setScale(DECIMAL_SCALE, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,40 @@
+package com.banking.transaction_service.util;
+
+import com.banking.transaction_service.entity.Transaction;
+import com.banking.transaction_service.exception.custom.InvalidTransactionException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque keyset cursor for transaction history: position (createdDate, id)
+ * of the last row returned, encoded as URL-safe Base64.
+ */
+@Getter
+@AllArgsConstructor
+public class TransactionCursor {
+
+    private final LocalDateTime createdDate;
+    private final Long id;
+
+    public static String encode(Transaction transaction) {
+        String raw = transaction.getCreatedDate() + "|" + transaction.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TransactionCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            return new TransactionCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new InvalidTransactionException("Invalid history cursor");
+        }
+    }
+}
@@ -1,24 +1,144 @@
 package com.banking.transaction_service.util;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.Random;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicLong;
 
-public class TransactionIdGenerator {
+/**
+ * Snowflake-style ID generator: (millisecond, node id, per-millisecond sequence)
+ * is unique across instances as long as every replica has its own node id.
+ *
+ * Rendered form keeps the readable prefix and a UTC timestamp:
+ * TXN + yyyyMMddHHmmssSSS + node (4 digits) + sequence (4 digits), e.g. TXN2026101614300512300070042
+ * (UTC, not local time: when DST falls back a local clock shows the same hour twice,
+ * and the rendered IDs of those two hours could repeat)
+ *
+ * Lock-free: one CAS on an AtomicLong per ID. When a millisecond's 4096 sequence
+ * numbers run out (or the wall clock steps back) the generator borrows the next
+ * millisecond instead of waiting, so IDs stay unique and monotonic per node.
+ */
+public final class TransactionIdGenerator {
 
-    private static final Random random = new Random();
+    public static final int MAX_NODE_ID = 1023;
+
+    static final long EPOCH_MS = 1704067200000L;  // 2024-01-01T00:00:00Z
+    static final int SEQUENCE_BITS = 12;
+    static final int NODE_BITS = 10;
+    private static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+
+    private static final int PREFIX_LENGTH = 3;
+    private static final int STAMP_LENGTH = 14;  // yyyyMMddHHmmss
+    private static final int ID_LENGTH = PREFIX_LENGTH + STAMP_LENGTH + 3 + 4 + 4;
+
+    // (milliseconds since EPOCH_MS << SEQUENCE_BITS) | sequence of the last ID handed out
+    private static final AtomicLong lastState = new AtomicLong();
+    private static final ThreadLocal<char[]> buffer = ThreadLocal.withInitial(() -> new char[ID_LENGTH]);
+
+    private static volatile int nodeId;
+    private static volatile SecondStamp stamp = new SecondStamp(Long.MIN_VALUE, new char[STAMP_LENGTH]);
+
+    private TransactionIdGenerator() {
+    }
+
+    /**
+     * Set this instance's node id (0-1023); must differ between running replicas
+     */
+    public static void configureNode(int node) {
+        if (node < 0 || node > MAX_NODE_ID) {
+            throw new IllegalArgumentException("Node id must be between 0 and " + MAX_NODE_ID + ": " + node);
+        }
+        nodeId = node;
+    }
 
     public static String generateTransactionId() {
-        String timestamp = LocalDateTime.now()
-                .format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss"));
-        int randomNum = random.nextInt(9000) + 1000;
-        return "TXN" + timestamp + randomNum;
+        return render("TXN", nextId());
     }
 
     public static String generateReferenceNumber() {
-        String timestamp = LocalDateTime.now()
-                .format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss"));
-        int randomNum = random.nextInt(9000) + 1000;
-        return "REF" + timestamp + randomNum;
+        return render("REF", nextId());
+    }
+
+    public static String generateBatchId() {
+        return render("BLK", nextId());
+    }
+
+    /**
+     * Raw 64-bit id: 41 bits millisecond | 10 bits node | 12 bits sequence
+     */
+    public static long nextId() {
+        long now = System.currentTimeMillis() - EPOCH_MS;
+        while (true) {
+            long last = lastState.get();
+            long lastMs = last >>> SEQUENCE_BITS;
+            long next;
+            if (now > lastMs) {
+                next = now << SEQUENCE_BITS;
+            } else if ((last & MAX_SEQUENCE) < MAX_SEQUENCE) {
+                next = last + 1;
+            } else {
+                next = (lastMs + 1) << SEQUENCE_BITS;
+            }
+            if (lastState.compareAndSet(last, next)) {
+                long ms = next >>> SEQUENCE_BITS;
+                return (ms << (NODE_BITS + SEQUENCE_BITS))
+                        | ((long) nodeId << SEQUENCE_BITS)
+                        | (next & MAX_SEQUENCE);
+            }
+        }
+    }
+
+    static String render(String prefix, long id) {
+        long epochMs = (id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH_MS;
+        int node = (int) ((id >>> SEQUENCE_BITS) & MAX_NODE_ID);
+        int sequence = (int) (id & MAX_SEQUENCE);
+
+        char[] chars = buffer.get();
+        prefix.getChars(0, PREFIX_LENGTH, chars, 0);
+        System.arraycopy(stampFor(Math.floorDiv(epochMs, 1000)), 0, chars, PREFIX_LENGTH, STAMP_LENGTH);
+
+        int pos = PREFIX_LENGTH + STAMP_LENGTH;
+        pos = writeDigits(chars, pos, Math.floorMod(epochMs, 1000), 3);
+        pos = writeDigits(chars, pos, node, 4);
+        writeDigits(chars, pos, sequence, 4);
+        return new String(chars, 0, ID_LENGTH);
+    }
+
+    // The yyyyMMddHHmmss digits only change once a second; rebuild them lazily
+    private static char[] stampFor(long epochSecond) {
+        SecondStamp current = stamp;
+        if (current.epochSecond == epochSecond) {
+            return current.digits;
+        }
+
+        LocalDateTime time = LocalDateTime.ofInstant(Instant.ofEpochSecond(epochSecond), ZoneOffset.UTC);
+        char[] digits = new char[STAMP_LENGTH];
+        int pos = writeDigits(digits, 0, time.getYear(), 4);
+        pos = writeDigits(digits, pos, time.getMonthValue(), 2);
+        pos = writeDigits(digits, pos, time.getDayOfMonth(), 2);
+        pos = writeDigits(digits, pos, time.getHour(), 2);
+        pos = writeDigits(digits, pos, time.getMinute(), 2);
+        writeDigits(digits, pos, time.getSecond(), 2);
+
+        stamp = new SecondStamp(epochSecond, digits);
+        return digits;
+    }
+
+    private static int writeDigits(char[] chars, int pos, int value, int width) {
+        for (int i = pos + width - 1; i >= pos; i--) {
+            chars[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        return pos + width;
+    }
+
+    private static final class SecondStamp {
+        private final long epochSecond;
+        private final char[] digits;
+
+        private SecondStamp(long epochSecond, char[] digits) {
+            this.epochSecond = epochSecond;
+            this.digits = digits;
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,72 @@
+package com.banking.transaction_service.feign;
+
+import com.banking.transaction_service.exception.custom.AccountNotFoundException;
+import com.banking.transaction_service.exception.custom.InsufficientBalanceException;
+import com.banking.transaction_service.exception.custom.InvalidTransactionException;
+import feign.FeignException;
+import feign.Request;
+import feign.Response;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+class AccountServiceErrorDecoderTest {
+
+    private static final String METHOD = "AccountServiceClient#transferFunds(TransferLegRequest)";
+
+    private final AccountServiceErrorDecoder decoder = new AccountServiceErrorDecoder();
+
+    @Test
+    void notFoundBecomesAccountNotFound() {
+        Exception e = decoder.decode(METHOD, response(404, "{\"message\":\"Account not found: 10000000123453\"}"));
+
+        assertInstanceOf(AccountNotFoundException.class, e);
+        assertEquals("Account not found: 10000000123453", e.getMessage());
+    }
+
+    @Test
+    void insufficientBalanceKeepsItsType() {
+        Exception e = decoder.decode(METHOD, response(400, "{\"message\":\"Insufficient balance. Available: 50.00\"}"));
+
+        assertInstanceOf(InsufficientBalanceException.class, e);
+    }
+
+    @Test
+    void otherBusinessErrorsBecomeInvalidTransaction() {
+        Exception e = decoder.decode(METHOD, response(400, "{\"message\":\"Account is FROZEN\"}"));
+
+        assertInstanceOf(InvalidTransactionException.class, e);
+        assertEquals("Account is FROZEN", e.getMessage());
+    }
+
+    @Test
+    void unreadableBodyStillMapsToBusinessError() {
+        Exception e = decoder.decode(METHOD, response(409, "<html>conflict</html>"));
+
+        assertInstanceOf(InvalidTransactionException.class, e);
+        assertEquals("Account service rejected the request", e.getMessage());
+    }
+
+    @Test
+    void serverErrorsAreLeftToTheDefaultDecoder() {
+        Exception e = decoder.decode(METHOD, response(503, "{\"message\":\"down\"}"));
+
+        assertInstanceOf(FeignException.class, e);
+    }
+
+    private static Response response(int status, String body) {
+        Request request = Request.create(Request.HttpMethod.POST, "/api/accounts/transfer",
+                Map.of(), null, StandardCharsets.UTF_8, null);
+        return Response.builder()
+                .status(status)
+                .reason("status " + status)
+                .request(request)
+                .headers(Map.of())
+                .body(body, StandardCharsets.UTF_8)
+                .build();
+    }
+}
@@ -0,0 +1,114 @@
+package com.banking.transaction_service.kafka;
+
+import com.banking.transaction_service.config.AppProperties;
+import com.banking.transaction_service.entity.OutboxEvent;
+import com.banking.transaction_service.enums.OutboxStatus;
+import com.banking.transaction_service.repository.OutboxEventRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OutboxRelayTest {
+
+    private final OutboxEventRepository outboxEventRepository = mock(OutboxEventRepository.class);
+    @SuppressWarnings("unchecked")
+    private final KafkaTemplate<String, Object> kafkaTemplate = mock(KafkaTemplate.class);
+    private final AppProperties properties = new AppProperties();
+
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        relay = new OutboxRelay(outboxEventRepository, kafkaTemplate, new ObjectMapper(),
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), properties,
+                new SimpleMeterRegistry());
+        when(kafkaTemplate.send(anyRecord())).thenReturn(CompletableFuture.completedFuture(null));
+    }
+
+    @Test
+    void sendsOneEventPerKeyPerBatchAndMarksItSent() {
+        OutboxEvent first = event(1L, "TXN-A");
+        OutboxEvent second = event(2L, "TXN-A");
+        OutboxEvent other = event(3L, "TXN-B");
+        when(outboxEventRepository.findPendingForUpdate(any())).thenReturn(List.of(first, second, other));
+
+        relay.relay();
+
+        verify(kafkaTemplate, times(2)).send(anyRecord());
+        verify(kafkaTemplate).send(withOutboxId("1"));
+        verify(kafkaTemplate, never()).send(withOutboxId("2"));
+        verify(outboxEventRepository).markSent(eq(List.of(1L, 3L)), any());
+        assertEquals(OutboxStatus.PENDING, second.getStatus());
+    }
+
+    @Test
+    void failedSendStaysPendingForNextPoll() {
+        OutboxEvent sent = event(1L, "TXN-A");
+        OutboxEvent failed = event(2L, "TXN-B");
+        when(outboxEventRepository.findPendingForUpdate(any())).thenReturn(List.of(sent, failed));
+        when(kafkaTemplate.send(withOutboxId("2")))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+
+        relay.relay();
+
+        verify(outboxEventRepository).markSent(eq(List.of(1L)), any());
+        assertEquals(OutboxStatus.PENDING, failed.getStatus());
+        assertEquals(1, failed.getAttempts());
+        assertTrue(failed.getLastError().contains("broker down"));
+    }
+
+    @Test
+    void poisonEventIsParkedWithoutBlockingOthers() {
+        OutboxEvent poison = event(1L, "TXN-A");
+        poison.setPayloadType("com.banking.transaction_service.kafka.NoSuchEvent");
+        OutboxEvent healthy = event(2L, "TXN-B");
+        when(outboxEventRepository.findPendingForUpdate(any())).thenReturn(List.of(poison, healthy));
+
+        relay.relay();
+
+        assertEquals(OutboxStatus.FAILED, poison.getStatus());
+        verify(kafkaTemplate, never()).send(withOutboxId("1"));
+        verify(outboxEventRepository).markSent(eq(List.of(2L)), any());
+    }
+
+    private static OutboxEvent event(long id, String key) {
+        return OutboxEvent.builder()
+                .id(id)
+                .topic("transaction-events")
+                .aggregateKey(key)
+                .payloadType("java.util.LinkedHashMap")
+                .payload("{\"transactionId\":\"" + key + "\"}")
+                .createdDate(LocalDateTime.now())
+                .build();
+    }
+
+    private static ProducerRecord<String, Object> anyRecord() {
+        return any();
+    }
+
+    private static ProducerRecord<String, Object> withOutboxId(String id) {
+        return argThat(record -> record != null && id.equals(new String(
+                record.headers().lastHeader(OutboxRelay.OUTBOX_ID_HEADER).value(), StandardCharsets.UTF_8)));
+    }
+}
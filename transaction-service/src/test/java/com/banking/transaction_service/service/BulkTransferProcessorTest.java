@@ -0,0 +1,167 @@
+package com.banking.transaction_service.service;
+
+import com.banking.transaction_service.config.AppProperties;
+import com.banking.transaction_service.dto.ApiResponse;
+import com.banking.transaction_service.dto.BulkCreditResponse;
+import com.banking.transaction_service.dto.BulkCreditResult;
+import com.banking.transaction_service.dto.BulkDebitRequest;
+import com.banking.transaction_service.entity.BulkTransferBatch;
+import com.banking.transaction_service.entity.Transaction;
+import com.banking.transaction_service.enums.BulkTransferStatus;
+import com.banking.transaction_service.enums.TransactionStatus;
+import com.banking.transaction_service.exception.custom.AccountServiceUnavailableException;
+import com.banking.transaction_service.feign.AccountServiceClient;
+import com.banking.transaction_service.kafka.TransactionEventProducer;
+import com.banking.transaction_service.repository.BulkTransferBatchRepository;
+import com.banking.transaction_service.repository.TransactionBatchRepository;
+import com.banking.transaction_service.repository.TransactionRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BulkTransferProcessorTest {
+
+    private static final String BATCH_ID = "BLK1";
+
+    private final BulkTransferBatchRepository batchRepository = mock(BulkTransferBatchRepository.class);
+    private final TransactionRepository transactionRepository = mock(TransactionRepository.class);
+    private final TransactionBatchRepository transactionBatchRepository = mock(TransactionBatchRepository.class);
+    private final AccountServiceClient accountServiceClient = mock(AccountServiceClient.class);
+    private final TransactionEventProducer eventProducer = mock(TransactionEventProducer.class);
+    private final TransactionAuditService auditService = mock(TransactionAuditService.class);
+
+    private final AppProperties properties = new AppProperties();
+
+    private BulkTransferProcessor processor;
+    private BulkTransferBatch batch;
+    private List<Transaction> rows;
+
+    @BeforeEach
+    void setUp() {
+        processor = new BulkTransferProcessor(batchRepository, transactionRepository, transactionBatchRepository,
+                accountServiceClient, eventProducer, auditService,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                new TransferSequencer(properties, new SimpleMeterRegistry()), properties);
+
+        batch = BulkTransferBatch.builder()
+                .batchId(BATCH_ID)
+                .fromAccountId(7L)
+                .fromAccountNumber("10000000123453")
+                .totalItems(2)
+                .totalAmount(new BigDecimal("300.00"))
+                .totalCharges(BigDecimal.ZERO)
+                .totalDebit(new BigDecimal("300.00"))
+                .initiatedBy("payroll")
+                .build();
+        rows = List.of(row(1L, "TXN1", new BigDecimal("100.00")), row(2L, "TXN2", new BigDecimal("200.00")));
+
+        when(batchRepository.acquireLease(eq(BATCH_ID), anyString(), any(), any())).thenReturn(1);
+        when(batchRepository.renewLease(eq(BATCH_ID), anyString(), any())).thenReturn(1);
+        when(batchRepository.findByBatchId(BATCH_ID)).thenReturn(Optional.of(batch));
+        when(batchRepository.save(any(BulkTransferBatch.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(transactionRepository.findByBulkBatchIdAndStatusAndIdGreaterThanOrderByIdAsc(
+                eq(BATCH_ID), eq(TransactionStatus.PENDING), any(), any()))
+                .thenReturn(rows)
+                .thenReturn(List.of());
+        when(transactionRepository.sumFailedBulkRows(BATCH_ID)).thenReturn(BigDecimal.ZERO);
+    }
+
+    @Test
+    void debitWithUnknownOutcomeLeavesBatchRetryable() {
+        when(accountServiceClient.bulkPayoutDebit(any(BulkDebitRequest.class)))
+                .thenThrow(new AccountServiceUnavailableException("Account service unavailable"));
+
+        processor.process(BATCH_ID);
+
+        assertEquals(BulkTransferStatus.ACCEPTED, batch.getStatus());
+        assertNull(batch.getCompletedDate());
+        verify(transactionRepository, never()).failPendingBulkRows(anyString(), anyString(), any());
+        verify(accountServiceClient, never()).bulkPayoutCredit(any());
+        verify(batchRepository, never()).save(any(BulkTransferBatch.class));
+        verify(batchRepository, never()).releaseLease(anyString(), anyString());
+        assertRetryScheduled();
+    }
+
+    @Test
+    void creditChunkWithUnknownOutcomeLeavesBatchRetryable() {
+        when(accountServiceClient.bulkPayoutDebit(any(BulkDebitRequest.class))).thenReturn(ApiResponse.success("ok", null));
+        when(accountServiceClient.bulkPayoutCredit(any()))
+                .thenThrow(new AccountServiceUnavailableException("Account service unavailable"));
+
+        processor.process(BATCH_ID);
+
+        assertEquals(BulkTransferStatus.PROCESSING, batch.getStatus());
+        assertNull(batch.getCompletedDate());
+        rows.forEach(row -> assertEquals(TransactionStatus.PENDING, row.getStatus()));
+        verify(transactionBatchRepository, never()).updateResults(anyList());
+        verify(accountServiceClient, never()).bulkPayoutRefund(any());
+        verify(batchRepository, never()).releaseLease(anyString(), anyString());
+        assertRetryScheduled();
+    }
+
+    @Test
+    void retriedRunCreditsPendingRowsAndFinishes() {
+        batch.setStatus(BulkTransferStatus.PROCESSING);  // an earlier run debited, then stopped
+        when(accountServiceClient.bulkPayoutDebit(any(BulkDebitRequest.class))).thenReturn(ApiResponse.success("ok", null));
+        when(accountServiceClient.bulkPayoutCredit(any())).thenReturn(ApiResponse.success("ok", BulkCreditResponse.builder()
+                .batchId(BATCH_ID)
+                .creditedCount(2)
+                .results(List.of(credited("TXN1"), credited("TXN2")))
+                .build()));
+
+        processor.process(BATCH_ID);
+
+        assertEquals(BulkTransferStatus.COMPLETED, batch.getStatus());
+        assertNotNull(batch.getCompletedDate());
+        assertEquals(2, batch.getSuccessCount());
+        rows.forEach(row -> assertEquals(TransactionStatus.SUCCESS, row.getStatus()));
+        verify(transactionBatchRepository).updateResults(rows);
+        verify(batchRepository).releaseLease(eq(BATCH_ID), anyString());
+    }
+
+    /**
+     * The lease was set to run out after the retry delay (not the full lease), so recovery picks the batch up
+     */
+    private void assertRetryScheduled() {
+        LocalDateTime latest = LocalDateTime.now().plusSeconds(properties.getBulk().getRetryDelaySeconds());
+        verify(batchRepository).renewLease(eq(BATCH_ID), anyString(), argThat(retryAt -> !retryAt.isAfter(latest)));
+    }
+
+    private static Transaction row(Long id, String transactionId, BigDecimal amount) {
+        return Transaction.builder()
+                .id(id)
+                .transactionId(transactionId)
+                .toAccountNumber("10000000000008")
+                .amount(amount)
+                .status(TransactionStatus.PENDING)
+                .build();
+    }
+
+    private static BulkCreditResult credited(String transactionId) {
+        return BulkCreditResult.builder()
+                .transactionId(transactionId)
+                .accountId(9L)
+                .credited(true)
+                .build();
+    }
+}
@@ -0,0 +1,174 @@
+package com.banking.transaction_service.service;
+
+import com.banking.transaction_service.config.AppProperties;
+import com.banking.transaction_service.exception.custom.TransactionLimitExceededException;
+import com.banking.transaction_service.repository.TransactionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DailyLimitServiceTest {
+
+    private static final long ACCOUNT_ID = 7L;
+
+    private final TransactionRepository transactionRepository = mock(TransactionRepository.class);
+    private final FakeRedis redis = new FakeRedis();
+    private final AppProperties properties = new AppProperties();
+
+    private DailyLimitService dailyLimitService;
+
+    @BeforeEach
+    void setUp() {
+        AppProperties.Limit limit = new AppProperties.Limit();
+        limit.setDaily(new BigDecimal("10000.00"));
+        properties.setLimit(limit);
+        dailyLimitService = new DailyLimitService(redis, transactionRepository, properties);
+    }
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void coldCounterIsSeededFromDatabaseOnce() {
+        when(transactionRepository.calculateDailyDebitTotal(eq(ACCOUNT_ID), any(), any()))
+                .thenReturn(new BigDecimal("1000.00"));
+
+        dailyLimitService.reserve(ACCOUNT_ID, new BigDecimal("500.50"));
+        dailyLimitService.reserve(ACCOUNT_ID, new BigDecimal("250.00"));
+
+        assertEquals(175_050L, redis.total(today(), ACCOUNT_ID));
+        verify(transactionRepository, times(1)).calculateDailyDebitTotal(eq(ACCOUNT_ID), any(), any());
+    }
+
+    @Test
+    void reservationUpToTheLimitIsAllowed() {
+        redis.seed(today(), ACCOUNT_ID, 900_000L);
+
+        dailyLimitService.reserve(ACCOUNT_ID, new BigDecimal("1000.00"));
+
+        assertEquals(1_000_000L, redis.total(today(), ACCOUNT_ID));
+    }
+
+    @Test
+    void reservationOverTheLimitIsRejectedWithoutCounting() {
+        redis.seed(today(), ACCOUNT_ID, 900_000L);
+
+        assertThrows(TransactionLimitExceededException.class,
+                () -> dailyLimitService.reserve(ACCOUNT_ID, new BigDecimal("1000.01")));
+
+        assertEquals(900_000L, redis.total(today(), ACCOUNT_ID));
+    }
+
+    @Test
+    void reservationIsGivenBackWhenTransactionRollsBack() {
+        redis.seed(today(), ACCOUNT_ID, 100_000L);
+        TransactionSynchronizationManager.initSynchronization();
+
+        dailyLimitService.reserve(ACCOUNT_ID, new BigDecimal("500.00"));
+        assertEquals(150_000L, redis.total(today(), ACCOUNT_ID));
+
+        afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+        assertEquals(100_000L, redis.total(today(), ACCOUNT_ID));
+    }
+
+    @Test
+    void committedReservationIsKept() {
+        redis.seed(today(), ACCOUNT_ID, 100_000L);
+        TransactionSynchronizationManager.initSynchronization();
+
+        dailyLimitService.reserve(ACCOUNT_ID, new BigDecimal("500.00"));
+        afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertEquals(150_000L, redis.total(today(), ACCOUNT_ID));
+    }
+
+    @Test
+    void releaseNeverCreatesMissingCounter() {
+        LocalDate yesterday = today().minusDays(1);
+
+        dailyLimitService.release(ACCOUNT_ID, new BigDecimal("500.00"), yesterday);
+        assertNull(redis.total(yesterday, ACCOUNT_ID));
+
+        redis.seed(yesterday, ACCOUNT_ID, 80_000L);
+        dailyLimitService.release(ACCOUNT_ID, new BigDecimal("500.00"), yesterday);
+        assertEquals(30_000L, redis.total(yesterday, ACCOUNT_ID));
+    }
+
+    private static void afterCompletion(int status) {
+        TransactionSynchronizationManager.getSynchronizations().forEach(sync -> sync.afterCompletion(status));
+    }
+
+    private static LocalDate today() {
+        return LocalDate.now();
+    }
+
+    /**
+     * In-memory Redis hashes that answer DailyLimitService's three scripts the way their Lua does
+     */
+    private static final class FakeRedis extends RedisTemplate<String, String> {
+
+        private final Map<String, Map<String, Long>> hashes = new HashMap<>();
+
+        void seed(LocalDate day, long accountId, long paise) {
+            hashes.computeIfAbsent(key(day), k -> new HashMap<>()).put(Long.toString(accountId), paise);
+        }
+
+        Long total(LocalDate day, long accountId) {
+            return hashes.getOrDefault(key(day), Map.of()).get(Long.toString(accountId));
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T execute(RedisScript<T> script, List<String> keys, Object... args) {
+            String lua = script.getScriptAsString();
+            Map<String, Long> hash = hashes.computeIfAbsent(keys.get(0), k -> new HashMap<>());
+            String field = (String) args[0];
+            long amount = Long.parseLong((String) args[1]);
+
+            if (lua.contains("HSETNX")) {
+                hash.putIfAbsent(field, amount);
+                return (T) hash.get(field);
+            }
+            if (lua.contains("HEXISTS")) {
+                return (T) (Long) (hash.containsKey(field) ? hash.merge(field, amount, Long::sum) : 0L);
+            }
+            Long current = hash.get(field);
+            if (current == null) {
+                return (T) List.of(-1L, 0L);
+            }
+            if (current + amount > Long.parseLong((String) args[2])) {
+                return (T) List.of(0L, current);
+            }
+            return (T) List.of(1L, hash.merge(field, amount, Long::sum));
+        }
+
+        private static String key(LocalDate day) {
+            return "daily-debit:" + day.format(DateTimeFormatter.BASIC_ISO_DATE);
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.banking.transaction_service.service;
+
+import com.banking.transaction_service.config.AppProperties;
+import com.banking.transaction_service.dto.TransactionResponse;
+import com.banking.transaction_service.enums.TransactionStatus;
+import com.banking.transaction_service.exception.custom.DuplicateTransactionException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class IdempotencyServiceTest {
+
+    private static final String KEY = "idempotency:K1";
+
+    @SuppressWarnings("unchecked")
+    private final RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final AppProperties properties = new AppProperties();
+
+    private IdempotencyService idempotencyService;
+
+    @BeforeEach
+    void setUp() {
+        properties.getIdempotency().setWaitTimeoutMs(200);
+        properties.getIdempotency().setPollIntervalMs(1);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        idempotencyService = new IdempotencyService(redisTemplate, objectMapper, properties);
+    }
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void reserveOwnsKeyWhenSetIfAbsentWins() {
+        when(valueOperations.setIfAbsent(eq(KEY), anyString(), any())).thenReturn(true);
+
+        assertTrue(idempotencyService.reserve("K1").isEmpty());
+        verify(valueOperations).setIfAbsent(eq(KEY), anyString(), eq(Duration.ofSeconds(60)));
+        verify(valueOperations, never()).get(anyString());
+    }
+
+    @Test
+    void reserveReturnsCachedResponseForCompletedDuplicate() throws Exception {
+        when(valueOperations.setIfAbsent(eq(KEY), anyString(), any())).thenReturn(false);
+        when(valueOperations.get(KEY)).thenReturn(objectMapper.writeValueAsString(response("TXN1")));
+
+        Optional<TransactionResponse> cached = idempotencyService.reserve("K1");
+
+        assertEquals("TXN1", cached.orElseThrow().getTransactionId());
+    }
+
+    @Test
+    void reserveWaitsForInFlightDuplicateToComplete() throws Exception {
+        when(valueOperations.setIfAbsent(eq(KEY), anyString(), any())).thenReturn(false);
+        when(valueOperations.get(KEY))
+                .thenReturn("IN_PROGRESS:other")
+                .thenReturn(objectMapper.writeValueAsString(response("TXN1")));
+
+        assertEquals("TXN1", idempotencyService.reserve("K1").orElseThrow().getTransactionId());
+        verify(valueOperations, times(2)).setIfAbsent(eq(KEY), anyString(), any());
+    }
+
+    @Test
+    void reserveGivesUpWhileDuplicateStaysInProgress() {
+        when(valueOperations.setIfAbsent(eq(KEY), anyString(), any())).thenReturn(false);
+        when(valueOperations.get(KEY)).thenReturn("IN_PROGRESS:other");
+
+        assertThrows(DuplicateTransactionException.class, () -> idempotencyService.reserve("K1"));
+    }
+
+    @Test
+    void reservedKeyIsReleasedOnRollbackOnly() {
+        when(valueOperations.setIfAbsent(eq(KEY), anyString(), any())).thenReturn(true);
+        TransactionSynchronizationManager.initSynchronization();
+
+        idempotencyService.reserve("K1");
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        assertEquals(1, synchronizations.size());
+
+        synchronizations.get(0).afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        verify(redisTemplate, never()).execute(anyScript(), anyList(), any());
+
+        synchronizations.get(0).afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+        verify(redisTemplate).execute(anyScript(), eq(List.of(KEY)), any());
+    }
+
+    @Test
+    void completeStoresResponseAfterCommit() {
+        properties.setIdempotencyTtl(86400L);
+        TransactionSynchronizationManager.initSynchronization();
+
+        idempotencyService.complete("K1", response("TXN1"));
+        verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+
+        TransactionSynchronizationManager.getSynchronizations().get(0).afterCommit();
+        verify(valueOperations).set(eq(KEY), anyString(), eq(Duration.ofDays(1)));
+    }
+
+    @Test
+    void executeRunsOperationOnceKeyIsReserved() {
+        when(valueOperations.setIfAbsent(eq(KEY), anyString(), any())).thenReturn(true);
+        TransactionResponse response = response("TXN1");
+
+        assertEquals("TXN1", idempotencyService.execute("K1", () -> response).getTransactionId());
+        verify(redisTemplate, never()).execute(anyScript(), anyList(), any());
+    }
+
+    @Test
+    void executeReturnsCompletedDuplicateWithoutRunningOperation() throws Exception {
+        when(valueOperations.setIfAbsent(eq(KEY), anyString(), any())).thenReturn(false);
+        when(valueOperations.get(KEY)).thenReturn(objectMapper.writeValueAsString(response("TXN1")));
+        AtomicInteger runs = new AtomicInteger();
+
+        TransactionResponse result = idempotencyService.execute("K1", () -> {
+            runs.incrementAndGet();
+            return response("TXN2");
+        });
+
+        assertEquals("TXN1", result.getTransactionId());
+        assertEquals(0, runs.get());
+    }
+
+    @Test
+    void executeReleasesMarkerWhenOperationFails() {
+        when(valueOperations.setIfAbsent(eq(KEY), anyString(), any())).thenReturn(true);
+
+        assertThrows(IllegalStateException.class, () -> idempotencyService.execute("K1", () -> {
+            throw new IllegalStateException("account-service down");
+        }));
+        verify(redisTemplate).execute(anyScript(), eq(List.of(KEY)), any());
+    }
+
+    private static RedisScript<Long> anyScript() {
+        return any();
+    }
+
+    private static TransactionResponse response(String transactionId) {
+        return TransactionResponse.builder()
+                .transactionId(transactionId)
+                .status(TransactionStatus.SUCCESS)
+                .build();
+    }
+}
@@ -0,0 +1,48 @@
+package com.banking.transaction_service.util;
+
+import com.banking.transaction_service.entity.Transaction;
+import com.banking.transaction_service.exception.custom.InvalidTransactionException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TransactionCursorTest {
+
+    @Test
+    void encodedCursorDecodesToSamePosition() {
+        LocalDateTime createdDate = LocalDateTime.of(2026, 10, 16, 14, 30, 5, 123_456_000);
+        Transaction transaction = Transaction.builder().id(98765L).createdDate(createdDate).build();
+
+        String cursor = TransactionCursor.encode(transaction);
+        TransactionCursor decoded = TransactionCursor.decode(cursor);
+
+        assertTrue(cursor.matches("[A-Za-z0-9_-]+"), "cursor is not URL-safe: " + cursor);
+        assertEquals(createdDate, decoded.getCreatedDate());
+        assertEquals(98765L, decoded.getId());
+    }
+
+    @Test
+    void tamperedCursorIsRejected() {
+        assertRejected("not a cursor!");
+        assertRejected(encodeRaw("2026-10-16T14:30:05"));           // no id
+        assertRejected(encodeRaw("2026-10-16T14:30:05|12ab"));      // id not a number
+        assertRejected(encodeRaw("2026-13-45T99:00:00|12"));        // impossible date
+        assertRejected(encodeRaw("|12"));                          // no date
+    }
+
+    private static void assertRejected(String cursor) {
+        InvalidTransactionException e = assertThrows(InvalidTransactionException.class,
+                () -> TransactionCursor.decode(cursor));
+        assertEquals("Invalid history cursor", e.getMessage());
+    }
+
+    private static String encodeRaw(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,97 @@
+package com.banking.transaction_service.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TransactionIdGeneratorTest {
+
+    @Test
+    void idsAreUniqueAcrossThreads() throws InterruptedException {
+        int threads = 8;
+        int perThread = 20_000;
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            Thread worker = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < perThread; i++) {
+                    ids.add(TransactionIdGenerator.generateTransactionId());
+                }
+            });
+            worker.start();
+            workers.add(worker);
+        }
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        assertEquals(threads * perThread, ids.size());
+    }
+
+    @Test
+    void idsIncreaseMonotonically() {
+        // More than one millisecond's 4096 sequence numbers, so borrowed milliseconds are covered
+        long previousId = TransactionIdGenerator.nextId();
+        String previous = TransactionIdGenerator.render("TXN", previousId);
+        for (int i = 0; i < 50_000; i++) {
+            long id = TransactionIdGenerator.nextId();
+            String rendered = TransactionIdGenerator.render("TXN", id);
+
+            assertTrue(id > previousId, "raw id did not increase after " + previousId);
+            assertTrue(rendered.compareTo(previous) > 0, rendered + " does not sort after " + previous);
+            previousId = id;
+            previous = rendered;
+        }
+    }
+
+    @Test
+    void renderedIdHasFixedLayout() {
+        String id = TransactionIdGenerator.render("REF", idAt(Instant.parse("2026-10-16T14:30:05.123Z"), 7, 42));
+
+        assertEquals("REF2026101614300512300070042", id);
+    }
+
+    @Test
+    void idsStayDistinctWhenDaylightSavingFallsBack() {
+        TimeZone original = TimeZone.getDefault();
+        TimeZone.setDefault(TimeZone.getTimeZone(ZoneId.of("Europe/Berlin")));
+        try {
+            // 2026-10-25: Berlin clocks go from 03:00 back to 02:00, so both instants read 02:30 locally
+            String first = TransactionIdGenerator.render("TXN", idAt(Instant.parse("2026-10-25T00:30:00Z"), 1, 0));
+            String second = TransactionIdGenerator.render("TXN", idAt(Instant.parse("2026-10-25T01:30:00Z"), 1, 0));
+
+            assertNotEquals(first, second);
+            assertTrue(second.compareTo(first) > 0);
+            assertEquals("TXN20261025003000000", first.substring(0, 20));
+        } finally {
+            TimeZone.setDefault(original);
+        }
+    }
+
+    private static long idAt(Instant instant, int node, int sequence) {
+        long ms = instant.toEpochMilli() - TransactionIdGenerator.EPOCH_MS;
+        return (ms << (TransactionIdGenerator.NODE_BITS + TransactionIdGenerator.SEQUENCE_BITS))
+                | ((long) node << TransactionIdGenerator.SEQUENCE_BITS)
+                | sequence;
+    }
+}
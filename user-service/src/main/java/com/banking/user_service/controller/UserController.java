@@ -12,6 +12,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/v1/users")
 @RequiredArgsConstructor
@@ -289,6 +291,21 @@ public class UserController {
                 "MPIN lock has been removed. User can now login.");
     }
 
+    // SERVICE-TO-SERVICE
+
+    /**
+     * Batch User Verification (used by account-service bulk onboarding)
+     * POST /api/v1/users/internal/verify/batch
+     */
+    @PostMapping("/internal/verify/batch")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ApiResponse<List<UserVerificationResponse>>> verifyUsers(
+            @RequestBody List<String> internalUserIds) {
+        log.info(" Batch verifying {} users", internalUserIds.size());
+        List<UserVerificationResponse> response = userService.verifyUsers(internalUserIds);
+        return ResponseUtil.success("Users verified successfully", response);
+    }
+
     //HELPER METHODS
 
     private String getClientIp(HttpServletRequest request) {
@@ -6,6 +6,8 @@ import com.banking.user_service.entity.User;
 import com.banking.user_service.enums.UserStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -17,4 +19,5 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByEmail(String email);
     boolean existsByPhone(String phone);
     boolean existsByInternalUserId(String internalUserId);
+    List<User> findByInternalUserIdIn(Collection<String> internalUserIds);
 }
@@ -2,6 +2,8 @@ package com.banking.user_service.service;
 
 import com.banking.user_service.dto.*;
 
+import java.util.List;
+
 /**
  * User Service Interface
  * Defines all user-related operations for banking microservice
@@ -41,4 +43,7 @@ public interface UserService {
 
     // ADMIN OPERATIONS
     void unblockUser(String internalUserId);
+
+    // SERVICE-TO-SERVICE
+    List<UserVerificationResponse> verifyUsers(List<String> internalUserIds);
 }
@@ -19,7 +19,12 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Random;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -472,6 +477,27 @@ public class UserServiceImpl implements UserService {
         log.info(" User unblocked successfully: {}", internalUserId);
     }
 
+    //  SERVICE-TO-SERVICE
+
+    /**
+     * Verify many users with one IN query (bulk account creation).
+     * Returns one entry per distinct id, in request order; unknown ids come back with exists=false.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<UserVerificationResponse> verifyUsers(List<String> internalUserIds) {
+        LinkedHashSet<String> ids = new LinkedHashSet<>(internalUserIds);
+        Map<String, User> users = userRepository.findByInternalUserIdIn(ids).stream()
+                .collect(Collectors.toMap(User::getInternalUserId, Function.identity()));
+
+        log.info(" Batch verification | Requested: {} | Found: {}", ids.size(), users.size());
+        return ids.stream()
+                .map(id -> users.containsKey(id)
+                        ? convertToVerificationResponse(users.get(id))
+                        : UserVerificationResponse.builder().internalUserId(id).exists(false).build())
+                .toList();
+    }
+
     //  PRIVATE VALIDATION METHODS
 
     private void validateOnboardingStatusForOperation(User user, OnboardingStatus expected, String operation) {
@@ -853,6 +879,23 @@ public class UserServiceImpl implements UserService {
                 .build();
     }
 
+    private UserVerificationResponse convertToVerificationResponse(User user) {
+        return UserVerificationResponse.builder()
+                .internalUserId(user.getInternalUserId())
+                .email(user.getEmail())
+                .phone(user.getPhone())
+                .fullName(user.getFullName())
+                .kycStatus(user.getKycStatus().name())
+                .exists(true)
+                .emailVerified(user.getEmail() != null
+                        && user.getOnboardingStatus() != OnboardingStatus.EMAIL_PENDING)
+                .phoneVerified(user.getPhone() != null
+                        && user.getOnboardingStatus() != OnboardingStatus.PHONE_PENDING_VERIFICATION)
+                .kycVerified(user.getKycStatus() == KycStatus.VERIFIED)
+                .active(user.getStatus() == UserStatus.ACTIVE)
+                .build();
+    }
+
     private AddressResponse convertToAddressResponse(UserAddress address) {
         return AddressResponse.builder()
                 .internalUserId(address.getInternalUserId())